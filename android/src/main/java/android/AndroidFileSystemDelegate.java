@@ -107,7 +107,12 @@ public class AndroidFileSystemDelegate implements FileSystemDelegate {
     @Override
     public InputStream openInputStream(String path) throws IOException {
         try {
-            return new FileInputStream(getFile(path));
+            File file = getFile(path);
+            if (!file.exists()) {
+                // Same order as exists(): internal storage, then the bundled assets
+                return context.getAssets().open(normalizePath(path));
+            }
+            return new FileInputStream(file);
         } catch (IOException e) {
             Log.e(TAG, "Error opening input stream: " + path, e);
             throw e;
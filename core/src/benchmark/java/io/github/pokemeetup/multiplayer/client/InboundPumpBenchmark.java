@@ -0,0 +1,190 @@
+package io.github.pokemeetup.multiplayer.client;
+
+import com.badlogic.gdx.math.Vector2;
+import io.github.pokemeetup.managers.BiomeManager;
+import io.github.pokemeetup.multiplayer.network.MessageDispatcher;
+import io.github.pokemeetup.multiplayer.network.NetworkProtocol;
+import io.github.pokemeetup.server.deployment.ServerFileDelegate;
+import io.github.pokemeetup.system.gameplay.overworld.Chunk;
+import io.github.pokemeetup.utils.GameLogger;
+import io.github.pokemeetup.utils.storage.GameFileSystem;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Replays a join burst against a simulated 60 FPS render loop and prints the worst frame time
+ * and movement latency. It runs twice: once posting a task per packet, as the client used to,
+ * and once through {@link InboundMessagePump}. A network thread delivers {@code chunks} real
+ * {@link NetworkProtocol.ChunkData} messages, generated up front, back to back at about one per
+ * 0.5 ms. Meanwhile four other players send movement at 20 Hz. Each frame spends
+ * {@code RENDER_MICROS} on rendering and then runs the tasks posted before it started, the same
+ * as {@code Gdx.app.postRunnable}.
+ * <p>
+ * Chunks go through a {@link MessageDispatcher} registered on {@code GAME_TICK}, as in
+ * {@code GameClient}. The pump run builds them with {@link GameClient#chunkFromData}, the
+ * handler's own code. The per-packet run builds them the way the old handler did, generating
+ * the terrain and then overwriting it with the server's tiles. The rest of the handler (one map
+ * put and the initial-load check) is not reproduced, as it needs a connected client. Movement
+ * is a latency probe only. Run through the {@code benchmarkInboundPump} Gradle task:
+ * {@code InboundPumpBenchmark [chunks]}.
+ */
+public final class InboundPumpBenchmark {
+    private static final long FRAME_NANOS = 16_666_667L;
+    private static final long RENDER_MICROS = 6_000;
+    private static final long CHUNK_INTERVAL_MICROS = 500;
+    private static final long MOVEMENT_INTERVAL_MICROS = 50_000;
+    private static final int MOVING_PLAYERS = 4;
+    private static final long SEED = 42L;
+
+    private static final class MovementMessage {
+        final long sentNanos = System.nanoTime();
+    }
+
+    private final Queue<Runnable> posted = new ConcurrentLinkedQueue<>();
+    private final MessageDispatcher<Object> dispatcher = new MessageDispatcher<>();
+    private final Map<Vector2, Chunk> loaded = new HashMap<>();
+    private final BiomeManager biomeManager;
+    private final List<NetworkProtocol.ChunkData> burst;
+    private long movementCount;
+    private long movementLatencyTotal;
+    private long movementLatencyMax;
+
+    private InboundPumpBenchmark(BiomeManager biomeManager, List<NetworkProtocol.ChunkData> burst, boolean legacyChunks) {
+        this.biomeManager = biomeManager;
+        this.burst = burst;
+        MessageDispatcher.Affinity game = MessageDispatcher.Affinity.GAME_TICK;
+        dispatcher.register(NetworkProtocol.ChunkData.class, game, (context, data) -> {
+            Chunk chunk = legacyChunks ? legacyChunk(data) : GameClient.chunkFromData(data, biomeManager, SEED);
+            loaded.put(new Vector2(data.chunkX, data.chunkY), chunk);
+        });
+        dispatcher.register(MovementMessage.class, game, (context, movement) -> {
+            long latency = System.nanoTime() - movement.sentNanos;
+            movementCount++;
+            movementLatencyTotal += latency;
+            movementLatencyMax = Math.max(movementLatencyMax, latency);
+        });
+    }
+
+    private Chunk legacyChunk(NetworkProtocol.ChunkData data) {
+        Chunk chunk = new Chunk(data.chunkX, data.chunkY, biomeManager.getBiome(data.biomeType), SEED, biomeManager);
+        chunk.setTileData(data.tileData);
+        return chunk;
+    }
+
+    private static List<NetworkProtocol.ChunkData> generateBurst(BiomeManager biomeManager, int chunks) {
+        List<NetworkProtocol.ChunkData> burst = new ArrayList<>(chunks);
+        int side = (int) Math.ceil(Math.sqrt(chunks));
+        for (int i = 0; i < chunks; i++) {
+            Chunk chunk = new Chunk(i % side - side / 2, i / side - side / 2, null, SEED, biomeManager);
+            NetworkProtocol.ChunkData data = new NetworkProtocol.ChunkData();
+            data.chunkX = chunk.getChunkX();
+            data.chunkY = chunk.getChunkY();
+            data.biomeType = chunk.getBiome().getType();
+            data.tileData = chunk.getTileData();
+            burst.add(data);
+        }
+        return burst;
+    }
+
+    private static void spin(long nanos) {
+        long end = System.nanoTime() + nanos;
+        while (System.nanoTime() < end) {
+            // Busy work standing in for rendering
+        }
+    }
+
+    private static void sleepUntil(long deadline) throws InterruptedException {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            if (remaining > 2_000_000L) {
+                Thread.sleep(1);
+            }
+        }
+    }
+
+    private void run(String label, boolean usePump) throws InterruptedException {
+        int chunks = burst.size();
+        InboundMessagePump pump = new InboundMessagePump(message -> dispatcher.dispatch(null, message), posted::add);
+        pump.addPriorityType(MovementMessage.class);
+
+        CountDownLatch burstDone = new CountDownLatch(1);
+        Thread network = new Thread(() -> {
+            try {
+                long start = System.nanoTime();
+                long nextMovement = start;
+                for (int i = 0; i < chunks; i++) {
+                    deliver(burst.get(i), pump, usePump);
+                    long now = System.nanoTime();
+                    if (now >= nextMovement) {
+                        for (int p = 0; p < MOVING_PLAYERS; p++) {
+                            deliver(new MovementMessage(), pump, usePump);
+                        }
+                        nextMovement += MOVEMENT_INTERVAL_MICROS * 1_000;
+                    }
+                    sleepUntil(start + (i + 1) * CHUNK_INTERVAL_MICROS * 1_000);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                burstDone.countDown();
+            }
+        }, "network");
+
+        long joinStart = System.nanoTime();
+        network.start();
+        List<Long> frames = new ArrayList<>();
+        long nextFrame = System.nanoTime();
+        while (loaded.size() < chunks || burstDone.getCount() > 0) {
+            long frameStart = System.nanoTime();
+            spin(RENDER_MICROS * 1_000);
+            for (int n = posted.size(); n > 0; n--) {
+                posted.poll().run();
+            }
+            frames.add(System.nanoTime() - frameStart);
+            nextFrame = Math.max(nextFrame + FRAME_NANOS, System.nanoTime());
+            sleepUntil(nextFrame);
+        }
+        long joinNanos = System.nanoTime() - joinStart;
+        network.join();
+
+        long worst = 0;
+        int overBudget = 0;
+        for (long frame : frames) {
+            worst = Math.max(worst, frame);
+            if (frame > FRAME_NANOS) {
+                overBudget++;
+            }
+        }
+        System.out.printf("%-16s worst frame %6.1f ms, %3d/%d frames over 16.7 ms, join %5.0f ms, "
+                + "movement latency avg %5.1f ms max %5.1f ms%n",
+            label, worst / 1e6, overBudget, frames.size(), joinNanos / 1e6,
+            movementCount > 0 ? movementLatencyTotal / 1e6 / movementCount : 0.0, movementLatencyMax / 1e6);
+    }
+
+    private void deliver(Object message, InboundMessagePump pump, boolean usePump) {
+        if (usePump) {
+            pump.offer(message);
+        } else {
+            posted.add(() -> dispatcher.dispatch(null, message));
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int chunks = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        GameLogger.isDebugEnabled = false; // Chunk generation logs every chunk
+        GameFileSystem.getInstance().setDelegate(new ServerFileDelegate());
+        BiomeManager biomeManager = new BiomeManager(SEED);
+        List<NetworkProtocol.ChunkData> burst = generateBurst(biomeManager, chunks);
+        System.out.printf("%d-chunk join, %d us render per frame%n", chunks, RENDER_MICROS);
+        for (int round = 0; round < 2; round++) {
+            new InboundPumpBenchmark(biomeManager, burst, true).run("postRunnable", false);
+            new InboundPumpBenchmark(biomeManager, burst, false).run("pump (4 ms)", true);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package io.github.pokemeetup.multiplayer.server;
+
+import io.github.pokemeetup.multiplayer.network.NetworkProtocol;
+import io.github.pokemeetup.system.gameplay.overworld.World;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Random;
+
+/**
+ * Microbenchmark of {@link WildPokemonManager} on its own: simulated players wander a
+ * {@code World.WORLD_SIZE} map while the manager ticks at its normal rate. Ticks run back to
+ * back instead of every 100 ms, so one minute of game time finishes in seconds. Every simulated
+ * minute it prints population, tick CPU time, heap use and outgoing message rates. Terrain is a
+ * hashed pattern with about 12% blocked tiles, so no world generation is needed.
+ * <p>
+ * Nothing else of the server runs: no {@link GameServer}, chunk loading, dispatcher, gameplay
+ * thread or Kryo serialization, and messages are counted instead of sent. The numbers are the
+ * manager's share of a tick, not the dedicated server's load with that many players. Run through
+ * the {@code soakWildPokemon} Gradle task: {@code WildPokemonSoak [players] [minutes]}.
+ */
+public final class WildPokemonSoak {
+    private static final int BLOCKED_PERCENT = 12;
+    private static final float PLAYER_TILES_PER_SECOND = 4f;
+    private static final float TURN_CHANCE_PER_TICK = 0.02f;
+    private static final String[] SPECIES = {"Pidgey", "Rattata", "Caterpie", "Oddish", "Zubat"};
+
+    private long spawns;
+    private long despawns;
+    private long stateBatches;
+
+    private static boolean isWalkable(int tileX, int tileY) {
+        if (tileX < 0 || tileY < 0 || tileX >= World.WORLD_SIZE || tileY >= World.WORLD_SIZE) {
+            return false;
+        }
+        int hash = tileX * 73856093 ^ tileY * 19349663;
+        hash ^= hash >>> 13;
+        hash *= 0x5bd1e995;
+        hash ^= hash >>> 15;
+        return Math.floorMod(hash, 100) >= BLOCKED_PERCENT;
+    }
+
+    private void count(int connectionId, Object message) {
+        if (message instanceof NetworkProtocol.WildPokemonSpawn) {
+            spawns++;
+        } else if (message instanceof NetworkProtocol.WildPokemonDespawn) {
+            despawns++;
+        } else if (message instanceof NetworkProtocol.WildPokemonStates) {
+            stateBatches++;
+        }
+    }
+
+    public static void main(String[] args) {
+        int players = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        int minutes = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        int ticksPerMinute = Math.round(60 / WildPokemonManager.TICK_SECONDS);
+
+        WildPokemonSoak soak = new WildPokemonSoak();
+        WildPokemonManager manager = new WildPokemonManager(
+            WildPokemonSoak::isWalkable,
+            new WildPokemonManager.SpawnRules() {
+                @Override
+                public String selectSpecies(int tileX, int tileY, Random random) {
+                    return SPECIES[random.nextInt(SPECIES.length)];
+                }
+
+                @Override
+                public int selectLevel(int tileX, int tileY, Random random) {
+                    return 2 + random.nextInt(20);
+                }
+            },
+            soak::count,
+            42L);
+
+        Random random = new Random(7L);
+        float[] x = new float[players];
+        float[] y = new float[players];
+        float[] headingX = new float[players];
+        float[] headingY = new float[players];
+        for (int i = 0; i < players; i++) {
+            x[i] = random.nextFloat() * World.WORLD_SIZE;
+            y[i] = random.nextFloat() * World.WORLD_SIZE;
+        }
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long baselineHeap = runtime.totalMemory() - runtime.freeMemory();
+        float step = PLAYER_TILES_PER_SECOND * WildPokemonManager.TICK_SECONDS;
+
+        System.out.printf("%d players on a %dx%d tile map, %d simulated minutes%n",
+            players, World.WORLD_SIZE, World.WORLD_SIZE, minutes);
+        for (int minute = 1; minute <= minutes; minute++) {
+            long cpuStart = threads.getCurrentThreadCpuTime();
+            long wallStart = System.nanoTime();
+            long maxTickNanos = 0;
+            long messagesBefore = manager.getMessagesSent();
+            long entriesBefore = manager.getStateEntriesSent();
+            long spawnsBefore = soak.spawns;
+            long despawnsBefore = soak.despawns;
+            long batchesBefore = soak.stateBatches;
+
+            for (int t = 0; t < ticksPerMinute; t++) {
+                for (int i = 0; i < players; i++) {
+                    if (headingX[i] == 0 && headingY[i] == 0 || random.nextFloat() < TURN_CHANCE_PER_TICK) {
+                        double angle = random.nextDouble() * Math.PI * 2;
+                        headingX[i] = (float) Math.cos(angle);
+                        headingY[i] = (float) Math.sin(angle);
+                    }
+                    x[i] = Math.max(0, Math.min(World.WORLD_SIZE - 1, x[i] + headingX[i] * step));
+                    y[i] = Math.max(0, Math.min(World.WORLD_SIZE - 1, y[i] + headingY[i] * step));
+                    manager.updateObserver(i, x[i] * World.TILE_SIZE, y[i] * World.TILE_SIZE);
+                }
+                manager.tick();
+                maxTickNanos = Math.max(maxTickNanos, manager.getLastTickNanos());
+            }
+
+            long cpuNanos = threads.getCurrentThreadCpuTime() - cpuStart;
+            long wallNanos = System.nanoTime() - wallStart;
+            long heap = runtime.totalMemory() - runtime.freeMemory();
+            System.out.printf(
+                "minute %d: %d Pokemon in %d active chunks | tick avg %.3f ms cpu, max %.3f ms wall, "
+                    + "%.2f%% of one core at 10 Hz | heap %.1f MB (+%.1f MB) | per player/s: %.2f msgs, "
+                    + "%.2f spawns, %.2f despawns, %.2f state batches, %.2f state entries | ran in %.2f s%n",
+                minute, manager.getPopulation(), manager.getActiveChunkCount(),
+                cpuNanos / 1e6 / ticksPerMinute, maxTickNanos / 1e6,
+                cpuNanos / 60e9 * 100,
+                heap / 1048576.0, (heap - baselineHeap) / 1048576.0,
+                perPlayerSecond(manager.getMessagesSent() - messagesBefore, players),
+                perPlayerSecond(soak.spawns - spawnsBefore, players),
+                perPlayerSecond(soak.despawns - despawnsBefore, players),
+                perPlayerSecond(soak.stateBatches - batchesBefore, players),
+                perPlayerSecond(manager.getStateEntriesSent() - entriesBefore, players),
+                wallNanos / 1e9);
+        }
+
+        System.gc();
+        long retained = runtime.totalMemory() - runtime.freeMemory() - baselineHeap;
+        System.out.printf("retained heap after GC: %.1f MB, path searches: %d%n",
+            retained / 1048576.0, manager.getPathfindingService().getSearchesCompleted());
+    }
+
+    private static double perPlayerSecond(long count, int players) {
+        return count / 60.0 / players;
+    }
+}
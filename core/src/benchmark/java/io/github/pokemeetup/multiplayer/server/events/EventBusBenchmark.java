@@ -0,0 +1,267 @@
+package io.github.pokemeetup.multiplayer.server.events;
+
+import io.github.pokemeetup.utils.metrics.Histogram;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Compares {@link EventManager} against the previous design, which submitted a task per event
+ * to a two-thread pool with an unbounded queue. It prints:
+ * <ul>
+ *     <li>throughput with four producers and a trivial listener;</li>
+ *     <li>fire-to-listener latency at a steady 50k events/s;</li>
+ *     <li>per-key ordering violations with 1,000 keys;</li>
+ *     <li>peak queue depth when a 20 us listener falls behind a burst;</li>
+ *     <li>listener calls with a batch listener for collision-style traffic.</li>
+ * </ul>
+ * Run through the {@code benchmarkEventBus} Gradle task: {@code EventBusBenchmark [events]}.
+ */
+public final class EventBusBenchmark {
+    private static final int PRODUCERS = 4;
+    private static final int KEYS = 1_000;
+    private static final Integer[] KEY_OBJECTS = new Integer[KEYS];
+    private static final long STEADY_INTERVAL_NANOS = 20_000;
+    private static final long SLOW_LISTENER_NANOS = 20_000;
+
+    static {
+        for (int i = 0; i < KEYS; i++) {
+            KEY_OBJECTS[i] = i;
+        }
+    }
+
+    private static final class BenchEvent extends BaseServerEvent {
+        final int key;
+        final int sequence;
+        final long firedNanos = System.nanoTime();
+
+        BenchEvent(int key, int sequence) {
+            this.key = key;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public String getEventName() {
+            return "Bench";
+        }
+
+        @Override
+        public Object getOrderingKey() {
+            return KEY_OBJECTS[key];
+        }
+    }
+
+    /**
+     * The two designs behind one interface so each scenario runs against both.
+     */
+    private interface Bus {
+        void register(EventListener<BenchEvent> listener);
+
+        void fire(BenchEvent event);
+
+        int queueDepth();
+
+        void close();
+    }
+
+    private static final class LegacyBus implements Bus {
+        private final ThreadPoolExecutor executor =
+            (ThreadPoolExecutor) Executors.newFixedThreadPool(2);
+        private EventListener<BenchEvent> listener;
+
+        @Override
+        public void register(EventListener<BenchEvent> listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public void fire(BenchEvent event) {
+            executor.submit(() -> listener.onEvent(event));
+        }
+
+        @Override
+        public int queueDepth() {
+            return executor.getQueue().size();
+        }
+
+        @Override
+        public void close() {
+            executor.shutdownNow();
+        }
+    }
+
+    private static final class RingBus implements Bus {
+        private final EventManager manager;
+
+        RingBus(EventManager.OverflowPolicy policy) {
+            manager = new EventManager(EventManager.DEFAULT_WORKERS, EventManager.DEFAULT_QUEUE_CAPACITY, policy);
+        }
+
+        @Override
+        public void register(EventListener<BenchEvent> listener) {
+            manager.registerListener(BenchEvent.class, listener);
+        }
+
+        @Override
+        public void fire(BenchEvent event) {
+            manager.fireEvent(event);
+        }
+
+        @Override
+        public int queueDepth() {
+            return manager.getQueueDepth();
+        }
+
+        @Override
+        public void close() {
+            manager.shutdown();
+        }
+    }
+
+    private static void awaitCount(AtomicLong counter, long expected) {
+        while (counter.get() < expected) {
+            LockSupport.parkNanos(100_000);
+        }
+    }
+
+    private static void spin(long nanos) {
+        long end = System.nanoTime() + nanos;
+        while (System.nanoTime() < end) {
+            // Busy work standing in for a listener
+        }
+    }
+
+    private static void throughput(String label, Bus bus, int events) throws InterruptedException {
+        AtomicLong delivered = new AtomicLong();
+        bus.register(event -> delivered.incrementAndGet());
+        Thread[] producers = new Thread[PRODUCERS];
+        long start = System.nanoTime();
+        for (int p = 0; p < PRODUCERS; p++) {
+            int offset = p;
+            producers[p] = new Thread(() -> {
+                for (int i = offset; i < events; i += PRODUCERS) {
+                    bus.fire(new BenchEvent(i % KEYS, i));
+                }
+            });
+            producers[p].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        awaitCount(delivered, events);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("  %-20s %8.2f M events/s%n", label, events / seconds / 1e6);
+        bus.close();
+    }
+
+    private static void latency(String label, Bus bus, int events) {
+        Histogram histogram = new Histogram();
+        AtomicLong delivered = new AtomicLong();
+        bus.register(event -> {
+            histogram.record(System.nanoTime() - event.firedNanos);
+            delivered.incrementAndGet();
+        });
+        long next = System.nanoTime();
+        for (int i = 0; i < events; i++) {
+            while (System.nanoTime() < next) {
+                // Pace the producer
+            }
+            bus.fire(new BenchEvent(i % KEYS, i));
+            next += STEADY_INTERVAL_NANOS;
+        }
+        awaitCount(delivered, events);
+        System.out.printf("  %-20s p50 %6.1f us, p99 %7.1f us, max %8.1f us%n", label,
+            histogram.getPercentile(0.5) / 1e3, histogram.getPercentile(0.99) / 1e3, histogram.getMax() / 1e3);
+        bus.close();
+    }
+
+    private static void ordering(String label, Bus bus, int events) {
+        AtomicIntegerArray lastSequence = new AtomicIntegerArray(KEYS);
+        AtomicLong violations = new AtomicLong();
+        AtomicLong delivered = new AtomicLong();
+        for (int k = 0; k < KEYS; k++) {
+            lastSequence.set(k, -1);
+        }
+        bus.register(event -> {
+            if (lastSequence.getAndSet(event.key, event.sequence) > event.sequence) {
+                violations.incrementAndGet();
+            }
+            delivered.incrementAndGet();
+        });
+        for (int i = 0; i < events; i++) {
+            bus.fire(new BenchEvent(i % KEYS, i));
+        }
+        awaitCount(delivered, events);
+        System.out.printf("  %-20s %d out-of-order deliveries%n", label, violations.get());
+        bus.close();
+    }
+
+    private static void overflow(String label, Bus bus, int events) {
+        AtomicLong delivered = new AtomicLong();
+        bus.register(event -> {
+            spin(SLOW_LISTENER_NANOS);
+            delivered.incrementAndGet();
+        });
+        int peakDepth = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < events; i++) {
+            bus.fire(new BenchEvent(i % KEYS, i));
+            if ((i & 1023) == 0) {
+                peakDepth = Math.max(peakDepth, bus.queueDepth());
+            }
+        }
+        double fireMillis = (System.nanoTime() - start) / 1e6;
+        System.out.printf("  %-20s peak queue %7d, producer took %7.1f ms, %d delivered so far%n",
+            label, peakDepth, fireMillis, delivered.get());
+        bus.close();
+    }
+
+    private static void batching(int events) {
+        EventManager manager = new EventManager();
+        AtomicLong calls = new AtomicLong();
+        AtomicLong delivered = new AtomicLong();
+        manager.registerBatchListener(BenchEvent.class, batch -> {
+            calls.incrementAndGet();
+            delivered.addAndGet(batch.size());
+        });
+        for (int i = 0; i < events; i++) {
+            manager.fireEvent(new BenchEvent(i % KEYS, i));
+        }
+        awaitCount(delivered, events);
+        System.out.printf("  batch listener       %d events in %d calls (%.0f per call)%n",
+            events, calls.get(), (double) events / calls.get());
+        manager.shutdown();
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int events = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int steadyEvents = Math.min(events, 250_000);
+        int overflowEvents = Math.min(events, 200_000);
+
+        for (int round = 1; round <= 2; round++) {
+            System.out.printf("Round %d%n", round);
+            System.out.println(" Throughput, " + PRODUCERS + " producers:");
+            throughput("executor per event", new LegacyBus(), events);
+            throughput("ring buffers", new RingBus(EventManager.OverflowPolicy.BLOCK), events);
+
+            System.out.println(" Latency at 50k events/s:");
+            latency("executor per event", new LegacyBus(), steadyEvents);
+            latency("ring buffers", new RingBus(EventManager.OverflowPolicy.BLOCK), steadyEvents);
+
+            System.out.println(" Per-key ordering:");
+            ordering("executor per event", new LegacyBus(), events);
+            ordering("ring buffers", new RingBus(EventManager.OverflowPolicy.BLOCK), events);
+
+            System.out.println(" Burst into a 20 us listener:");
+            overflow("executor per event", new LegacyBus(), overflowEvents);
+            overflow("ring, BLOCK", new RingBus(EventManager.OverflowPolicy.BLOCK), overflowEvents / 10);
+            overflow("ring, DROP_NEWEST", new RingBus(EventManager.OverflowPolicy.DROP_NEWEST), overflowEvents);
+
+            System.out.println(" Batching:");
+            batching(events);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.pokemeetup.server.deployment;
+
+import com.badlogic.gdx.Gdx;
+import io.github.pokemeetup.managers.BiomeManager;
+import io.github.pokemeetup.multiplayer.server.GameServer;
+import io.github.pokemeetup.multiplayer.server.ServerStorageSystem;
+import io.github.pokemeetup.multiplayer.server.config.ServerConnectionConfig;
+import io.github.pokemeetup.pokemon.Pokemon;
+import io.github.pokemeetup.pokemon.WildPokemon;
+import io.github.pokemeetup.pokemon.data.PokemonDatabase;
+import io.github.pokemeetup.system.data.ItemData;
+import io.github.pokemeetup.system.gameplay.inventory.Item;
+import io.github.pokemeetup.system.gameplay.inventory.ItemManager;
+import io.github.pokemeetup.system.gameplay.overworld.ChunkGenerationPipeline;
+import io.github.pokemeetup.system.gameplay.overworld.WorldObject;
+import io.github.pokemeetup.system.gameplay.overworld.multiworld.WorldManager;
+import io.github.pokemeetup.utils.GameLogger;
+import io.github.pokemeetup.utils.storage.GameFileSystem;
+import io.github.pokemeetup.utils.textures.TextureManager;
+import org.h2.tools.Server;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Boots the server-side simulation without a libGDX application or GL context: the species
+ * database, Pokemon and wild Pokemon, items and a generated region of chunks with their
+ * objects. It then starts and stops a {@link GameServer} the way {@link ServerLauncher} does,
+ * with the H2 server, world manager, plugins and network bound on {@code tcpPort} and the next
+ * port. Fails if any of it asked for a texture on the way, then prints the boot time and the
+ * heap in use, which is the dedicated server's footprint without render state. Run through the
+ * {@code checkHeadlessBoot} Gradle task: {@code HeadlessBootCheck [regionSize] [tcpPort]}. It
+ * writes the same world and database files as a server started in the working directory, and
+ * needs the H2 port free. Exits with status 1 on failure.
+ */
+public final class HeadlessBootCheck {
+    private static final long SEED = 42L;
+    private static final String SPECIES = "Pidgey";
+    // Next to the default 54555/54556, so the check can run beside a local server
+    private static final int DEFAULT_TCP_PORT = 54655;
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalStateException(message);
+        }
+    }
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+        int tcpPort = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_TCP_PORT;
+        long start = System.currentTimeMillis();
+        GameLogger.isDebugEnabled = false; // Chunk generation logs every chunk
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        Runtime runtime = Runtime.getRuntime();
+        long bootMs;
+        long usedHeapMb;
+        Server h2Server = null;
+        GameServer server = null;
+        try {
+            check(Gdx.gl == null && Gdx.graphics == null, "a libGDX application is already running");
+            GameFileSystem.getInstance().setDelegate(new ServerFileDelegate());
+
+            PokemonDatabase.initialize();
+            Pokemon pokemon = PokemonDatabase.createPokemon(SPECIES, 10);
+            check(pokemon != null, "could not create " + SPECIES);
+            new WildPokemon(SPECIES, 5, 0, 0, null);
+            Item item = new Item(ItemManager.ItemIDs.POTION);
+            ItemData itemData = new ItemData(item.getName(), 1);
+            check(itemData.getItemId() != null, "item data lost its id");
+
+            BiomeManager biomeManager = new BiomeManager(SEED);
+            WorldObject.WorldObjectManager objectManager = new WorldObject.WorldObjectManager(SEED, null);
+            new ChunkGenerationPipeline(SEED, biomeManager, objectManager)
+                .generateRegion(-size / 2, -size / 2, size, size, null, executor);
+
+            h2Server = ServerLauncher.startH2Server();
+            WorldManager.getInstance(new ServerStorageSystem(), true).init();
+            ServerConnectionConfig config = new ServerConnectionConfig(
+                "0.0.0.0", tcpPort, tcpPort + 1, "Headless Boot Check", true, 1);
+            server = new GameServer(config);
+            server.start();
+
+            check(TextureManager.items == null && TextureManager.tiles == null
+                && TextureManager.pokemonoverworld == null, "an atlas was loaded during headless boot");
+
+            // Measured while the server is up, before stopping it frees anything
+            bootMs = System.currentTimeMillis() - start;
+            System.gc();
+            usedHeapMb = (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024);
+        } catch (Exception e) {
+            System.err.println("Headless boot check failed: " + e);
+            e.printStackTrace();
+            System.exit(1);
+            return;
+        } finally {
+            executor.shutdown();
+            if (server != null) {
+                server.shutdown();
+            }
+            if (h2Server != null) {
+                h2Server.stop();
+            }
+        }
+
+        System.out.printf("Headless boot OK: %dms, heap in use %dMB of %dMB (%dx%d chunks generated)%n",
+            bootMs, usedHeapMb, runtime.maxMemory() / (1024 * 1024), size, size);
+        // Kryonet and the server's pools may leave non-daemon threads behind after stop
+        System.exit(0);
+    }
+}
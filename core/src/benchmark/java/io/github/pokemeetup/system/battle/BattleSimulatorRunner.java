@@ -0,0 +1,39 @@
+package io.github.pokemeetup.system.battle;
+
+import io.github.pokemeetup.pokemon.Pokemon;
+import io.github.pokemeetup.pokemon.data.PokemonDatabase;
+import io.github.pokemeetup.server.deployment.ServerFileDelegate;
+import io.github.pokemeetup.utils.storage.GameFileSystem;
+
+/**
+ * Command-line front end for {@link BattleSimulator}: plays a matchup many times and prints the
+ * win rates, average battle length and battles/sec. Needs no GL context. Run through the
+ * {@code simulateBattles} Gradle task:
+ * {@code BattleSimulatorRunner [first] [level] [second] [level] [battles] [seed] [threads]}.
+ */
+public final class BattleSimulatorRunner {
+    public static void main(String[] args) {
+        String firstName = args.length > 0 ? args[0] : "Charmander";
+        int firstLevel = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        String secondName = args.length > 2 ? args[2] : "Bulbasaur";
+        int secondLevel = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+        long battles = args.length > 4 ? Long.parseLong(args[4]) : 1_000_000L;
+        long seed = args.length > 5 ? Long.parseLong(args[5]) : 42L;
+        int threads = args.length > 6 ? Integer.parseInt(args[6]) : Runtime.getRuntime().availableProcessors();
+
+        GameFileSystem.getInstance().setDelegate(new ServerFileDelegate());
+        PokemonDatabase.initialize();
+        Pokemon first = PokemonDatabase.createPokemon(firstName, firstLevel);
+        Pokemon second = PokemonDatabase.createPokemon(secondName, secondLevel);
+        if (first == null || second == null) {
+            System.err.println("Unknown species: " + (first == null ? firstName : secondName));
+            System.exit(1);
+        }
+
+        long start = System.nanoTime();
+        BattleSimulator.Summary summary = new BattleSimulator(threads).run(first, second, battles, seed);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%s Lv.%d vs %s Lv.%d, %,d battles on %d threads: %s (%,.0f battles/s)%n",
+            firstName, firstLevel, secondName, secondLevel, battles, threads, summary, battles / seconds);
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.pokemeetup.system.gameplay.overworld;
+
+import io.github.pokemeetup.managers.BiomeManager;
+import io.github.pokemeetup.utils.GameLogger;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Measures chunks generated per second through {@link ChunkGenerationPipeline}, on one thread
+ * and on a pool, for a square region of terrain, mountains and objects. Both runs of a round
+ * generate the same seed, so they do the same work, and each run builds fresh managers so no
+ * biome cache or object list carries over. An unreported warm-up round runs first so the JIT has
+ * compiled the generator before anything is timed. Run through the
+ * {@code benchmarkChunkGeneration} Gradle task:
+ * {@code ChunkGenerationBenchmark [region size in chunks] [threads] [rounds]}.
+ */
+public final class ChunkGenerationBenchmark {
+
+    private ChunkGenerationBenchmark() {
+    }
+
+    private static long run(long seed, int size, ExecutorService executor) {
+        BiomeManager biomeManager = new BiomeManager(seed);
+        WorldObject.WorldObjectManager objectManager = new WorldObject.WorldObjectManager(seed, null);
+        ChunkGenerationPipeline pipeline = new ChunkGenerationPipeline(seed, biomeManager, objectManager);
+
+        long start = System.nanoTime();
+        pipeline.generateRegion(-size / 2, -size / 2, size, size, null, executor);
+        return System.nanoTime() - start;
+    }
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+        GameLogger.isDebugEnabled = false; // Chunk generation logs every chunk
+
+        ExecutorService single = Executors.newSingleThreadExecutor();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            int chunks = size * size;
+            run(999L, size, single);
+            run(999L, size, pool);
+            for (int round = 0; round < rounds; round++) {
+                long seed = 1000L + round;
+                long singleNanos = run(seed, size, single);
+                long poolNanos = run(seed, size, pool);
+
+                System.out.printf("round %d: 1 thread %,.0f chunks/s, %d threads %,.0f chunks/s (%.2fx)%n",
+                    round + 1,
+                    chunks * 1e9 / singleNanos,
+                    threads,
+                    chunks * 1e9 / poolNanos,
+                    (double) singleNanos / poolNanos);
+            }
+        } finally {
+            single.shutdown();
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package io.github.pokemeetup.system.gameplay.overworld;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import io.github.pokemeetup.utils.textures.TileType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Measures passability queries per second on a synthetic world, comparing the per-query
+ * allocation path (chunk map lookups with fresh keys, a movement rectangle and a scan of
+ * nearby object boxes) against {@link ChunkCollisionMask} lookups. Run through the
+ * {@code benchmarkPassability} Gradle task: {@code PassabilityBenchmark [chunk radius] [queries]}.
+ */
+public final class PassabilityBenchmark {
+    private static final int TILE_SIZE = World.TILE_SIZE;
+    private static final int CHUNK_SIZE = Chunk.CHUNK_SIZE;
+    private static final int OBJECTS_PER_CHUNK = 12;
+    private static final int ROUNDS = 5;
+
+    private final Map<Vector2, int[][]> tiles = new HashMap<>();
+    private final Map<Vector2, List<Rectangle>> objectBoxes = new HashMap<>();
+    private final Map<Vector2, ChunkCollisionMask> masks = new HashMap<>();
+    private final Vector2 key = new Vector2();
+    private final int radius;
+
+    private PassabilityBenchmark(int radius, long seed) {
+        this.radius = radius;
+        Random random = new Random(seed);
+        int[] tileTypes = {TileType.GRASS, TileType.GRASS, TileType.SAND, TileType.TALL_GRASS,
+            TileType.WATER, TileType.ROCK};
+
+        for (int cx = -radius; cx <= radius; cx++) {
+            for (int cy = -radius; cy <= radius; cy++) {
+                int[][] tileData = new int[CHUNK_SIZE][CHUNK_SIZE];
+                for (int x = 0; x < CHUNK_SIZE; x++) {
+                    for (int y = 0; y < CHUNK_SIZE; y++) {
+                        tileData[x][y] = tileTypes[random.nextInt(tileTypes.length)];
+                    }
+                }
+
+                List<Rectangle> boxes = new ArrayList<>();
+                long[] objectTiles = new long[ChunkCollisionMask.WORDS];
+                for (int i = 0; i < OBJECTS_PER_CHUNK; i++) {
+                    int lx = random.nextInt(CHUNK_SIZE - 1);
+                    int ly = random.nextInt(CHUNK_SIZE - 1);
+                    boxes.add(new Rectangle((cx * CHUNK_SIZE + lx) * TILE_SIZE,
+                        (cy * CHUNK_SIZE + ly) * TILE_SIZE, TILE_SIZE * 2, TILE_SIZE * 2));
+                    for (int dx = 0; dx < 2; dx++) {
+                        for (int dy = 0; dy < 2; dy++) {
+                            ChunkCollisionMask.mark(objectTiles, lx + dx, ly + dy);
+                        }
+                    }
+                }
+
+                ChunkCollisionMask mask = new ChunkCollisionMask();
+                mask.rebuildTerrain(tileData);
+                mask.publishDynamic(objectTiles, new long[ChunkCollisionMask.WORDS], mask.getDynamicVersion());
+
+                Vector2 chunkPos = new Vector2(cx, cy);
+                tiles.put(chunkPos, tileData);
+                objectBoxes.put(chunkPos, boxes);
+                masks.put(chunkPos, mask);
+            }
+        }
+    }
+
+    private boolean legacyIsPassable(int worldX, int worldY) {
+        int chunkX = Math.floorDiv(worldX, CHUNK_SIZE);
+        int chunkY = Math.floorDiv(worldY, CHUNK_SIZE);
+        if (!tiles.containsKey(new Vector2(chunkX, chunkY))) {
+            return false;
+        }
+        int[][] tileData = tiles.get(new Vector2(chunkX, chunkY));
+        if (!TileType.isPassableTile(tileData[Math.floorMod(worldX, CHUNK_SIZE)][Math.floorMod(worldY, CHUNK_SIZE)])) {
+            return false;
+        }
+
+        Rectangle movementBounds = new Rectangle(worldX * TILE_SIZE, worldY * TILE_SIZE,
+            TILE_SIZE * 0.5f, TILE_SIZE * 0.5f);
+        List<Rectangle> nearby = new ArrayList<>();
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                List<Rectangle> boxes = objectBoxes.get(new Vector2(chunkX + dx, chunkY + dy));
+                if (boxes != null) {
+                    nearby.addAll(boxes);
+                }
+            }
+        }
+        for (Rectangle box : nearby) {
+            if (box.overlaps(movementBounds)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean maskIsPassable(int worldX, int worldY) {
+        ChunkCollisionMask mask = masks.get(key.set(Math.floorDiv(worldX, CHUNK_SIZE), Math.floorDiv(worldY, CHUNK_SIZE)));
+        return mask != null && !mask.isBlocked(Math.floorMod(worldX, CHUNK_SIZE), Math.floorMod(worldY, CHUNK_SIZE));
+    }
+
+    private long run(boolean useMask, int[] xs, int[] ys) {
+        long passable = 0;
+        for (int i = 0; i < xs.length; i++) {
+            if (useMask ? maskIsPassable(xs[i], ys[i]) : legacyIsPassable(xs[i], ys[i])) {
+                passable++;
+            }
+        }
+        return passable;
+    }
+
+    public static void main(String[] args) {
+        int radius = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        int queries = args.length > 1 ? Integer.parseInt(args[1]) : 2_000_000;
+
+        PassabilityBenchmark benchmark = new PassabilityBenchmark(radius, 42L);
+        Random random = new Random(7L);
+        int span = (radius * 2 + 1) * CHUNK_SIZE;
+        int[] xs = new int[queries];
+        int[] ys = new int[queries];
+        for (int i = 0; i < queries; i++) {
+            xs[i] = random.nextInt(span) - radius * CHUNK_SIZE;
+            ys[i] = random.nextInt(span) - radius * CHUNK_SIZE;
+        }
+
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            long legacyPassable = benchmark.run(false, xs, ys);
+            long legacyNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            long maskPassable = benchmark.run(true, xs, ys);
+            long maskNanos = System.nanoTime() - start;
+
+            System.out.printf("round %d: legacy %,.0f queries/s, mask %,.0f queries/s (%d vs %d passable)%n",
+                round + 1,
+                queries * 1e9 / legacyNanos,
+                queries * 1e9 / maskNanos,
+                legacyPassable, maskPassable);
+        }
+    }
+}
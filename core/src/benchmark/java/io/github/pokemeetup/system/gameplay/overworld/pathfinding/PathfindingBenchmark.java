@@ -0,0 +1,135 @@
+package io.github.pokemeetup.system.gameplay.overworld.pathfinding;
+
+import io.github.pokemeetup.system.gameplay.overworld.Chunk;
+
+import java.util.Random;
+
+/**
+ * Measures A* paths/sec and flow field builds/sec on a forest layout. Trees are placed with the
+ * same clustering rule as {@code WorldObjectManager} uses for forest chunks (up to ten 40%
+ * cluster attempts per chunk, 2-3 trees on a 2-tile grid, 2x2 collision footprint), so the
+ * searches route around realistic obstacles without needing the biome assets. Run through the
+ * {@code benchmarkPathfinding} Gradle task: {@code PathfindingBenchmark [chunks] [paths]}.
+ */
+public final class PathfindingBenchmark {
+    private static final int CLUSTER_ATTEMPTS = 10;
+    private static final float CLUSTER_CHANCE = 0.4f;
+    private static final float ROCK_CHANCE = 0.03f;
+    private static final int QUERY_DISTANCE = 24;
+    private static final int ROUNDS = 5;
+
+    private final int size;
+    private final boolean[] blocked;
+
+    private PathfindingBenchmark(int chunks, long seed) {
+        this.size = chunks * Chunk.CHUNK_SIZE;
+        this.blocked = new boolean[size * size];
+        Random random = new Random(seed);
+
+        for (int i = 0; i < blocked.length; i++) {
+            blocked[i] = random.nextFloat() < ROCK_CHANCE;
+        }
+        for (int cx = 0; cx < chunks; cx++) {
+            for (int cy = 0; cy < chunks; cy++) {
+                plantForestChunk(cx * Chunk.CHUNK_SIZE, cy * Chunk.CHUNK_SIZE, random);
+            }
+        }
+    }
+
+    private void plantForestChunk(int originX, int originY, Random random) {
+        for (int i = 0; i < CLUSTER_ATTEMPTS; i++) {
+            if (random.nextFloat() >= CLUSTER_CHANCE) {
+                continue;
+            }
+            int centerX = random.nextInt(Chunk.CHUNK_SIZE / 2) * 2;
+            int centerY = random.nextInt(Chunk.CHUNK_SIZE / 2) * 2;
+            int trees = random.nextInt(2) + 2;
+            for (int attempt = 0; attempt < 9 && trees > 0; attempt++) {
+                int x = centerX + (random.nextInt(3) - 1) * 2;
+                int y = centerY + (random.nextInt(3) - 1) * 2;
+                if (x < 0 || y < 0 || x >= Chunk.CHUNK_SIZE - 1 || y >= Chunk.CHUNK_SIZE - 1) {
+                    continue;
+                }
+                int tileX = originX + x;
+                int tileY = originY + y;
+                if (isWalkable(tileX, tileY)) {
+                    // Same footprint as WorldObject.markCollisionTiles for trees
+                    block(tileX - 1, tileY);
+                    block(tileX, tileY);
+                    block(tileX - 1, tileY + 1);
+                    block(tileX, tileY + 1);
+                    trees--;
+                }
+            }
+        }
+    }
+
+    private void block(int tileX, int tileY) {
+        if (tileX >= 0 && tileY >= 0 && tileX < size && tileY < size) {
+            blocked[tileY * size + tileX] = true;
+        }
+    }
+
+    private boolean isWalkable(int tileX, int tileY) {
+        return tileX >= 0 && tileY >= 0 && tileX < size && tileY < size && !blocked[tileY * size + tileX];
+    }
+
+    private int randomWalkable(Random random) {
+        while (true) {
+            int tile = random.nextInt(blocked.length);
+            if (!blocked[tile]) {
+                return tile;
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        int chunks = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+        int paths = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+
+        PathfindingBenchmark forest = new PathfindingBenchmark(chunks, 42L);
+        PathfindingService service = new PathfindingService(forest::isWalkable);
+        Random random = new Random(7L);
+
+        int[] startX = new int[paths];
+        int[] startY = new int[paths];
+        int[] goalX = new int[paths];
+        int[] goalY = new int[paths];
+        for (int i = 0; i < paths; i++) {
+            int start = forest.randomWalkable(random);
+            startX[i] = start % forest.size;
+            startY[i] = start / forest.size;
+            do {
+                goalX[i] = startX[i] + random.nextInt(QUERY_DISTANCE * 2 + 1) - QUERY_DISTANCE;
+                goalY[i] = startY[i] + random.nextInt(QUERY_DISTANCE * 2 + 1) - QUERY_DISTANCE;
+            } while (!forest.isWalkable(goalX[i], goalY[i]));
+        }
+
+        TilePath path = new TilePath();
+        for (int round = 0; round < ROUNDS; round++) {
+            int found = 0;
+            long steps = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < paths; i++) {
+                if (service.findPath(startX[i], startY[i], goalX[i], goalY[i], path)) {
+                    found++;
+                    steps += path.size();
+                }
+            }
+            long pathNanos = System.nanoTime() - start;
+
+            int fields = Math.max(1, paths / 100);
+            start = System.nanoTime();
+            for (int i = 0; i < fields; i++) {
+                new FlowField(forest::isWalkable, startX[i], startY[i], PathfindingService.FLOW_FIELD_RADIUS, 0);
+            }
+            long fieldNanos = System.nanoTime() - start;
+
+            System.out.printf("round %d: %,.0f paths/s (%d/%d found, avg %.1f steps), %,.0f flow fields/s%n",
+                round + 1,
+                paths * 1e9 / pathNanos,
+                found, paths, found > 0 ? (double) steps / found : 0.0,
+                fields * 1e9 / fieldNanos);
+        }
+    }
+}
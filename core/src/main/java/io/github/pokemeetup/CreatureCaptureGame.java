@@ -7,6 +7,7 @@ import com.badlogic.gdx.assets.loaders.TextureAtlasLoader;
 import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.TimeUtils;
 import io.github.pokemeetup.audio.AudioManager;
 import io.github.pokemeetup.managers.BiomeManager;
 import io.github.pokemeetup.multiplayer.client.GameClient;
@@ -17,6 +18,7 @@ import io.github.pokemeetup.multiplayer.server.config.ServerConfigManager;
 import io.github.pokemeetup.multiplayer.server.config.ServerConnectionConfig;
 import io.github.pokemeetup.pokemon.data.PokemonDatabase;
 import io.github.pokemeetup.screens.*;
+import io.github.pokemeetup.screens.otherui.ItemIcons;
 import io.github.pokemeetup.system.Player;
 import io.github.pokemeetup.system.data.PlayerData;
 import io.github.pokemeetup.system.data.WorldData;
@@ -34,6 +36,8 @@ import java.io.IOException;
 public class CreatureCaptureGame extends Game implements GameStateHandler {
     public static final String MULTIPLAYER_WORLD_NAME = "multiplayer_world";
     public static final long MULTIPLAYER_WORLD_SEED = System.currentTimeMillis();
+    // Per-frame budget for streaming music once the core stage is done
+    private static final int STREAMING_SLICE_MS = 4;
     private boolean isMultiplayerMode = false;
     private WorldManager worldManager;
     private GameClient gameClient;
@@ -42,6 +46,8 @@ public class CreatureCaptureGame extends Game implements GameStateHandler {
     private World currentWorld;
     private String currentWorldName;
     private AssetManager assetManager;
+    private long startupTime;
+    private boolean firstInteractiveFrameLogged = false;
 
     public CreatureCaptureGame(boolean isAndroid) {
         if (
@@ -65,11 +71,16 @@ public class CreatureCaptureGame extends Game implements GameStateHandler {
 
     @Override
     public void create() {
+        startupTime = TimeUtils.millis();
 
         assetManager = new AssetManager();
         queueAssets();
         GameLogger.info("Loading assets...");
-        assetManager.finishLoading();
+        setScreen(new LoadingScreen(this, assetManager, this::onCoreAssetsLoaded));
+    }
+
+    private void onCoreAssetsLoaded() {
+        GameLogger.info("Core assets loaded in " + TimeUtils.timeSinceMillis(startupTime) + "ms");
         initializeManagers();
 
         ServerStorageSystem serverStorageSystem = new ServerStorageSystem();
@@ -81,6 +92,29 @@ public class CreatureCaptureGame extends Game implements GameStateHandler {
         GameLogger.info("Game initialization complete");
     }
 
+    @Override
+    public void render() {
+        super.render();
+
+        if (assetManager == null || screen instanceof LoadingScreen) {
+            return;
+        }
+        if (!firstInteractiveFrameLogged) {
+            firstInteractiveFrameLogged = true;
+            GameLogger.info("Cold start to first interactive frame: " +
+                TimeUtils.timeSinceMillis(startupTime) + "ms");
+        }
+        // Stream deferred music in small slices after the frame is drawn
+        if (!assetManager.isFinished()) {
+            assetManager.update(STREAMING_SLICE_MS);
+            AudioManager.getInstance().resumePendingMusic();
+        }
+    }
+
+    public AssetManager getAssetManager() {
+        return assetManager;
+    }
+
     @Override
     public void dispose() {
         try {
@@ -269,6 +303,8 @@ public class CreatureCaptureGame extends Game implements GameStateHandler {
     }
 
     private void queueAssets() {
+        // Core stage: everything the menus and the first overworld frame need.
+        // Overworld tiles all come from the tiles atlas; the per-biome atlases are not loaded.
         String[] atlasFiles = {
             "atlas/ui-gfx-atlas.atlas",
             "atlas/back-gfx-atlas",
@@ -279,23 +315,11 @@ public class CreatureCaptureGame extends Game implements GameStateHandler {
             "atlas/items-gfx-atlas",
             "atlas/overworld-gfx-atlas",
             "atlas/battlebacks-gfx-atlas",
-            "atlas/move-effects-gfx",
-            "atlas/haunted_biome.atlas",
             "atlas/mountain-atlas.atlas",
-            "atlas/mountain_biome.atlas",
-            "atlas/move_effects_gfx.atlas",
-            "atlas/plains_biome.atlas",
-            "atlas/ruins_biome.atlas",
-            "atlas/safari_biome.atlas",
-            "atlas/snow_biome.atlas",
-            "atlas/cherry_blossom_biome.atlas",
-            "atlas/swamp_biome.atlas",
-            "atlas/volcano_biome.atlas",
-            "atlas/desert_biome.atlas",
-            "atlas/Forest_Biome"
-
+            "atlas/move_effects_gfx.atlas"
         };
 
+        assetManager.setLoader(TextureAtlas.class, new TextureAtlasLoader(new InternalFileHandleResolver()));
         for (String path : atlasFiles) {
             verifyAssetExists(path);
             assetManager.load(path, TextureAtlas.class);
@@ -311,8 +335,6 @@ public class CreatureCaptureGame extends Game implements GameStateHandler {
             verifyDataFileExists(dataFile);
         }
 
-        assetManager.setLoader(TextureAtlas.class, new TextureAtlasLoader(new InternalFileHandleResolver()));
-
         GameLogger.info("Asset loading queued");
     }
 
@@ -375,18 +397,6 @@ public class CreatureCaptureGame extends Game implements GameStateHandler {
 
             GameLogger.info("Initializing managers with loaded assets...");
 
-            TextureAtlas atlasPlains = new TextureAtlas(Gdx.files.internal("atlas/plains_biome.atlas"));
-            TextureAtlas atlasForest = new TextureAtlas(Gdx.files.internal("atlas/Forest_Biome"));
-            TextureAtlas atlasRuins = new TextureAtlas(Gdx.files.internal("atlas/ruins_biome.atlas"));
-            TextureAtlas atlasSafari = new TextureAtlas(Gdx.files.internal("atlas/safari_biome.atlas"));
-            TextureAtlas atlasSnow = new TextureAtlas(Gdx.files.internal("atlas/snow_biome.atlas"));
-            TextureAtlas atlasDesert = new TextureAtlas(Gdx.files.internal("atlas/desert_biome.atlas"));
-            TextureAtlas atlasSwamp = new TextureAtlas(Gdx.files.internal("atlas/swamp_biome.atlas"));
-            TextureAtlas atlasHaunted = new TextureAtlas(Gdx.files.internal("atlas/haunted_biome.atlas"));
-            TextureAtlas atlasCherryBlossom = new TextureAtlas(Gdx.files.internal("atlas/cherry_blossom_biome.atlas"));
-            TextureAtlas atlasMountains = new TextureAtlas(Gdx.files.internal("atlas/mountain_biome.atlas"));
-            TextureAtlas atlasVolcano = new TextureAtlas(Gdx.files.internal("atlas/volcano_biome.atlas"));
-
             TextureAtlas battleAtlas = assetManager.get("atlas/battlebacks-gfx-atlas", TextureAtlas.class);
             TextureAtlas uiAtlas = assetManager.get("atlas/ui-gfx-atlas.atlas", TextureAtlas.class);
             TextureAtlas backAtlas = assetManager.get("atlas/back-gfx-atlas", TextureAtlas.class);
@@ -416,23 +426,14 @@ public class CreatureCaptureGame extends Game implements GameStateHandler {
                 boyAtlas,
                 tilesAtlas,
                 effects,
-                mountains,
-                atlasPlains,
-                atlasRuins,
-                atlasSafari,
-                atlasSnow,
-                atlasDesert,
-                atlasSwamp,
-                atlasHaunted,
-                atlasCherryBlossom,
-                atlasVolcano,
-                atlasMountains, atlasForest
+                mountains
             );
+            ItemIcons.clear(); // Drawables from an earlier items atlas
 
             PokemonDatabase.initialize();
 
             ItemManager.initialize(TextureManager.items);
-            AudioManager.getInstance();
+            AudioManager.getInstance().setAssetManager(assetManager);
 
             // Initialize game systems
             ServerStorageSystem serverStorageSystem = new ServerStorageSystem();
@@ -1,31 +1,54 @@
 package io.github.pokemeetup.audio;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.math.MathUtils;
 import io.github.pokemeetup.system.gameplay.overworld.biomes.BiomeType;
 import io.github.pokemeetup.utils.GameLogger;
+import io.github.pokemeetup.utils.metrics.MetricsRegistry;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Music and sound playback. Nothing is decoded up front: a music track is opened when its biome
+ * or the menu starts it and released once it has faded out or finished, and sounds go through a
+ * {@link SoundCache} that loads them on first play and evicts them when idle. While the player is
+ * near a biome border, one track of the neighbouring biome is queued on the AssetManager so the
+ * switch does not wait for it. Likewise the interface sounds are preloaded and kept once there is
+ * an AssetManager, and a weather's sounds are preloaded when it starts.
+ */
 public class AudioManager {
     private static final float AMBIENT_FADE_DURATION = 2.0f;
+    private static final long EVICT_INTERVAL_MILLIS = 5_000L;
     private static AudioManager instance;
-    private final Map<WeatherSoundEffect, Sound> weatherSounds = new EnumMap<>(WeatherSoundEffect.class);
+    private final SoundCache soundCache = new SoundCache();
     private final Map<WeatherSoundEffect, Long> loopingSoundIds = new EnumMap<>(WeatherSoundEffect.class);
-    private final Map<SoundEffect, Sound> sounds;
-    private final Map<BiomeType, List<Music>> biomeMusic;
-
+    private final Set<WeatherSoundEffect> heldWeatherSounds = EnumSet.noneOf(WeatherSoundEffect.class);
+    private final Map<BiomeType, List<String>> biomeMusicPaths;
+    // Path of every open track, to release it through the AssetManager or dispose it directly
+    private final Map<Music, String> openTracks = new IdentityHashMap<>();
+    private final List<Music> retiredTracks = new ArrayList<>();
+
+    private static final SoundEffect[] INTERFACE_SOUNDS = {
+        SoundEffect.MENU_SELECT, SoundEffect.MENU_BACK, SoundEffect.CURSOR_MOVE, SoundEffect.ITEM_PICKUP
+    };
     private final Map<String, Sound> customSounds;
     private final float MUSIC_FADE_DURATION = 2.0f;
     private final float FADE_OUT_DURATION = 2f; // 1.5 seconds for fade-out
-    private final Map<AmbientSoundType, Sound> ambientSounds;
     private final Map<AmbientSoundType, Long> activeAmbientLoops;
     private final Map<WeatherSoundEffect, Long> loopingStartTimes = new EnumMap<>(WeatherSoundEffect.class);
     private final Map<WeatherSoundEffect, Float> loopingDurations = new EnumMap<>(WeatherSoundEffect.class);
-    private List<Music> menuMusicList;
+    private List<String> menuMusicPaths;
+    private AssetManager assetManager;
+    private boolean menuMusicPending = false;
+    private String pendingTrack; // Chosen but still streaming in
+    private String lastTrack;
+    private BiomeType prefetchedBiome;
+    private String prefetchedTrack;
+    private long lastEvictMillis;
 
     private Music currentMusic;
     private BiomeType currentBiome;
@@ -48,14 +71,18 @@ public class AudioManager {
     private float fadeInMusicTimer = 0f;
 
     private AudioManager() {
-        sounds = new EnumMap<>(SoundEffect.class);
-        biomeMusic = new EnumMap<>(BiomeType.class);
+        long start = System.nanoTime();
+        biomeMusicPaths = new EnumMap<>(BiomeType.class);
         customSounds = new ConcurrentHashMap<>();
-        // Existing initialization...
-        this.ambientSounds = new EnumMap<>(AmbientSoundType.class);
         this.activeAmbientLoops = new EnumMap<>(AmbientSoundType.class);
-        initializeAmbientSounds();
         initializeAudio();
+
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        metrics.gauge("audio.sounds.resident", soundCache::getResidentCount);
+        metrics.gauge("audio.sounds.residentBytes", soundCache::getResidentBytes);
+        metrics.gauge("audio.music.open", () -> openTracks.size());
+        GameLogger.info(String.format("AudioManager ready in %.1f ms; sounds and music load on first use",
+            (System.nanoTime() - start) / 1e6));
     }
 
     public static AudioManager getInstance() {
@@ -69,26 +96,27 @@ public class AudioManager {
         AudioManager.instance = instance;
     }
 
-    private void initializeWeatherSounds() {
-        for (WeatherSoundEffect effect : WeatherSoundEffect.values()) {
-            try {
-                Sound sound = Gdx.audio.newSound(Gdx.files.internal(effect.getPath()));
-                weatherSounds.put(effect, sound);
-            } catch (Exception e) {
-                GameLogger.error("Failed to load weather sound: " + effect.getPath());
+    /**
+     * Routes music loading through the game's AssetManager so tracks stream in
+     * during update() slices instead of being decoded on the render thread.
+     * Without one, tracks are opened synchronously the first time they are needed.
+     */
+    public void setAssetManager(AssetManager assetManager) {
+        this.assetManager = assetManager;
+        soundCache.setAssetManager(assetManager);
+        if (assetManager != null) {
+            for (SoundEffect effect : INTERFACE_SOUNDS) {
+                soundCache.pin(effect.getPath());
             }
         }
     }
 
-    private void initializeAmbientSounds() {
-        for (AmbientSoundType type : AmbientSoundType.values()) {
-            try {
-                Sound sound = Gdx.audio.newSound(Gdx.files.internal(type.getPath()));
-                ambientSounds.put(type, sound);
-                GameLogger.info("Loaded ambient sound: " + type.name());
-            } catch (Exception e) {
-                GameLogger.error("Failed to load ambient sound: " + type.name() + " - " + e.getMessage());
-            }
+    /**
+     * Queues a weather sound before it is first needed, e.g. when the weather that uses it starts.
+     */
+    public void preloadWeatherSound(WeatherSoundEffect effect) {
+        if (soundEnabled) {
+            soundCache.preload(effect.getPath());
         }
     }
 
@@ -103,7 +131,11 @@ public class AudioManager {
 
             // If we're already playing this ambient, just update volume
             if (currentAmbient == newAmbient) {
-                updateAmbientVolume(newAmbient, intensity);
+                if (activeAmbientLoops.containsKey(newAmbient)) {
+                    updateAmbientVolume(newAmbient, intensity);
+                } else {
+                    startAmbientSound(newAmbient, intensity); // Still loading when first asked for
+                }
                 return;
             }
 
@@ -122,8 +154,11 @@ public class AudioManager {
     }
 
     private void startAmbientSound(AmbientSoundType type, float intensity) {
-        Sound sound = ambientSounds.get(type);
-        if (sound != null && !activeAmbientLoops.containsKey(type)) {
+        if (activeAmbientLoops.containsKey(type)) {
+            return;
+        }
+        Sound sound = soundCache.acquire(type.getPath());
+        if (sound != null) {
             float volume = calculateAmbientVolume(intensity);
             long id = sound.loop(volume);
             activeAmbientLoops.put(type, id);
@@ -137,39 +172,41 @@ public class AudioManager {
 
     public void stopAllAmbientSounds() {
         for (Map.Entry<AmbientSoundType, Long> entry : activeAmbientLoops.entrySet()) {
-            Sound sound = ambientSounds.get(entry.getKey());
+            Sound sound = soundCache.get(entry.getKey().getPath());
             if (sound != null) {
                 sound.stop(entry.getValue());
             }
+            soundCache.release(entry.getKey().getPath());
         }
         activeAmbientLoops.clear();
         currentAmbient = null;
     }
 
     private void updateAmbientVolume(AmbientSoundType type, float intensity) {
-        Sound sound = ambientSounds.get(type);
         Long id = activeAmbientLoops.get(type);
-        if (sound != null && id != null) {
+        Sound sound = id != null ? soundCache.get(type.getPath()) : null;
+        if (sound != null) {
             float volume = calculateAmbientVolume(intensity);
             sound.setVolume(id, volume);
         }
     }
 
     private void fadeOutAmbient(AmbientSoundType type) {
-        Sound sound = ambientSounds.get(type);
         Long id = activeAmbientLoops.get(type);
-        if (sound != null && id != null) {
+        Sound sound = id != null ? soundCache.get(type.getPath()) : null;
+        if (sound != null) {
             // Start fade out
             sound.setVolume(id, 0f); // Immediate volume reduction
             sound.stop(id);
             activeAmbientLoops.remove(type);
+            soundCache.release(type.getPath());
         }
     }
 
     public void playWeatherSound(WeatherSoundEffect effect, float volume, float pitch) {
         if (!soundEnabled) return;
 
-        Sound sound = weatherSounds.get(effect);
+        Sound sound = soundCache.get(effect.getPath());
         if (sound != null) {
             sound.play(volume * soundVolume * masterVolume, pitch, 0);
         }
@@ -181,7 +218,16 @@ public class AudioManager {
             return;
         }
 
-        Sound sound = weatherSounds.get(effect);
+        Sound sound;
+        if (heldWeatherSounds.contains(effect)) {
+            sound = soundCache.get(effect.getPath());
+        } else {
+            // Null while it is still loading; the loop starts on a later call
+            sound = soundCache.acquire(effect.getPath());
+            if (sound != null) {
+                heldWeatherSounds.add(effect);
+            }
+        }
         if (sound != null) {
             Long currentId = loopingSoundIds.get(effect);
 
@@ -216,7 +262,10 @@ public class AudioManager {
     }
 
     public void stopWeatherLoop(WeatherSoundEffect effect) {
-        Sound sound = weatherSounds.get(effect);
+        if (!heldWeatherSounds.remove(effect)) {
+            return;
+        }
+        Sound sound = soundCache.get(effect.getPath());
         Long id = loopingSoundIds.get(effect);
         if (sound != null && id != null) {
             sound.stop(id);
@@ -224,6 +273,7 @@ public class AudioManager {
             loopingStartTimes.remove(effect);
             loopingDurations.remove(effect);
         }
+        soundCache.release(effect.getPath());
     }
 
     public void stopAllWeatherLoops() {
@@ -258,73 +308,184 @@ public class AudioManager {
     public void playSound(AudioManager.SoundEffect effect) {
         if (!soundEnabled) return;
 
-        Sound sound = sounds.get(effect);
+        Sound sound = soundCache.get(effect.getPath());
         if (sound != null) {
             sound.play(soundVolume * masterVolume);
         }
     }
 
     private void initializeAudio() {
-        // Load sound effects
-        for (SoundEffect effect : SoundEffect.values()) {
-            try {
-                Sound sound = Gdx.audio.newSound(Gdx.files.internal(effect.getPath()));
-                sounds.put(effect, sound);
-            } catch (Exception e) {
-                Gdx.app.error("AudioManager", "Failed to load sound: " + effect.getPath());
-            }
-        }
-        menuMusicList = new ArrayList<>();
-        loadMenuMusic(Arrays.asList(
+        // Tracks are only registered here; each is opened when it is about to play
+        menuMusicPaths = Arrays.asList(
             "music/Menu-Music-1.mp3",
             "music/Menu-Music-2.mp3",
             "music/Menu-Music-0.mp3",
             "music/Menu-Music-3.mp3",
             "music/Menu-Music-4.mp3"
             // Add more paths as needed
-        ));
-        loadBiomeMusic(BiomeType.FOREST, (Arrays.asList("music/Forest-Biome-0.mp3", "music/Forest-Biome-1.mp3", "music/Forest-Biome-2.mp3", "music/Forest-Biome-3.mp3")));
-        loadBiomeMusic(BiomeType.SNOW, (Arrays.asList("music/Snow-Biome-0.mp3", "music/Snow-Biome-1.mp3", "music/Snow-Biome-2.mp3")));
-        loadBiomeMusic(BiomeType.HAUNTED, (Arrays.asList("music/Haunted-Biome-0.mp3", "music/Haunted-Biome-1.mp3")));
-        loadBiomeMusic(BiomeType.PLAINS, (Arrays.asList("music/Plains-Biome-0.mp3", "music/Plains-Biome-1.mp3", "music/Plains-Biome-2.mp3", "music/Plains-Biome-3.mp3", "music/Plains-Biome-4.mp3")));
-        loadBiomeMusic(BiomeType.BIG_MOUNTAINS, (Arrays.asList("music/Mountain-Biome-1.mp3", "music/Mountain-Biome-0.mp3")));
-        loadBiomeMusic(BiomeType.RAIN_FOREST, (Arrays.asList("music/RainForest-Biome-0.mp3", "music/RainForest-Biome-1.mp3", "music/RainForest-Biome-2.mp3", "music/RainForest-Biome-3.mp3")));
-        loadBiomeMusic(BiomeType.DESERT, (Arrays.asList("music/Desert-Biome-0.mp3", "music/Desert-Biome-1.mp3", "music/Desert-Biome-2.mp3", "music/Desert-Biome-3.mp3", "music/Desert-Biome-4.mp3")));
-
-    }
-
-    private void loadMenuMusic(List<String> paths) {
-        for (String path : paths) {
-            try {
-                Music music = Gdx.audio.newMusic(Gdx.files.internal(path));
-                music.setVolume(musicVolume * masterVolume);
-                menuMusicList.add(music);
-            } catch (Exception e) {
-                Gdx.app.error("AudioManager", "Failed to load menu music: " + path + ", error: " + e.getMessage(), e);
+        );
+        biomeMusicPaths.put(BiomeType.FOREST, Arrays.asList("music/Forest-Biome-0.mp3", "music/Forest-Biome-1.mp3", "music/Forest-Biome-2.mp3", "music/Forest-Biome-3.mp3"));
+        biomeMusicPaths.put(BiomeType.SNOW, Arrays.asList("music/Snow-Biome-0.mp3", "music/Snow-Biome-1.mp3", "music/Snow-Biome-2.mp3"));
+        biomeMusicPaths.put(BiomeType.HAUNTED, Arrays.asList("music/Haunted-Biome-0.mp3", "music/Haunted-Biome-1.mp3"));
+        biomeMusicPaths.put(BiomeType.PLAINS, Arrays.asList("music/Plains-Biome-0.mp3", "music/Plains-Biome-1.mp3", "music/Plains-Biome-2.mp3", "music/Plains-Biome-3.mp3", "music/Plains-Biome-4.mp3"));
+        biomeMusicPaths.put(BiomeType.BIG_MOUNTAINS, Arrays.asList("music/Mountain-Biome-1.mp3", "music/Mountain-Biome-0.mp3"));
+        biomeMusicPaths.put(BiomeType.RAIN_FOREST, Arrays.asList("music/RainForest-Biome-0.mp3", "music/RainForest-Biome-1.mp3", "music/RainForest-Biome-2.mp3", "music/RainForest-Biome-3.mp3"));
+        biomeMusicPaths.put(BiomeType.DESERT, Arrays.asList("music/Desert-Biome-0.mp3", "music/Desert-Biome-1.mp3", "music/Desert-Biome-2.mp3", "music/Desert-Biome-3.mp3", "music/Desert-Biome-4.mp3"));
+
+    }
+
+    /**
+     * Opens the track at {@code path}. With an AssetManager a track that is not loaded yet is
+     * queued and null returned, so a later call picks it up; otherwise it is opened now.
+     */
+    private Music openTrack(String path) {
+        try {
+            if (assetManager != null) {
+                if (assetManager.isLoaded(path, Music.class)) {
+                    Music music = assetManager.get(path, Music.class);
+                    openTracks.put(music, path);
+                    return music;
+                }
+                if (!assetManager.contains(path)) {
+                    assetManager.load(path, Music.class);
+                }
+                return null;
+            }
+            Music music = Gdx.audio.newMusic(Gdx.files.internal(path));
+            openTracks.put(music, path);
+            return music;
+        } catch (Exception e) {
+            Gdx.app.error("AudioManager", "Failed to load music: " + path + ", error: " + e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * A random track from {@code paths}, avoiding the one that just played when there is a choice.
+     */
+    private String chooseTrack(List<String> paths) {
+        int index = MathUtils.random(paths.size() - 1);
+        if (paths.size() > 1 && paths.get(index).equals(lastTrack)) {
+            index = (index + 1) % paths.size();
+        }
+        return paths.get(index);
+    }
+
+    /**
+     * Queues a finished or faded-out track for release. The release is deferred to the next
+     * {@link #releaseRetiredTracks()}, as this may run inside the track's own completion callback.
+     */
+    private void retireTrack(Music music) {
+        if (music != null && !retiredTracks.contains(music)) {
+            retiredTracks.add(music);
+        }
+    }
+
+    private void releaseRetiredTracks() {
+        for (int i = retiredTracks.size() - 1; i >= 0; i--) {
+            Music music = retiredTracks.get(i);
+            // The same AssetManager instance is handed out again if its track is picked twice
+            if (music == currentMusic) {
+                retiredTracks.remove(i);
+            } else if (!music.isPlaying()) {
+                releaseTrack(music);
+                retiredTracks.remove(i);
             }
         }
     }
 
-    private void loadBiomeMusic(BiomeType biome, List<String> paths) {
-        List<Music> musicList = new ArrayList<>();
-        for (String path : paths) {
-            try {
-                Music music = Gdx.audio.newMusic(Gdx.files.internal(path));
-                music.setVolume(musicVolume * masterVolume);
-                musicList.add(music);
-            } catch (Exception e) {
-                Gdx.app.error("AudioManager", "Failed to load music: " + path + ", error: " + e.getMessage(), e);
+    private void releaseTrack(Music music) {
+        String path = openTracks.remove(music);
+        if (assetManager != null && path != null) {
+            if (assetManager.isLoaded(path)) {
+                assetManager.unload(path);
             }
+        } else {
+            music.dispose();
+        }
+    }
+
+    private boolean isPlayingMenuMusic() {
+        return currentMusic != null && menuMusicPaths.contains(openTracks.get(currentMusic));
+    }
+
+    /**
+     * Queues one track of a biome the player is about to enter, so it is loaded by the time
+     * {@link #updateBiomeMusic} switches to it. Only the latest neighbour is kept; without an
+     * AssetManager this does nothing, as opening a track would block the frame.
+     */
+    public void prefetchBiomeMusic(BiomeType biome) {
+        if (assetManager == null || !musicEnabled || biome == null || biome == prefetchedBiome
+            || biome == currentBiome || biome == pendingBiome) {
+            return;
+        }
+        List<String> paths = biomeMusicPaths.get(biome);
+        if (paths == null || paths.isEmpty()) {
+            return;
+        }
+        dropPrefetchedTrack();
+        prefetchedBiome = biome;
+        prefetchedTrack = chooseTrack(paths);
+        if (!assetManager.contains(prefetchedTrack)) {
+            assetManager.load(prefetchedTrack, Music.class);
+        }
+    }
+
+    private void dropPrefetchedTrack() {
+        if (prefetchedTrack != null && !prefetchedTrack.equals(pendingTrack)) {
+            dropQueuedTrack(prefetchedTrack);
+        }
+        prefetchedBiome = null;
+        prefetchedTrack = null;
+    }
+
+    /**
+     * Unloads a track that was queued on the AssetManager but is no longer wanted.
+     */
+    private void dropQueuedTrack(String path) {
+        if (path != null && assetManager != null && !openTracks.containsValue(path)
+            && assetManager.contains(path)) {
+            assetManager.unload(path);
+        }
+    }
+
+    /**
+     * Starts any track that was requested before its file finished streaming in.
+     * Called once per frame by the game while assets are loading.
+     */
+    public void resumePendingMusic() {
+        if (!musicEnabled || (currentMusic != null && currentMusic.isPlaying())) {
+            return;
+        }
+        if (pendingBiome != null && !isFadingOutMusic) {
+            startMusicForPendingBiome();
+        } else if (menuMusicPending) {
+            playMenuMusic();
         }
-        List<Music> put = biomeMusic.put(biome, musicList);
     }
 
     public void playMenuMusic() {
         if (musicEnabled && (currentMusic == null || !currentMusic.isPlaying())) {
-            stopCurrentMusic(); // Ensure no other music is playing
-            // Randomly select a menu music track
-            int index = MathUtils.random(menuMusicList.size() - 1);
-            Music menuMusic = menuMusicList.get(index);
+            releaseRetiredTracks();
+            if (pendingTrack == null || !menuMusicPaths.contains(pendingTrack)) {
+                dropQueuedTrack(pendingTrack);
+                pendingTrack = chooseTrack(menuMusicPaths);
+            }
+            Music menuMusic = openTrack(pendingTrack);
+            if (menuMusic == null) {
+                // Still streaming in; resumePendingMusic() retries once it is ready
+                menuMusicPending = assetManager != null;
+                if (!menuMusicPending) {
+                    pendingTrack = null;
+                }
+                return;
+            }
+            menuMusicPending = false;
+            lastTrack = pendingTrack;
+            pendingTrack = null;
+            // The previous track has ended; release it rather than fading it out
+            retireTrack(currentMusic);
+            isFadingOutMusic = false;
             currentMusic = menuMusic;
             currentBiome = null; // Indicate that we're not in a biome
             currentMusic.setVolume(0f); // Start from 0 volume for fade-in
@@ -342,6 +503,7 @@ public class AudioManager {
                 @Override
                 public void onCompletion(Music music) {
                     // Play next menu music track
+                    retireTrack(music);
                     playMenuMusic();
                 }
             });
@@ -349,17 +511,14 @@ public class AudioManager {
     }
 
     public void stopMenuMusic() {
-        if (currentMusic != null && menuMusicList.contains(currentMusic)) {
+        menuMusicPending = false;
+        if (isPlayingMenuMusic()) {
             isFadingOutMusic = true;
             fadeOutMusicTimer = MUSIC_FADE_DURATION;
         }
     }
 
 
-    public Map<SoundEffect, Sound> getSounds() {
-        return sounds;
-    }
-
     public Map<String, Sound> getCustomSounds() {
         return customSounds;
     }
@@ -470,9 +629,10 @@ public class AudioManager {
 
         if (currentBiome != newBiome) {
             pendingBiome = newBiome;
+            menuMusicPending = false;
             GameLogger.info("Pending biome set to: " + pendingBiome);
 
-            if (currentMusic != null && menuMusicList.contains(currentMusic)) {
+            if (isPlayingMenuMusic()) {
                 // We're transitioning from menu to biome music
                 isFadingOutMusic = true;
                 fadeOutMusicTimer = MUSIC_FADE_DURATION;
@@ -485,10 +645,23 @@ public class AudioManager {
 
     private void startMusicForPendingBiome() {
         if (pendingBiome != null) {
-            List<Music> musicList = biomeMusic.get(pendingBiome);
-            if (musicList != null && !musicList.isEmpty()) {
-                int index = MathUtils.random(musicList.size() - 1);
-                Music targetMusic = musicList.get(index);
+            releaseRetiredTracks();
+            List<String> paths = biomeMusicPaths.get(pendingBiome);
+            if (paths != null && !paths.isEmpty() && (pendingTrack == null || !paths.contains(pendingTrack))) {
+                dropQueuedTrack(pendingTrack);
+                pendingTrack = pendingBiome == prefetchedBiome ? prefetchedTrack : chooseTrack(paths);
+            }
+            if (pendingBiome == prefetchedBiome) {
+                dropPrefetchedTrack();
+            }
+            Music targetMusic = pendingTrack != null ? openTrack(pendingTrack) : null;
+            if (targetMusic == null && pendingTrack != null && assetManager != null) {
+                // Still streaming; keep the biome pending so resumePendingMusic() can start it
+                return;
+            }
+            if (targetMusic != null) {
+                lastTrack = pendingTrack;
+                pendingTrack = null;
                 currentMusic = targetMusic;
                 currentBiome = pendingBiome;
                 pendingBiome = null;
@@ -501,6 +674,7 @@ public class AudioManager {
                 fadeInMusicTimer = MUSIC_FADE_DURATION;
             } else {
                 GameLogger.error("No music found for biome: " + pendingBiome);
+                pendingTrack = null;
                 currentMusic = null;
                 currentBiome = null;
                 pendingBiome = null;
@@ -516,16 +690,20 @@ public class AudioManager {
         if (currentMusic != null) {
             currentMusic.setVolume(Math.max(0, musicVolume * masterVolume));
         }
-        // Update volumes for all biome music
-        for (List<Music> musicList : biomeMusic.values()) {
-            for (Music music : musicList) {
-                music.setVolume(musicVolume * masterVolume);
-            }
+        // Update volumes for all open tracks
+        for (Music music : openTracks.keySet()) {
+            music.setVolume(musicVolume * masterVolume);
         }
     }
 
 
     public void update(float delta) {
+        releaseRetiredTracks();
+        long now = System.currentTimeMillis();
+        if (now - lastEvictMillis > EVICT_INTERVAL_MILLIS) {
+            lastEvictMillis = now;
+            soundCache.evictIdle(now);
+        }
 
         if (isFadingInMusic && currentMusic != null) {
             fadeInMusicTimer -= delta;
@@ -546,11 +724,10 @@ public class AudioManager {
             if (fadeOutMusicTimer <= 0) {
                 currentMusic.stop();
                 isFadingOutMusic = false;
+                retireTrack(currentMusic);
                 currentMusic = null;
                 if (pendingBiome != null) {
                     startMusicForPendingBiome(); // Start new music after fade-out
-                } else if (menuMusicList.contains(currentMusic)) {
-                    playMenuMusic(); // Start menu music after fade-out
                 }
             }
         }
@@ -577,6 +754,7 @@ public class AudioManager {
             currentMusic.setOnCompletionListener(new Music.OnCompletionListener() {
                 @Override
                 public void onCompletion(Music music) {
+                    retireTrack(music);
                     if (pendingBiome != null && pendingBiome != currentBiome) {
                         // Biome has changed, start music for new biome
                         startMusicForPendingBiome();
@@ -603,33 +781,24 @@ public class AudioManager {
     }
 
     public void dispose() {
-        for (Sound sound : sounds.values()) {
-            sound.dispose();
-        }
+        stopAllWeatherLoops();
+        stopAllAmbientSounds();
+        soundCache.dispose();
         loopingStartTimes.clear();
         loopingDurations.clear();
 
-        for (List<Music> musicList : biomeMusic.values()) {
-            for (Music music : musicList) {
+        if (assetManager == null) {
+            // Music opened through the AssetManager is disposed with it
+            for (Music music : openTracks.keySet()) {
                 music.dispose();
             }
         }
-        biomeMusic.clear();
+        openTracks.clear();
+        retiredTracks.clear();
         for (Sound sound : customSounds.values()) {
             sound.dispose();
         }
-        sounds.clear();
-        biomeMusic.clear();
         customSounds.clear();
-        for (Sound sound : weatherSounds.values()) {
-            sound.dispose();
-        }
-        stopAllAmbientSounds();
-        for (Sound sound : ambientSounds.values()) {
-            sound.dispose();
-        }
-        ambientSounds.clear();
-        weatherSounds.clear();
         loopingSoundIds.clear();
     }
 
@@ -0,0 +1,194 @@
+package io.github.pokemeetup.audio;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
+import io.github.pokemeetup.utils.GameLogger;
+import io.github.pokemeetup.utils.metrics.Histogram;
+import io.github.pokemeetup.utils.metrics.MetricsRegistry;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sounds loaded on first use and disposed once nothing has needed them for a while. Looping
+ * sounds hold a reference through {@link #acquire}/{@link #release} and are never evicted
+ * while held; one-shot sounds use {@link #get} and stay resident for {@link #IDLE_EVICT_MILLIS}
+ * after their last play. A path that fails to load is not retried. Used from the render thread
+ * only.
+ * <p>
+ * With an AssetManager, a sound that is not loaded yet is queued on it and the request returns
+ * null, so nothing plays until the file has been decoded off the render thread. That also keeps
+ * Android from dropping a play issued before its SoundPool finished loading the sample. Sounds
+ * needed without warning should be {@link #preload}ed. Without an AssetManager sounds are
+ * decoded on the render thread when first requested, and the time is recorded in
+ * {@code audio.sounds.decode}.
+ */
+final class SoundCache {
+    static final long IDLE_EVICT_MILLIS = 30_000L;
+    private static final Histogram DECODE_TIME = MetricsRegistry.getInstance().histogram("audio.sounds.decode");
+
+    private static final class Entry {
+        final Sound sound;
+        final long bytes;
+        final boolean managed;
+        int references;
+        long lastUsed;
+
+        Entry(Sound sound, long bytes, boolean managed) {
+            this.sound = sound;
+            this.bytes = bytes;
+            this.managed = managed;
+        }
+    }
+
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final Set<String> failed = new HashSet<>();
+    private final Set<String> pinned = new HashSet<>();
+    private volatile long residentBytes;
+    private volatile int residentCount;
+    private AssetManager assetManager;
+
+    void setAssetManager(AssetManager assetManager) {
+        this.assetManager = assetManager;
+    }
+
+    /**
+     * Starts loading {@code path} ahead of its first play, without holding it.
+     */
+    void preload(String path) {
+        Entry entry = load(path);
+        if (entry != null) {
+            entry.lastUsed = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Preloads {@code path} and never evicts it, for sounds that must play on the first request.
+     */
+    void pin(String path) {
+        pinned.add(path);
+        preload(path);
+    }
+
+    /**
+     * The sound at {@code path} for a one-shot play, loading it if needed.
+     *
+     * @return null if the file could not be loaded or is still loading
+     */
+    Sound get(String path) {
+        Entry entry = load(path);
+        if (entry == null) {
+            return null;
+        }
+        entry.lastUsed = System.currentTimeMillis();
+        return entry.sound;
+    }
+
+    /**
+     * Like {@link #get}, but keeps the sound resident until a matching {@link #release}.
+     */
+    Sound acquire(String path) {
+        Entry entry = load(path);
+        if (entry == null) {
+            return null;
+        }
+        entry.references++;
+        entry.lastUsed = System.currentTimeMillis();
+        return entry.sound;
+    }
+
+    void release(String path) {
+        Entry entry = entries.get(path);
+        if (entry != null && entry.references > 0) {
+            entry.references--;
+            entry.lastUsed = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Disposes sounds that are not held and have not been used for {@link #IDLE_EVICT_MILLIS}.
+     */
+    void evictIdle(long now) {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Entry> mapEntry = iterator.next();
+            Entry entry = mapEntry.getValue();
+            if (entry.references == 0 && now - entry.lastUsed > IDLE_EVICT_MILLIS
+                && !pinned.contains(mapEntry.getKey())) {
+                disposeEntry(mapEntry.getKey(), entry);
+                iterator.remove();
+                residentBytes -= entry.bytes;
+                residentCount--;
+                GameLogger.info("Evicted idle sound " + mapEntry.getKey());
+            }
+        }
+    }
+
+    private Entry load(String path) {
+        Entry entry = entries.get(path);
+        if (entry != null || failed.contains(path)) {
+            return entry;
+        }
+        try {
+            FileHandle file = Gdx.files.internal(path);
+            if (assetManager != null) {
+                if (!assetManager.isLoaded(path, Sound.class)) {
+                    if (!assetManager.contains(path)) {
+                        assetManager.load(path, Sound.class);
+                    }
+                    return null;
+                }
+                entry = new Entry(assetManager.get(path, Sound.class), file.length(), true);
+            } else {
+                long start = System.nanoTime();
+                Sound sound = Gdx.audio.newSound(file);
+                DECODE_TIME.recordSince(start);
+                entry = new Entry(sound, file.length(), false);
+            }
+            entries.put(path, entry);
+            residentBytes += entry.bytes;
+            residentCount++;
+            return entry;
+        } catch (Exception e) {
+            failed.add(path);
+            GameLogger.error("Failed to load sound: " + path + " - " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Encoded size of the resident sound files. Decoded buffers are larger by the codec's
+     * compression ratio, but scale with this.
+     */
+    long getResidentBytes() {
+        return residentBytes;
+    }
+
+    int getResidentCount() {
+        return residentCount;
+    }
+
+    private void disposeEntry(String path, Entry entry) {
+        if (!entry.managed) {
+            entry.sound.dispose();
+        } else if (assetManager != null && assetManager.isLoaded(path)) {
+            assetManager.unload(path);
+        }
+    }
+
+    void dispose() {
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+            disposeEntry(entry.getKey(), entry.getValue());
+        }
+        entries.clear();
+        failed.clear();
+        pinned.clear();
+        residentBytes = 0;
+        residentCount = 0;
+    }
+}
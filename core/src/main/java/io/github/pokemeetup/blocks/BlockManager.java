@@ -6,6 +6,7 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import io.github.pokemeetup.multiplayer.network.NetworkProtocol;
 import io.github.pokemeetup.system.gameplay.overworld.Chunk;
+import io.github.pokemeetup.system.gameplay.overworld.ChunkCollisionMask;
 import io.github.pokemeetup.system.gameplay.overworld.World;
 import io.github.pokemeetup.system.data.WorldData;
 import io.github.pokemeetup.utils.GameLogger;
@@ -13,11 +14,51 @@ import io.github.pokemeetup.system.data.BlockSaveData;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 public class BlockManager {
     private final Map<Vector2, PlaceableBlock> placedBlocks = new ConcurrentHashMap<>();
+    // Tile positions of placedBlocks by chunk, so a chunk's collision rebuild only visits its own
+    private final Map<Vector2, Set<Vector2>> blocksByChunk = new ConcurrentHashMap<>();
     private final TextureAtlas atlas;
+    private Consumer<Vector2> blockChangeListener;
+
+    /**
+     * Called with the tile position of every placed or removed block, so the world can
+     * invalidate the collision mask of the chunk it falls in.
+     */
+    public void setBlockChangeListener(Consumer<Vector2> listener) {
+        this.blockChangeListener = listener;
+    }
+
+    private static Vector2 chunkOf(Vector2 tilePos) {
+        return new Vector2(Math.floorDiv((int) tilePos.x, Chunk.CHUNK_SIZE),
+            Math.floorDiv((int) tilePos.y, Chunk.CHUNK_SIZE));
+    }
+
+    private void indexBlock(Vector2 tilePos) {
+        blocksByChunk.compute(chunkOf(tilePos), (chunk, tiles) -> {
+            Set<Vector2> chunkTiles = tiles != null ? tiles : ConcurrentHashMap.newKeySet();
+            chunkTiles.add(tilePos);
+            return chunkTiles;
+        });
+    }
+
+    private void unindexBlock(Vector2 tilePos) {
+        blocksByChunk.computeIfPresent(chunkOf(tilePos), (chunk, tiles) -> {
+            tiles.remove(tilePos);
+            return tiles.isEmpty() ? null : tiles;
+        });
+    }
+
+    private void notifyBlockChanged(Vector2 tilePos) {
+        if (blockChangeListener != null) {
+            blockChangeListener.accept(tilePos);
+        }
+    }
+
     public boolean placeBlock(PlaceableBlock.BlockType type, int tileX, int tileY, World world) {
         Vector2 pos = new Vector2(tileX, tileY);
 
@@ -40,6 +81,8 @@ public class BlockManager {
 
         PlaceableBlock block = new PlaceableBlock(type, pos, texture);
         placedBlocks.put(pos, block);
+        indexBlock(pos);
+        notifyBlockChanged(pos);
 
         // Notify network if in multiplayer
         if (world.getGameClient() != null && !world.getGameClient().isSinglePlayer()) {
@@ -93,7 +136,11 @@ public class BlockManager {
     }
 
     public void loadBlocks(WorldData worldData) {
+        for (Vector2 pos : placedBlocks.keySet()) {
+            notifyBlockChanged(pos);
+        }
         placedBlocks.clear();
+        blocksByChunk.clear();
 
         BlockSaveData saveData = worldData.getBlockData();
         if (saveData == null) return;
@@ -122,6 +169,8 @@ public class BlockManager {
                 }
 
                 placedBlocks.put(pos, block);
+                indexBlock(pos);
+                notifyBlockChanged(pos);
             }
         }
 
@@ -133,6 +182,8 @@ public class BlockManager {
         Vector2 pos = new Vector2(tileX, tileY);
         PlaceableBlock removed = placedBlocks.remove(pos);
         if (removed != null) {
+            unindexBlock(pos);
+            notifyBlockChanged(pos);
             GameLogger.info("Removed " + removed.getId() + " at " + tileX + "," + tileY);
         }
     }
@@ -141,6 +192,21 @@ public class BlockManager {
         return placedBlocks.get(new Vector2(tileX, tileY));
     }
 
+    /**
+     * Stamps every block inside the given chunk into a scratch collision layer.
+     */
+    public void markCollisionTiles(long[] layer, int chunkX, int chunkY) {
+        Set<Vector2> tiles = blocksByChunk.get(new Vector2(chunkX, chunkY));
+        if (tiles == null) {
+            return;
+        }
+        int originX = chunkX * Chunk.CHUNK_SIZE;
+        int originY = chunkY * Chunk.CHUNK_SIZE;
+        for (Vector2 pos : tiles) {
+            ChunkCollisionMask.mark(layer, (int) pos.x - originX, (int) pos.y - originY);
+        }
+    }
+
     public void render(SpriteBatch batch) {
         for (PlaceableBlock block : placedBlocks.values()) {
             batch.draw(block.getTexture(),
@@ -1,29 +1,18 @@
     package io.github.pokemeetup.managers;
 
-    import com.badlogic.gdx.Gdx;
-    import com.badlogic.gdx.files.FileHandle;
-    import com.badlogic.gdx.math.Vector2;
-    import com.badlogic.gdx.utils.Json;
     import com.google.gson.*;
-    import com.google.gson.stream.JsonReader;
-    import com.google.gson.stream.JsonWriter;
-    import io.github.pokemeetup.FileSystemDelegate;
-    import io.github.pokemeetup.system.gameplay.overworld.Chunk;
-    import io.github.pokemeetup.system.gameplay.overworld.WorldObject;
+    import io.github.pokemeetup.system.gameplay.overworld.World;
     import io.github.pokemeetup.system.gameplay.overworld.biomes.Biome;
     import io.github.pokemeetup.system.gameplay.overworld.biomes.BiomeType;
     import io.github.pokemeetup.utils.GameLogger;
     import io.github.pokemeetup.utils.PerlinNoise;
 
-    import com.google.gson.reflect.TypeToken;
-    import io.github.pokemeetup.utils.TileValidator;
+    import io.github.pokemeetup.utils.metrics.Counter;
+    import io.github.pokemeetup.utils.metrics.MetricsRegistry;
     import io.github.pokemeetup.utils.storage.GameFileSystem;
 
-    import java.io.IOException;
     import java.io.Serializable;
     import java.lang.reflect.Type;
-    import java.nio.file.Files;
-    import java.nio.file.Paths;
     import java.util.*;
 
     public class BiomeManager {
@@ -48,6 +37,10 @@
             "config/biomes.json"
         };
         private static boolean DEBUG_ENABLED = true;
+        // Biome lookups are cached per tile; about 1.5 MB when full
+        private static final int BIOME_CACHE_SIZE = 16384;
+        private static final Counter CACHE_HITS = MetricsRegistry.getInstance().counter("biome.cache.hits");
+        private static final Counter CACHE_MISSES = MetricsRegistry.getInstance().counter("biome.cache.misses");
         final PerlinNoise detailNoise;
         private final PerlinNoise mountainNoise;  // Make sure this is declared
         private final PerlinNoise warpNoise;
@@ -63,6 +56,13 @@
         private double temperatureSum = 0;
         private double moistureSum = 0;
         private int sampleCount = 0;
+        private final Map<Long, BiomeTransitionResult> biomeCache =
+            new LinkedHashMap<Long, BiomeTransitionResult>(BIOME_CACHE_SIZE, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, BiomeTransitionResult> eldest) {
+                    return size() > BIOME_CACHE_SIZE;
+                }
+            };
 
         public BiomeManager(long baseSeed) {
             this.baseSeed = baseSeed;
@@ -79,53 +79,6 @@
             loadBiomesFromJson();
         }
 
-        public void saveChunkBiomeData(Vector2 chunkPos, Chunk chunk, String worldName, boolean isMultiplayer) {
-            if (isMultiplayer) {
-                return;
-            }
-
-            try {
-                String baseDir = isMultiplayer ?
-                    "worlds/" + worldName + "/biomes/" :
-                    "worlds/singleplayer/" + worldName + "/biomes/";
-
-                FileHandle saveDir = Gdx.files.local(baseDir);
-                if (!saveDir.exists()) {
-                    saveDir.mkdirs();
-                }
-
-                BiomeData biomeData = new BiomeData();
-                biomeData.chunkX = (int) chunkPos.x;
-                biomeData.chunkY = (int) chunkPos.y;
-                biomeData.primaryBiomeType = chunk.getBiome().getType();
-                biomeData.lastModified = System.currentTimeMillis();
-
-                // Create new mutable collections
-                HashMap<Integer, Integer> distribution = new HashMap<>(chunk.getBiome().getTileDistribution());
-                biomeData.setTileDistribution(distribution);
-
-                ArrayList<Integer> allowedTypes = new ArrayList<>(chunk.getBiome().getAllowedTileTypes());
-                biomeData.setAllowedTileTypes(allowedTypes);
-
-                String filename = String.format("biome_%d_%d.json", (int) chunkPos.x, (int) chunkPos.y);
-                FileHandle biomeFile = saveDir.child(filename);
-
-                // Use Gson for serialization
-                Gson gson = new GsonBuilder()
-                    .registerTypeAdapter(BiomeData.class, new BiomeDataTypeAdapter())
-                    .setPrettyPrinting()
-                    .create();
-
-                String jsonContent = gson.toJson(biomeData);
-                biomeFile.writeString(jsonContent, false);
-
-                GameLogger.info("Saved biome data for chunk at: " + chunkPos);
-
-            } catch (Exception e) {
-                GameLogger.error("Failed to save biome data: " + e.getMessage());
-            }
-        }
-
         public float getNoise(float x, float y) {
             try {
                 // Create octave-based noise
@@ -206,44 +159,6 @@
                 baseNoise;
         }
 
-        public BiomeType loadChunkBiomeData(Vector2 chunkPos, String worldName, boolean isMultiplayer) {
-            if (isMultiplayer) {
-                return null;
-            }
-            try {
-                String baseDir = isMultiplayer ?
-                    "worlds/" + worldName + "/biomes/" :
-                    "worlds/singleplayer/" + worldName + "/biomes/";
-
-                String filename = String.format("biome_%d_%d.json", (int) chunkPos.x, (int) chunkPos.y);
-                FileHandle biomeFile = Gdx.files.local(baseDir + filename);
-
-                if (!biomeFile.exists()) {
-                    return null;
-                }
-
-                // Use Gson instead of libgdx Json
-                Gson gson = new GsonBuilder()
-                    .registerTypeAdapter(BiomeData.class, new BiomeDataTypeAdapter())
-                    .create();
-
-                BiomeData biomeData = gson.fromJson(biomeFile.readString(), BiomeData.class);
-
-                if (biomeData != null && biomeData.primaryBiomeType != null) {
-                    GameLogger.info(String.format(
-                        "Loaded biome data for chunk (%d,%d): %s",
-                        biomeData.chunkX, biomeData.chunkY, biomeData.primaryBiomeType
-                    ));
-                    return biomeData.primaryBiomeType;
-                }
-
-            } catch (Exception e) {
-                GameLogger.error("Failed to load biome data: " + e.getMessage());
-            }
-            return null;
-        }
-
-
         private float clamp(float value, float min, float max) {
             return Math.max(min, Math.min(max, value));
         }
@@ -456,7 +371,43 @@
             return Math.abs(total - 100.0) < 0.01;
         }
 
+        /**
+         * The biome at a world pixel position, quantized to the tile containing it. Results come
+         * from an LRU cache keyed by tile, so the per-frame player, weather and spawn lookups do
+         * not re-run the noise; tile-aligned positions get exactly the uncached result. World
+         * generation visits each tile once and uses {@link #computeBiomeAt} instead, so its
+         * threads neither contend on the cache lock nor evict the gameplay entries.
+         */
         public BiomeTransitionResult getBiomeAt(float worldX, float worldY) {
+            int tileX = (int) Math.floor(worldX / World.TILE_SIZE);
+            int tileY = (int) Math.floor(worldY / World.TILE_SIZE);
+            long key = ((long) tileX << 32) | (tileY & 0xFFFFFFFFL);
+            BiomeTransitionResult result;
+            synchronized (biomeCache) {
+                result = biomeCache.get(key);
+            }
+            if (result != null) {
+                CACHE_HITS.increment();
+                return result;
+            }
+            CACHE_MISSES.increment();
+            result = evaluateBiomeAt(tileX * World.TILE_SIZE, tileY * World.TILE_SIZE);
+            synchronized (biomeCache) {
+                biomeCache.put(key, result);
+            }
+            return result;
+        }
+
+        /**
+         * The same result as {@link #getBiomeAt} without touching the cache. Safe to call from
+         * any number of generation threads at once.
+         */
+        public BiomeTransitionResult computeBiomeAt(float worldX, float worldY) {
+            return evaluateBiomeAt((float) Math.floor(worldX / World.TILE_SIZE) * World.TILE_SIZE,
+                (float) Math.floor(worldY / World.TILE_SIZE) * World.TILE_SIZE);
+        }
+
+        private BiomeTransitionResult evaluateBiomeAt(float worldX, float worldY) {
             double warpX = warpNoise.noise(worldX * WARP_SCALE, worldY * WARP_SCALE) * 10;
             double warpY = warpNoise.noise((worldX + 31.5f) * WARP_SCALE, (worldY + 31.5f) * WARP_SCALE) * 10;
 
@@ -739,108 +690,4 @@
                 if (spawnChances == null) spawnChances = new HashMap<>();
             }
         }
-
-        // Custom TypeAdapter for BiomeData
-        private static class BiomeDataTypeAdapter extends TypeAdapter<BiomeData> {
-            @Override
-            public void write(JsonWriter out, BiomeData value) throws IOException {
-                out.beginObject();
-
-                // Write basic properties
-                if (value.getName() != null) out.name("name").value(value.getName());
-                if (value.getType() != null) out.name("type").value(value.getType());
-
-                // Write allowed types
-                if (value.getAllowedTileTypes() != null && !value.getAllowedTileTypes().isEmpty()) {
-                    out.name("allowedTileTypes");
-                    out.beginArray();
-                    for (Integer type : value.getAllowedTileTypes()) {
-                        if (type != null) out.value(type);
-                    }
-                    out.endArray();
-                }
-
-                // Write distribution
-                if (value.getTileDistribution() != null && !value.getTileDistribution().isEmpty()) {
-                    out.name("tileDistribution");
-                    out.beginObject();
-                    for (Map.Entry<Integer, Integer> entry : value.getTileDistribution().entrySet()) {
-                        if (entry.getKey() != null && entry.getValue() != null) {
-                            out.name(entry.getKey().toString()).value(entry.getValue());
-                        }
-                    }
-                    out.endObject();
-                }
-
-                // Write optional properties
-                if (value.getPrimaryBiomeType() != null) {
-                    out.name("primaryBiomeType").value(value.getPrimaryBiomeType().name());
-                }
-
-                out.endObject();
-            }
-
-            @Override
-            public BiomeData read(JsonReader in) throws IOException {
-                BiomeData data = new BiomeData();
-                in.beginObject();
-
-                while (in.hasNext()) {
-                    String fieldName = in.nextName();
-                    try {
-                        switch (fieldName) {
-                            case "name":
-                                data.setName(in.nextString());
-                                break;
-                            case "type":
-                                data.setType(in.nextString());
-                                break;
-                            case "allowedTileTypes":
-                                in.beginArray();
-                                while (in.hasNext()) {
-                                    try {
-                                        data.getAllowedTileTypes().add(in.nextInt());
-                                    } catch (Exception e) {
-                                        in.skipValue();
-                                        GameLogger.error("Skipped invalid allowed tile type");
-                                    }
-                                }
-                                in.endArray();
-                                break;
-                            case "tileDistribution":
-                                in.beginObject();
-                                while (in.hasNext()) {
-                                    try {
-                                        String key = in.nextName();
-                                        int value = in.nextInt();
-                                        data.getTileDistribution().put(Integer.parseInt(key), value);
-                                    } catch (Exception e) {
-                                        in.skipValue();
-                                        GameLogger.error("Skipped invalid tile distribution entry");
-                                    }
-                                }
-                                in.endObject();
-                                break;
-                            case "primaryBiomeType":
-                                try {
-                                    data.setPrimaryBiomeType(BiomeType.valueOf(in.nextString()));
-                                } catch (Exception e) {
-                                    in.skipValue();
-                                }
-                                break;
-                            default:
-                                in.skipValue();
-                                break;
-                        }
-                    } catch (Exception e) {
-                        GameLogger.error("Error parsing field " + fieldName + ": " + e.getMessage());
-                        in.skipValue();
-                    }
-                }
-
-                in.endObject();
-                data.validate();
-                return data;
-            }
-        }
     }
@@ -2,6 +2,9 @@ package io.github.pokemeetup.managers;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
 import io.github.pokemeetup.utils.GameLogger;
+import io.github.pokemeetup.utils.metrics.Counter;
+import io.github.pokemeetup.utils.metrics.Histogram;
+import io.github.pokemeetup.utils.metrics.MetricsRegistry;
 
 import java.nio.charset.StandardCharsets;
 import java.sql.*;
@@ -13,8 +16,35 @@ public class DatabaseManager {
     public static final String DB_USER = "sa";
     public static final String DB_PASS = "";
     private static final int BASE_PORT = 9101;
+    private static final MetricsRegistry METRICS = MetricsRegistry.getInstance();
+    private static final Histogram USERNAME_QUERY = METRICS.histogram("db.query.username");
+    private static final Histogram REGISTER_QUERY = METRICS.histogram("db.query.register");
+    private static final Histogram PASSWORD_QUERY = METRICS.histogram("db.query.password");
+    private static final Histogram LAST_LOGIN_QUERY = METRICS.histogram("db.query.lastLogin");
+    private static final Histogram COORDINATES_QUERY = METRICS.histogram("db.query.coordinates");
+    private static final Counter QUERY_ERRORS = METRICS.counter("db.query.errors");
     private Connection connection;
 
+    @FunctionalInterface
+    private interface SqlCall<T> {
+        T call() throws SQLException;
+    }
+
+    /**
+     * Runs one statement execution and records how long the database took.
+     */
+    private static <T> T timed(Histogram histogram, SqlCall<T> call) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            return call.call();
+        } catch (SQLException e) {
+            QUERY_ERRORS.increment();
+            throw e;
+        } finally {
+            histogram.recordSince(start);
+        }
+    }
+
 
     public DatabaseManager() {
         try {
@@ -32,7 +62,7 @@ public class DatabaseManager {
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setString(1, username);
-            ResultSet rs = stmt.executeQuery();
+            ResultSet rs = timed(USERNAME_QUERY, stmt::executeQuery);
 
             if (rs.next()) {
                 return rs.getInt(1) > 0;
@@ -93,7 +123,7 @@ public class DatabaseManager {
             stmt.setString(1, username);
             stmt.setString(2, hashedPassword);
 
-            int result = stmt.executeUpdate();
+            int result = timed(REGISTER_QUERY, stmt::executeUpdate);
             GameLogger.info("Player registration " + (result > 0 ? "successful" : "failed") +
                 " for username: " + username);
             return result > 0;
@@ -144,7 +174,7 @@ public class DatabaseManager {
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setString(1, username);
-            ResultSet rs = stmt.executeQuery();
+            ResultSet rs = timed(USERNAME_QUERY, stmt::executeQuery);
             boolean exists = rs.next();
             GameLogger.info("Username check: '" + username + "' exists: " + exists);
             return exists;
@@ -172,7 +202,7 @@ public class DatabaseManager {
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
             stmt.setString(1, username);
-            ResultSet rs = stmt.executeQuery();
+            ResultSet rs = timed(PASSWORD_QUERY, stmt::executeQuery);
 
             if (rs.next()) {
                 String storedHash = rs.getString("password_hash");
@@ -202,7 +232,7 @@ public class DatabaseManager {
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
             stmt.setString(1, username);
-            ResultSet rs = stmt.executeQuery();
+            ResultSet rs = timed(PASSWORD_QUERY, stmt::executeQuery);
 
             if (rs.next()) {
                 String storedHash = rs.getString("password_hash");
@@ -222,7 +252,7 @@ public class DatabaseManager {
         try (Connection conn = getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, username);
-            stmt.executeUpdate();
+            timed(LAST_LOGIN_QUERY, stmt::executeUpdate);
         } catch (SQLException e) {
             GameLogger.error("Error updating last login time: " + e.getMessage());
         }
@@ -235,7 +265,7 @@ public class DatabaseManager {
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setString(1, username);
-            ResultSet rs = stmt.executeQuery();
+            ResultSet rs = timed(COORDINATES_QUERY, stmt::executeQuery);
             if (rs.next()) {
                 return new int[]{rs.getInt("x_pos"), rs.getInt("y_pos")};
             }
@@ -4,22 +4,25 @@
     import io.github.pokemeetup.multiplayer.network.NetworkProtocol;
     import io.github.pokemeetup.system.data.PlayerData;
     import io.github.pokemeetup.system.gameplay.inventory.Inventory;
+    import io.github.pokemeetup.system.gameplay.inventory.InventoryOperations;
     import io.github.pokemeetup.system.data.ItemData;
     import io.github.pokemeetup.utils.GameLogger;
 
-    import java.util.ArrayList;
     import java.util.List;
-    import java.util.UUID;
 
     public class ServerPlayer {
         private final String username;
         private final Vector2 position;
         private final Inventory inventory;
         private final Object inventoryLock = new Object();
+        private final InventoryOperations.Cursor cursor = new InventoryOperations.Cursor();
+        private int lastInventorySequence;
+        private long lastPickupMillis;
         private final String sessionId;
         private String direction;
         private boolean isMoving;
-        private final boolean isRunning;
+        private boolean isRunning;
+        private int stateVersion;
 
         public ServerPlayer(String username, String sessionId, float x, float y) {
             this.username = username;
@@ -32,37 +35,116 @@
             GameLogger.info("Created new ServerPlayer: " + username + " at (" + x + ", " + y + ")");
         }
 
-        public void updateInventory(NetworkProtocol.InventoryUpdate update) {
+        /**
+         * Validates and applies one client inventory op. Ops that create items are always
+         * rejected; those come only from {@link #craft} and {@link #grant}.
+         *
+         * @return the ack for the client, or null for a sequence number already processed
+         */
+        public NetworkProtocol.InventoryAck applyInventoryOp(NetworkProtocol.InventoryOp op) {
             synchronized (inventoryLock) {
-                try {
-                    if (update.inventoryItems != null) {
-                        List<ItemData> validatedInventoryItems = validateItems(update.inventoryItems);
-                        inventory.setAllItems(validatedInventoryItems);
-                    }
-
-                    GameLogger.info("Updated inventory for " + username);
-                } catch (Exception e) {
-                    GameLogger.error("Failed to update inventory for " + username + ": " + e.getMessage());
+                if (op.sequence <= lastInventorySequence) {
+                    return null;
                 }
+                lastInventorySequence = op.sequence;
+
+                NetworkProtocol.InventoryAck ack = new NetworkProtocol.InventoryAck();
+                ack.sequence = op.sequence;
+                ack.accepted = !InventoryOperations.createsItems(op.type)
+                    && InventoryOperations.apply(inventory, cursor, op);
+                if (!ack.accepted) {
+                    // The client predicted differently; rejections are rare, so send everything
+                    ack.items = InventoryOperations.snapshot(inventory, cursor);
+                }
+                return ack;
+            }
+        }
+
+        /**
+         * Crafts from the given inventory slots for a {@link NetworkProtocol.CraftRequest}.
+         *
+         * @return the ack carrying the resulting inventory, or null for a sequence number already
+         * processed
+         */
+        public NetworkProtocol.InventoryAck craft(int sequence, int[] grid) {
+            NetworkProtocol.InventoryOp op = InventoryOperations.op(NetworkProtocol.InventoryOpType.CRAFT, -1, -1, 0);
+            op.grid = grid;
+            return applyServerOp(sequence, op);
+        }
+
+        /**
+         * Adds items the server handed out, answering the client request with {@code sequence}.
+         *
+         * @return as for {@link #craft}
+         */
+        public NetworkProtocol.InventoryAck grant(int sequence, String itemId, int count) {
+            NetworkProtocol.InventoryOp op = InventoryOperations.op(NetworkProtocol.InventoryOpType.ADD, -1, -1, count);
+            op.itemId = itemId;
+            NetworkProtocol.InventoryAck ack = applyServerOp(sequence, op);
+            if (ack != null) {
+                // Named even when it did not fit, so the client can say what was lost
+                ack.itemId = itemId;
+                ack.count = count;
             }
+            return ack;
+        }
+
+        /**
+         * Turns down a client request, answering {@code sequence} with the current contents.
+         *
+         * @return as for {@link #craft}
+         */
+        public NetworkProtocol.InventoryAck refuse(int sequence) {
+            return applyServerOp(sequence, null);
         }
 
-        private List<ItemData> validateItems(ItemData[] items) {
-            List<ItemData> validatedItems = new ArrayList<>();
-            for (ItemData item : items) {
-                if (item != null) {
-                    if (item.getUuid() == null) {
-                        item.setUuid(UUID.randomUUID());
-                    }
-                    if (item.getCount() <= 0 || item.getCount() > 64) {
-                        item.setCount(1);
-                    }
-                    validatedItems.add(item);
-                } else {
-                    validatedItems.add(null);
+        /**
+         * Records a pickup at {@code now}, unless the previous one was under {@code cooldownMillis}
+         * ago.
+         */
+        public boolean claimPickup(long now, long cooldownMillis) {
+            synchronized (inventoryLock) {
+                if (now - lastPickupMillis < cooldownMillis) {
+                    return false;
                 }
+                lastPickupMillis = now;
+                return true;
+            }
+        }
+
+        private NetworkProtocol.InventoryAck applyServerOp(int sequence, NetworkProtocol.InventoryOp op) {
+            synchronized (inventoryLock) {
+                if (sequence <= lastInventorySequence) {
+                    return null;
+                }
+                lastInventorySequence = sequence;
+
+                NetworkProtocol.InventoryAck ack = new NetworkProtocol.InventoryAck();
+                ack.sequence = sequence;
+                ack.accepted = InventoryOperations.apply(inventory, cursor, op);
+                // The client did not predict this, so it always gets the result
+                ack.items = InventoryOperations.snapshot(inventory, cursor);
+                return ack;
+            }
+        }
+
+        /**
+         * Puts a stack left on the mouse back into the inventory, for when the client goes away
+         * mid-drag. Returns whether anything changed.
+         */
+        public boolean returnCursorItems() {
+            synchronized (inventoryLock) {
+                ItemData held = cursor.get();
+                if (held == null) {
+                    return false;
+                }
+                cursor.set(null);
+                if (!inventory.addItem(held.copy())) {
+                    GameLogger.error("No room to return held " + held.getItemId() + " x" + held.getCount()
+                        + " for " + username);
+                }
+                return true;
             }
-            return validatedItems;
         }
 
         public PlayerData getData() {
@@ -95,6 +177,71 @@
                 ") to (" + x + "," + y + ") facing " + direction);
         }
 
+        /**
+         * Applies the fields a client reported for its own player.
+         *
+         * @return false if the delta was built on an older {@link #overrideState} version, in
+         * which case nothing is applied
+         */
+        public boolean applyStateDelta(NetworkProtocol.PlayerStateDelta delta) {
+            synchronized (position) {
+                if (delta.baseVersion != stateVersion) {
+                    return false;
+                }
+                if ((delta.fields & NetworkProtocol.PlayerStateDelta.POSITION) != 0) {
+                    position.set(delta.x, delta.y);
+                }
+                if ((delta.fields & NetworkProtocol.PlayerStateDelta.DIRECTION) != 0 && delta.direction != null) {
+                    direction = delta.direction;
+                }
+                if ((delta.fields & NetworkProtocol.PlayerStateDelta.MOVING) != 0) {
+                    isMoving = delta.moving;
+                }
+                if ((delta.fields & NetworkProtocol.PlayerStateDelta.RUNNING) != 0) {
+                    isRunning = delta.running;
+                }
+                return true;
+            }
+        }
+
+        /**
+         * Sets the player's position on the server's authority and starts a new state version.
+         *
+         * @return the sync to send to the player's client
+         */
+        public NetworkProtocol.PlayerStateSync overrideState(float x, float y, String direction) {
+            synchronized (position) {
+                position.set(x, y);
+                if (direction != null) {
+                    this.direction = direction;
+                }
+                isMoving = false;
+
+                NetworkProtocol.PlayerStateSync sync = new NetworkProtocol.PlayerStateSync();
+                sync.version = ++stateVersion;
+                sync.x = x;
+                sync.y = y;
+                sync.direction = this.direction;
+                return sync;
+            }
+        }
+
+        /**
+         * The player's current state as sent to other clients.
+         */
+        public NetworkProtocol.PlayerUpdate toPlayerUpdate() {
+            synchronized (position) {
+                NetworkProtocol.PlayerUpdate update = new NetworkProtocol.PlayerUpdate();
+                update.username = username;
+                update.x = position.x;
+                update.y = position.y;
+                update.direction = direction;
+                update.isMoving = isMoving;
+                update.wantsToRun = isRunning;
+                return update;
+            }
+        }
+
         public Vector2 getPosition() {
             synchronized (position) {
                 return new Vector2(position);
@@ -118,6 +265,12 @@
             return isRunning;
         }
 
+        public int getStateVersion() {
+            synchronized (position) {
+                return stateVersion;
+            }
+        }
+
         public String getDirection() {
             return direction;
         }
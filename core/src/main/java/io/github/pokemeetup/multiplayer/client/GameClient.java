@@ -12,6 +12,7 @@ import com.esotericsoftware.kryonet.Listener;
 import com.esotericsoftware.minlog.Log;
 import io.github.pokemeetup.managers.BiomeManager;
 import io.github.pokemeetup.multiplayer.OtherPlayer;
+import io.github.pokemeetup.multiplayer.network.MessageDispatcher;
 import io.github.pokemeetup.multiplayer.network.NetworkProtocol;
 import io.github.pokemeetup.multiplayer.server.GameStateHandler;
 import io.github.pokemeetup.multiplayer.server.config.ServerConnectionConfig;
@@ -19,16 +20,18 @@ import io.github.pokemeetup.multiplayer.server.storage.FileStorage;
 import io.github.pokemeetup.pokemon.WildPokemon;
 import io.github.pokemeetup.server.deployment.ConnectionManager;
 import io.github.pokemeetup.system.Player;
-import io.github.pokemeetup.system.data.ItemData;
 import io.github.pokemeetup.system.data.PlayerData;
 import io.github.pokemeetup.system.data.WorldData;
 import io.github.pokemeetup.system.gameplay.overworld.Chunk;
+import io.github.pokemeetup.system.gameplay.overworld.PokemonSpawnManager;
 import io.github.pokemeetup.system.gameplay.overworld.World;
 import io.github.pokemeetup.system.gameplay.overworld.WorldObject;
 import io.github.pokemeetup.system.gameplay.overworld.biomes.Biome;
 import io.github.pokemeetup.system.gameplay.overworld.biomes.BiomeType;
 import io.github.pokemeetup.system.gameplay.overworld.multiworld.WorldManager;
+import io.github.pokemeetup.system.gameplay.overworld.pathfinding.TileDirections;
 import io.github.pokemeetup.utils.GameLogger;
+import io.github.pokemeetup.utils.metrics.FrameProfiler;
 import io.github.pokemeetup.utils.textures.TextureManager;
 
 import java.io.IOException;
@@ -73,6 +76,7 @@ public class GameClient {private static final long KEEPALIVE_TIMEOUT = 20000; //
     private final ConcurrentHashMap<String, OtherPlayer> otherPlayers = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<UUID, WildPokemon> trackedWildPokemon = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<UUID, NetworkSyncData> syncedPokemonData = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, UUID> wildPokemonNetIds = new ConcurrentHashMap<>();
     private final BlockingQueue<NetworkProtocol.ChatMessage> chatMessageQueue = new LinkedBlockingQueue<>();
     private final Map<String, PlayerStateBuffer> playerStateBuffers = new ConcurrentHashMap<>();
     private final boolean isSinglePlayer;
@@ -82,6 +86,9 @@ public class GameClient {private static final long KEEPALIVE_TIMEOUT = 20000; //
     private final WorldManager worldManager;
     private final FileStorage fileStorage;
     private final Queue<Object> pendingMessages = new ConcurrentLinkedQueue<>();
+    private final MessageDispatcher<Connection> dispatcher = new MessageDispatcher<>();
+    private final InboundMessagePump inboundPump =
+        new InboundMessagePump(message -> dispatcher.dispatch(client, message), GameClient::postProfiled);
     private final Preferences credentials;
     private final ScheduledExecutorService authTimer = Executors.newSingleThreadScheduledExecutor();
     private final AtomicBoolean isConnected = new AtomicBoolean(false);
@@ -105,8 +112,18 @@ public class GameClient {private static final long KEEPALIVE_TIMEOUT = 20000; //
     private long worldSeed;
     private float syncTimer = 0;
     private PlayerData lastKnownState;
+    // Own player state as last sent to the server, guarded by stateLock
+    private final Object stateLock = new Object();
+    private int stateVersion;
+    private boolean stateSent;
+    private float sentX;
+    private float sentY;
+    private String sentDirection;
+    private boolean sentMoving;
+    private boolean sentRunning;
     // Callback Handlers
     private Consumer<NetworkProtocol.ChatMessage> chatMessageHandler;
+    private volatile Consumer<NetworkProtocol.InventoryAck> inventoryAckHandler;
     private LoginResponseListener loginResponseListener;
     private RegistrationResponseListener registrationResponseListener;
     private UsernameCheckListener usernameCheckListener;
@@ -147,6 +164,7 @@ public class GameClient {private static final long KEEPALIVE_TIMEOUT = 20000; //
         this.serverConfig = config;
         this.scheduler = Executors.newSingleThreadScheduledExecutor();
         this.lastKnownState = new PlayerData();
+        registerMessageHandlers();
         if (!isSinglePlayer) {
             setupReconnectionHandler();
             loadSavedCredentials();
@@ -190,48 +208,45 @@ public class GameClient {private static final long KEEPALIVE_TIMEOUT = 20000; //
             return;
         }
 
-        Gdx.app.postRunnable(() -> {
-            try {
-                // Create chunk position vector
-                Vector2 chunkPos = new Vector2(chunkData.chunkX, chunkData.chunkY);
-
-                // Get biome from biome manager
-                Biome biome = biomeManager.getBiome(chunkData.biomeType);
-                if (biome == null) {
-                    GameLogger.error("Invalid biome type for chunk: " + chunkData.biomeType);
-                    return;
-                }
-
-                // Create new chunk
-                Chunk chunk = new Chunk(
-                    chunkData.chunkX,
-                    chunkData.chunkY,
-                    biome,
-                    worldSeed,
-                    biomeManager
-                );
+        try {
+            // Create chunk position vector
+            Vector2 chunkPos = new Vector2(chunkData.chunkX, chunkData.chunkY);
 
-                // Set the tile data
-                chunk.setTileData(chunkData.tileData);
+            Chunk chunk = chunkFromData(chunkData, biomeManager, worldSeed);
+            if (chunk == null) {
+                GameLogger.error("Invalid biome type for chunk: " + chunkData.biomeType);
+                return;
+            }
 
-                // Add chunk to world
-                if (currentWorld != null) {
-                    currentWorld.getChunks().put(chunkPos, chunk);
-                    GameLogger.info("Successfully loaded chunk at: " + chunkPos);
-                }
+            // Add chunk to world
+            if (currentWorld != null) {
+                currentWorld.getChunks().put(chunkPos, chunk);
+                GameLogger.info("Successfully loaded chunk at: " + chunkPos);
+            }
 
-                // Notify that chunk is loaded (if needed)
-                if (initializationListener != null && !isInitialized) {
-                    checkInitialChunksLoaded();
-                }
-            } catch (Exception e) {
-                GameLogger.error("Error processing chunk data in Runnable: " + e.getMessage());
-                e.printStackTrace();
+            // Notify that chunk is loaded (if needed)
+            if (initializationListener != null && !isInitialized) {
+                checkInitialChunksLoaded();
             }
-        });
+        } catch (Exception e) {
+            GameLogger.error("Error processing chunk data: " + e.getMessage());
+            e.printStackTrace();
+        }
     }
 
 
+    /**
+     * Builds a chunk from the server's tiles without generating its terrain locally first.
+     * Returns null if the biome is unknown.
+     */
+    static Chunk chunkFromData(NetworkProtocol.ChunkData chunkData, BiomeManager biomeManager, long worldSeed) {
+        Biome biome = biomeManager.getBiome(chunkData.biomeType);
+        if (biome == null) {
+            return null;
+        }
+        return new Chunk(chunkData.chunkX, chunkData.chunkY, biome, worldSeed, biomeManager, chunkData.tileData);
+    }
+
     private void checkInitialChunksLoaded() {
         if (currentWorld != null && areInitialChunksLoaded()) {
             isInitialized = true;
@@ -378,7 +393,7 @@ public class GameClient {private static final long KEEPALIVE_TIMEOUT = 20000; //
             // Process any pending messages
             Object message;
             while ((message = pendingMessages.poll()) != null) {
-                handleReceivedMessage(message);
+                dispatcher.dispatch(client, message);
             }
         }
 
@@ -402,24 +417,6 @@ public class GameClient {private static final long KEEPALIVE_TIMEOUT = 20000; //
                 this.client = new Client(WRITE_BUFFER, OBJECT_BUFFER);
                 NetworkProtocol.registerClasses(client.getKryo());
 
-                // Add client update thread
-                Thread updateThread = new Thread(() -> {
-                    while (!Thread.interrupted() && client != null) {
-                        try {
-                            client.update(0);
-                            Thread.sleep(16); // ~60 FPS
-                        } catch (InterruptedException e) {
-                            Thread.currentThread().interrupt();
-                            break;
-                        } catch (Exception e) {
-                            GameLogger.error("Client update error: " + e.getMessage());
-                            break;
-                        }
-                    }
-                });
-                updateThread.setDaemon(true);
-                updateThread.start();
-
                 // Set up connection listener
                 client.addListener(new Listener() {
                     @Override
@@ -451,10 +448,15 @@ public class GameClient {private static final long KEEPALIVE_TIMEOUT = 20000; //
 
                     @Override
                     public void received(Connection connection, Object object) {
-                        Gdx.app.postRunnable(() -> handleNetworkMessage(object));
+                        if (dispatcher.getAffinity(object.getClass()) == MessageDispatcher.Affinity.NETWORK) {
+                            dispatcher.dispatch(connection, object);
+                        } else {
+                            inboundPump.offer(object);
+                        }
                     }
                 });
 
+                // Kryonet's own update thread blocks in select until data arrives
                 client.start();
 
                 // Connect with timeout
@@ -471,81 +473,165 @@ public class GameClient {private static final long KEEPALIVE_TIMEOUT = 20000; //
         });
     }
 
-    private void handleNetworkMessage(Object object) {
-        try {
-            if (object instanceof NetworkProtocol.ForceDisconnect) {
-                handleForceDisconnect((NetworkProtocol.ForceDisconnect) object);
-                return;
-            }
-            if (object instanceof NetworkProtocol.Keepalive) {
-                lastKeepaliveReceived = System.currentTimeMillis();
-                return;
-            }
-            if (object instanceof FrameworkMessage.KeepAlive) {
-                lastKeepAliveReceived = System.currentTimeMillis();
-                // Optionally log receipt
-                return;
-            }
-            if (object instanceof NetworkProtocol.ConnectionResponse) {
-                handleConnectionResponse((NetworkProtocol.ConnectionResponse) object);
-                return;
+    /**
+     * Game messages are queued on {@code inboundPump} by the network thread and dispatched
+     * inline when the render thread drains it, like the rest of the client state they touch.
+     * Until login and world initialization finish, anything that needs them is queued in
+     * {@code pendingMessages} and dispatched again from {@link #processPendingMessages()}.
+     */
+    private void registerMessageHandlers() {
+        dispatcher.setAuthCheck(connection -> isInitialized && isAuthenticated.get());
+        dispatcher.setUnauthorizedHandler((connection, message) -> {
+            if (isConnected()) {
+                pendingMessages.offer(message);
             }
+        });
 
-            if (object instanceof NetworkProtocol.LoginResponse) {
-                handleLoginResponse((NetworkProtocol.LoginResponse) object);
-                return;
+        MessageDispatcher.Affinity game = MessageDispatcher.Affinity.GAME_TICK;
+        dispatcher.register(NetworkProtocol.Keepalive.class, MessageDispatcher.Affinity.NETWORK, false,
+            (connection, keepalive) -> lastKeepaliveReceived = System.currentTimeMillis());
+        dispatcher.register(FrameworkMessage.KeepAlive.class, MessageDispatcher.Affinity.NETWORK, false,
+            (connection, keepalive) -> lastKeepAliveReceived = System.currentTimeMillis());
+        dispatcher.register(NetworkProtocol.ForceDisconnect.class, game, false,
+            (connection, message) -> handleForceDisconnect(message));
+        dispatcher.register(NetworkProtocol.ConnectionResponse.class, game, false,
+            (connection, response) -> handleConnectionResponse(response));
+        dispatcher.register(NetworkProtocol.LoginResponse.class, game, false,
+            (connection, response) -> handleLoginResponse(response));
+        dispatcher.register(NetworkProtocol.ChunkData.class, game, false,
+            (connection, chunkData) -> handleChunkData(chunkData));
+
+        dispatcher.register(NetworkProtocol.ChunkDataFragment.class, game,
+            (connection, fragment) -> handleChunkDataFragment(fragment));
+        dispatcher.register(NetworkProtocol.ChunkDataComplete.class, game,
+            (connection, complete) -> handleChunkDataComplete(complete));
+        dispatcher.register(NetworkProtocol.ChatMessage.class, game,
+            (connection, message) -> handleChatMessage(message));
+        dispatcher.register(NetworkProtocol.PlayerUpdate.class, game,
+            (connection, update) -> handlePlayerUpdate(update));
+        dispatcher.register(NetworkProtocol.PlayerJoined.class, game,
+            (connection, joined) -> handlePlayerJoined(joined));
+        dispatcher.register(NetworkProtocol.PlayerLeft.class, game,
+            (connection, left) -> handlePlayerLeft(left));
+        dispatcher.register(NetworkProtocol.PlayerPosition.class, game,
+            (connection, position) -> handlePlayerPosition(position));
+        dispatcher.register(NetworkProtocol.WildPokemonSpawn.class, game,
+            (connection, spawn) -> handlePokemonSpawn(spawn));
+        dispatcher.register(NetworkProtocol.WildPokemonDespawn.class, game,
+            (connection, despawn) -> handlePokemonDespawn(despawn));
+        dispatcher.register(NetworkProtocol.WildPokemonStates.class, game,
+            (connection, states) -> handleWildPokemonStates(states));
+        dispatcher.register(NetworkProtocol.PokemonUpdate.class, game,
+            (connection, update) -> handlePokemonUpdate(update));
+        dispatcher.register(NetworkProtocol.WorldStateUpdate.class, game,
+            (connection, update) -> handleWorldStateUpdate(update));
+        dispatcher.register(NetworkProtocol.PlayerStateSync.class, game,
+            (connection, sync) -> handlePlayerStateSync(sync));
+        dispatcher.register(NetworkProtocol.InventoryAck.class, game, (connection, ack) -> {
+            Consumer<NetworkProtocol.InventoryAck> handler = inventoryAckHandler;
+            if (handler != null) {
+                handler.accept(ack);
             }
+        });
 
-            if (!isConnected()) {
-                GameLogger.info("Not connected to server");
-                return;
+        // Movement and entity lifecycle go before chunk and world state bulk data
+        inboundPump.addPriorityType(NetworkProtocol.ForceDisconnect.class);
+        inboundPump.addPriorityType(NetworkProtocol.ConnectionResponse.class);
+        inboundPump.addPriorityType(NetworkProtocol.ChatMessage.class);
+        inboundPump.addPriorityType(NetworkProtocol.PlayerUpdate.class);
+        inboundPump.addPriorityType(NetworkProtocol.PlayerJoined.class);
+        inboundPump.addPriorityType(NetworkProtocol.PlayerLeft.class);
+        inboundPump.addPriorityType(NetworkProtocol.PlayerPosition.class);
+        inboundPump.addPriorityType(NetworkProtocol.WildPokemonSpawn.class);
+        inboundPump.addPriorityType(NetworkProtocol.WildPokemonDespawn.class);
+        inboundPump.addPriorityType(NetworkProtocol.WildPokemonStates.class);
+        inboundPump.addPriorityType(NetworkProtocol.PokemonUpdate.class);
+    }
+
+    public InboundMessagePump getInboundPump() {
+        return inboundPump;
+    }
+
+    /**
+     * Runs a pump drain on the render thread and books its time to the frame's network section.
+     */
+    private static void postProfiled(Runnable drain) {
+        Gdx.app.postRunnable(() -> {
+            long start = System.nanoTime();
+            try {
+                drain.run();
+            } finally {
+                FrameProfiler.getInstance().add(FrameProfiler.Section.NETWORK, System.nanoTime() - start);
             }
+        });
+    }
 
-            // Handle normal messages
-            handleReceivedMessage(object);
-        } catch (Exception e) {
-            GameLogger.error("Error handling message: " + e.getMessage());
-        }
+    public MessageDispatcher<Connection> getMessageDispatcher() {
+        return dispatcher;
     }
 
     private void queueUpdate(Object update) {
         sendQueue.offer(update);
     }
 
+    /**
+     * Sends whichever of the local player's fields changed since the last call, if any.
+     */
     public void sendPlayerUpdate() {
         if (!isConnected() || !isAuthenticated() || activePlayer == null) return;
 
-        float playerX = activePlayer.getX();
-        float playerY = activePlayer.getY();
-
-        GameLogger.info("sendPlayerUpdate() - activePlayer position: x=" + playerX + ", y=" + playerY);
+        sendStateDelta(activePlayer.getX(), activePlayer.getY(), activePlayer.getDirection(),
+            activePlayer.isMoving(), activePlayer.isRunning());
+    }
 
-        NetworkProtocol.PlayerUpdate update = new NetworkProtocol.PlayerUpdate();
-        update.username = getLocalUsername();
-        update.x = playerX;
-        update.y = playerY;
-        update.direction = activePlayer.getDirection();
-        update.isMoving = activePlayer.isMoving();
-        update.timestamp = System.currentTimeMillis();
+    private void sendStateDelta(float x, float y, String direction, boolean moving, boolean running) {
+        NetworkProtocol.PlayerStateDelta delta = new NetworkProtocol.PlayerStateDelta();
+        synchronized (stateLock) {
+            if (!stateSent || x != sentX || y != sentY) {
+                delta.fields |= NetworkProtocol.PlayerStateDelta.POSITION;
+                delta.x = x;
+                delta.y = y;
+            }
+            if (direction != null && (!stateSent || !direction.equals(sentDirection))) {
+                delta.fields |= NetworkProtocol.PlayerStateDelta.DIRECTION;
+                delta.direction = direction;
+            }
+            if (!stateSent || moving != sentMoving) {
+                delta.fields |= NetworkProtocol.PlayerStateDelta.MOVING;
+                delta.moving = moving;
+            }
+            if (!stateSent || running != sentRunning) {
+                delta.fields |= NetworkProtocol.PlayerStateDelta.RUNNING;
+                delta.running = running;
+            }
+            if (delta.fields == 0) return;
 
-        GameLogger.info("Sending PlayerUpdate: username=" + update.username + ", x=" + update.x + ", y=" + update.y);
-        client.sendTCP(update);
+            delta.baseVersion = stateVersion;
+            stateSent = true;
+            sentX = x;
+            sentY = y;
+            if (direction != null) {
+                sentDirection = direction;
+            }
+            sentMoving = moving;
+            sentRunning = running;
+        }
+        client.sendTCP(delta);
     }
 
-    private void synchronizeWorldState() {
-        if (!isConnected() || !isAuthenticated.get() || isSinglePlayer) {
-            return;
+    /**
+     * The server overrode our position. Deltas already in flight were built on the old version
+     * and will be dropped, so the next one has to carry the full state again.
+     */
+    private void handlePlayerStateSync(NetworkProtocol.PlayerStateSync sync) {
+        synchronized (stateLock) {
+            stateVersion = sync.version;
+            stateSent = false;
         }
-
-        try {
-            // Send world state request
-            NetworkProtocol.WorldStateUpdate update = new NetworkProtocol.WorldStateUpdate();
-            update.worldData = currentWorld.getWorldData();
-            update.timestamp = System.currentTimeMillis();
-            client.sendTCP(update);
-        } catch (Exception e) {
-            GameLogger.error("Failed to synchronize world state: " + e.getMessage());
+        if (activePlayer != null) {
+            activePlayer.applyServerPosition(sync.x, sync.y, sync.direction);
         }
+        GameLogger.info("Server moved player to (" + sync.x + "," + sync.y + "), state version " + sync.version);
     }
 
     public void saveWorldState() {
@@ -587,30 +673,18 @@ public class GameClient {private static final long KEEPALIVE_TIMEOUT = 20000; //
         }
     }
 
+    /**
+     * Reports the player's changed fields. The inventory is not sent; the server already has it
+     * from the player's inventory ops.
+     */
     public void sendPlayerUpdateToServer(PlayerData playerData) {
         if (isSinglePlayer || !isConnected() || !isAuthenticated()) {
             return;
         }
 
         try {
-            NetworkProtocol.PlayerUpdate update = new NetworkProtocol.PlayerUpdate();
-            update.username = playerData.getUsername();
-            update.x = playerData.getX();
-            update.y = playerData.getY();
-            update.direction = playerData.getDirection();
-            update.isMoving = playerData.isMoving();
-            update.wantsToRun = playerData.isWantsToRun();
-            update.timestamp = System.currentTimeMillis();
-
-            // Convert inventory items if present
-            if (playerData.getInventoryItems() != null) {
-                update.inventoryItems = playerData.getInventoryItems().toArray(new ItemData[0]);
-            }
-
-            client.sendTCP(update);
-            GameLogger.info("Sent player update to server for: " + playerData.getUsername() +
-                " at (" + update.x + "," + update.y + ")");
-
+            sendStateDelta(playerData.getX(), playerData.getY(), playerData.getDirection(),
+                playerData.isMoving(), playerData.isWantsToRun());
         } catch (Exception e) {
             GameLogger.error("Failed to send player update: " + e.getMessage());
             handleConnectionFailure(e);
@@ -666,10 +740,7 @@ public class GameClient {private static final long KEEPALIVE_TIMEOUT = 20000; //
             updateAccumulator = 0;
 
             if (!isSinglePlayer && activePlayer != null && isAuthenticated()) {
-//                sendPlayerUpdate();
-                if (currentWorld != null) {
-                    synchronizeWorldState();
-                }
+                sendPlayerUpdate();
             }
         }
 
@@ -690,20 +761,18 @@ public class GameClient {private static final long KEEPALIVE_TIMEOUT = 20000; //
     private void handleWorldStateUpdate(NetworkProtocol.WorldStateUpdate update) {
         if (update == null || update.worldData == null) return;
 
-        Gdx.app.postRunnable(() -> {
-            try {
-                // Replace the current world's data with the new data
-                currentWorld.setWorldData(update.worldData);
+        try {
+            // Replace the current world's data with the new data
+            currentWorld.setWorldData(update.worldData);
 
-                // Optionally, reinitialize world components if needed
-                currentWorld.initializeWorldFromData(update.worldData);
+            // Optionally, reinitialize world components if needed
+            currentWorld.initializeWorldFromData(update.worldData);
 
-                GameLogger.info("World state updated from server.");
+            GameLogger.info("World state updated from server.");
 
-            } catch (Exception e) {
-                GameLogger.error("Error handling world state update: " + e.getMessage());
-            }
-        });
+        } catch (Exception e) {
+            GameLogger.error("Error handling world state update: " + e.getMessage());
+        }
     }
 
     private void updateOtherPlayerData(String username, PlayerData data) {
@@ -829,11 +898,9 @@ public class GameClient {private static final long KEEPALIVE_TIMEOUT = 20000; //
         chatMessageQueue.offer(message);
 
         // Process on main thread
-        Gdx.app.postRunnable(() -> {
-            if (chatMessageHandler != null) {
-                chatMessageHandler.accept(message);
-            }
-        });
+        if (chatMessageHandler != null) {
+            chatMessageHandler.accept(message);
+        }
 
         GameLogger.info("Received chat message from " + message.sender +
             " of type " + message.type);
@@ -892,6 +959,7 @@ public class GameClient {private static final long KEEPALIVE_TIMEOUT = 20000; //
 
             // Clear all pending messages
             pendingMessages.clear();
+            inboundPump.clear();
 
             // Reset state flags
             isInitializing = false;
@@ -985,20 +1053,6 @@ public class GameClient {private static final long KEEPALIVE_TIMEOUT = 20000; //
         }, 0, KEEPALIVE_INTERVAL, TimeUnit.MILLISECONDS);
     }
 
-    private void handleGameMessage(Object message) {
-        try {
-            if (message instanceof NetworkProtocol.PlayerUpdate) {
-                handlePlayerUpdate((NetworkProtocol.PlayerUpdate) message);
-            } else if (message instanceof NetworkProtocol.PlayerPosition) {
-                handlePlayerPosition((NetworkProtocol.PlayerPosition) message);
-            } else if (message instanceof NetworkProtocol.ChatMessage) {
-                handleChatMessage((NetworkProtocol.ChatMessage) message);
-            }
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-    }
-
     private void scheduleReconnection() {
         if (reconnectAttempts >= MAX_RECONNECT_ATTEMPTS) {
             GameLogger.error("Max reconnection attempts reached");
@@ -1035,70 +1089,6 @@ public class GameClient {private static final long KEEPALIVE_TIMEOUT = 20000; //
         }
     }
 
-    private void handleReceivedMessage(Object object) {
-        if (object instanceof NetworkProtocol.ChunkData) {
-            handleChunkData((NetworkProtocol.ChunkData) object);
-            return;
-        }
-
-        if (!isInitialized) {
-            if (!(object instanceof NetworkProtocol.LoginResponse)) {
-                GameLogger.info("Queuing message before initialization: " + object.getClass().getName());
-                pendingMessages.offer(object);
-                return;
-            }
-        }
-        if (object instanceof NetworkProtocol.ChunkDataFragment) {
-            GameLogger.info("Received chunk fragment");
-            handleChunkDataFragment((NetworkProtocol.ChunkDataFragment) object);
-            return;
-        }
-        if (object instanceof NetworkProtocol.ChunkDataComplete) {
-            GameLogger.info("Received chunk complete signal");
-            handleChunkDataComplete((NetworkProtocol.ChunkDataComplete) object);
-            return;
-        }
-        if (object instanceof NetworkProtocol.Keepalive) {
-            lastKeepaliveReceived = System.currentTimeMillis();
-            // Echo keepalive back
-            client.sendTCP(object);
-            return;
-        }
-
-        GameLogger.info("Received message: " + object.getClass().getName());
-        try {
-            if (object instanceof NetworkProtocol.LoginResponse) {
-                handleLoginResponse((NetworkProtocol.LoginResponse) object);
-            } else if (!isAuthenticated.get()) {
-                GameLogger.info("Received message before authentication, queueing");
-                pendingMessages.offer(object);
-            } else if (object instanceof NetworkProtocol.ChatMessage) {
-                handleChatMessage((NetworkProtocol.ChatMessage) object);
-            } else if (object instanceof NetworkProtocol.PlayerUpdate) {
-                handlePlayerUpdate((NetworkProtocol.PlayerUpdate) object);
-            } else if (object instanceof NetworkProtocol.PlayerJoined) {
-                handlePlayerJoined((NetworkProtocol.PlayerJoined) object);
-            } else if (object instanceof NetworkProtocol.PlayerLeft) {
-                handlePlayerLeft((NetworkProtocol.PlayerLeft) object);
-            } else if (object instanceof NetworkProtocol.PlayerPosition) {
-                handlePlayerPosition((NetworkProtocol.PlayerPosition) object);
-            } else if (object instanceof NetworkProtocol.WildPokemonSpawn) {
-                handlePokemonSpawn((NetworkProtocol.WildPokemonSpawn) object);
-            } else if (object instanceof NetworkProtocol.WildPokemonDespawn) {
-                handlePokemonDespawn((NetworkProtocol.WildPokemonDespawn) object);
-            } else if (object instanceof NetworkProtocol.PokemonUpdate) {
-                handlePokemonUpdate((NetworkProtocol.PokemonUpdate) object);
-            } else if (object instanceof NetworkProtocol.WorldStateUpdate) {
-                handleWorldStateUpdate((NetworkProtocol.WorldStateUpdate) object);
-            } else if (object instanceof NetworkProtocol.ChunkData) {
-                handleChunkData((NetworkProtocol.ChunkData) object);
-            }
-        } catch (Exception e) {
-            GameLogger.error("Error handling network message: " + e.getMessage());
-        }
-
-    }
-
     // Update handlePlayerPosition method
     private void handlePlayerPosition(NetworkProtocol.PlayerPosition positionMsg) {
         if (positionMsg == null || positionMsg.players == null) {
@@ -1106,28 +1096,26 @@ public class GameClient {private static final long KEEPALIVE_TIMEOUT = 20000; //
             return;
         }
 
-        Gdx.app.postRunnable(() -> {
-            try {
-                synchronized (otherPlayers) {
-                    for (Map.Entry<String, NetworkProtocol.PlayerUpdate> entry : positionMsg.players.entrySet()) {
-                        String username = entry.getKey();
-                        if (username.equals(localUsername)) continue;
+        try {
+            synchronized (otherPlayers) {
+                for (Map.Entry<String, NetworkProtocol.PlayerUpdate> entry : positionMsg.players.entrySet()) {
+                    String username = entry.getKey();
+                    if (username.equals(localUsername)) continue;
 
-                        NetworkProtocol.PlayerUpdate update = entry.getValue();
-                        GameLogger.error("Received update for " + username + " at (" + update.x + "," + update.y + ")");
+                    NetworkProtocol.PlayerUpdate update = entry.getValue();
+                    GameLogger.error("Received update for " + username + " at (" + update.x + "," + update.y + ")");
 
-                        OtherPlayer otherPlayer = otherPlayers.computeIfAbsent(username,
-                            k -> new OtherPlayer(username, update.x, update.y));
+                    OtherPlayer otherPlayer = otherPlayers.computeIfAbsent(username,
+                        k -> new OtherPlayer(username, update.x, update.y));
 
-                        otherPlayer.updateFromNetwork(update);
-                        playerUpdates.put(username, update);
-                    }
+                    otherPlayer.updateFromNetwork(update);
+                    playerUpdates.put(username, update);
                 }
-            } catch (Exception e) {
-                GameLogger.error("Error in handlePlayerPosition: " + e.getMessage());
-                e.printStackTrace();
             }
-        });
+        } catch (Exception e) {
+            GameLogger.error("Error in handlePlayerPosition: " + e.getMessage());
+            e.printStackTrace();
+        }
     }
 
     private void handleDisconnect() {
@@ -1604,6 +1592,10 @@ public class GameClient {private static final long KEEPALIVE_TIMEOUT = 20000; //
                 connectionState = ConnectionState.AUTHENTICATED;
                 isAuthenticated.set(true);
                 localUsername = response.username;
+                synchronized (stateLock) {
+                    stateVersion = response.stateVersion;
+                    stateSent = false;
+                }
 
                 // Start keepalive
                 startKeepalive();
@@ -1719,7 +1711,7 @@ public class GameClient {private static final long KEEPALIVE_TIMEOUT = 20000; //
         if (isInitialized) {
             Object message;
             while ((message = pendingMessages.poll()) != null) {
-                handleReceivedMessage(message);
+                dispatcher.dispatch(client, message);
             }
         }
     }
@@ -1754,23 +1746,21 @@ public class GameClient {private static final long KEEPALIVE_TIMEOUT = 20000; //
             return;
         }
 
-        Gdx.app.postRunnable(() -> {
-            synchronized (otherPlayers) {
-                OtherPlayer otherPlayer = otherPlayers.get(update.username);
-                if (otherPlayer == null) {
-                    otherPlayer = new OtherPlayer(
-                        update.username,
-                        update.x,
-                        update.y
-                    );
-                    otherPlayers.put(update.username, otherPlayer);
-                    GameLogger.info("Created new player: " + update.username);
-                }
-
-                otherPlayer.updateFromNetwork(update);
-                playerUpdates.put(update.username, update);
+        synchronized (otherPlayers) {
+            OtherPlayer otherPlayer = otherPlayers.get(update.username);
+            if (otherPlayer == null) {
+                otherPlayer = new OtherPlayer(
+                    update.username,
+                    update.x,
+                    update.y
+                );
+                otherPlayers.put(update.username, otherPlayer);
+                GameLogger.info("Created new player: " + update.username);
             }
-        });
+
+            otherPlayer.updateFromNetwork(update);
+            playerUpdates.put(update.username, update);
+        }
     }
 
     private void handlePlayerJoined(NetworkProtocol.PlayerJoined joinMsg) {
@@ -1781,58 +1771,54 @@ public class GameClient {private static final long KEEPALIVE_TIMEOUT = 20000; //
             }
         }
 
-        Gdx.app.postRunnable(() -> {
-            synchronized (otherPlayers) {
-                // Check if player already exists
-                if (otherPlayers.containsKey(joinMsg.username)) {
-                    GameLogger.info("Player " + joinMsg.username + " already exists, skipping duplicate PlayerJoined message");
-                    return;
-                }
+        synchronized (otherPlayers) {
+            // Check if player already exists
+            if (otherPlayers.containsKey(joinMsg.username)) {
+                GameLogger.info("Player " + joinMsg.username + " already exists, skipping duplicate PlayerJoined message");
+                return;
+            }
 
-                // Create new player instance
-                if (!joinMsg.username.equals(localUsername)) {
-                    OtherPlayer newPlayer = new OtherPlayer(
-                        joinMsg.username,
-                        joinMsg.x,
-                        joinMsg.y
-                    );
-                    otherPlayers.put(joinMsg.username, newPlayer);
+            // Create new player instance
+            if (!joinMsg.username.equals(localUsername)) {
+                OtherPlayer newPlayer = new OtherPlayer(
+                    joinMsg.username,
+                    joinMsg.x,
+                    joinMsg.y
+                );
+                otherPlayers.put(joinMsg.username, newPlayer);
 
-                    // Send join notification only for other players
-                    NetworkProtocol.ChatMessage joinNotification = new NetworkProtocol.ChatMessage();
-                    joinNotification.sender = "System";
-                    joinNotification.content = joinMsg.username + " has joined the game";
-                    joinNotification.type = NetworkProtocol.ChatType.SYSTEM;
-                    joinNotification.timestamp = System.currentTimeMillis();
+                // Send join notification only for other players
+                NetworkProtocol.ChatMessage joinNotification = new NetworkProtocol.ChatMessage();
+                joinNotification.sender = "System";
+                joinNotification.content = joinMsg.username + " has joined the game";
+                joinNotification.type = NetworkProtocol.ChatType.SYSTEM;
+                joinNotification.timestamp = System.currentTimeMillis();
 
-                    if (chatMessageHandler != null) {
-                        chatMessageHandler.accept(joinNotification);
-                    }
+                if (chatMessageHandler != null) {
+                    chatMessageHandler.accept(joinNotification);
                 }
             }
-        });
+        }
     }
 
     private void handlePlayerLeft(NetworkProtocol.PlayerLeft leftMsg) {
-        Gdx.app.postRunnable(() -> {
-            OtherPlayer leftPlayer = otherPlayers.remove(leftMsg.username);
-            if (leftPlayer != null) {
-                leftPlayer.dispose();
+        OtherPlayer leftPlayer = otherPlayers.remove(leftMsg.username);
+        if (leftPlayer != null) {
+            leftPlayer.dispose();
 
-                NetworkProtocol.ChatMessage leaveNotification = new NetworkProtocol.ChatMessage();
-                leaveNotification.sender = "SYSTEM";
-                leaveNotification.content = leftMsg.username + " has left the game";
-                leaveNotification.type = NetworkProtocol.ChatType.SYSTEM;
-                leaveNotification.timestamp = System.currentTimeMillis();
+            NetworkProtocol.ChatMessage leaveNotification = new NetworkProtocol.ChatMessage();
+            leaveNotification.sender = "SYSTEM";
+            leaveNotification.content = leftMsg.username + " has left the game";
+            leaveNotification.type = NetworkProtocol.ChatType.SYSTEM;
+            leaveNotification.timestamp = System.currentTimeMillis();
 
-                if (chatMessageHandler != null) {
-                    chatMessageHandler.accept(leaveNotification);
-                }
+            if (chatMessageHandler != null) {
+                chatMessageHandler.accept(leaveNotification);
             }
+        }
 
-            playerStateBuffers.remove(leftMsg.username);
-            playerUpdates.remove(leftMsg.username);
-        });
+        playerStateBuffers.remove(leftMsg.username);
+        playerUpdates.remove(leftMsg.username);
     }
 
     private void handlePokemonSpawn(NetworkProtocol.WildPokemonSpawn spawnData) {
@@ -1841,44 +1827,49 @@ public class GameClient {private static final long KEEPALIVE_TIMEOUT = 20000; //
             return;
         }
 
-        Gdx.app.postRunnable(() -> {
-            try {
-                if (trackedWildPokemon.containsKey(spawnData.uuid)) {
-                    return;
-                }
+        try {
+            if (trackedWildPokemon.containsKey(spawnData.uuid)) {
+                return;
+            }
 
-                TextureRegion overworldSprite = TextureManager.getOverworldSprite(spawnData.data.getName());
-                if (overworldSprite == null) {
-                    GameLogger.error("Could not load sprite for Pokemon: " + spawnData.data.getName());
-                    return;
-                }
+            TextureRegion overworldSprite = TextureManager.getOverworldSprite(spawnData.data.getName());
+            if (overworldSprite == null) {
+                GameLogger.error("Could not load sprite for Pokemon: " + spawnData.data.getName());
+                return;
+            }
 
-                WildPokemon pokemon = new WildPokemon(
-                    spawnData.data.getName(),
-                    spawnData.data.getLevel(),
-                    (int) spawnData.x,
-                    (int) spawnData.y,
-                    overworldSprite
+            WildPokemon pokemon = new WildPokemon(
+                spawnData.data.getName(),
+                spawnData.data.getLevel(),
+                (int) spawnData.x,
+                (int) spawnData.y,
+                overworldSprite
+            );
+            pokemon.setWorld(currentWorld);
+
+            pokemon.setUuid(spawnData.uuid);
+            pokemon.setDirection("down");
+            pokemon.setSpawnTime(spawnData.timestamp / 1000L);
+            // The server moves this Pokemon; local AI would fight its updates
+            if (pokemon.getAi() != null) {
+                pokemon.getAi().setPaused(true);
+            }
+
+            trackedWildPokemon.put(spawnData.uuid, pokemon);
+            syncedPokemonData.put(spawnData.uuid, new NetworkSyncData());
+            wildPokemonNetIds.put(spawnData.netId, spawnData.uuid);
+
+            if (currentWorld != null && currentWorld.getPokemonSpawnManager() != null) {
+                currentWorld.getPokemonSpawnManager().addPokemonToChunk(
+                    pokemon,
+                    new Vector2(
+                        Math.floorDiv((int) spawnData.x, World.CHUNK_SIZE * World.TILE_SIZE),
+                        Math.floorDiv((int) spawnData.y, World.CHUNK_SIZE * World.TILE_SIZE))
                 );
-                pokemon.setWorld(currentWorld);
-
-                pokemon.setUuid(spawnData.uuid);
-                pokemon.setDirection("down");
-                pokemon.setSpawnTime(spawnData.timestamp / 1000L);
-
-                trackedWildPokemon.put(spawnData.uuid, pokemon);
-                syncedPokemonData.put(spawnData.uuid, new NetworkSyncData());
-
-                if (currentWorld != null && currentWorld.getPokemonSpawnManager() != null) {
-                    currentWorld.getPokemonSpawnManager().addPokemonToChunk(
-                        pokemon,
-                        new Vector2(spawnData.x, spawnData.y)
-                    );
-                }
-            } catch (Exception e) {
-                GameLogger.error("Error handling Pokemon spawn: " + e.getMessage());
             }
-        });
+        } catch (Exception e) {
+            GameLogger.error("Error handling Pokemon spawn: " + e.getMessage());
+        }
     }
 
     private void handlePokemonDespawn(NetworkProtocol.WildPokemonDespawn despawnData) {
@@ -1886,62 +1877,101 @@ public class GameClient {private static final long KEEPALIVE_TIMEOUT = 20000; //
             return;
         }
 
-        Gdx.app.postRunnable(() -> {
-            try {
-                WildPokemon pokemon = trackedWildPokemon.remove(despawnData.uuid);
-                syncedPokemonData.remove(despawnData.uuid);
-
-                if (pokemon != null && currentWorld != null) {
-                    // Start despawn animation
-                    pokemon.startDespawnAnimation();
-
-                    // Remove from world after animation completes
-                    com.badlogic.gdx.utils.Timer.schedule(new com.badlogic.gdx.utils.Timer.Task() {
-                        @Override
-                        public void run() {
-                            currentWorld.getPokemonSpawnManager()
-                                .removePokemon(despawnData.uuid);
-                        }
-                    }, 1.0f); // Animation duration
-                }
+        try {
+            WildPokemon pokemon = trackedWildPokemon.remove(despawnData.uuid);
+            syncedPokemonData.remove(despawnData.uuid);
+            wildPokemonNetIds.values().remove(despawnData.uuid);
 
-                GameLogger.info("Handled Pokemon despawn for UUID: " + despawnData.uuid);
+            if (pokemon != null && currentWorld != null) {
+                // Start despawn animation
+                pokemon.startDespawnAnimation();
 
-            } catch (Exception e) {
-                GameLogger.error("Error handling Pokemon despawn: " + e.getMessage());
+                // Remove from world after animation completes
+                com.badlogic.gdx.utils.Timer.schedule(new com.badlogic.gdx.utils.Timer.Task() {
+                    @Override
+                    public void run() {
+                        currentWorld.getPokemonSpawnManager()
+                            .removePokemon(despawnData.uuid);
+                    }
+                }, 1.0f); // Animation duration
             }
-        });
+
+            GameLogger.info("Handled Pokemon despawn for UUID: " + despawnData.uuid);
+
+        } catch (Exception e) {
+            GameLogger.error("Error handling Pokemon despawn: " + e.getMessage());
+        }
     }
 
     private void handlePokemonUpdate(NetworkProtocol.PokemonUpdate update) {
         if (update == null || update.uuid == null) return;
 
-        Gdx.app.postRunnable(() -> {
-            WildPokemon pokemon = trackedWildPokemon.get(update.uuid);
-            NetworkSyncData syncData = syncedPokemonData.get(update.uuid);
+        WildPokemon pokemon = trackedWildPokemon.get(update.uuid);
+        NetworkSyncData syncData = syncedPokemonData.get(update.uuid);
 
-            if (pokemon == null || syncData == null) {
-                requestPokemonSpawnData(update.uuid);
-                return;
-            }
+        if (pokemon == null || syncData == null) {
+            requestPokemonSpawnData(update.uuid);
+            return;
+        }
 
-            syncData.targetPosition = new Vector2(update.x, update.y);
-            syncData.direction = update.direction;
-            syncData.isMoving = update.isMoving;
-            syncData.lastUpdateTime = System.currentTimeMillis();
-            syncData.interpolationProgress = 0f;
+        syncData.targetPosition = new Vector2(update.x, update.y);
+        syncData.direction = update.direction;
+        syncData.isMoving = update.isMoving;
+        syncData.lastUpdateTime = System.currentTimeMillis();
+        syncData.interpolationProgress = 0f;
+
+        pokemon.setDirection(update.direction);
+        pokemon.setMoving(update.isMoving);
 
-            pokemon.setDirection(update.direction);
-            pokemon.setMoving(update.isMoving);
+        if (update.level > 0) pokemon.setLevel(update.level);
+        if (update.currentHp > 0) pokemon.setCurrentHp(update.currentHp);
+        pokemon.setSpawnTime(update.timestamp / 1000L);
 
-            if (update.level > 0) pokemon.setLevel(update.level);
-            if (update.currentHp > 0) pokemon.setCurrentHp(update.currentHp);
-            pokemon.setSpawnTime(update.timestamp / 1000L);
+        if (pokemonUpdateHandler != null) {
+            pokemonUpdateHandler.onUpdate(update);
+        }
+    }
+
+    /**
+     * Applies a server batch of wild Pokemon tile states. Positions become interpolation
+     * targets, the same as full {@link NetworkProtocol.PokemonUpdate}s.
+     */
+    private void handleWildPokemonStates(NetworkProtocol.WildPokemonStates states) {
+        if (states == null || states.netIds == null) return;
+
+        long now = System.currentTimeMillis();
+        PokemonSpawnManager spawnManager = currentWorld != null ? currentWorld.getPokemonSpawnManager() : null;
+        for (int i = 0; i < states.count; i++) {
+            UUID uuid = wildPokemonNetIds.get(states.netIds[i]);
+            if (uuid == null) continue;
+            WildPokemon pokemon = trackedWildPokemon.get(uuid);
+            NetworkSyncData syncData = syncedPokemonData.get(uuid);
+            if (pokemon == null || syncData == null) {
+                requestPokemonSpawnData(uuid);
+                continue;
+            }
 
-            if (pokemonUpdateHandler != null) {
-                pokemonUpdateHandler.onUpdate(update);
+            float targetX = states.tileX[i] * World.TILE_SIZE;
+            float targetY = states.tileY[i] * World.TILE_SIZE;
+            if (spawnManager != null) {
+                // Keep the chunk index in step with the server, which moves Pokemon across chunks
+                float previousX = syncData.targetPosition != null ? syncData.targetPosition.x : pokemon.getX();
+                float previousY = syncData.targetPosition != null ? syncData.targetPosition.y : pokemon.getY();
+                spawnManager.movePokemonChunk(pokemon, previousX, previousY, targetX, targetY);
             }
-        });
+            if (syncData.targetPosition == null) {
+                syncData.targetPosition = new Vector2(targetX, targetY);
+            } else {
+                syncData.targetPosition.set(targetX, targetY);
+            }
+            syncData.direction = TileDirections.name(states.flags[i] & 0x3);
+            syncData.isMoving = (states.flags[i] & 0x4) != 0;
+            syncData.lastUpdateTime = now;
+            syncData.interpolationProgress = 0f;
+
+            pokemon.setDirection(syncData.direction);
+            pokemon.setMoving(syncData.isMoving);
+        }
     }
 
     public void sendPokemonUpdate(NetworkProtocol.PokemonUpdate update) {
@@ -2055,7 +2085,6 @@ public class GameClient {private static final long KEEPALIVE_TIMEOUT = 20000; //
     }
 
 
-    // Add to existing handleReceivedMessage method
     private void handleWorldObjectUpdate(NetworkProtocol.WorldObjectUpdate update) {
         if (update == null || currentWorld == null) {
             return;
@@ -2183,6 +2212,26 @@ public class GameClient {private static final long KEEPALIVE_TIMEOUT = 20000; //
         //        }
     }
 
+    /**
+     * Sends one inventory op or request. These are small and must arrive in order, so they go
+     * over TCP directly instead of waiting for the next player update.
+     */
+    public void sendInventoryMessage(Object message) {
+        if (isSinglePlayer || !isConnected() || !isAuthenticated()) {
+            return;
+        }
+        try {
+            client.sendTCP(message);
+        } catch (Exception e) {
+            GameLogger.error("Failed to send inventory op: " + e.getMessage());
+            handleConnectionFailure(e);
+        }
+    }
+
+    public void setInventoryAckHandler(Consumer<NetworkProtocol.InventoryAck> handler) {
+        this.inventoryAckHandler = handler;
+    }
+
     public void setChatMessageHandler(Consumer<NetworkProtocol.ChatMessage> handler) {
         this.chatMessageHandler = handler;
     }
@@ -0,0 +1,145 @@
+package io.github.pokemeetup.multiplayer.client;
+
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Hands inbound messages from the network thread to the render thread without posting a
+ * {@code Runnable} per packet. Messages go into one of two lock-free queues. A single reusable
+ * drain task is posted to the frame executor when the queues go from empty to non-empty, and
+ * each frame it drains:
+ * <ul>
+ *     <li>all priority messages (movement and entity lifecycle), which are small and
+ *     latency-sensitive;</li>
+ *     <li>then bulk messages (chunks, world state) until the frame budget is spent. At least one
+ *     bulk message runs per frame so a burst always makes progress.</li>
+ * </ul>
+ * Whatever is left is drained on the next frame, so a join burst is spread over frames instead
+ * of landing in one.
+ */
+public class InboundMessagePump {
+    public static final long DEFAULT_FRAME_BUDGET_NANOS = 4_000_000L;
+
+    private final Queue<Object> priority = new ConcurrentLinkedQueue<>();
+    private final Queue<Object> bulk = new ConcurrentLinkedQueue<>();
+    private final Set<Class<?>> priorityTypes = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final Consumer<Object> sink;
+    private final Executor frameExecutor;
+    private final Runnable drainTask = this::drainFrame;
+    private volatile long frameBudgetNanos = DEFAULT_FRAME_BUDGET_NANOS;
+
+    private volatile long lastDrainNanos;
+    private volatile long maxDrainNanos;
+    private volatile int lastDrainCount;
+
+    /**
+     * @param sink          handles a message on the render thread
+     * @param frameExecutor runs a task on the next frame, e.g. {@code Gdx.app::postRunnable}
+     */
+    public InboundMessagePump(Consumer<Object> sink, Executor frameExecutor) {
+        this.sink = sink;
+        this.frameExecutor = frameExecutor;
+    }
+
+    public void addPriorityType(Class<?> type) {
+        priorityTypes.add(type);
+    }
+
+    public void setFrameBudgetNanos(long frameBudgetNanos) {
+        this.frameBudgetNanos = frameBudgetNanos;
+    }
+
+    /**
+     * Queues a message. Called from the network thread.
+     */
+    public void offer(Object message) {
+        (priorityTypes.contains(message.getClass()) ? priority : bulk).offer(message);
+        pending.incrementAndGet();
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            frameExecutor.execute(drainTask);
+        }
+    }
+
+    private void drainFrame() {
+        try {
+            drain();
+        } finally {
+            drainScheduled.set(false);
+            // A message offered while draining saw drainScheduled still set; pick it up next frame
+            if (pending.get() > 0) {
+                scheduleDrain();
+            }
+        }
+    }
+
+    /**
+     * Runs one frame's share of queued messages on the calling thread and returns how many ran.
+     */
+    public int drain() {
+        long start = System.nanoTime();
+        long deadline = start + frameBudgetNanos;
+        int handled = 0;
+
+        Object message;
+        while ((message = priority.poll()) != null) {
+            deliver(message);
+            handled++;
+        }
+        int bulkHandled = 0;
+        while ((bulkHandled == 0 || System.nanoTime() < deadline) && (message = bulk.poll()) != null) {
+            deliver(message);
+            bulkHandled++;
+        }
+        handled += bulkHandled;
+
+        long elapsed = System.nanoTime() - start;
+        lastDrainNanos = elapsed;
+        lastDrainCount = handled;
+        if (elapsed > maxDrainNanos) {
+            maxDrainNanos = elapsed;
+        }
+        return handled;
+    }
+
+    private void deliver(Object message) {
+        pending.decrementAndGet();
+        sink.accept(message);
+    }
+
+    /**
+     * Drops everything queued, e.g. after a disconnect.
+     */
+    public void clear() {
+        while (priority.poll() != null || bulk.poll() != null) {
+            pending.decrementAndGet();
+        }
+    }
+
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    public long getLastDrainNanos() {
+        return lastDrainNanos;
+    }
+
+    public long getMaxDrainNanos() {
+        return maxDrainNanos;
+    }
+
+    public int getLastDrainCount() {
+        return lastDrainCount;
+    }
+}
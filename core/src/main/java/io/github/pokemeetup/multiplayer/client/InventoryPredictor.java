@@ -0,0 +1,125 @@
+package io.github.pokemeetup.multiplayer.client;
+
+import io.github.pokemeetup.multiplayer.network.NetworkProtocol;
+import io.github.pokemeetup.system.gameplay.inventory.Inventory;
+import io.github.pokemeetup.system.gameplay.inventory.InventoryOperations;
+import io.github.pokemeetup.utils.GameLogger;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+
+/**
+ * Client side of the inventory op protocol. An op is applied locally at once, so the inventory
+ * screen never waits on the network, and kept until the server acknowledges its sequence number.
+ * On a rejection the server sends its own contents; the predictor adopts them and replays the
+ * ops still in flight on top, which is the state the server will reach once it processes them.
+ * Pickups and crafting create items, which only the server may do: online they are sent as
+ * requests that share the op sequence numbers and are not predicted, and the server's reply
+ * replaces the local contents the same way.
+ */
+public final class InventoryPredictor {
+    private final Inventory inventory;
+    private final InventoryOperations.Cursor cursor = new InventoryOperations.Cursor();
+    private final Deque<NetworkProtocol.InventoryOp> pending = new ArrayDeque<>();
+    private final Consumer<Object> sender;
+    private int nextSequence = 1;
+
+    /**
+     * @param sender sends an op or request to the server, or null to apply everything locally
+     */
+    public InventoryPredictor(Inventory inventory, Consumer<Object> sender) {
+        this.inventory = inventory;
+        this.sender = sender;
+    }
+
+    public InventoryOperations.Cursor getCursor() {
+        return cursor;
+    }
+
+    /**
+     * Applies {@code op} locally and sends it to the server.
+     *
+     * @return false if the op is not valid for the current contents, or online creates items;
+     * nothing is sent
+     */
+    public synchronized boolean submit(NetworkProtocol.InventoryOp op) {
+        if (sender != null && InventoryOperations.createsItems(op.type)) {
+            GameLogger.error("Inventory " + op.type + " must go through the server");
+            return false;
+        }
+        if (!InventoryOperations.apply(inventory, cursor, op)) {
+            return false;
+        }
+        if (sender != null) {
+            op.sequence = nextSequence++;
+            pending.addLast(op);
+            sender.accept(op);
+        }
+        return true;
+    }
+
+    /**
+     * Crafts from the given inventory slots; online the result arrives with the ack.
+     *
+     * @param grid inventory slot per crafting cell, -1 if empty
+     * @return false if offline and the grid is not a recipe
+     */
+    public synchronized boolean requestCraft(int[] grid) {
+        if (sender == null) {
+            NetworkProtocol.InventoryOp op = InventoryOperations.op(NetworkProtocol.InventoryOpType.CRAFT, -1, -1, 0);
+            op.grid = grid;
+            return InventoryOperations.apply(inventory, cursor, op);
+        }
+        NetworkProtocol.CraftRequest request = new NetworkProtocol.CraftRequest();
+        request.sequence = nextSequence++;
+        request.grid = grid;
+        sender.accept(request);
+        return true;
+    }
+
+    /**
+     * Asks the server for the pokeball on a tile; the item arrives with the ack. Offline the
+     * caller hands out the item itself.
+     *
+     * @return false if offline
+     */
+    public synchronized boolean requestPickup(int tileX, int tileY) {
+        if (sender == null) {
+            return false;
+        }
+        NetworkProtocol.PickupRequest request = new NetworkProtocol.PickupRequest();
+        request.sequence = nextSequence++;
+        request.tileX = tileX;
+        request.tileY = tileY;
+        sender.accept(request);
+        return true;
+    }
+
+    public boolean isOnline() {
+        return sender != null;
+    }
+
+    public synchronized void onAck(NetworkProtocol.InventoryAck ack) {
+        while (!pending.isEmpty() && pending.peekFirst().sequence <= ack.sequence) {
+            pending.removeFirst();
+        }
+        if (ack.items == null) {
+            return;
+        }
+        if (!ack.accepted) {
+            GameLogger.error("Server rejected inventory op " + ack.sequence + "; resyncing "
+                + pending.size() + " pending ops");
+        }
+        // Rejected ops and every request carry the server's contents
+        InventoryOperations.restore(inventory, cursor, ack.items);
+        for (NetworkProtocol.InventoryOp op : pending) {
+            // One that no longer applies will be rejected by the server as well
+            InventoryOperations.apply(inventory, cursor, op);
+        }
+    }
+
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+}
@@ -0,0 +1,258 @@
+package io.github.pokemeetup.multiplayer.network;
+
+import io.github.pokemeetup.utils.GameLogger;
+import io.github.pokemeetup.utils.metrics.Counter;
+import io.github.pokemeetup.utils.metrics.Histogram;
+import io.github.pokemeetup.utils.metrics.MetricsRegistry;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Routes inbound network messages to handlers by their exact class. Each route declares:
+ * <ul>
+ *     <li>an {@link Affinity}: the message runs inline on the network thread, or is handed to
+ *     the executor set for the game tick or the auth pool;</li>
+ *     <li>whether it needs an authenticated sender. Messages that fail the auth check go to
+ *     the unauthorized handler instead, which may drop, log or queue them.</li>
+ * </ul>
+ * Lookup is one map read whatever the number of message types. Every route keeps counters,
+ * a handler-time histogram and a latency histogram, from receipt to handler completion, so
+ * {@link #formatStats()} shows which messages dominate load.
+ */
+public class MessageDispatcher<C> {
+    public enum Affinity {
+        NETWORK,
+        GAME_TICK,
+        AUTH
+    }
+
+    @FunctionalInterface
+    public interface Handler<C, T> {
+        void handle(C context, T message) throws Exception;
+    }
+
+    public static final class MessageStats {
+        private final String name;
+        private final Affinity affinity;
+        private final Histogram latency;
+        private final Histogram handler;
+        private final Counter rejected;
+        private final Counter errors;
+
+        MessageStats(String name, Affinity affinity, MetricsRegistry registry, String prefix) {
+            this.name = name;
+            this.affinity = affinity;
+            if (registry != null) {
+                String base = prefix + "." + name;
+                this.latency = registry.histogram(base + ".latency");
+                this.handler = registry.histogram(base + ".handler");
+                this.rejected = registry.counter(base + ".rejected");
+                this.errors = registry.counter(base + ".errors");
+            } else {
+                this.latency = new Histogram();
+                this.handler = new Histogram();
+                this.rejected = new Counter();
+                this.errors = new Counter();
+            }
+        }
+
+        void record(long latencyNanos, long handlerNanos) {
+            latency.record(latencyNanos);
+            handler.record(handlerNanos);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Affinity getAffinity() {
+            return affinity;
+        }
+
+        public long getCount() {
+            return latency.getCount();
+        }
+
+        public long getRejected() {
+            return rejected.get();
+        }
+
+        public long getErrors() {
+            return errors.get();
+        }
+
+        public long getHandlerNanos() {
+            return handler.getSum();
+        }
+
+        public long getLatencyNanos() {
+            return latency.getSum();
+        }
+
+        /**
+         * Receipt-to-completion latency at the given fraction, in microseconds.
+         */
+        public long getLatencyPercentileMicros(double fraction) {
+            return latency.getPercentile(fraction) / 1_000;
+        }
+    }
+
+    private static final class Route<C> {
+        final Affinity affinity;
+        final boolean requiresAuth;
+        final Handler<C, Object> handler;
+        final MessageStats stats;
+
+        Route(Affinity affinity, boolean requiresAuth, Handler<C, Object> handler, MessageStats stats) {
+            this.affinity = affinity;
+            this.requiresAuth = requiresAuth;
+            this.handler = handler;
+            this.stats = stats;
+        }
+    }
+
+    private final Map<Class<?>, Route<C>> routes = new ConcurrentHashMap<>();
+    private final Map<Affinity, Executor> executors = new EnumMap<>(Affinity.class);
+    private final Counter unrouted;
+    private final MetricsRegistry registry;
+    private final String metricsPrefix;
+    private Predicate<C> authCheck = context -> true;
+    private BiConsumer<C, Object> unauthorizedHandler = (context, message) -> {
+    };
+
+    /**
+     * A dispatcher whose stats are only visible through {@link #getStats()}.
+     */
+    public MessageDispatcher() {
+        this(null, null);
+    }
+
+    /**
+     * A dispatcher that also publishes each route's latency and handler-time histograms to
+     * {@code registry}, named {@code <prefix>.<MessageClass>.latency} and so on.
+     */
+    public MessageDispatcher(MetricsRegistry registry, String metricsPrefix) {
+        this.registry = registry;
+        this.metricsPrefix = metricsPrefix;
+        this.unrouted = registry != null ? registry.counter(metricsPrefix + ".unrouted") : new Counter();
+    }
+
+    /**
+     * Registers a handler for messages from authenticated senders.
+     */
+    public <T> void register(Class<T> type, Affinity affinity, Handler<C, ? super T> handler) {
+        register(type, affinity, true, handler);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> void register(Class<T> type, Affinity affinity, boolean requiresAuth, Handler<C, ? super T> handler) {
+        MessageStats stats = new MessageStats(type.getSimpleName(), affinity, registry, metricsPrefix);
+        routes.put(type, new Route<>(affinity, requiresAuth, (Handler<C, Object>) handler, stats));
+    }
+
+    /**
+     * Where {@link Affinity#GAME_TICK} or {@link Affinity#AUTH} handlers run. Without an
+     * executor they run inline on the network thread.
+     */
+    public void setExecutor(Affinity affinity, Executor executor) {
+        executors.put(affinity, executor);
+    }
+
+    public void setAuthCheck(Predicate<C> authCheck) {
+        this.authCheck = authCheck;
+    }
+
+    public void setUnauthorizedHandler(BiConsumer<C, Object> unauthorizedHandler) {
+        this.unauthorizedHandler = unauthorizedHandler;
+    }
+
+    /**
+     * The affinity registered for a message class, or null if it has no route. Lets a
+     * transport hand off non-network messages itself instead of through an executor.
+     */
+    public Affinity getAffinity(Class<?> type) {
+        Route<C> route = routes.get(type);
+        return route != null ? route.affinity : null;
+    }
+
+    /**
+     * Routes a message. Returns false if no handler is registered for its class.
+     */
+    public boolean dispatch(C context, Object message) {
+        long received = System.nanoTime();
+        Route<C> route = routes.get(message.getClass());
+        if (route == null) {
+            unrouted.increment();
+            return false;
+        }
+        if (route.requiresAuth && !authCheck.test(context)) {
+            route.stats.rejected.increment();
+            unauthorizedHandler.accept(context, message);
+            return true;
+        }
+
+        Executor executor = route.affinity == Affinity.NETWORK ? null : executors.get(route.affinity);
+        if (executor == null) {
+            run(route, context, message, received);
+        } else {
+            executor.execute(() -> run(route, context, message, received));
+        }
+        return true;
+    }
+
+    private void run(Route<C> route, C context, Object message, long received) {
+        long start = System.nanoTime();
+        try {
+            route.handler.handle(context, message);
+        } catch (Exception e) {
+            route.stats.errors.increment();
+            GameLogger.error("Error handling " + route.stats.name + ": " + e.getMessage());
+        } finally {
+            long end = System.nanoTime();
+            route.stats.record(end - received, end - start);
+        }
+    }
+
+    public Collection<MessageStats> getStats() {
+        List<MessageStats> stats = new ArrayList<>(routes.size());
+        for (Route<C> route : routes.values()) {
+            stats.add(route.stats);
+        }
+        stats.sort((a, b) -> Long.compare(b.getHandlerNanos(), a.getHandlerNanos()));
+        return stats;
+    }
+
+    public long getUnroutedCount() {
+        return unrouted.get();
+    }
+
+    /**
+     * One line per message type that has been received, busiest handler time first.
+     */
+    public String formatStats() {
+        StringBuilder builder = new StringBuilder();
+        for (MessageStats stats : getStats()) {
+            long count = stats.getCount();
+            if (count == 0 && stats.getRejected() == 0) {
+                continue;
+            }
+            builder.append(String.format("%-28s %-9s count=%d rejected=%d errors=%d handler=%.1fms "
+                    + "avgLatency=%.1fus p50=%dus p99=%dus%n",
+                stats.getName(), stats.getAffinity(), count, stats.getRejected(), stats.getErrors(),
+                stats.getHandlerNanos() / 1e6,
+                count > 0 ? stats.getLatencyNanos() / 1e3 / count : 0.0,
+                stats.getLatencyPercentileMicros(0.5),
+                stats.getLatencyPercentileMicros(0.99)));
+        }
+        builder.append("unrouted=").append(getUnroutedCount());
+        return builder.toString();
+    }
+}
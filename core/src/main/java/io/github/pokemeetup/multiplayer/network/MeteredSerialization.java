@@ -0,0 +1,99 @@
+package io.github.pokemeetup.multiplayer.network;
+
+import com.esotericsoftware.kryo.io.Output;
+import com.esotericsoftware.kryonet.Connection;
+import com.esotericsoftware.kryonet.KryoSerialization;
+import io.github.pokemeetup.utils.metrics.Counter;
+import io.github.pokemeetup.utils.metrics.MetricsRegistry;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Kryonet serialization that counts the bytes of every object it reads and writes, per message
+ * class and per connection. Kryonet frames each object with a length prefix, which is included.
+ * Totals are published as {@code <prefix>.bytesIn} and {@code <prefix>.bytesOut}.
+ */
+public class MeteredSerialization extends KryoSerialization {
+    private static final int TOP_TYPES = 8;
+
+    private final Map<Class<?>, LongAdder> inboundByType = new ConcurrentHashMap<>();
+    private final Map<Integer, LongAdder> inboundByConnection = new ConcurrentHashMap<>();
+    private final Counter bytesIn;
+    private final Counter bytesOut;
+    private final Output scratch = new Output(4096, -1);
+
+    public MeteredSerialization(MetricsRegistry metrics, String prefix) {
+        this.bytesIn = metrics.counter(prefix + ".bytesIn");
+        this.bytesOut = metrics.counter(prefix + ".bytesOut");
+    }
+
+    @Override
+    public synchronized void write(Connection connection, ByteBuffer buffer, Object object) {
+        int start = buffer.position();
+        super.write(connection, buffer, object);
+        bytesOut.add(buffer.position() - start + getLengthLength());
+    }
+
+    @Override
+    public synchronized Object read(Connection connection, ByteBuffer buffer) {
+        int start = buffer.position();
+        Object object = super.read(connection, buffer);
+        long bytes = buffer.position() - start + getLengthLength();
+        bytesIn.add(bytes);
+        if (object != null) {
+            inboundByType.computeIfAbsent(object.getClass(), type -> new LongAdder()).add(bytes);
+        }
+        if (connection != null) {
+            inboundByConnection.computeIfAbsent(connection.getID(), id -> new LongAdder()).add(bytes);
+        }
+        return object;
+    }
+
+    /**
+     * Serialized size of {@code object} with this serialization's Kryo, without sending it.
+     */
+    public synchronized int measure(Object object) {
+        scratch.clear();
+        getKryo().writeClassAndObject(scratch, object);
+        return scratch.position() + getLengthLength();
+    }
+
+    public long getBytesIn() {
+        return bytesIn.get();
+    }
+
+    public long getBytesOut() {
+        return bytesOut.get();
+    }
+
+    /**
+     * Bytes received from one connection since it opened.
+     */
+    public long getBytesIn(int connectionId) {
+        LongAdder bytes = inboundByConnection.get(connectionId);
+        return bytes != null ? bytes.sum() : 0;
+    }
+
+    public void forgetConnection(int connectionId) {
+        inboundByConnection.remove(connectionId);
+    }
+
+    /**
+     * One line per message class, largest inbound total first.
+     */
+    public String formatInboundByType() {
+        List<Map.Entry<Class<?>, LongAdder>> entries = new ArrayList<>(inboundByType.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue().sum(), a.getValue().sum()));
+        StringBuilder out = new StringBuilder();
+        for (int i = 0; i < entries.size() && i < TOP_TYPES; i++) {
+            Map.Entry<Class<?>, LongAdder> entry = entries.get(i);
+            out.append(String.format("  %-28s %,12d B%n", entry.getKey().getSimpleName(), entry.getValue().sum()));
+        }
+        return out.toString();
+    }
+}
@@ -173,10 +173,60 @@ public class NetworkProtocol {
         kryo.register(PartyUpdate.class);
         kryo.register(WildPokemonSpawn.class);
         kryo.register(WildPokemonDespawn.class);
+        kryo.register(WildPokemonStates.class);
         kryo.register(PokemonData.class);
         kryo.register(Pokemon.PokemonType.class);
         kryo.register(ArrayList.class);
         kryo.register(int[].class);
+        kryo.register(byte[].class);
+        kryo.register(InventoryOpType.class);
+        kryo.register(InventoryOp.class);
+        kryo.register(InventoryAck.class);
+        kryo.register(CraftRequest.class);
+        kryo.register(PickupRequest.class);
+        kryo.register(PlayerStateSync.class);
+        // Only the fields named in the mask go on the wire
+        kryo.register(PlayerStateDelta.class, new com.esotericsoftware.kryo.Serializer<PlayerStateDelta>() {
+            @Override
+            public void write(Kryo kryo, Output output, PlayerStateDelta delta) {
+                output.writeVarInt(delta.baseVersion, true);
+                output.writeByte(delta.fields);
+                if ((delta.fields & PlayerStateDelta.POSITION) != 0) {
+                    output.writeFloat(delta.x);
+                    output.writeFloat(delta.y);
+                }
+                if ((delta.fields & PlayerStateDelta.DIRECTION) != 0) {
+                    output.writeString(delta.direction);
+                }
+                if ((delta.fields & PlayerStateDelta.MOVING) != 0) {
+                    output.writeBoolean(delta.moving);
+                }
+                if ((delta.fields & PlayerStateDelta.RUNNING) != 0) {
+                    output.writeBoolean(delta.running);
+                }
+            }
+
+            @Override
+            public PlayerStateDelta read(Kryo kryo, Input input, Class<PlayerStateDelta> type) {
+                PlayerStateDelta delta = new PlayerStateDelta();
+                delta.baseVersion = input.readVarInt(true);
+                delta.fields = input.readByte();
+                if ((delta.fields & PlayerStateDelta.POSITION) != 0) {
+                    delta.x = input.readFloat();
+                    delta.y = input.readFloat();
+                }
+                if ((delta.fields & PlayerStateDelta.DIRECTION) != 0) {
+                    delta.direction = input.readString();
+                }
+                if ((delta.fields & PlayerStateDelta.MOVING) != 0) {
+                    delta.moving = input.readBoolean();
+                }
+                if ((delta.fields & PlayerStateDelta.RUNNING) != 0) {
+                    delta.running = input.readBoolean();
+                }
+                return delta;
+            }
+        });
     }
 
     public enum ChatType {
@@ -308,6 +358,7 @@ public class NetworkProtocol {
         public long worldSeed;
         public PlayerData playerData;
         public io.github.pokemeetup.system.data.WorldData worldData;  // Add serializable world data
+        public int stateVersion; // Base version for the client's first PlayerStateDelta
     }
 
     public static class WorldData implements Serializable {
@@ -402,11 +453,105 @@ public class NetworkProtocol {
     }
     // Update the PlayerUpdate class in NetworkProtocol.java
 
+    /**
+     * Whole-inventory snapshot. Superseded by {@link InventoryOp}; the server ignores it, since
+     * it would let a client set any contents it likes.
+     */
     public static class InventoryUpdate {
         public String username;
         public ItemData[] inventoryItems;
     }
 
+    public enum InventoryOpType {
+        MOVE,
+        SPLIT,
+        STACK,
+        SWAP,
+        ADD,
+        REMOVE,
+        CRAFT
+    }
+
+    /**
+     * One inventory change, sent in place of the whole inventory. Slots are inventory indices, or
+     * {@code InventoryOperations.CURSOR_SLOT} for the stack held on the mouse. Sequence numbers
+     * increase per client; see {@code InventoryOperations} for what each type does.
+     */
+    public static class InventoryOp {
+        public int sequence;
+        public InventoryOpType type;
+        public int from = -1;
+        public int to = -1;
+        public int count;
+        public String itemId; // ADD only
+        public int[] grid;    // CRAFT only: inventory slot per crafting cell, -1 if empty
+    }
+
+    /**
+     * Asks the server to craft from inventory slots, laid out as {@link InventoryOp#grid}. It
+     * shares the sequence numbers of the owner's ops. Crafting creates items, so the client does
+     * not predict it and waits for the {@link InventoryAck}.
+     */
+    public static class CraftRequest {
+        public int sequence;
+        public int[] grid;
+    }
+
+    /**
+     * Asks the server for the contents of the pokeball on a tile. The server checks the reach and
+     * chooses the item; the reply is an {@link InventoryAck} as for a {@link CraftRequest}.
+     */
+    public static class PickupRequest {
+        public int sequence;
+        public int tileX;
+        public int tileY;
+    }
+
+    /**
+     * Server reply to an {@link InventoryOp} or a request, sent only to its owner. An accepted op
+     * carries no items. A rejected op, and every request, carries the server's whole inventory
+     * with the cursor last, after everything up to {@code sequence}.
+     */
+    public static class InventoryAck {
+        public int sequence;
+        public boolean accepted;
+        public ItemData[] items;
+        public String itemId; // Item a request created, if any
+        public int count;
+    }
+
+
+    /**
+     * A client's own player state, sent only when something changed. {@code fields} says which
+     * values are present; the others are neither sent nor applied. {@code baseVersion} is the
+     * last {@link PlayerStateSync} version the client saw. The server drops a delta built on an
+     * older version and counts it as a sync conflict.
+     */
+    public static class PlayerStateDelta {
+        public static final int POSITION = 1;
+        public static final int DIRECTION = 1 << 1;
+        public static final int MOVING = 1 << 2;
+        public static final int RUNNING = 1 << 3;
+
+        public int baseVersion;
+        public int fields;
+        public float x;
+        public float y;
+        public String direction;
+        public boolean moving;
+        public boolean running;
+    }
+
+    /**
+     * Authoritative state for the receiving client's own player, sent only to that client when
+     * the server overrides what it reported. It starts a new version.
+     */
+    public static class PlayerStateSync {
+        public int version;
+        public float x;
+        public float y;
+        public String direction;
+    }
 
     public static class PlayerPosition {
         public HashMap<String, PlayerUpdate> players = new HashMap<>();
@@ -434,6 +579,10 @@ public class NetworkProtocol {
         public long timestamp;
     }
 
+    /**
+     * Server-to-client only. Clients used to upload their whole {@code WorldData} with this at
+     * 20 Hz; they now send {@link PlayerStateDelta}s and the server ignores any upload.
+     */
     public static class WorldStateUpdate implements Serializable {
         public io.github.pokemeetup.system.data.WorldData worldData;
         public long timestamp;
@@ -498,12 +647,27 @@ public class NetworkProtocol {
 
     public static class WildPokemonSpawn {
         public UUID uuid;
+        public int netId; // Server-assigned short id used by WildPokemonStates
         public float x;
         public float y;
         public PokemonData data;
         public long timestamp;
     }
 
+    /**
+     * Server-authoritative wild Pokemon movement, batched per client. Only Pokemon whose tile,
+     * direction or moving flag changed since the last batch are included. Entries refer to the
+     * {@code netId} sent in their {@link WildPokemonSpawn}.
+     */
+    public static class WildPokemonStates {
+        public long timestamp;
+        public int count;
+        public int[] netIds;
+        public int[] tileX;
+        public int[] tileY;
+        public byte[] flags; // Bits 0-1: direction (up, down, left, right), bit 2: moving
+    }
+
     public static class WildPokemonDespawn {
         public UUID uuid;
         public long timestamp;
@@ -1,7 +1,6 @@
 package io.github.pokemeetup.multiplayer.server;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Json;
 import com.esotericsoftware.kryonet.Server;
@@ -16,18 +15,20 @@ import io.github.pokemeetup.managers.BiomeTransitionResult;
 import io.github.pokemeetup.managers.DatabaseManager;
 import io.github.pokemeetup.multiplayer.PlayerManager;
 import io.github.pokemeetup.multiplayer.ServerPlayer;
+import io.github.pokemeetup.multiplayer.network.MessageDispatcher;
+import io.github.pokemeetup.multiplayer.network.MeteredSerialization;
 import io.github.pokemeetup.multiplayer.network.NetworkProtocol;
 import io.github.pokemeetup.multiplayer.server.config.ServerConnectionConfig;
 import io.github.pokemeetup.multiplayer.server.events.EventManager;
 import io.github.pokemeetup.multiplayer.server.plugin.PluginManager;
 import io.github.pokemeetup.multiplayer.server.storage.FileStorage;
 import io.github.pokemeetup.multiplayer.server.storage.StorageSystem;
-import io.github.pokemeetup.pokemon.WildPokemon;
 import io.github.pokemeetup.system.data.ItemData;
 import io.github.pokemeetup.system.data.PlayerData;
-import io.github.pokemeetup.system.data.PokemonData;
 import io.github.pokemeetup.system.data.WorldData;
+import io.github.pokemeetup.system.gameplay.inventory.ItemManager;
 import io.github.pokemeetup.system.gameplay.overworld.Chunk;
+import io.github.pokemeetup.system.gameplay.overworld.PokemonSpawnManager;
 import io.github.pokemeetup.system.gameplay.overworld.World;
 import io.github.pokemeetup.system.gameplay.overworld.WorldObject;
 import io.github.pokemeetup.system.gameplay.overworld.biomes.Biome;
@@ -35,7 +36,9 @@ import io.github.pokemeetup.system.gameplay.overworld.biomes.BiomeType;
 import io.github.pokemeetup.system.gameplay.overworld.multiworld.WorldManager;
 import io.github.pokemeetup.utils.GameLogger;
 import io.github.pokemeetup.utils.PasswordUtils;
-import io.github.pokemeetup.utils.textures.TextureManager;
+import io.github.pokemeetup.utils.metrics.Counter;
+import io.github.pokemeetup.utils.metrics.Histogram;
+import io.github.pokemeetup.utils.metrics.MetricsRegistry;
 import io.github.pokemeetup.utils.storage.JsonConfig;
 
 import java.io.File;
@@ -44,18 +47,35 @@ import java.net.ServerSocket;
 import java.nio.file.Files;
 import java.util.*;
 import java.util.concurrent.*;
-import java.util.stream.Collectors;
 
 public class GameServer {
     private static final int WRITE_BUFFER = 1024 * 1024; // 1 MB
     private static final int OBJECT_BUFFER = 512 * 1024; // 512 KB
     private static final long CONNECTION_TIMEOUT = 1000;
     private static final int SCHEDULER_POOL_SIZE = 3;// At the start of GameServer class, update constants
+    private static final int AUTH_POOL_SIZE = 2;
+    private static final int CHUNK_POOL_SIZE = 2;
     private static final long AUTH_TIMEOUT = 10000;
     private static final long CLEANUP_INTERVAL = 60000; // 1 minute
     private static final int SYNC_BATCH_SIZE = 10;
     private static final float SYNC_INTERVAL = 1 / 20f; // 20Hz sync rate
     private static final long JOIN_COOLDOWN = 5000; // 5 seconds cooldown between join attempts
+    private static final long WILD_POKEMON_TICK_MILLIS = (long) (WildPokemonManager.TICK_SECONDS * 1000);
+    private static final int CHUNK_EVICTION_TICKS = 600; // Drop terrain no player is near once a minute
+    private static final ThreadLocal<Vector2> CHUNK_KEY = ThreadLocal.withInitial(Vector2::new);
+    private static final MetricsRegistry METRICS = MetricsRegistry.getInstance();
+    private static final Histogram CHUNK_GENERATE_TIME = METRICS.histogram("server.chunk.generate");
+    private static final Histogram WILD_POKEMON_TICK_TIME = METRICS.histogram("server.wildPokemon.tick");
+    private static final Counter INVENTORY_OPS_ACCEPTED = METRICS.counter("server.inventory.accepted");
+    private static final Counter INVENTORY_OPS_REJECTED = METRICS.counter("server.inventory.rejected");
+    private static final long PLAYER_FLUSH_INTERVAL = 5000; // Batch inventory changes into one record write
+    private static final Counter SYNC_CONFLICTS = METRICS.counter("server.sync.conflicts");
+    private static final Counter IGNORED_WORLD_UPLOADS = METRICS.counter("server.sync.ignoredWorldUploads");
+    private static final Counter IGNORED_INVENTORY_UPLOADS = METRICS.counter("server.inventory.ignoredUploads");
+    private static final long PICKUP_COOLDOWN_MILLIS = 500;
+    private static final long PICKUP_TILE_RESPAWN_MILLIS = 300_000; // WorldObject's pokeball lifetime
+    private static final int PICKUP_TILE_PRUNE_SIZE = 1024;
+    private static final int LEGACY_WORLD_UPLOAD_HZ = 20; // How often clients used to upload their WorldData
     private final Map<Integer, ConnectionState> connectionStates = new ConcurrentHashMap<>();
     private final Server networkServer;
     private final ServerConnectionConfig config;
@@ -68,11 +88,26 @@ public class GameServer {
     private final ConcurrentHashMap<Integer, String> connectedPlayers;
     private final PlayerManager playerManager;
     private final ScheduledExecutorService scheduler;
+    private final ExecutorService gameExecutor;
+    private final ExecutorService authExecutor;
+    private final ExecutorService chunkExecutor;
+    private final MessageDispatcher<Connection> dispatcher = new MessageDispatcher<>(METRICS, "server.messages");
+    private final MeteredSerialization serialization = new MeteredSerialization(METRICS, "server.net");
+    private final Map<Integer, Long> lastUpstreamBytes = new ConcurrentHashMap<>();
+    private long lastTrafficReport = System.currentTimeMillis();
+    private volatile long legacyUploadBytes; // One full WorldStateUpdate, measured at startup
     private final Queue<NetworkProtocol.PlayerUpdate> pendingUpdates = new ConcurrentLinkedQueue<>();
     private final Map<String, Integer> activeUserConnections = new ConcurrentHashMap<>();
     private final Map<String, ServerPlayer> activePlayers = new ConcurrentHashMap<>();
     private final Map<String, Long> lastJoinTime = new ConcurrentHashMap<>();
     private final Map<Vector2, Chunk> generatedChunks = new ConcurrentHashMap<>();
+    private final Map<Vector2, CompletableFuture<Chunk>> chunkClaims = new ConcurrentHashMap<>();
+    private final Set<String> dirtyPlayers = ConcurrentHashMap.newKeySet();
+    // Packed tile -> when it was picked up. Only touched on the game tick thread
+    private final Map<Long, Long> consumedPickupTiles = new HashMap<>();
+    private final WildPokemonManager wildPokemonManager;
+    private final WorldPregenerator pregenerator;
+    private long wildPokemonTicks;
     private PluginManager pluginManager = null;
     private WorldData multiplayerWorld;
     private volatile boolean running;
@@ -84,11 +119,29 @@ public class GameServer {
             thread.setDaemon(true);
             return thread;
         });
+        // Game messages keep the single-threaded ordering they had on the network thread;
+        // logins and registrations hit storage, so they get their own pool
+        this.gameExecutor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "GameServer-Game");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.authExecutor = Executors.newFixedThreadPool(AUTH_POOL_SIZE, r -> {
+            Thread thread = new Thread(r, "GameServer-Auth");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Chunk storage reads and generation stay off the game and wild Pokemon ticks
+        this.chunkExecutor = Executors.newFixedThreadPool(CHUNK_POOL_SIZE, r -> {
+            Thread thread = new Thread(r, "GameServer-Chunks");
+            thread.setDaemon(true);
+            return thread;
+        });
 
         Log.set(Log.LEVEL_DEBUG);
         this.config = config;
         this.storageSystem = new ServerStorageSystem();
-        this.networkServer = new Server(WRITE_BUFFER, OBJECT_BUFFER);
+        this.networkServer = new Server(WRITE_BUFFER, OBJECT_BUFFER, serialization);
         NetworkProtocol.registerClasses(networkServer.getKryo());
 
         // Enable chunked/fragmented transfers for large packets
@@ -108,8 +161,13 @@ public class GameServer {
             this.multiplayerWorld = initializeMultiplayerWorld();
 
             setupNetworkListener();
-            this.pluginManager = new PluginManager(this, multiplayerWorld);
+            this.pluginManager = new PluginManager(this, multiplayerWorld, eventManager);
             this.biomeManager = new BiomeManager(multiplayerWorld.getConfig().getSeed());
+            this.wildPokemonManager = createWildPokemonManager();
+            this.pregenerator = new WorldPregenerator(storageSystem, multiplayerWorld.getName(),
+                (chunkX, chunkY) -> claimChunk(chunkX, chunkY, Runnable::run, false).join(),
+                connectedPlayers::size, Runtime.getRuntime().availableProcessors());
+            registerMetrics();
         } catch (Exception e) {
             GameLogger.error("Failed to initialize game world: " + e.getMessage());
             throw new RuntimeException("Failed to initialize server world", e);
@@ -361,6 +419,7 @@ public class GameServer {
             connectedPlayers.put(connection.getID(), player.getUsername());
             activeUserConnections.put(player.getUsername(), connection.getID());
             activePlayers.put(player.getUsername(), player);
+            wildPokemonManager.updateObserver(connection.getID(), player.getPosition().x, player.getPosition().y);
             GameLogger.info("Player logged in successfully: " + player.getUsername());
             // Send the full world data without removing other players
             NetworkProtocol.LoginResponse response = new NetworkProtocol.LoginResponse();
@@ -375,6 +434,7 @@ public class GameServer {
             response.playerData = player.getData();
             response.x = (int) player.getPosition().x;
             response.y = (int) player.getPosition().y;
+            response.stateVersion = player.getStateVersion();
             response.timestamp = System.currentTimeMillis();
 
             // Send response
@@ -489,6 +549,9 @@ public class GameServer {
     }
 
     private void handlePlayerDisconnect(Connection connection) {
+        wildPokemonManager.removeObserver(connection.getID());
+        serialization.forgetConnection(connection.getID());
+        lastUpstreamBytes.remove(connection.getID());
         String username = null;
         for (Map.Entry<String, Integer> entry : activeUserConnections.entrySet()) {
             if (entry.getValue() == connection.getID()) {
@@ -506,6 +569,8 @@ public class GameServer {
             if (player != null) {
                 // Save final state
                 try {
+                    player.returnCursorItems();
+                    dirtyPlayers.remove(username);
                     PlayerData finalState = player.getData();
                     worldManager.getCurrentWorld().savePlayerData(username, finalState);
                 } catch (Exception e) {
@@ -539,6 +604,7 @@ public class GameServer {
 
             // Update server-side state
             player.updatePosition(update.x, update.y, update.direction, update.isMoving);
+            wildPokemonManager.updateObserver(connection.getID(), update.x, update.y);
 
             // Create broadcast message
             NetworkProtocol.PlayerPosition position = new NetworkProtocol.PlayerPosition();
@@ -556,6 +622,80 @@ public class GameServer {
         }
     }
 
+    private void handlePlayerStateDelta(Connection connection, NetworkProtocol.PlayerStateDelta delta) {
+        String username = connectedPlayers.get(connection.getID());
+        ServerPlayer player = username != null ? playerManager.getPlayer(username) : null;
+        if (player == null) return;
+
+        if (!player.applyStateDelta(delta)) {
+            // The client had not yet seen our last override; its PlayerStateSync is on the way
+            SYNC_CONFLICTS.increment();
+            return;
+        }
+        if ((delta.fields & NetworkProtocol.PlayerStateDelta.POSITION) != 0) {
+            wildPokemonManager.updateObserver(connection.getID(), delta.x, delta.y);
+        }
+
+        NetworkProtocol.PlayerPosition position = new NetworkProtocol.PlayerPosition();
+        position.players.put(username, player.toPlayerUpdate());
+        networkServer.sendToAllExceptTCP(connection.getID(), position);
+    }
+
+    /**
+     * Moves a player on the server's authority. Their client is told with a new state version,
+     * and everyone else sees the usual position update.
+     */
+    public void teleportPlayer(String username, float x, float y) {
+        ServerPlayer player = playerManager.getPlayer(username);
+        Integer connectionId = activeUserConnections.get(username);
+        if (player == null || connectionId == null) return;
+
+        networkServer.sendToTCP(connectionId, player.overrideState(x, y, null));
+        wildPokemonManager.updateObserver(connectionId, x, y);
+        NetworkProtocol.PlayerPosition position = new NetworkProtocol.PlayerPosition();
+        position.players.put(username, player.toPlayerUpdate());
+        networkServer.sendToAllExceptTCP(connectionId, position);
+    }
+
+    /**
+     * Sizes one full world upload for the traffic report. Run once at startup, before clients
+     * can connect: serializing the whole world is too slow for the game tick, and it holds the
+     * Kryo lock the connections need.
+     */
+    private void measureLegacyWorldUpload() {
+        try {
+            NetworkProtocol.WorldStateUpdate upload = new NetworkProtocol.WorldStateUpdate();
+            upload.worldData = multiplayerWorld;
+            legacyUploadBytes = serialization.measure(upload);
+        } catch (Exception e) {
+            GameLogger.error("Could not measure world upload size: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Logs each player's upstream bytes per second since the last report, next to what the
+     * full WorldData uploads they replaced would cost for the current world.
+     */
+    private void logTrafficReport() {
+        long now = System.currentTimeMillis();
+        double seconds = (now - lastTrafficReport) / 1000.0;
+        lastTrafficReport = now;
+        if (seconds <= 0 || connectedPlayers.isEmpty()) return;
+
+        long legacyRate = legacyUploadBytes * LEGACY_WORLD_UPLOAD_HZ;
+        StringBuilder report = new StringBuilder("Upstream traffic per player (full world uploads would be ")
+            .append(String.format("%,d B/s each):%n", legacyRate));
+        for (Map.Entry<Integer, String> entry : connectedPlayers.entrySet()) {
+            long total = serialization.getBytesIn(entry.getKey());
+            Long previous = lastUpstreamBytes.put(entry.getKey(), total);
+            double rate = (total - (previous != null ? previous : 0L)) / seconds;
+            report.append(String.format("  %-20s %,10.0f B/s, saving %,d B/s%n",
+                entry.getValue(), rate, Math.max(0, legacyRate - (long) rate)));
+        }
+        report.append("Upstream bytes by message:\n").append(serialization.formatInboundByType());
+        GameLogger.info(report.toString());
+    }
+
     private boolean validateUpdate(NetworkProtocol.PlayerUpdate update) {
         if (update == null || update.username == null) {
             return false;
@@ -604,126 +744,146 @@ public class GameServer {
     }
 
 
-    private void handlePokemonSpawn(Connection connection, NetworkProtocol.WildPokemonSpawn spawnRequest) {
-        try {
-            WorldData world = worldManager.getCurrentWorld();
-            if (world == null) {
-                GameLogger.error("Cannot spawn Pokemon: World is null");
-                return;
-            }
-
-            // Validate spawn position
-            if (!isValidSpawnPosition(spawnRequest.x, spawnRequest.y)) {
-                GameLogger.error("Invalid spawn position: " + spawnRequest.x + "," + spawnRequest.y);
-                return;
+    private WildPokemonManager createWildPokemonManager() {
+        WildPokemonManager.SpawnRules spawnRules = new WildPokemonManager.SpawnRules() {
+            @Override
+            public String selectSpecies(int tileX, int tileY, Random random) {
+                BiomeTransitionResult biome = biomeManager.getBiomeAt(
+                    tileX * World.TILE_SIZE, tileY * World.TILE_SIZE);
+                return PokemonSpawnManager.selectSpecies(biome.getPrimaryBiome().getType(),
+                    multiplayerWorld.getWorldTimeInMinutes(), random);
             }
 
-            // Create new WildPokemon instance
-            WildPokemon pokemon = createWildPokemon(spawnRequest);
-            if (pokemon == null) {
-                GameLogger.error("Failed to create Pokemon from spawn request");
-                return;
+            @Override
+            public int selectLevel(int tileX, int tileY, Random random) {
+                return PokemonSpawnManager.calculatePokemonLevel(
+                    tileX * World.TILE_SIZE, tileY * World.TILE_SIZE);
             }
-
-            // Register the Pokemon with the world
+        };
+        return new WildPokemonManager(this::isWildPokemonWalkable, spawnRules,
+            networkServer::sendToTCP, multiplayerWorld.getConfig().getSeed());
+    }
+
+    private void registerMetrics() {
+        METRICS.gauge("server.players.online", connectedPlayers::size);
+        METRICS.gauge("server.events.queueDepth", eventManager::getQueueDepth);
+        METRICS.gauge("server.events.fired", eventManager::getFiredCount);
+        METRICS.gauge("server.events.dropped", eventManager::getDroppedCount);
+        METRICS.gauge("server.events.blocked", eventManager::getBlockedCount);
+        METRICS.gauge("server.chunks.cached", generatedChunks::size);
+        METRICS.gauge("server.pregen.completed", pregenerator::getCompleted);
+        METRICS.gauge("server.pregen.failed", pregenerator::getFailed);
+        METRICS.gauge("server.wildPokemon.population", wildPokemonManager::getPopulation);
+        METRICS.gauge("server.wildPokemon.activeChunks", wildPokemonManager::getActiveChunkCount);
+        METRICS.gauge("server.wildPokemon.observers", wildPokemonManager::getObserverCount);
+    }
+
+    private void startWildPokemonSimulation() {
+        scheduler.scheduleAtFixedRate(() -> {
             try {
-                world.registerWildPokemon(pokemon);
+                wildPokemonManager.tick();
+                WILD_POKEMON_TICK_TIME.record(wildPokemonManager.getLastTickNanos());
+                if (++wildPokemonTicks % CHUNK_EVICTION_TICKS == 0) {
+                    generatedChunks.keySet().removeIf(pos ->
+                        !wildPokemonManager.isChunkActive((int) pos.x, (int) pos.y));
+                }
             } catch (Exception e) {
-                GameLogger.error("Failed to register Pokemon with world: " + e.getMessage());
-                return;
+                GameLogger.error("Error updating wild Pokemon: " + e.getMessage());
             }
+        }, WILD_POKEMON_TICK_MILLIS, WILD_POKEMON_TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Terrain passability for server-side wild Pokemon. A chunk that is not in memory yet is
+     * treated as blocked while it loads in the background.
+     */
+    private boolean isWildPokemonWalkable(int tileX, int tileY) {
+        int chunkX = Math.floorDiv(tileX, Chunk.CHUNK_SIZE);
+        int chunkY = Math.floorDiv(tileY, Chunk.CHUNK_SIZE);
+        Chunk chunk = generatedChunks.get(CHUNK_KEY.get().set(chunkX, chunkY));
+        if (chunk == null) {
+            claimChunk(chunkX, chunkY, chunkExecutor, true);
+            return false;
+        }
+        return chunk.isPassable(Math.floorMod(tileX, Chunk.CHUNK_SIZE), Math.floorMod(tileY, Chunk.CHUNK_SIZE));
+    }
 
-            // Create broadcast message
-            NetworkProtocol.WildPokemonSpawn broadcastSpawn = createSpawnBroadcast(pokemon);
-
-            // Broadcast to all clients
+    /**
+     * A chunk from the cache, or one being loaded on the chunk pool. Kept in
+     * {@code generatedChunks} while a player is near it.
+     */
+    private CompletableFuture<Chunk> requestChunk(int chunkX, int chunkY) {
+        Chunk chunk = generatedChunks.get(CHUNK_KEY.get().set(chunkX, chunkY));
+        if (chunk != null) {
+            return CompletableFuture.completedFuture(chunk);
+        }
+        return claimChunk(chunkX, chunkY, chunkExecutor, true);
+    }
+
+    /**
+     * Loads or generates a chunk at most once at a time: the game, wild Pokemon and
+     * pre-generation workers asking for the same chunk share one claim, so a chunk is never
+     * generated and written twice concurrently.
+     *
+     * @param executor runs the load; pre-generation passes its own worker thread
+     * @param cache    keep the chunk in {@code generatedChunks}
+     */
+    private CompletableFuture<Chunk> claimChunk(int chunkX, int chunkY, Executor executor, boolean cache) {
+        Vector2 chunkPos = new Vector2(chunkX, chunkY);
+        CompletableFuture<Chunk> claim = new CompletableFuture<>();
+        CompletableFuture<Chunk> existing = chunkClaims.putIfAbsent(chunkPos, claim);
+        if (existing != null) {
+            return existing;
+        }
+        executor.execute(() -> {
+            Chunk chunk = null;
             try {
-                networkServer.sendToAllTCP(broadcastSpawn);
-                GameLogger.info("Broadcast Pokemon spawn: " + pokemon.getName() +
-                    " (UUID: " + pokemon.getUuid() + ")");
+                chunk = loadOrGenerateChunk(chunkX, chunkY);
+                if (chunk != null && cache) {
+                    generatedChunks.put(chunkPos, chunk);
+                }
             } catch (Exception e) {
-                GameLogger.error("Failed to broadcast Pokemon spawn: " + e.getMessage());
-                // Consider removing Pokemon from world if broadcast fails
-                world.removeWildPokemon(pokemon.getUuid());
+                GameLogger.error("Failed to load chunk " + chunkX + "," + chunkY + ": " + e.getMessage());
+            } finally {
+                chunkClaims.remove(chunkPos);
+                claim.complete(chunk);
             }
-
-        } catch (Exception e) {
-            GameLogger.error("Error handling Pokemon spawn: " + e.getMessage());
-            e.printStackTrace();
+        });
+        return claim;
+    }
+
+    /**
+     * A chunk from the world data, chunk storage or, failing those, fresh generation, which is
+     * stored so later visits see the same terrain. Only called under a chunk claim.
+     */
+    private Chunk loadOrGenerateChunk(int chunkX, int chunkY) {
+        Chunk chunk = multiplayerWorld.getChunk(new Vector2(chunkX, chunkY));
+        if (chunk == null) {
+            chunk = storageSystem.loadChunk(multiplayerWorld.getName(), chunkX, chunkY, biomeManager,
+                multiplayerWorld.getConfig().getSeed());
         }
-    }
-
-    private boolean isValidSpawnPosition(float x, float y) {
-        // Convert to tile coordinates
-        int tileX = (int) (x / World.TILE_SIZE);
-        int tileY = (int) (y / World.TILE_SIZE);
-
-        // Check world bounds
-        if (tileX < 0 || tileX >= World.WORLD_SIZE ||
-            tileY < 0 || tileY >= World.WORLD_SIZE) {
-            return false;
+        if (chunk == null) {
+            chunk = generateChunk(chunkX, chunkY);
+            if (chunk != null) {
+                storageSystem.saveChunk(multiplayerWorld.getName(), chunk);
+            }
         }
-
-        // Get current world
-        WorldData world = worldManager.getCurrentWorld();
-        if (world == null) return false;
-
-        return true;
+        return chunk;
     }
 
-    // Helper method to create broadcast message
-    private NetworkProtocol.WildPokemonSpawn createSpawnBroadcast(WildPokemon pokemon) {
-        NetworkProtocol.WildPokemonSpawn broadcast = new NetworkProtocol.WildPokemonSpawn();
-        broadcast.uuid = pokemon.getUuid();
-        broadcast.x = pokemon.getX();
-        broadcast.y = pokemon.getY();
-
-        // Create PokemonData for network transmission
-        PokemonData pokemonData = new PokemonData();
-        pokemonData.setName(pokemon.getName());
-        pokemonData.setLevel(pokemon.getLevel());
-        pokemonData.setPrimaryType(pokemon.getPrimaryType());
-        pokemonData.setSecondaryType(pokemon.getSecondaryType());
-
-        // Set stats
-        if (pokemon.getStats() != null) {
-            PokemonData.Stats stats = new PokemonData.Stats(pokemon.getStats());
-            pokemonData.setStats(stats);
-        }
-
-        // Set moves
-        List<PokemonData.MoveData> moves = pokemon.getMoves().stream()
-            .map(PokemonData.MoveData::fromMove)
-            .filter(Objects::nonNull)
-            .collect(Collectors.toList());
-        pokemonData.setMoves(moves);
-
-        broadcast.data = pokemonData;
-        broadcast.timestamp = System.currentTimeMillis();
-
-        return broadcast;
+    /**
+     * Background generation of chunk storage, driven from the server console.
+     */
+    public WorldPregenerator getPregenerator() {
+        return pregenerator;
     }
 
-    private WildPokemon createWildPokemon(NetworkProtocol.WildPokemonSpawn spawnRequest) {
-        try {
-            // Create Pokemon from the spawn data
-            WildPokemon pokemon = new WildPokemon(
-                spawnRequest.data.getName(),
-                spawnRequest.data.getLevel(),
-                (int) spawnRequest.x,
-                (int) spawnRequest.y,
-                TextureManager.getOverworldSprite(spawnRequest.data.getName())
-            );
-
-            // Set additional data
-            pokemon.setUuid(spawnRequest.uuid != null ? spawnRequest.uuid : UUID.randomUUID());
-            pokemon.setSpawnTime(System.currentTimeMillis() / 1000L);
-
-            return pokemon;
-        } catch (Exception e) {
-            GameLogger.error("Error creating WildPokemon: " + e.getMessage());
-            return null;
-        }
+    /**
+     * Starts pre-generating every chunk within {@code radius} chunks of the world spawn tile.
+     */
+    public boolean pregenerateAroundSpawn(int radius) {
+        return pregenerator.startRadius(Math.floorDiv(multiplayerWorld.getSpawnX(), Chunk.CHUNK_SIZE),
+            Math.floorDiv(multiplayerWorld.getSpawnY(), Chunk.CHUNK_SIZE), radius);
     }
 
     private void sendLoginSuccess(Connection connection, String username) {
@@ -824,22 +984,16 @@ public class GameServer {
         networkServer.sendToTCP(connection.getID(), response);
     }
 
+    public WildPokemonManager getWildPokemonManager() {
+        return wildPokemonManager;
+    }
+
     public PlayerManager getPlayerManager() {
         return playerManager;
     }
 
-    private void setupNetworkListener() {// In setupNetworkListener()
-        networkServer.addListener(new Listener() {
-            @Override
-            public void received(Connection connection, Object object) {
-                if (object instanceof NetworkProtocol.Keepalive) {
-                    // Echo keepalive back
-                    connection.sendTCP(object);
-                    return;
-                }
-                // Rest of your message handling...
-            }
-        });
+    private void setupNetworkListener() {
+        registerMessageHandlers();
         networkServer.addListener(new Listener() {
             @Override
             public void connected(Connection connection) {
@@ -882,26 +1036,7 @@ public class GameServer {
 
             @Override
             public void received(Connection connection, Object object) {
-                GameLogger.error("Received message : " + object.toString());
-                try {
-                    if (object instanceof NetworkProtocol.LoginRequest) {
-                        handleLoginRequest(connection, (NetworkProtocol.LoginRequest) object);
-                    } else if (object instanceof NetworkProtocol.RegisterRequest) {
-                        handleRegisterRequest(connection, (NetworkProtocol.RegisterRequest) object);
-                    } else if (!connectedPlayers.containsKey(connection.getID())) {
-                        GameLogger.error("Received unauthorized message from: " + connection.getID());
-                    } else if (object instanceof NetworkProtocol.ServerInfoRequest) {
-                        handleServerInfoRequest(connection, (NetworkProtocol.ServerInfoRequest) object);
-                    } else if (object instanceof NetworkProtocol.Logout) {
-
-                        handleLogout(connection, (NetworkProtocol.Logout) object);
-                    } else {
-                        handleNetworkMessage(connection, object);
-                    }
-                } catch (Exception e) {
-                    GameLogger.error("Error handling message: " + e.getMessage());
-                    e.printStackTrace();
-                }
+                dispatcher.dispatch(connection, object);
             }
 
             @Override
@@ -913,6 +1048,73 @@ public class GameServer {
         });
     }
 
+    private void registerMessageHandlers() {
+        dispatcher.setExecutor(MessageDispatcher.Affinity.GAME_TICK, gameExecutor);
+        dispatcher.setExecutor(MessageDispatcher.Affinity.AUTH, authExecutor);
+        dispatcher.setAuthCheck(connection -> connectedPlayers.containsKey(connection.getID()));
+        dispatcher.setUnauthorizedHandler((connection, message) ->
+            GameLogger.error("Received unauthorized message from: " + connection.getID()));
+
+        dispatcher.register(NetworkProtocol.Keepalive.class, MessageDispatcher.Affinity.NETWORK, false,
+            this::handleKeepalive);
+        dispatcher.register(NetworkProtocol.LoginRequest.class, MessageDispatcher.Affinity.AUTH, false,
+            this::handleLoginRequest);
+        dispatcher.register(NetworkProtocol.RegisterRequest.class, MessageDispatcher.Affinity.AUTH, false,
+            this::handleRegisterRequest);
+
+        dispatcher.register(NetworkProtocol.ServerInfoRequest.class, MessageDispatcher.Affinity.NETWORK,
+            this::handleServerInfoRequest);
+        dispatcher.register(NetworkProtocol.Logout.class, MessageDispatcher.Affinity.GAME_TICK, this::handleLogout);
+        dispatcher.register(NetworkProtocol.UsernameCheckRequest.class, MessageDispatcher.Affinity.AUTH,
+            this::handleUsernameCheckRequest);
+        dispatcher.register(NetworkProtocol.ChunkRequest.class, MessageDispatcher.Affinity.GAME_TICK,
+            this::handleChunkRequest);
+        dispatcher.register(NetworkProtocol.PlayerStateDelta.class, MessageDispatcher.Affinity.GAME_TICK,
+            this::handlePlayerStateDelta);
+        // Older clients still upload their whole world; the server's copy is authoritative
+        dispatcher.register(NetworkProtocol.WorldStateUpdate.class, MessageDispatcher.Affinity.NETWORK,
+            (connection, update) -> IGNORED_WORLD_UPLOADS.increment());
+        dispatcher.register(NetworkProtocol.PlayerUpdate.class, MessageDispatcher.Affinity.GAME_TICK,
+            (connection, update) -> {
+                // Inventory goes through InventoryOp now; never relay it to every client
+                update.inventoryItems = null;
+                update.hotbarItems = null;
+                if (validateUpdate(update)) {
+                    pendingUpdates.offer(update);
+                }
+                handlePlayerUpdate(connection, update);
+            });
+        // A whole inventory from the client is never trusted; changes arrive as ops and requests
+        dispatcher.register(NetworkProtocol.InventoryUpdate.class, MessageDispatcher.Affinity.NETWORK,
+            (connection, update) -> IGNORED_INVENTORY_UPLOADS.increment());
+        // Ops and requests share sequence numbers, so they must stay on one executor
+        dispatcher.register(NetworkProtocol.InventoryOp.class, MessageDispatcher.Affinity.GAME_TICK,
+            this::handleInventoryOp);
+        dispatcher.register(NetworkProtocol.CraftRequest.class, MessageDispatcher.Affinity.GAME_TICK,
+            this::handleCraftRequest);
+        dispatcher.register(NetworkProtocol.PickupRequest.class, MessageDispatcher.Affinity.GAME_TICK,
+            this::handlePickupRequest);
+        dispatcher.register(NetworkProtocol.ChatMessage.class, MessageDispatcher.Affinity.GAME_TICK,
+            this::handleChatMessage);
+        // Wild Pokemon are spawned by the server only
+        dispatcher.register(NetworkProtocol.WildPokemonSpawn.class, MessageDispatcher.Affinity.NETWORK,
+            (connection, spawn) -> GameLogger.error("Ignoring wild Pokemon spawn from connection " + connection.getID()));
+        dispatcher.register(NetworkProtocol.PokemonSpawnRequest.class, MessageDispatcher.Affinity.GAME_TICK,
+            (connection, request) -> wildPokemonManager.resendSpawn(connection.getID(), request.uuid));
+    }
+
+    private void handleKeepalive(Connection connection, NetworkProtocol.Keepalive keepalive) {
+        ConnectionState state = connectionStates.get(connection.getID());
+        if (state != null) {
+            state.lastKeepAliveReceived = System.currentTimeMillis();
+        }
+        connection.sendTCP(keepalive);
+    }
+
+    public MessageDispatcher<Connection> getMessageDispatcher() {
+        return dispatcher;
+    }
+
     private void handleLogout(Connection connection, NetworkProtocol.Logout logout) {
         String username = connectedPlayers.get(connection.getID());
         if (username != null && username.equals(logout.username)) {
@@ -920,6 +1122,7 @@ public class GameServer {
                 // Save final state
                 ServerPlayer player = playerManager.getPlayer(username);
                 if (player != null) {
+                    player.returnCursorItems();
                     PlayerData finalState = player.getData();
                     WorldData worldData = worldManager.getCurrentWorld();
                     if (worldData != null) {
@@ -1057,11 +1260,13 @@ public class GameServer {
             // Load plugins
             pluginManager.loadPlugins();
             pluginManager.enablePlugins();
+            pluginManager.startTicking();
             GameLogger.info("Plugins loaded");
 
             // Register network classes
             NetworkProtocol.registerClasses(networkServer.getKryo());
             GameLogger.info("Network classes registered");
+            measureLegacyWorldUpload();
 
             networkServer.start();
 
@@ -1070,6 +1275,9 @@ public class GameServer {
             broadcastPlayerStates();
 
             monitorConnections();
+
+            startWildPokemonSimulation();
+            pregenerator.resume();
             networkServer.bind(config.getTcpPort(), config.getUdpPort());
             running = true;
 
@@ -1099,6 +1307,28 @@ public class GameServer {
                 GameLogger.error("Error in periodic tasks: " + e.getMessage());
             }
         }, CLEANUP_INTERVAL, CLEANUP_INTERVAL, TimeUnit.MILLISECONDS);
+
+        scheduler.scheduleAtFixedRate(() -> {
+            try {
+                flushDirtyPlayers();
+            } catch (Exception e) {
+                GameLogger.error("Error saving player data: " + e.getMessage());
+            }
+        }, PLAYER_FLUSH_INTERVAL, PLAYER_FLUSH_INTERVAL, TimeUnit.MILLISECONDS);
+
+        // Which messages the server spends its time on
+        scheduler.scheduleAtFixedRate(() ->
+                GameLogger.info("Message dispatch stats:\n" + dispatcher.formatStats()),
+            CLEANUP_INTERVAL, CLEANUP_INTERVAL, TimeUnit.MILLISECONDS);
+        // Measured on the game thread so the world is not serialized while it changes
+        scheduler.scheduleAtFixedRate(() -> gameExecutor.execute(() -> {
+                try {
+                    logTrafficReport();
+                } catch (Exception e) {
+                    GameLogger.error("Error reporting traffic: " + e.getMessage());
+                }
+            }),
+            CLEANUP_INTERVAL, CLEANUP_INTERVAL, TimeUnit.MILLISECONDS);
     }
 
     private boolean isPortAvailable(int port) {
@@ -1115,6 +1345,8 @@ public class GameServer {
         running = false;
 
         GameLogger.info("Shutting down server...");
+        pregenerator.stop();
+        flushDirtyPlayers();
 
         // Save all world data
         worldManager.getWorlds().forEach((name, world) -> {
@@ -1140,58 +1372,19 @@ public class GameServer {
             }
         });
         pluginManager.disablePlugins();
+        pluginManager.shutdown();
         eventManager.shutdown();
         storage.shutdown();
         if (networkServer != null) {
             networkServer.stop();
         }
+        gameExecutor.shutdown();
+        authExecutor.shutdown();
+        chunkExecutor.shutdown();
 
         GameLogger.info("Server shutdown complete.");
     }
 
-    private void handleNetworkMessage(Connection connection, Object object) {
-        try {
-            if (object instanceof NetworkProtocol.Keepalive) {
-                // Update the connection state's last keepalive time
-                ConnectionState state = connectionStates.get(connection.getID());
-                if (state != null) {
-                    state.lastKeepAliveReceived = System.currentTimeMillis();
-                }
-                // Echo keepalive back to client
-                connection.sendTCP(object);
-                return;
-            } else if (object instanceof NetworkProtocol.ChunkRequest) {
-                handleChunkRequest(connection, (NetworkProtocol.ChunkRequest) object);
-            }
-            if (object instanceof NetworkProtocol.PlayerUpdate) {
-                NetworkProtocol.PlayerUpdate update = (NetworkProtocol.PlayerUpdate) object;
-                if (validateUpdate(update)) {
-                    pendingUpdates.offer(update);
-                }
-                handlePlayerUpdate(connection, update);
-                return;
-            }
-            GameLogger.info("Server received message: " + object.getClass().getName());
-            if (object instanceof NetworkProtocol.LoginRequest) {
-                handleLoginRequest(connection, (NetworkProtocol.LoginRequest) object);
-            } else if (object instanceof NetworkProtocol.RegisterRequest) {
-                handleRegisterRequest(connection, (NetworkProtocol.RegisterRequest) object);
-            } else if (object instanceof NetworkProtocol.InventoryUpdate) {
-                handleInventoryUpdate(connection, (NetworkProtocol.InventoryUpdate) object);
-            } else if (object instanceof NetworkProtocol.ChatMessage) {
-                handleChatMessage(connection, (NetworkProtocol.ChatMessage) object);
-            } else if (object instanceof NetworkProtocol.UsernameCheckRequest) {
-                handleUsernameCheckRequest(connection, (NetworkProtocol.UsernameCheckRequest) object);
-            } else if (object instanceof NetworkProtocol.WildPokemonSpawn) {
-                handlePokemonSpawn(connection, (NetworkProtocol.WildPokemonSpawn) object);
-            }
-
-        } catch (Exception e) {
-            GameLogger.error("Error handling network message: " + e.getMessage());
-            e.printStackTrace();
-        }
-    }
-
     private int selectTileTypeFromNoise(Biome primaryBiome, Biome secondaryBiome,
                                         float noise, float elevation, float transitionFactor) {
 
@@ -1324,23 +1517,20 @@ public class GameServer {
                 return;
             }
 
-            Vector2 chunkPos = new Vector2(request.chunkX, request.chunkY);
-            Chunk chunk = multiplayerWorld.getChunk(chunkPos);
-
-            if (chunk == null) {
-                chunk = generateChunk(request.chunkX, request.chunkY);
-            }
-
-            if (chunk != null) {
-                NetworkProtocol.ChunkData response = new NetworkProtocol.ChunkData();
-                response.chunkX = request.chunkX;
-                response.chunkY = request.chunkY;
-                response.biomeType = chunk.getBiome().getType();
-                response.tileData = chunk.getTileData();
-
-                GameLogger.info("Sending chunk data for: " + chunkPos + " to: " + username);
-                connection.sendTCP(response);
-            }
+            // A miss is answered from the chunk pool once the chunk is loaded
+            requestChunk(request.chunkX, request.chunkY).thenAccept(chunk -> {
+                if (chunk != null && connection.isConnected()) {
+                    NetworkProtocol.ChunkData response = new NetworkProtocol.ChunkData();
+                    response.chunkX = request.chunkX;
+                    response.chunkY = request.chunkY;
+                    response.biomeType = chunk.getBiome().getType();
+                    response.tileData = chunk.getTileData();
+
+                    GameLogger.info("Sending chunk data for: " + request.chunkX + "," + request.chunkY
+                        + " to: " + username);
+                    connection.sendTCP(response);
+                }
+            });
 
         } catch (Exception e) {
             GameLogger.error("Error handling chunk request: " + e.getMessage());
@@ -1348,14 +1538,17 @@ public class GameServer {
     }
 
     private Chunk generateChunk(int chunkX, int chunkY) {
+        long start = System.nanoTime();
         try {
-            BiomeTransitionResult biomeTransition = biomeManager.getBiomeAt(
+            BiomeTransitionResult biomeTransition = biomeManager.computeBiomeAt(
                 chunkX * World.CHUNK_SIZE * World.TILE_SIZE,
                 chunkY * World.CHUNK_SIZE * World.TILE_SIZE
             );
 
             Biome biome = biomeTransition.getPrimaryBiome();
-            return new Chunk(chunkX, chunkY, biome, multiplayerWorld.getConfig().getSeed(), biomeManager);
+            Chunk chunk = new Chunk(chunkX, chunkY, biome, multiplayerWorld.getConfig().getSeed(), biomeManager);
+            CHUNK_GENERATE_TIME.recordSince(start);
+            return chunk;
         } catch (Exception e) {
             GameLogger.error("Failed to generate chunk: " + e.getMessage());
             return null;
@@ -1625,26 +1818,102 @@ public class GameServer {
         }
     }
 
-    private void handleInventoryUpdate(Connection connection, NetworkProtocol.InventoryUpdate update) {
+    private void handleInventoryOp(Connection connection, NetworkProtocol.InventoryOp op) {
         String username = connectedPlayers.get(connection.getID());
-        if (username == null || !username.equals(update.username)) return;
+        ServerPlayer player = username != null ? playerManager.getPlayer(username) : null;
+        if (player == null) return;
+
+        NetworkProtocol.InventoryAck ack = player.applyInventoryOp(op);
+        if (ack == null) return;
+        if (ack.accepted) {
+            INVENTORY_OPS_ACCEPTED.increment();
+            dirtyPlayers.add(username);
+        } else {
+            INVENTORY_OPS_REJECTED.increment();
+            GameLogger.info("Rejected inventory " + op.type + " #" + op.sequence + " from " + username);
+        }
+        connection.sendTCP(ack);
+    }
 
-        ServerPlayer player = playerManager.getPlayer(username);
-        if (player != null) {
-            player.updateInventory(update);
-
-            // Save to world data
-            WorldData worldData = worldManager.getCurrentWorld();
-            if (worldData != null) {
-                PlayerData playerData = worldData.getPlayerData(username);
-                if (playerData != null) {
-                    playerData.setInventoryItems(Arrays.asList(update.inventoryItems));
-                    worldData.savePlayerData(username, playerData); // FIX PLEASE LOL CODE:YEAH
-                }
-            }
+    private void handleCraftRequest(Connection connection, NetworkProtocol.CraftRequest request) {
+        String username = connectedPlayers.get(connection.getID());
+        ServerPlayer player = username != null ? playerManager.getPlayer(username) : null;
+        if (player == null) return;
+
+        sendInventoryAck(connection, username, player.craft(request.sequence, request.grid));
+    }
+
+    /**
+     * Pokeballs are placed by each client, so the server cannot check that one lay on the tile.
+     * It checks that the tile is within reach, limits the rate and picks the item itself.
+     */
+    private void handlePickupRequest(Connection connection, NetworkProtocol.PickupRequest request) {
+        String username = connectedPlayers.get(connection.getID());
+        ServerPlayer player = username != null ? playerManager.getPlayer(username) : null;
+        if (player == null) return;
+
+        Vector2 position = player.getPosition();
+        float dx = (request.tileX + 0.5f) * World.TILE_SIZE - position.x;
+        float dy = (request.tileY + 0.5f) * World.TILE_SIZE - position.y;
+        // Positions are the sprite's corner; allow a tile of slack over the client's own check
+        float reach = World.INTERACTION_RANGE + World.TILE_SIZE;
+        long now = System.currentTimeMillis();
+        NetworkProtocol.InventoryAck ack;
+        if (dx * dx + dy * dy > reach * reach
+            || !player.claimPickup(now, PICKUP_COOLDOWN_MILLIS)
+            || !claimPickupTile(request.tileX, request.tileY, now)) {
+            ack = player.refuse(request.sequence);
+        } else {
+            List<String> itemIds = ItemManager.getStandardItemIds();
+            String itemId = itemIds.get(ThreadLocalRandom.current().nextInt(itemIds.size()));
+            ack = player.grant(request.sequence, itemId, 1);
+        }
+        sendInventoryAck(connection, username, ack);
+    }
 
-            // Broadcast to other clients
-            networkServer.sendToAllExceptTCP(connection.getID(), update);
+    /**
+     * Pokeballs are spawned by clients, so the server has no record of them. Instead it remembers
+     * each tile it granted a pickup on and refuses the tile again until a pokeball there would
+     * have despawned, so one pokeball can't be redeemed twice.
+     */
+    private boolean claimPickupTile(int tileX, int tileY, long now) {
+        if (consumedPickupTiles.size() >= PICKUP_TILE_PRUNE_SIZE) {
+            consumedPickupTiles.values().removeIf(pickedUp -> now - pickedUp >= PICKUP_TILE_RESPAWN_MILLIS);
+        }
+        long tile = ((long) tileX << 32) | (tileY & 0xFFFFFFFFL);
+        Long pickedUp = consumedPickupTiles.get(tile);
+        if (pickedUp != null && now - pickedUp < PICKUP_TILE_RESPAWN_MILLIS) {
+            return false;
+        }
+        consumedPickupTiles.put(tile, now);
+        return true;
+    }
+
+    private void sendInventoryAck(Connection connection, String username, NetworkProtocol.InventoryAck ack) {
+        if (ack == null) return;
+        if (ack.accepted) {
+            INVENTORY_OPS_ACCEPTED.increment();
+            dirtyPlayers.add(username);
+        } else {
+            INVENTORY_OPS_REJECTED.increment();
+            GameLogger.info("Rejected inventory request #" + ack.sequence + " from " + username);
+        }
+        connection.sendTCP(ack);
+    }
+
+    /**
+     * Writes each player whose inventory changed since the last flush back to the world, once.
+     */
+    private void flushDirtyPlayers() {
+        WorldData worldData = worldManager.getCurrentWorld();
+        if (worldData == null) return;
+        for (Iterator<String> it = dirtyPlayers.iterator(); it.hasNext(); ) {
+            String username = it.next();
+            it.remove();
+            ServerPlayer player = playerManager.getPlayer(username);
+            if (player != null) {
+                worldData.savePlayerData(username, player.getData());
+            }
         }
     }
 
@@ -17,6 +17,11 @@ public class PlayerEvents {
             return "PlayerLogin";
         }
 
+        @Override
+        public Object getOrderingKey() {
+            return player.getUsername();
+        }
+
         public ServerPlayer getPlayer() {
             return player;
         }
@@ -34,6 +39,11 @@ public class PlayerEvents {
             return "PlayerLogout";
         }
 
+        @Override
+        public Object getOrderingKey() {
+            return player.getUsername();
+        }
+
         public ServerPlayer getPlayer() {
             return player;
         }
@@ -2,14 +2,21 @@ package io.github.pokemeetup.multiplayer.server;
 
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonWriter;
+import io.github.pokemeetup.FileSystemDelegate;
+import io.github.pokemeetup.managers.BiomeManager;
 import io.github.pokemeetup.system.data.PlayerData;
 import io.github.pokemeetup.system.data.WorldData;
+import io.github.pokemeetup.system.gameplay.overworld.Chunk;
+import io.github.pokemeetup.system.gameplay.overworld.World;
 import io.github.pokemeetup.utils.GameLogger;
+import io.github.pokemeetup.utils.metrics.Histogram;
+import io.github.pokemeetup.utils.metrics.MetricsRegistry;
 import io.github.pokemeetup.utils.storage.GameFileSystem;
 import io.github.pokemeetup.utils.storage.JsonConfig;
 
 import java.io.IOException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -19,6 +26,18 @@ public class ServerStorageSystem {
     private static final String SERVER_BASE_DIR = "server/";
     private static final String SERVER_WORLD_DIR = SERVER_BASE_DIR + "worlds/";
     private static final String SERVER_PLAYER_DIR = SERVER_BASE_DIR + "players/";
+    private static final Histogram WORLD_LOAD_TIME = MetricsRegistry.getInstance().histogram("storage.world.load");
+    private static final Histogram WORLD_SAVE_TIME = MetricsRegistry.getInstance().histogram("storage.world.save");
+    private static final Histogram PLAYER_LOAD_TIME = MetricsRegistry.getInstance().histogram("storage.player.load");
+    private static final Histogram PLAYER_SAVE_TIME = MetricsRegistry.getInstance().histogram("storage.player.save");
+    private static final Histogram CHUNK_LOAD_TIME = MetricsRegistry.getInstance().histogram("storage.chunk.load");
+    private static final Histogram CHUNK_SAVE_TIME = MetricsRegistry.getInstance().histogram("storage.chunk.save");
+    // Chunks are read and written from the game thread and the pre-generation workers
+    private static final ThreadLocal<Json> CHUNK_JSON = ThreadLocal.withInitial(() -> {
+        Json json = new Json();
+        json.setOutputType(JsonWriter.OutputType.json);
+        return json;
+    });
     private final String baseDir;
     private final Json json;
     private final Map<String, WorldData> worldCache;
@@ -57,6 +76,7 @@ public class ServerStorageSystem {
             return cached;
         }
 
+        long start = System.nanoTime();
         try {
             String worldPath = SERVER_WORLD_DIR + name + "/world.json";
             if (!fs.exists(worldPath)) {
@@ -69,6 +89,7 @@ public class ServerStorageSystem {
 
             if (world != null) {
                 worldCache.put(name, world);
+                WORLD_LOAD_TIME.recordSince(start);
                 GameLogger.info("Loaded world from server storage: " + name);
             }
 
@@ -82,6 +103,7 @@ public class ServerStorageSystem {
     public synchronized void saveWorld(WorldData world) {
         if (world == null) return;
 
+        long start = System.nanoTime();
         try {
             String worldPath = SERVER_WORLD_DIR + world.getName() + "/";
             fs.createDirectory(worldPath);
@@ -104,6 +126,7 @@ public class ServerStorageSystem {
 
             // Update cache
             worldCache.put(world.getName(), world);
+            WORLD_SAVE_TIME.recordSince(start);
 
             GameLogger.info("Saved world to server storage: " + world.getName());
         } catch (Exception e) {
@@ -118,11 +141,13 @@ public class ServerStorageSystem {
             return;
         }
 
+        long start = System.nanoTime();
         try {
             String path = SERVER_PLAYER_DIR + username + ".json";
             String jsonData = json.prettyPrint(playerData);
             fs.writeString(path, jsonData);
             playerCache.put(username, playerData);
+            PLAYER_SAVE_TIME.recordSince(start);
             GameLogger.info("Saved player data for: " + username);
         } catch (Exception e) {
             GameLogger.error("Failed to save player data for: " + username);
@@ -150,6 +175,7 @@ public class ServerStorageSystem {
             return playerCache.get(username);
         }
 
+        long start = System.nanoTime();
         try {
             String path = SERVER_PLAYER_DIR + username + ".json";
             if (!fs.exists(path)) {
@@ -159,6 +185,7 @@ public class ServerStorageSystem {
             String jsonData = fs.readString(path);
             PlayerData playerData = json.fromJson(PlayerData.class, jsonData);
             playerCache.put(username, playerData);
+            PLAYER_LOAD_TIME.recordSince(start);
             return playerData;
         } catch (Exception e) {
             GameLogger.error("Failed to load player data for: " + username);
@@ -166,6 +193,65 @@ public class ServerStorageSystem {
         }
     }
 
+    /**
+     * Directory holding one file per generated chunk of a world.
+     */
+    public String getChunkDirectory(String worldName) {
+        return SERVER_WORLD_DIR + worldName + "/chunks/";
+    }
+
+    public boolean hasChunk(String worldName, int chunkX, int chunkY) {
+        return fs.exists(chunkPath(worldName, chunkX, chunkY));
+    }
+
+    /**
+     * Writes a chunk's terrain in the same record format the client uses for its chunk files.
+     * The record goes to a temporary file that is then renamed over the chunk file, so a reader
+     * never sees a partial chunk. Chunk reads and writes skip the file system's per-file info
+     * logging, which pre-generation would otherwise repeat for every chunk.
+     */
+    public void saveChunk(String worldName, Chunk chunk) {
+        long start = System.nanoTime();
+        try {
+            World.ChunkData data = new World.ChunkData(chunk, new ArrayList<>(), true);
+            String path = chunkPath(worldName, chunk.getChunkX(), chunk.getChunkY());
+            String tempPath = path + ".tmp";
+            FileSystemDelegate files = fs.getDelegate();
+            files.writeString(tempPath, CHUNK_JSON.get().toJson(data));
+            files.moveFile(tempPath, path);
+            CHUNK_SAVE_TIME.recordSince(start);
+        } catch (Exception e) {
+            GameLogger.error("Failed to save chunk " + chunk.getChunkX() + "," + chunk.getChunkY()
+                + " of world " + worldName + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * @return the stored chunk, or null if it was never saved or cannot be read
+     */
+    public Chunk loadChunk(String worldName, int chunkX, int chunkY, BiomeManager biomeManager, long worldSeed) {
+        String path = chunkPath(worldName, chunkX, chunkY);
+        if (!fs.exists(path)) {
+            return null;
+        }
+        long start = System.nanoTime();
+        try {
+            World.ChunkData data = CHUNK_JSON.get().fromJson(World.ChunkData.class, fs.getDelegate().readString(path));
+            data.validate();
+            Chunk chunk = new Chunk(chunkX, chunkY, biomeManager.getBiome(data.biomeType), worldSeed,
+                biomeManager, data.tileData);
+            CHUNK_LOAD_TIME.recordSince(start);
+            return chunk;
+        } catch (Exception e) {
+            GameLogger.error("Failed to load chunk " + chunkX + "," + chunkY + " of world " + worldName + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private String chunkPath(String worldName, int chunkX, int chunkY) {
+        return getChunkDirectory(worldName) + "chunk_" + chunkX + "_" + chunkY + ".json";
+    }
+
     private void createWorldBackup(WorldData world) {
         try {
             String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
@@ -0,0 +1,474 @@
+package io.github.pokemeetup.multiplayer.server;
+
+import io.github.pokemeetup.multiplayer.network.NetworkProtocol;
+import io.github.pokemeetup.system.data.PokemonData;
+import io.github.pokemeetup.system.gameplay.overworld.Chunk;
+import io.github.pokemeetup.system.gameplay.overworld.World;
+import io.github.pokemeetup.system.gameplay.overworld.pathfinding.PathRequest;
+import io.github.pokemeetup.system.gameplay.overworld.pathfinding.PathfindingService;
+import io.github.pokemeetup.system.gameplay.overworld.pathfinding.TileDirections;
+import io.github.pokemeetup.system.gameplay.overworld.pathfinding.TilePath;
+import io.github.pokemeetup.system.gameplay.overworld.pathfinding.WalkableGrid;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Server-authoritative wild Pokemon. The server is the only place wild Pokemon spawn, move and
+ * despawn, so the population no longer grows with the number of connected clients:
+ * <ul>
+ *     <li>Chunks within {@link #ACTIVE_CHUNK_RADIUS} of any player are active. Only active
+ *     chunks spawn, hold at most {@link #MAX_POKEMON_PER_CHUNK} Pokemon and run AI; Pokemon
+ *     in chunks no player is near are despawned.</li>
+ *     <li>Each {@link #tick()} advances the simulation by {@link #TICK_SECONDS}. Pokemon wander
+ *     tile by tile along paths from a time-sliced {@link PathfindingService}.</li>
+ *     <li>Every connection gets a full {@link NetworkProtocol.WildPokemonSpawn} when a Pokemon
+ *     comes into its range, a {@link NetworkProtocol.WildPokemonDespawn} when it leaves, and
+ *     otherwise only a {@link NetworkProtocol.WildPokemonStates} batch of the Pokemon whose
+ *     tile, direction or moving flag changed.</li>
+ * </ul>
+ * All public methods are synchronized; network threads update observers while the server
+ * scheduler ticks.
+ */
+public class WildPokemonManager {
+    public static final float TICK_SECONDS = 0.1f;
+    public static final int MAX_POKEMON_PER_CHUNK = 3;
+    public static final int ACTIVE_CHUNK_RADIUS = 2;
+    private static final float SPAWN_CHANCE_PER_TICK = 0.02f;
+    private static final int SPAWN_ATTEMPTS = 4;
+    private static final float DESPAWN_SECONDS = 120f; // PokemonSpawnManager.POKEMON_DESPAWN_TIME
+    private static final float STEP_SECONDS = 0.75f; // WildPokemon.MOVEMENT_DURATION
+    private static final int WANDER_RADIUS = 6;
+    private static final float MIN_IDLE_SECONDS = 1.5f;
+    private static final float MAX_IDLE_SECONDS = 4f;
+    private static final byte MOVING_FLAG = 0x4;
+
+    /**
+     * Picks what spawns where. Species may be null to skip the spawn.
+     */
+    public interface SpawnRules {
+        String selectSpecies(int tileX, int tileY, Random random);
+
+        int selectLevel(int tileX, int tileY, Random random);
+    }
+
+    public interface Transport {
+        void send(int connectionId, Object message);
+    }
+
+    private static final class Creature {
+        final UUID uuid = UUID.randomUUID();
+        final int netId;
+        final String name;
+        final int level;
+        final long spawnTick;
+        final long spawnTimeMillis;
+        ChunkPopulation chunk;
+        int tileX;
+        int tileY;
+        int direction = 1; // down
+        boolean moving;
+        int version;
+        float moveTimer;
+        float idleTimer;
+        PathRequest pathRequest;
+
+        Creature(int netId, String name, int level, int tileX, int tileY, long spawnTick) {
+            this.netId = netId;
+            this.name = name;
+            this.level = level;
+            this.tileX = tileX;
+            this.tileY = tileY;
+            this.spawnTick = spawnTick;
+            this.spawnTimeMillis = System.currentTimeMillis();
+        }
+    }
+
+    private static final class ChunkPopulation {
+        final int chunkX;
+        final int chunkY;
+        final List<Creature> creatures = new ArrayList<>(MAX_POKEMON_PER_CHUNK);
+        long activeTick;
+
+        ChunkPopulation(int chunkX, int chunkY) {
+            this.chunkX = chunkX;
+            this.chunkY = chunkY;
+        }
+    }
+
+    private static final class Observer {
+        final int connectionId;
+        int tileX;
+        int tileY;
+        // Pokemon this connection has been sent, with the state version it last saw
+        Map<Creature, Integer> known = new HashMap<>();
+        Map<Creature, Integer> seen = new HashMap<>();
+        int[] netIds = new int[16];
+        int[] tileXs = new int[16];
+        int[] tileYs = new int[16];
+        byte[] flags = new byte[16];
+        int stateCount;
+
+        Observer(int connectionId) {
+            this.connectionId = connectionId;
+        }
+    }
+
+    private final WalkableGrid grid;
+    private final SpawnRules spawnRules;
+    private final Transport transport;
+    private final PathfindingService pathfinding;
+    private final Random random;
+
+    private final Map<Integer, Observer> observers = new HashMap<>();
+    private final Map<Long, ChunkPopulation> chunks = new HashMap<>();
+    private final Map<Long, Creature> occupiedTiles = new HashMap<>();
+    private final Map<UUID, Creature> creaturesByUuid = new HashMap<>();
+    private final List<Creature> creatures = new ArrayList<>();
+    private final List<Creature> removals = new ArrayList<>();
+    private int nextNetId = 1;
+    private long tick;
+
+    private volatile long lastTickNanos;
+    private volatile long messagesSent;
+    private volatile long stateEntriesSent;
+
+    public WildPokemonManager(WalkableGrid grid, SpawnRules spawnRules, Transport transport, long seed) {
+        this.grid = grid;
+        this.spawnRules = spawnRules;
+        this.transport = transport;
+        this.pathfinding = new PathfindingService(grid);
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Sets a connection's player position in pixels, adding the connection if it is new.
+     */
+    public synchronized void updateObserver(int connectionId, float pixelX, float pixelY) {
+        Observer observer = observers.computeIfAbsent(connectionId, Observer::new);
+        observer.tileX = (int) Math.floor(pixelX / World.TILE_SIZE);
+        observer.tileY = (int) Math.floor(pixelY / World.TILE_SIZE);
+    }
+
+    public synchronized void removeObserver(int connectionId) {
+        observers.remove(connectionId);
+    }
+
+    /**
+     * Sends a Pokemon's spawn message again, for a client that got a state for a Pokemon it
+     * does not know.
+     */
+    public synchronized void resendSpawn(int connectionId, UUID uuid) {
+        Observer observer = observers.get(connectionId);
+        Creature creature = creaturesByUuid.get(uuid);
+        if (observer != null && creature != null) {
+            send(observer, createSpawnMessage(creature));
+            observer.known.put(creature, creature.version);
+        }
+    }
+
+    public synchronized void tick() {
+        long start = System.nanoTime();
+        tick++;
+        markActiveChunks();
+        updatePopulations();
+        pathfinding.update();
+        updateCreatures();
+        replicate();
+        lastTickNanos = System.nanoTime() - start;
+    }
+
+    private void markActiveChunks() {
+        for (Observer observer : observers.values()) {
+            int chunkX = Math.floorDiv(observer.tileX, Chunk.CHUNK_SIZE);
+            int chunkY = Math.floorDiv(observer.tileY, Chunk.CHUNK_SIZE);
+            for (int dx = -ACTIVE_CHUNK_RADIUS; dx <= ACTIVE_CHUNK_RADIUS; dx++) {
+                for (int dy = -ACTIVE_CHUNK_RADIUS; dy <= ACTIVE_CHUNK_RADIUS; dy++) {
+                    int cx = chunkX + dx;
+                    int cy = chunkY + dy;
+                    chunks.computeIfAbsent(key(cx, cy), k -> new ChunkPopulation(cx, cy)).activeTick = tick;
+                }
+            }
+        }
+    }
+
+    private void updatePopulations() {
+        long despawnTicks = (long) (DESPAWN_SECONDS / TICK_SECONDS);
+        Iterator<ChunkPopulation> iterator = chunks.values().iterator();
+        while (iterator.hasNext()) {
+            ChunkPopulation population = iterator.next();
+            boolean active = population.activeTick == tick;
+            for (int i = population.creatures.size() - 1; i >= 0; i--) {
+                Creature creature = population.creatures.get(i);
+                if (!active || tick - creature.spawnTick >= despawnTicks) {
+                    removeCreature(creature);
+                }
+            }
+            if (!active) {
+                iterator.remove();
+            } else if (population.creatures.size() < MAX_POKEMON_PER_CHUNK
+                && random.nextFloat() < SPAWN_CHANCE_PER_TICK) {
+                trySpawn(population);
+            }
+        }
+        if (!removals.isEmpty()) {
+            creatures.removeAll(removals);
+            removals.clear();
+        }
+    }
+
+    private void trySpawn(ChunkPopulation population) {
+        for (int attempt = 0; attempt < SPAWN_ATTEMPTS; attempt++) {
+            int tileX = population.chunkX * Chunk.CHUNK_SIZE + random.nextInt(Chunk.CHUNK_SIZE);
+            int tileY = population.chunkY * Chunk.CHUNK_SIZE + random.nextInt(Chunk.CHUNK_SIZE);
+            if (!grid.isWalkable(tileX, tileY) || occupiedTiles.containsKey(key(tileX, tileY))) {
+                continue;
+            }
+            String species = spawnRules.selectSpecies(tileX, tileY, random);
+            if (species == null) {
+                return;
+            }
+            Creature creature = new Creature(nextNetId++, species,
+                spawnRules.selectLevel(tileX, tileY, random), tileX, tileY, tick);
+            creature.chunk = population;
+            creature.idleTimer = nextIdleSeconds();
+            population.creatures.add(creature);
+            occupiedTiles.put(key(tileX, tileY), creature);
+            creaturesByUuid.put(creature.uuid, creature);
+            creatures.add(creature);
+            return;
+        }
+    }
+
+    private void removeCreature(Creature creature) {
+        creature.chunk.creatures.remove(creature);
+        occupiedTiles.remove(key(creature.tileX, creature.tileY));
+        creaturesByUuid.remove(creature.uuid);
+        if (creature.pathRequest != null) {
+            creature.pathRequest.cancel();
+        }
+        removals.add(creature);
+    }
+
+    private void updateCreatures() {
+        for (int i = 0; i < creatures.size(); i++) {
+            Creature creature = creatures.get(i);
+            if (creature.moveTimer > 0) {
+                creature.moveTimer -= TICK_SECONDS;
+                if (creature.moveTimer > 0) {
+                    continue;
+                }
+            }
+
+            // Step finished: chain straight into the next step so walking stays one state change
+            if (creature.pathRequest != null && creature.pathRequest.isDone()) {
+                if (followPath(creature)) {
+                    continue;
+                }
+                creature.pathRequest = null;
+                creature.idleTimer = nextIdleSeconds();
+            }
+            if (creature.moving) {
+                creature.moving = false;
+                creature.version++;
+            }
+            if (creature.pathRequest == null) {
+                creature.idleTimer -= TICK_SECONDS;
+                if (creature.idleTimer <= 0) {
+                    creature.pathRequest = pathfinding.requestPath(creature.tileX, creature.tileY,
+                        creature.tileX + random.nextInt(WANDER_RADIUS * 2 + 1) - WANDER_RADIUS,
+                        creature.tileY + random.nextInt(WANDER_RADIUS * 2 + 1) - WANDER_RADIUS);
+                }
+            }
+        }
+    }
+
+    private boolean followPath(Creature creature) {
+        if (!creature.pathRequest.isFound()) {
+            return false;
+        }
+        TilePath path = creature.pathRequest.getPath();
+        if (!path.hasNext()) {
+            return false;
+        }
+        int nextX = path.nextX();
+        int nextY = path.nextY();
+        // Paths are planned against terrain only, so other Pokemon, inactive chunks and chunks
+        // already at their cap are checked at step time
+        ChunkPopulation target = chunks.get(key(Math.floorDiv(nextX, Chunk.CHUNK_SIZE),
+            Math.floorDiv(nextY, Chunk.CHUNK_SIZE)));
+        if (target == null || occupiedTiles.containsKey(key(nextX, nextY)) || !grid.isWalkable(nextX, nextY)) {
+            return false;
+        }
+        if (target != creature.chunk && target.creatures.size() >= MAX_POKEMON_PER_CHUNK) {
+            return false;
+        }
+
+        occupiedTiles.remove(key(creature.tileX, creature.tileY));
+        occupiedTiles.put(key(nextX, nextY), creature);
+        if (target != creature.chunk) {
+            creature.chunk.creatures.remove(creature);
+            target.creatures.add(creature);
+            creature.chunk = target;
+        }
+        creature.direction = direction(nextX - creature.tileX, nextY - creature.tileY);
+        creature.tileX = nextX;
+        creature.tileY = nextY;
+        creature.moving = true;
+        creature.moveTimer += STEP_SECONDS;
+        creature.version++;
+        path.advance();
+        return true;
+    }
+
+    private void replicate() {
+        for (Observer observer : observers.values()) {
+            Map<Creature, Integer> known = observer.known;
+            Map<Creature, Integer> seen = observer.seen;
+            seen.clear();
+            observer.stateCount = 0;
+
+            int chunkX = Math.floorDiv(observer.tileX, Chunk.CHUNK_SIZE);
+            int chunkY = Math.floorDiv(observer.tileY, Chunk.CHUNK_SIZE);
+            for (int dx = -ACTIVE_CHUNK_RADIUS; dx <= ACTIVE_CHUNK_RADIUS; dx++) {
+                for (int dy = -ACTIVE_CHUNK_RADIUS; dy <= ACTIVE_CHUNK_RADIUS; dy++) {
+                    ChunkPopulation population = chunks.get(key(chunkX + dx, chunkY + dy));
+                    if (population == null) continue;
+
+                    for (int i = 0; i < population.creatures.size(); i++) {
+                        Creature creature = population.creatures.get(i);
+                        Integer sentVersion = known.get(creature);
+                        if (sentVersion == null) {
+                            send(observer, createSpawnMessage(creature));
+                        } else if (sentVersion != creature.version) {
+                            appendState(observer, creature);
+                        }
+                        seen.put(creature, creature.version);
+                    }
+                }
+            }
+
+            for (Creature creature : known.keySet()) {
+                if (!seen.containsKey(creature)) {
+                    NetworkProtocol.WildPokemonDespawn despawn = new NetworkProtocol.WildPokemonDespawn();
+                    despawn.uuid = creature.uuid;
+                    despawn.timestamp = System.currentTimeMillis();
+                    send(observer, despawn);
+                }
+            }
+            observer.known = seen;
+            observer.seen = known;
+
+            if (observer.stateCount > 0) {
+                sendStates(observer);
+            }
+        }
+    }
+
+    private void appendState(Observer observer, Creature creature) {
+        int index = observer.stateCount;
+        if (index == observer.netIds.length) {
+            int capacity = index * 2;
+            observer.netIds = Arrays.copyOf(observer.netIds, capacity);
+            observer.tileXs = Arrays.copyOf(observer.tileXs, capacity);
+            observer.tileYs = Arrays.copyOf(observer.tileYs, capacity);
+            observer.flags = Arrays.copyOf(observer.flags, capacity);
+        }
+        observer.netIds[index] = creature.netId;
+        observer.tileXs[index] = creature.tileX;
+        observer.tileYs[index] = creature.tileY;
+        observer.flags[index] = (byte) (creature.direction | (creature.moving ? MOVING_FLAG : 0));
+        observer.stateCount++;
+    }
+
+    private void sendStates(Observer observer) {
+        int count = observer.stateCount;
+        NetworkProtocol.WildPokemonStates states = new NetworkProtocol.WildPokemonStates();
+        states.timestamp = System.currentTimeMillis();
+        states.count = count;
+        states.netIds = Arrays.copyOf(observer.netIds, count);
+        states.tileX = Arrays.copyOf(observer.tileXs, count);
+        states.tileY = Arrays.copyOf(observer.tileYs, count);
+        states.flags = Arrays.copyOf(observer.flags, count);
+        send(observer, states);
+        stateEntriesSent += count;
+    }
+
+    private NetworkProtocol.WildPokemonSpawn createSpawnMessage(Creature creature) {
+        PokemonData data = new PokemonData();
+        data.setName(creature.name);
+        data.setLevel(creature.level);
+
+        NetworkProtocol.WildPokemonSpawn spawn = new NetworkProtocol.WildPokemonSpawn();
+        spawn.uuid = creature.uuid;
+        spawn.netId = creature.netId;
+        spawn.x = creature.tileX * World.TILE_SIZE;
+        spawn.y = creature.tileY * World.TILE_SIZE;
+        spawn.data = data;
+        spawn.timestamp = creature.spawnTimeMillis;
+        return spawn;
+    }
+
+    private void send(Observer observer, Object message) {
+        transport.send(observer.connectionId, message);
+        messagesSent++;
+    }
+
+    private float nextIdleSeconds() {
+        return MIN_IDLE_SECONDS + random.nextFloat() * (MAX_IDLE_SECONDS - MIN_IDLE_SECONDS);
+    }
+
+    private static int direction(int dx, int dy) {
+        for (int i = 0; i < TileDirections.COUNT; i++) {
+            if (TileDirections.dx(i) == dx && TileDirections.dy(i) == dy) {
+                return i;
+            }
+        }
+        return 1;
+    }
+
+    private static long key(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Whether any player is near the chunk, so the server should keep its terrain around.
+     */
+    public synchronized boolean isChunkActive(int chunkX, int chunkY) {
+        return chunks.containsKey(key(chunkX, chunkY));
+    }
+
+    public synchronized int getPopulation() {
+        return creatures.size();
+    }
+
+    public synchronized int getActiveChunkCount() {
+        return chunks.size();
+    }
+
+    public synchronized int getObserverCount() {
+        return observers.size();
+    }
+
+    public PathfindingService getPathfindingService() {
+        return pathfinding;
+    }
+
+    public long getLastTickNanos() {
+        return lastTickNanos;
+    }
+
+    public long getMessagesSent() {
+        return messagesSent;
+    }
+
+    public long getStateEntriesSent() {
+        return stateEntriesSent;
+    }
+}
@@ -0,0 +1,300 @@
+package io.github.pokemeetup.multiplayer.server;
+
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonWriter;
+import io.github.pokemeetup.system.gameplay.overworld.Chunk;
+import io.github.pokemeetup.utils.GameLogger;
+import io.github.pokemeetup.utils.storage.GameFileSystem;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+/**
+ * Generates a rectangle of chunks into server chunk storage in the background, so the first
+ * players to reach an area do not wait for generation. One worker runs per core while the
+ * server is empty; while anyone is online a single worker continues with a pause between
+ * chunks. The rectangle is recorded next to the chunk files, and a restarted server resumes it
+ * with {@link #resume()}, skipping chunks that are already stored. A chunk that fails is logged
+ * and counted, and the region is left recorded so the next resume retries it.
+ */
+public class WorldPregenerator {
+    private static final String PROGRESS_FILE = "pregen.json";
+    private static final long REPORT_INTERVAL_MILLIS = 10_000L;
+    private static final long THROTTLE_PAUSE_MILLIS = 50L; // Between chunks while players are online
+    private static final long THROTTLE_IDLE_MILLIS = 1_000L; // Extra workers wait this long per check
+
+    /**
+     * Builds and stores one chunk, returning null if it could not be generated. Must be safe to
+     * call from several threads, and alongside the game asking for the same chunk.
+     */
+    @FunctionalInterface
+    public interface ChunkFactory {
+        Chunk generate(int chunkX, int chunkY);
+    }
+
+    /**
+     * The region being generated, as stored in the progress file. Bounds are inclusive. Chunks
+     * finish out of order across workers, so no position within the region is kept; a resume
+     * walks it again from the start and skips what is stored.
+     */
+    public static class Progress {
+        public int minX, minY, maxX, maxY;
+
+        public Progress() {
+        }
+
+        Progress(int minX, int minY, int maxX, int maxY) {
+            this.minX = minX;
+            this.minY = minY;
+            this.maxX = maxX;
+            this.maxY = maxY;
+        }
+
+        int width() {
+            return maxX - minX + 1;
+        }
+
+        int total() {
+            return width() * (maxY - minY + 1);
+        }
+    }
+
+    private final ServerStorageSystem storage;
+    private final String worldName;
+    private final ChunkFactory factory;
+    private final IntSupplier playersOnline;
+    private final int threads;
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicInteger generated = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+    private final AtomicLong lastReport = new AtomicLong();
+    private volatile Progress progress;
+    private volatile boolean stopping;
+    private ExecutorService workers;
+    private long startMillis;
+
+    public WorldPregenerator(ServerStorageSystem storage, String worldName, ChunkFactory factory,
+                             IntSupplier playersOnline, int threads) {
+        this.storage = storage;
+        this.worldName = worldName;
+        this.factory = factory;
+        this.playersOnline = playersOnline;
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * Starts generating every chunk within {@code radius} chunks of the given chunk.
+     */
+    public boolean startRadius(int centerChunkX, int centerChunkY, int radius) {
+        return start(centerChunkX - radius, centerChunkY - radius, centerChunkX + radius, centerChunkY + radius);
+    }
+
+    /**
+     * Starts generating the chunks between two corners, inclusive.
+     *
+     * @return false if a region is already being generated
+     */
+    public synchronized boolean start(int minX, int minY, int maxX, int maxY) {
+        if (isRunning()) {
+            GameLogger.error("Pre-generation already running: " + getStatus());
+            return false;
+        }
+        Progress region = new Progress(Math.min(minX, maxX), Math.min(minY, maxY),
+            Math.max(minX, maxX), Math.max(minY, maxY));
+        launch(region);
+        saveProgress();
+        return true;
+    }
+
+    /**
+     * Continues the region recorded by an earlier run, if one was left unfinished.
+     */
+    public synchronized boolean resume() {
+        if (isRunning()) {
+            return false;
+        }
+        Progress region = loadProgress();
+        if (region == null) {
+            return false;
+        }
+        GameLogger.info(String.format("Resuming pre-generation of chunks (%d,%d) to (%d,%d)",
+            region.minX, region.minY, region.maxX, region.maxY));
+        launch(region);
+        return true;
+    }
+
+    /**
+     * Stops the workers after their current chunk. The progress file is kept, so the region is
+     * resumed on the next {@link #resume()}.
+     */
+    public synchronized void stop() {
+        if (workers == null) {
+            return;
+        }
+        stopping = true;
+        workers.shutdown();
+        workers = null;
+        saveProgress();
+    }
+
+    public boolean isRunning() {
+        return activeWorkers.get() > 0;
+    }
+
+    public int getCompleted() {
+        return completed.get();
+    }
+
+    public int getFailed() {
+        return failed.get();
+    }
+
+    public String getStatus() {
+        Progress region = progress;
+        if (region == null) {
+            return "Pre-generation idle";
+        }
+        int total = region.total();
+        int done = completed.get();
+        double seconds = Math.max(1, System.currentTimeMillis() - startMillis) / 1000.0;
+        return String.format("Pre-generation %s: %d/%d chunks (%.1f%%), %d failed, %.1f generated/s%s",
+            isRunning() ? "running" : "stopped", done, total, done * 100.0 / total, failed.get(),
+            generated.get() / seconds, playersOnline.getAsInt() > 0 ? ", throttled" : "");
+    }
+
+    private void launch(Progress region) {
+        progress = region;
+        stopping = false;
+        next.set(0);
+        completed.set(0);
+        generated.set(0);
+        failed.set(0);
+        startMillis = System.currentTimeMillis();
+        lastReport.set(startMillis);
+        GameLogger.info(String.format("Pre-generating %d chunks on %d threads", region.total(), threads));
+
+        workers = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "WorldPregenerator");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        activeWorkers.set(threads);
+        for (int i = 0; i < threads; i++) {
+            int worker = i;
+            workers.execute(() -> runWorker(region, worker));
+        }
+    }
+
+    private void runWorker(Progress region, int worker) {
+        try {
+            while (!stopping) {
+                if (playersOnline.getAsInt() > 0) {
+                    // Leave the cores to the game: one worker continues, slowly
+                    Thread.sleep(worker == 0 ? THROTTLE_PAUSE_MILLIS : THROTTLE_IDLE_MILLIS);
+                    if (worker != 0) {
+                        continue;
+                    }
+                }
+                int index = next.getAndIncrement();
+                if (index >= region.total()) {
+                    break;
+                }
+                int chunkX = region.minX + index % region.width();
+                int chunkY = region.minY + index / region.width();
+                try {
+                    if (!storage.hasChunk(worldName, chunkX, chunkY)) {
+                        if (factory.generate(chunkX, chunkY) != null) {
+                            generated.incrementAndGet();
+                        } else {
+                            failed.incrementAndGet();
+                        }
+                    }
+                } catch (Exception e) {
+                    // One bad chunk must not end the worker; the rest of the region still needs it
+                    failed.incrementAndGet();
+                    GameLogger.error("Pre-generation failed for chunk " + chunkX + "," + chunkY + ": " + e.getMessage());
+                }
+                completed.incrementAndGet();
+                report();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (activeWorkers.decrementAndGet() == 0) {
+                finish(region);
+            }
+        }
+    }
+
+    private void report() {
+        long now = System.currentTimeMillis();
+        long last = lastReport.get();
+        if (now - last >= REPORT_INTERVAL_MILLIS && lastReport.compareAndSet(last, now)) {
+            GameLogger.info(getStatus());
+            saveProgress();
+        }
+    }
+
+    private synchronized void finish(Progress region) {
+        if (stopping || completed.get() < region.total()) {
+            GameLogger.info("Pre-generation stopped; " + getStatus());
+            saveProgress();
+            return;
+        }
+        if (failed.get() > 0) {
+            GameLogger.error(String.format("Pre-generation finished with %d failed chunks; "
+                + "they are retried on the next resume. %s", failed.get(), getStatus()));
+            saveProgress();
+        } else {
+            GameLogger.info(String.format("Pre-generation finished: %d chunks, %d newly generated, in %ds",
+                region.total(), generated.get(), (System.currentTimeMillis() - startMillis) / 1000));
+            GameFileSystem.getInstance().deleteFile(progressPath());
+        }
+        if (workers != null) {
+            workers.shutdown();
+            workers = null;
+        }
+    }
+
+    private String progressPath() {
+        return storage.getChunkDirectory(worldName) + PROGRESS_FILE;
+    }
+
+    private void saveProgress() {
+        Progress region = progress;
+        if (region == null) {
+            return;
+        }
+        synchronized (region) {
+            try {
+                Json json = new Json();
+                json.setOutputType(JsonWriter.OutputType.json);
+                GameFileSystem.getInstance().writeString(progressPath(), json.toJson(region));
+            } catch (Exception e) {
+                GameLogger.error("Failed to save pre-generation progress: " + e.getMessage());
+            }
+        }
+    }
+
+    private Progress loadProgress() {
+        GameFileSystem fs = GameFileSystem.getInstance();
+        String path = progressPath();
+        if (!fs.exists(path)) {
+            return null;
+        }
+        try {
+            Json json = new Json();
+            json.setIgnoreUnknownFields(true); // Older files also stored a completed count
+            return json.fromJson(Progress.class, fs.readString(path));
+        } catch (Exception e) {
+            GameLogger.error("Failed to read pre-generation progress: " + e.getMessage());
+            return null;
+        }
+    }
+}
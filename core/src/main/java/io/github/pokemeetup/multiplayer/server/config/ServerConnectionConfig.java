@@ -3,6 +3,7 @@ package io.github.pokemeetup.multiplayer.server.config;
 import java.io.IOException;
 
 public class ServerConnectionConfig {
+    public static final int DEFAULT_METRICS_PORT = 9102;
     private static ServerConnectionConfig instance;
     private String serverIP;
     private int tcpPort;
@@ -11,6 +12,7 @@ public class ServerConnectionConfig {
     private String motd;
     private String version;
     private String dataDirectory;
+    private int metricsPort = DEFAULT_METRICS_PORT; // Loopback only; 0 turns the endpoint off
 
     public void setIcon(String path) {
         this.iconPath = path;
@@ -153,6 +155,14 @@ public class ServerConnectionConfig {
         this.tcpPort = tcpPort;
     }
 
+    public int getMetricsPort() {
+        return metricsPort;
+    }
+
+    public void setMetricsPort(int metricsPort) {
+        this.metricsPort = metricsPort;
+    }
+
     public int getUdpPort() {
         return udpPort;
     }
@@ -16,6 +16,11 @@ public class EntityEvents {
             return "EntitySpawn";
         }
 
+        @Override
+        public Object getOrderingKey() {
+            return entity.getId();
+        }
+
         public Entity getEntity() {
             return entity;
         }
@@ -33,6 +38,11 @@ public class EntityEvents {
             return "EntityRemove";
         }
 
+        @Override
+        public Object getOrderingKey() {
+            return entity.getId();
+        }
+
         public Entity getEntity() {
             return entity;
         }
@@ -52,6 +62,11 @@ public class EntityEvents {
             return "EntityCollision";
         }
 
+        @Override
+        public Object getOrderingKey() {
+            return entity1.getId();
+        }
+
         public Entity getEntity1() { return entity1; }
         public Entity getEntity2() { return entity2; }
     }
@@ -0,0 +1,11 @@
+package io.github.pokemeetup.multiplayer.server.events;
+
+import java.util.List;
+
+/**
+ * Receives high-frequency events in groups instead of one call each. The list is only valid
+ * for the duration of the call and is reused afterwards.
+ */
+public interface BatchListener<T extends ServerEvent> {
+    void onEvents(List<T> events);
+}
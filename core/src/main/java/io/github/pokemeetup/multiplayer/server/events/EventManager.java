@@ -1,74 +1,431 @@
 package io.github.pokemeetup.multiplayer.server.events;
 
 import io.github.pokemeetup.utils.GameLogger;
+import io.github.pokemeetup.utils.metrics.Counter;
 
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 
+/**
+ * Server event bus. Listeners are registered per exact event class, and each picks a delivery:
+ * <ul>
+ *     <li>{@link Delivery#SYNC} runs on the thread that fires the event. Use it for cheap
+ *     listeners that only update counters or flags;</li>
+ *     <li>{@link Delivery#QUEUED} runs on one of a fixed set of worker threads. Each worker
+ *     owns a bounded {@link EventRing}. An event with an
+ *     {@link ServerEvent#getOrderingKey() ordering key} always goes to the same worker, so
+ *     events for one entity or player arrive in the order they were fired;</li>
+ *     <li>{@link BatchListener}s get every queued event of their type that a worker drained
+ *     in one pass, as one list. This is for high-frequency types such as collisions.</li>
+ * </ul>
+ * A full ring is handled by the event type's {@link OverflowPolicy}. Types under
+ * {@link OverflowPolicy#DROP_OLDEST} queue in a ring of their own on each worker, so evicting
+ * one never discards an event of another type. Listener registries are copy-on-write, so firing
+ * never locks and registering never races with delivery.
+ */
+public class EventManager {
+    public enum Delivery {
+        SYNC,
+        QUEUED
+    }
+
+    public enum OverflowPolicy {
+        /**
+         * Wait for space, up to a second, then drop. Applies backpressure to the producer.
+         */
+        BLOCK,
+        /**
+         * Discard the event being fired.
+         */
+        DROP_NEWEST,
+        /**
+         * Evict the oldest queued event of the same type on the same worker to make room. Such
+         * types stay in order among themselves but not relative to other types on the worker.
+         * Set the policy before the type is first fired.
+         */
+        DROP_OLDEST
+    }
+
+    public static final int DEFAULT_WORKERS = 2;
+    public static final int DEFAULT_QUEUE_CAPACITY = 4096;
+    private static final int MAX_DRAIN_PER_PASS = 256;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long BLOCK_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+
+    /**
+     * Immutable listener lists for one event class, replaced wholesale on registration.
+     */
+    private static final class ListenerSet {
+        static final ListenerSet EMPTY = new ListenerSet(
+            Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+
+        final List<EventListener<?>> sync;
+        final List<EventListener<?>> queued;
+        final List<BatchListener<?>> batch;
 
-    public class EventManager {
-        private final Map<Class<? extends ServerEvent>, List<EventListener<?>>> listeners;
-        private final ExecutorService eventExecutor;
-        private volatile boolean isShuttingDown = false;
+        ListenerSet(List<EventListener<?>> sync, List<EventListener<?>> queued, List<BatchListener<?>> batch) {
+            this.sync = sync;
+            this.queued = queued;
+            this.batch = batch;
+        }
+
+        boolean isQueued() {
+            return !queued.isEmpty() || !batch.isEmpty();
+        }
 
-        public EventManager() {
-            this.listeners = new ConcurrentHashMap<>();
-            this.eventExecutor = Executors.newFixedThreadPool(2);
+        ListenerSet withListener(EventListener<?> listener, Delivery delivery) {
+            return delivery == Delivery.SYNC
+                ? new ListenerSet(append(sync, listener), queued, batch)
+                : new ListenerSet(sync, append(queued, listener), batch);
         }
 
+        ListenerSet withBatchListener(BatchListener<?> listener) {
+            return new ListenerSet(sync, queued, append(batch, listener));
+        }
 
+        ListenerSet without(Object listener) {
+            return new ListenerSet(remove(sync, listener), remove(queued, listener), remove(batch, listener));
+        }
 
-        public void fireEvent(ServerEvent event) {
-            if (isShuttingDown) {
-                GameLogger.info("Dropping event during shutdown: " + event.getEventName());
-                return;
+        private static <L> List<L> append(List<L> list, L listener) {
+            List<L> copy = new ArrayList<>(list.size() + 1);
+            copy.addAll(list);
+            copy.add(listener);
+            return copy;
+        }
+
+        private static <L> List<L> remove(List<L> list, Object listener) {
+            if (!list.contains(listener)) {
+                return list;
+            }
+            List<L> copy = new ArrayList<>(list);
+            copy.remove(listener);
+            return copy;
+        }
+    }
+
+    private final class Worker implements Runnable {
+        final EventRing ring;
+        final Thread thread;
+        volatile boolean idle;
+        // One ring per DROP_OLDEST type, created on first use; the list is for draining
+        private final Map<Class<?>, EventRing> lossyRings = new ConcurrentHashMap<>();
+        private final List<EventRing> lossyRingList = new CopyOnWriteArrayList<>();
+        private final int capacity;
+        private final Map<Class<?>, List<ServerEvent>> batches = new HashMap<>();
+        private final List<Class<?>> pendingBatchTypes = new ArrayList<>();
+
+        Worker(int index, int capacity) {
+            this.ring = new EventRing(capacity);
+            this.capacity = capacity;
+            this.thread = new Thread(this, "EventManager-" + index);
+            thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                int drained = 0;
+                Object event;
+                while (drained < MAX_DRAIN_PER_PASS && (event = ring.poll()) != null) {
+                    deliver((ServerEvent) event);
+                    drained++;
+                }
+                for (int r = 0; r < lossyRingList.size(); r++) {
+                    EventRing lossy = lossyRingList.get(r);
+                    int limit = drained + MAX_DRAIN_PER_PASS;
+                    while (drained < limit && (event = lossy.poll()) != null) {
+                        deliver((ServerEvent) event);
+                        drained++;
+                    }
+                }
+                flushBatches();
+                if (drained > 0) {
+                    continue;
+                }
+                if (isShuttingDown) {
+                    return;
+                }
+                idle = true;
+                // Re-check after publishing idle: a producer that offered before seeing it will not unpark
+                if (isEmpty() && !isShuttingDown) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                idle = false;
+            }
+        }
+
+        EventRing lossyRing(Class<?> type) {
+            EventRing lossy = lossyRings.get(type);
+            if (lossy == null) {
+                synchronized (lossyRings) {
+                    lossy = lossyRings.get(type);
+                    if (lossy == null) {
+                        lossy = new EventRing(capacity);
+                        lossyRingList.add(lossy);
+                        lossyRings.put(type, lossy);
+                    }
+                }
+            }
+            return lossy;
+        }
+
+        boolean isEmpty() {
+            if (!ring.isEmpty()) {
+                return false;
             }
+            for (int r = 0; r < lossyRingList.size(); r++) {
+                if (!lossyRingList.get(r).isEmpty()) {
+                    return false;
+                }
+            }
+            return true;
+        }
 
-            Class<? extends ServerEvent> eventClass = event.getClass();
-            List<EventListener<?>> eventListeners = listeners.get(eventClass);
+        int size() {
+            int size = ring.size();
+            for (int r = 0; r < lossyRingList.size(); r++) {
+                size += lossyRingList.get(r).size();
+            }
+            return size;
+        }
 
-            if (eventListeners != null) {
-                eventExecutor.submit(() -> {
-                    for (EventListener<?> listener : eventListeners) {
+        void wake() {
+            if (idle) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        private void deliver(ServerEvent event) {
+            ListenerSet set = listeners.get(event.getClass());
+            if (set == null) {
+                return;
+            }
+            List<EventListener<?>> queued = set.queued;
+            for (int i = 0; i < queued.size(); i++) {
+                invoke(queued.get(i), event);
+            }
+            if (!set.batch.isEmpty()) {
+                List<ServerEvent> pending = batches.computeIfAbsent(event.getClass(), type -> new ArrayList<>());
+                if (pending.isEmpty()) {
+                    pendingBatchTypes.add(event.getClass());
+                }
+                pending.add(event);
+            }
+            dispatched.increment();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void flushBatches() {
+            // Index loop: a batch listener may fire events of its own, which this thread delivers inline
+            for (int t = 0; t < pendingBatchTypes.size(); t++) {
+                Class<?> type = pendingBatchTypes.get(t);
+                List<ServerEvent> pending = batches.get(type);
+                ListenerSet set = listeners.get(type);
+                if (set != null) {
+                    for (BatchListener<?> listener : set.batch) {
                         try {
-                            @SuppressWarnings("unchecked")
-                            EventListener<ServerEvent> typedListener = (EventListener<ServerEvent>) listener;
-                            typedListener.onEvent(event);
+                            ((BatchListener<ServerEvent>) listener).onEvents(pending);
                         } catch (Exception e) {
-                            GameLogger.info("Error handling event " + event.getEventName() + ": " + e.getMessage());
-                            e.printStackTrace();
+                            GameLogger.error("Error handling batch of " + pending.size() + " "
+                                + type.getSimpleName() + ": " + e.getMessage());
                         }
                     }
-                });
+                }
+                pending.clear();
             }
+            pendingBatchTypes.clear();
         }
+    }
 
+    private final Map<Class<? extends ServerEvent>, ListenerSet> listeners = new ConcurrentHashMap<>();
+    private final Map<Class<? extends ServerEvent>, OverflowPolicy> overflowPolicies = new ConcurrentHashMap<>();
+    private final OverflowPolicy defaultPolicy;
+    private final Worker[] workers;
+    private final AtomicInteger nextWorker = new AtomicInteger();
+    private final Counter fired = new Counter();
+    private final Counter dispatched = new Counter();
+    private final Counter dropped = new Counter();
+    private final Counter blocked = new Counter();
+    private volatile boolean isShuttingDown = false;
+
+    public EventManager() {
+        this(DEFAULT_WORKERS, DEFAULT_QUEUE_CAPACITY, OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * @param workerCount   threads running queued listeners
+     * @param queueCapacity events each worker can hold, rounded up to a power of two
+     * @param defaultPolicy what to do when a worker's queue is full, unless the event type
+     *                      has its own policy
+     */
+    public EventManager(int workerCount, int queueCapacity, OverflowPolicy defaultPolicy) {
+        this.defaultPolicy = defaultPolicy;
+        this.workers = new Worker[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            workers[i] = new Worker(i, queueCapacity);
+            workers[i].thread.start();
+        }
+    }
+
+    public void fireEvent(ServerEvent event) {
+        if (isShuttingDown) {
+            GameLogger.info("Dropping event during shutdown: " + event.getEventName());
+            return;
+        }
+
+        ListenerSet set = listeners.get(event.getClass());
+        if (set == null) {
+            return;
+        }
+        fired.increment();
+        List<EventListener<?>> sync = set.sync;
+        for (int i = 0; i < sync.size(); i++) {
+            invoke(sync.get(i), event);
+        }
+        if (set.isQueued()) {
+            enqueue(event);
+        }
+    }
+
+    private void enqueue(ServerEvent event) {
+        Worker worker = workerFor(event);
+        OverflowPolicy policy = overflowPolicies.getOrDefault(event.getClass(), defaultPolicy);
+        if (policy == OverflowPolicy.DROP_OLDEST) {
+            // The type's own ring, so eviction only ever discards an older event of this type
+            EventRing lossy = worker.lossyRing(event.getClass());
+            while (!lossy.offer(event)) {
+                if (lossy.poll() != null) {
+                    dropped.increment();
+                }
+            }
+            worker.wake();
+            return;
+        }
+        if (worker.ring.offer(event)) {
+            worker.wake();
+            return;
+        }
+
+        switch (policy) {
+            case DROP_NEWEST:
+                dropped.increment();
+                return;
+            default:
+                if (Thread.currentThread() == worker.thread) {
+                    // A listener firing into its own full queue would wait on itself
+                    worker.deliver(event);
+                    return;
+                }
+                blocked.increment();
+                long deadline = System.nanoTime() + BLOCK_TIMEOUT_NANOS;
+                while (!worker.ring.offer(event)) {
+                    worker.wake();
+                    if (isShuttingDown || System.nanoTime() > deadline) {
+                        dropped.increment();
+                        GameLogger.error("Event queue full, dropped " + event.getEventName());
+                        return;
+                    }
+                    LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                }
+                worker.wake();
+        }
+    }
+
+    private Worker workerFor(ServerEvent event) {
+        Object key = event.getOrderingKey();
+        int hash = key != null ? key.hashCode() : nextWorker.getAndIncrement();
+        return workers[Math.floorMod(hash ^ (hash >>> 16), workers.length)];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void invoke(EventListener<?> listener, ServerEvent event) {
+        try {
+            ((EventListener<ServerEvent>) listener).onEvent(event);
+        } catch (Exception e) {
+            GameLogger.error("Error handling event " + event.getEventName() + ": " + e.getMessage());
+        }
+    }
 
     public void shutdown() {
         isShuttingDown = true;
 
-        // Stop accepting new events
-        eventExecutor.shutdown();
-
+        // Workers drain what is already queued, then exit
+        long deadline = System.currentTimeMillis() + SHUTDOWN_TIMEOUT_MILLIS;
         try {
-            // Wait for existing events to complete
-            if (!eventExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
-                // Force shutdown if events don't complete in time
-                List<Runnable> pendingEvents = eventExecutor.shutdownNow();
-                GameLogger.info("Force-terminated " + pendingEvents.size() + " pending events");
+            for (Worker worker : workers) {
+                LockSupport.unpark(worker.thread);
+                worker.thread.join(Math.max(1, deadline - System.currentTimeMillis()));
             }
         } catch (InterruptedException e) {
-            eventExecutor.shutdownNow();
             Thread.currentThread().interrupt();
         } finally {
+            int pending = getQueueDepth();
+            if (pending > 0) {
+                GameLogger.info("Force-terminated " + pending + " pending events");
+                for (Worker worker : workers) {
+                    worker.thread.interrupt();
+                }
+            }
             // Clear all listeners
             listeners.clear();
         }
     }
+
     public <T extends ServerEvent> void registerListener(Class<T> eventClass, EventListener<T> listener) {
-        listeners.computeIfAbsent(eventClass, k -> new ArrayList<>()).add(listener);
+        registerListener(eventClass, listener, Delivery.QUEUED);
     }
 
+    public <T extends ServerEvent> void registerListener(Class<T> eventClass, EventListener<T> listener, Delivery delivery) {
+        listeners.compute(eventClass, (type, set) -> (set != null ? set : ListenerSet.EMPTY).withListener(listener, delivery));
+    }
 
-}
+    public <T extends ServerEvent> void registerBatchListener(Class<T> eventClass, BatchListener<T> listener) {
+        listeners.compute(eventClass, (type, set) -> (set != null ? set : ListenerSet.EMPTY).withBatchListener(listener));
+    }
+
+    /**
+     * Removes a listener or batch listener from every delivery mode of the event class.
+     */
+    public void unregisterListener(Class<? extends ServerEvent> eventClass, Object listener) {
+        listeners.computeIfPresent(eventClass, (type, set) -> set.without(listener));
+    }
+
+    public void setOverflowPolicy(Class<? extends ServerEvent> eventClass, OverflowPolicy policy) {
+        overflowPolicies.put(eventClass, policy);
+    }
 
+    /**
+     * Events queued but not yet picked up by a worker.
+     */
+    public int getQueueDepth() {
+        int depth = 0;
+        for (Worker worker : workers) {
+            depth += worker.size();
+        }
+        return depth;
+    }
+
+    public long getFiredCount() {
+        return fired.get();
+    }
+
+    public long getDispatchedCount() {
+        return dispatched.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Times a producer found a full queue under {@link OverflowPolicy#BLOCK} and had to wait.
+     */
+    public long getBlockedCount() {
+        return blocked.get();
+    }
+}
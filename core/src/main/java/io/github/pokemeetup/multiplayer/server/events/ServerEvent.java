@@ -3,4 +3,12 @@ package io.github.pokemeetup.multiplayer.server.events;
 public interface ServerEvent {
     String getEventName();
     long getTimestamp();
+
+    /**
+     * Events with equal keys, e.g. the same entity or player, reach queued listeners in the
+     * order they were fired. Null means no ordering is needed.
+     */
+    default Object getOrderingKey() {
+        return null;
+    }
 }
@@ -0,0 +1,103 @@
+package io.github.pokemeetup.multiplayer.server.plugin;
+
+import io.github.pokemeetup.utils.GameLogger;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Watches the class loaders of unloaded plugins. An unloaded loader must become unreachable; one
+ * still alive after {@link #GRACE_MILLIS} and a GC means something kept a reference, and every
+ * reload then leaks a full copy of the plugin's classes. Common causes are threads the plugin
+ * started, static caches in core classes, and listeners registered outside the plugin context.
+ * The report names any live threads tied to the loader, which is the usual culprit.
+ */
+final class ClassLoaderLeakDetector {
+    static final long GRACE_MILLIS = 60_000L;
+
+    private static final class Unloaded {
+        final String pluginId;
+        final int generation;
+        final WeakReference<ClassLoader> loader;
+        final long unloadedAt;
+        boolean reported;
+
+        Unloaded(String pluginId, int generation, ClassLoader loader, long unloadedAt) {
+            this.pluginId = pluginId;
+            this.generation = generation;
+            this.loader = new WeakReference<>(loader);
+            this.unloadedAt = unloadedAt;
+        }
+    }
+
+    private final List<Unloaded> unloaded = new ArrayList<>();
+    private volatile int retained;
+
+    synchronized void track(String pluginId, int generation, ClassLoader loader) {
+        unloaded.add(new Unloaded(pluginId, generation, loader, System.currentTimeMillis()));
+    }
+
+    /**
+     * Drops collected loaders and reports ones past their grace period. Requests a GC only when
+     * a loader is due for a verdict, so an idle server pays nothing.
+     */
+    synchronized void check() {
+        long now = System.currentTimeMillis();
+        boolean due = false;
+        for (Unloaded entry : unloaded) {
+            if (!entry.reported && now - entry.unloadedAt >= GRACE_MILLIS) {
+                due = true;
+                break;
+            }
+        }
+        if (due) {
+            System.gc();
+        }
+
+        int stillAlive = 0;
+        for (Iterator<Unloaded> it = unloaded.iterator(); it.hasNext(); ) {
+            Unloaded entry = it.next();
+            ClassLoader loader = entry.loader.get();
+            if (loader == null) {
+                it.remove();
+                continue;
+            }
+            if (now - entry.unloadedAt < GRACE_MILLIS) {
+                continue;
+            }
+            stillAlive++;
+            if (!entry.reported) {
+                entry.reported = true;
+                GameLogger.error("Class loader for plugin " + entry.pluginId + " (load #" + entry.generation
+                    + ") is still reachable " + (now - entry.unloadedAt) / 1000 + " s after unload"
+                    + describeThreads(loader));
+            }
+        }
+        retained = stillAlive;
+    }
+
+    private static String describeThreads(ClassLoader loader) {
+        Set<Thread> threads = Thread.getAllStackTraces().keySet();
+        StringBuilder names = new StringBuilder();
+        for (Thread thread : threads) {
+            if (thread.getContextClassLoader() == loader || thread.getClass().getClassLoader() == loader) {
+                names.append(names.length() == 0 ? "; held by threads: " : ", ").append(thread.getName());
+            }
+        }
+        return names.toString();
+    }
+
+    /**
+     * Loaders past their grace period that are still alive.
+     */
+    int getRetainedCount() {
+        return retained;
+    }
+
+    synchronized int getPendingCount() {
+        return unloaded.size();
+    }
+}
@@ -13,6 +13,7 @@ public class PluginConfig {
     private String version;
     private String mainClass;
     private List<String> dependencies;
+    private double tickBudgetMillis; // CPU per plugin tick; 0 uses the default
 
 
     public static PluginConfig load(InputStream input) {
@@ -58,4 +59,5 @@ public class PluginConfig {
     public String getVersion() { return version; }
     public String getMainClass() { return mainClass; }
     public List<String> getDependencies() { return dependencies; }
+    public double getTickBudgetMillis() { return tickBudgetMillis; }
 }
@@ -2,39 +2,138 @@ package io.github.pokemeetup.multiplayer.server.plugin;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.badlogic.gdx.math.Vector2;
+import io.github.pokemeetup.multiplayer.ServerPlayer;
 import io.github.pokemeetup.multiplayer.server.GameServer;
+import io.github.pokemeetup.multiplayer.server.WildPokemonManager;
+import io.github.pokemeetup.multiplayer.server.events.EventManager;
 import io.github.pokemeetup.system.data.WorldData;
 import io.github.pokemeetup.system.servers.PluginContext;
+import io.github.pokemeetup.utils.GameLogger;
+import io.github.pokemeetup.utils.metrics.Counter;
+import io.github.pokemeetup.utils.metrics.MetricsRegistry;
 
 import java.io.*;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.logging.Logger;
 
 public class PluginManager {
+    /**
+     * Plugin ticks per second. Plugins tick on their own thread, never on the game or network
+     * threads, so a slow plugin delays other plugins at worst.
+     */
+    public static final int TICK_RATE = 20;
+    private static final long TICK_MILLIS = 1000 / TICK_RATE;
+    private static final int ASYNC_THREADS = 2;
+    private static final int ASYNC_QUEUE_CAPACITY = 256;
+    private static final int JAR_POLL_TICKS = TICK_RATE;
+    private static final int LEAK_CHECK_TICKS = TICK_RATE * 30;
+    private static final String LOADED_JARS_DIR = ".loaded";
+
+    /**
+     * Where a loaded plugin came from. Its class loader reads a private copy of the jar, so the
+     * original can be overwritten while the server runs; an overwrite is what triggers a reload.
+     */
+    private static final class PluginJar {
+        final Path source;
+        final Path copy;
+        final URLClassLoader classLoader;
+        final int generation;
+        final FileTime loadedModified;
+        final long loadedSize;
+        FileTime seenModified;
+        long seenSize;
+
+        PluginJar(Path source, Path copy, URLClassLoader classLoader, int generation,
+                  FileTime loadedModified, long loadedSize) {
+            this.source = source;
+            this.copy = copy;
+            this.classLoader = classLoader;
+            this.generation = generation;
+            this.loadedModified = loadedModified;
+            this.loadedSize = loadedSize;
+        }
+
+        boolean isUnchanged(FileTime modified, long size) {
+            return modified.equals(loadedModified) && size == loadedSize;
+        }
+    }
+
     private static final Logger logger = Logger.getLogger(PluginManager.class.getName());
     private final Map<String, ServerPlugin> loadedPlugins = new ConcurrentHashMap<>();
     private final Map<String, PluginConfig> pluginConfigs = new ConcurrentHashMap<>();
+    private final Map<String, PluginRuntime> runtimes = new ConcurrentHashMap<>();
+    private final Map<String, PluginJar> pluginJars = new ConcurrentHashMap<>();
+    private final AtomicInteger loadGenerations = new AtomicInteger();
+    private final ClassLoaderLeakDetector leakDetector = new ClassLoaderLeakDetector();
+    private final Counter reloads;
     private final Path pluginsDir;
+    private final Path loadedJarsDir;
     private final GameServer server;
     private final WorldData gameWorld;
+    private final EventManager eventManager;
+    private final ScheduledExecutorService tickExecutor;
+    private final ThreadPoolExecutor asyncExecutor;
+    private volatile long currentTick;
+    private volatile WorldSnapshot worldSnapshot;
 
-    public PluginManager(GameServer server, WorldData gameWorld) {
+    public PluginManager(GameServer server, WorldData gameWorld, EventManager eventManager) {
         this.server = server;
         this.gameWorld = gameWorld;
+        this.eventManager = eventManager;
         this.pluginsDir = Paths.get("plugins");
+        this.loadedJarsDir = pluginsDir.resolve(LOADED_JARS_DIR);
+        this.tickExecutor = Executors.newSingleThreadScheduledExecutor(r -> newPluginThread(r, "Plugin-Tick"));
+        AtomicInteger asyncThreads = new AtomicInteger();
+        this.asyncExecutor = new ThreadPoolExecutor(ASYNC_THREADS, ASYNC_THREADS, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(ASYNC_QUEUE_CAPACITY),
+            r -> newPluginThread(r, "Plugin-Async-" + asyncThreads.incrementAndGet()),
+            new ThreadPoolExecutor.AbortPolicy());
         createPluginDirectory();
+
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        this.reloads = metrics.counter("plugins.reloads");
+        metrics.gauge("plugins.loaded", loadedPlugins::size);
+        metrics.gauge("plugins.retainedClassLoaders", leakDetector::getRetainedCount);
+    }
+
+    /**
+     * Pool threads start lazily, on whichever thread first submits work, and would otherwise
+     * inherit its context class loader. That thread may be running a plugin with the plugin's
+     * loader installed, and the pool thread would then pin that loader across every reload.
+     */
+    private static Thread newPluginThread(Runnable r, String name) {
+        Thread thread = new Thread(r, name);
+        thread.setDaemon(true);
+        thread.setContextClassLoader(PluginManager.class.getClassLoader());
+        return thread;
     }
 
     private void createPluginDirectory() {
         try {
             Files.createDirectories(pluginsDir);
+            Files.createDirectories(loadedJarsDir);
+            // Copies left by a previous run are no longer in use
+            try (DirectoryStream<Path> stale = Files.newDirectoryStream(loadedJarsDir, "*.jar")) {
+                for (Path copy : stale) {
+                    Files.deleteIfExists(copy);
+                }
+            }
         } catch (IOException e) {
             logger.severe("Failed to create plugins directory: " + e.getMessage());
             throw new RuntimeException("Failed to create plugins directory", e);
@@ -51,23 +150,39 @@ public class PluginManager {
         }
     }
 
-    private void loadPlugin(Path jarPath) {
-        try (JarFile jarFile = new JarFile(jarPath.toFile())) {
-            // Load plugin.yml
-            JarEntry configEntry = jarFile.getJarEntry("plugin.yml");
-            if (configEntry == null) {
-                throw new IllegalStateException("Missing plugin.yml in " + jarPath.getFileName());
+    /**
+     * Loads one plugin jar in its own class loader and calls {@code onLoad}.
+     *
+     * @return the plugin id, or null if loading failed
+     */
+    private String loadPlugin(Path jarPath) {
+        int generation = loadGenerations.incrementAndGet();
+        Path copy = null;
+        URLClassLoader classLoader = null;
+        try {
+            FileTime modified = Files.getLastModifiedTime(jarPath);
+            long size = Files.size(jarPath);
+            String fileName = jarPath.getFileName().toString();
+            copy = loadedJarsDir.resolve(fileName.substring(0, fileName.length() - ".jar".length())
+                + "-" + generation + ".jar");
+            Files.copy(jarPath, copy, StandardCopyOption.REPLACE_EXISTING);
+
+            // Load and parse plugin.yml
+            PluginConfig config;
+            try (JarFile jarFile = new JarFile(copy.toFile())) {
+                JarEntry configEntry = jarFile.getJarEntry("plugin.yml");
+                if (configEntry == null) {
+                    throw new IllegalStateException("Missing plugin.yml in " + jarPath.getFileName());
+                }
+                config = loadPluginConfig(jarFile.getInputStream(configEntry));
             }
 
-            // Load and parse config
-            PluginConfig config = loadPluginConfig(jarFile.getInputStream(configEntry));
-
             // Validate dependencies
             validateDependencies(config);
 
             // Create isolated classloader for plugin
-            URLClassLoader classLoader = new URLClassLoader(
-                new URL[]{jarPath.toUri().toURL()},
+            classLoader = new URLClassLoader(
+                new URL[]{copy.toUri().toURL()},
                 getClass().getClassLoader()
             );
 
@@ -78,21 +193,75 @@ public class PluginManager {
             }
 
             ServerPlugin plugin = (ServerPlugin) mainClass.getDeclaredConstructor().newInstance();
+            if (loadedPlugins.containsKey(plugin.getId())) {
+                throw new IllegalStateException("A plugin with id " + plugin.getId() + " is already loaded");
+            }
 
             // Create plugin context and initialize
             Map<String, Object> pluginConfig = loadPluginConfig(plugin.getId());
-            PluginContext context = new PluginContext(gameWorld, pluginConfig);
-            plugin.onLoad(context);
+            long tickBudgetNanos = (long) (config.getTickBudgetMillis() * 1_000_000L);
+            PluginRuntime runtime = new PluginRuntime(plugin.getId(), classLoader, tickBudgetNanos, this,
+                eventManager, asyncExecutor);
+            PluginContext context = new PluginContext(runtime, gameWorld, pluginConfig);
+            ClassLoader previous = runtime.enter();
+            try {
+                plugin.onLoad(context);
+            } catch (Exception e) {
+                runtime.release();
+                throw e;
+            } finally {
+                PluginRuntime.exit(previous);
+            }
 
             // Store loaded plugin
             loadedPlugins.put(plugin.getId(), plugin);
+            runtimes.put(plugin.getId(), runtime);
             pluginConfigs.put(plugin.getId(), config);
+            pluginJars.put(plugin.getId(), new PluginJar(jarPath, copy, classLoader, generation, modified, size));
 
             logger.info("Successfully loaded plugin: " + config.getName() + " v" + config.getVersion());
+            return plugin.getId();
 
         } catch (Exception e) {
             logger.severe("Failed to load plugin " + jarPath.getFileName() + ": " + e.getMessage());
             e.printStackTrace();
+            discard(classLoader, copy);
+            return null;
+        }
+    }
+
+    private void discard(URLClassLoader classLoader, Path copy) {
+        if (classLoader != null) {
+            try {
+                classLoader.close();
+            } catch (IOException e) {
+                logger.warning("Failed to close plugin class loader: " + e.getMessage());
+            }
+        }
+        if (copy != null) {
+            try {
+                Files.deleteIfExists(copy);
+            } catch (IOException e) {
+                logger.warning("Failed to delete " + copy + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Forgets a disabled plugin and closes its class loader. The loader is handed to the leak
+     * detector, which reports it if anything keeps it alive.
+     */
+    private void unloadPlugin(String pluginId) {
+        loadedPlugins.remove(pluginId);
+        PluginRuntime runtime = runtimes.remove(pluginId);
+        if (runtime != null) {
+            runtime.release();
+        }
+        pluginConfigs.remove(pluginId);
+        PluginJar jar = pluginJars.remove(pluginId);
+        if (jar != null) {
+            discard(jar.classLoader, jar.copy);
+            leakDetector.track(pluginId, jar.generation, jar.classLoader);
         }
     }
 
@@ -118,17 +287,218 @@ public class PluginManager {
     public void enablePlugins() {
         List<String> enableOrder = calculateEnableOrder();
         for (String pluginId : enableOrder) {
-            ServerPlugin plugin = loadedPlugins.get(pluginId);
+            enablePlugin(pluginId);
+        }
+    }
+
+    private void enablePlugin(String pluginId) {
+        ServerPlugin plugin = loadedPlugins.get(pluginId);
+        PluginRuntime runtime = runtimes.get(pluginId);
+        if (plugin == null || runtime == null) {
+            // A dependency that failed to reload; its dependents stay disabled
+            return;
+        }
+        for (String dependency : pluginConfigs.get(pluginId).getDependencies()) {
+            PluginRuntime dependencyRuntime = runtimes.get(dependency);
+            if (dependencyRuntime == null || !dependencyRuntime.isEnabled()) {
+                logger.severe("Not enabling plugin " + pluginId + ": dependency " + dependency + " is not enabled");
+                return;
+            }
+        }
+        ClassLoader previous = runtime.enter();
+        try {
+            // Enabled first so listeners and tasks registered in onEnable take effect
+            runtime.setEnabled(true);
+            plugin.onEnable();
+            logger.info("Enabled plugin: " + pluginId);
+        } catch (Exception e) {
+            runtime.close();
+            logger.severe("Failed to enable plugin " + pluginId + ": " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            PluginRuntime.exit(previous);
+        }
+    }
+
+    private void disablePlugin(String pluginId) {
+        ServerPlugin plugin = loadedPlugins.get(pluginId);
+        PluginRuntime runtime = runtimes.get(pluginId);
+        if (plugin == null || runtime == null || !runtime.isEnabled()) {
+            return;
+        }
+        ClassLoader previous = runtime.enter();
+        try {
+            plugin.onDisable();
+            logger.info("Disabled plugin: " + pluginId);
+        } catch (Exception e) {
+            logger.severe("Error disabling plugin " + pluginId + ": " + e.getMessage());
+        } finally {
+            PluginRuntime.exit(previous);
+            runtime.close();
+        }
+    }
+
+    /**
+     * Replaces a running plugin with the current contents of its jar, without a server restart.
+     * Plugins that depend on it are disabled first and re-enabled afterwards, in dependency order;
+     * they keep their own class loaders. Runs on the plugin tick thread, so no tick of the plugin
+     * is in progress while its classes are swapped.
+     *
+     * @return completes with true if the plugin was reloaded and enabled
+     */
+    public Future<Boolean> reloadPlugin(String pluginId) {
+        return tickExecutor.submit(() -> reload(pluginId));
+    }
+
+    private boolean reload(String pluginId) {
+        PluginJar jar = pluginJars.get(pluginId);
+        if (jar == null) {
+            logger.warning("Cannot reload unknown plugin " + pluginId);
+            return false;
+        }
+        long start = System.nanoTime();
+        Set<String> affected = dependentsOf(pluginId);
+        List<String> stopOrder = new ArrayList<>();
+        for (String id : calculateEnableOrder()) {
+            if (affected.contains(id)) {
+                stopOrder.add(id);
+            }
+        }
+        Collections.reverse(stopOrder);
+        for (String id : stopOrder) {
+            disablePlugin(id);
+        }
+        unloadPlugin(pluginId);
+
+        String reloadedId = loadPlugin(jar.source);
+        if (reloadedId == null) {
+            logger.severe("Reload of plugin " + pluginId + " failed; it and its dependents stay disabled");
+            return false;
+        }
+        affected.add(reloadedId);
+        for (String id : calculateEnableOrder()) {
+            if (affected.contains(id)) {
+                enablePlugin(id);
+            }
+        }
+        reloads.increment();
+        logger.info(String.format("Reloaded plugin %s in %.1f ms", reloadedId, (System.nanoTime() - start) / 1e6));
+        PluginRuntime runtime = runtimes.get(reloadedId);
+        return runtime != null && runtime.isEnabled();
+    }
+
+    /**
+     * The plugin and everything that depends on it, directly or transitively.
+     */
+    private Set<String> dependentsOf(String pluginId) {
+        Set<String> result = new HashSet<>();
+        result.add(pluginId);
+        boolean grew = true;
+        while (grew) {
+            grew = false;
+            for (Map.Entry<String, PluginConfig> entry : pluginConfigs.entrySet()) {
+                if (!result.contains(entry.getKey())
+                    && !Collections.disjoint(entry.getValue().getDependencies(), result)) {
+                    result.add(entry.getKey());
+                    grew = true;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reloads plugins whose jar was overwritten. A jar must look the same on two polls in a row,
+     * so one still being copied is not loaded half-written.
+     */
+    private void pollForUpdatedJars() {
+        for (String pluginId : new ArrayList<>(pluginJars.keySet())) {
+            PluginJar jar = pluginJars.get(pluginId);
+            if (jar == null) {
+                continue;
+            }
+            FileTime modified;
+            long size;
             try {
-                plugin.onEnable();
-                logger.info("Enabled plugin: " + pluginId);
-            } catch (Exception e) {
-                logger.severe("Failed to enable plugin " + pluginId + ": " + e.getMessage());
-                e.printStackTrace();
+                modified = Files.getLastModifiedTime(jar.source);
+                size = Files.size(jar.source);
+            } catch (IOException e) {
+                // Removed, or mid-replace; keep running the loaded copy
+                continue;
+            }
+            if (jar.isUnchanged(modified, size)) {
+                continue;
+            }
+            if (modified.equals(jar.seenModified) && size == jar.seenSize) {
+                logger.info("Plugin jar " + jar.source.getFileName() + " changed; reloading " + pluginId);
+                reload(pluginId);
+            } else {
+                jar.seenModified = modified;
+                jar.seenSize = size;
             }
         }
     }
 
+    /**
+     * Starts the plugin tick loop. Call after {@link #enablePlugins()}.
+     */
+    public void startTicking() {
+        worldSnapshot = takeSnapshot();
+        tickExecutor.scheduleAtFixedRate(this::tick, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private void tick() {
+        long tick = ++currentTick;
+        try {
+            if (tick % JAR_POLL_TICKS == 0) {
+                pollForUpdatedJars();
+            }
+            if (tick % LEAK_CHECK_TICKS == 0) {
+                leakDetector.check();
+            }
+        } catch (Exception e) {
+            GameLogger.error("Plugin maintenance failed: " + e.getMessage());
+        }
+        if (runtimes.isEmpty()) {
+            return;
+        }
+        try {
+            worldSnapshot = takeSnapshot();
+        } catch (Exception e) {
+            GameLogger.error("Failed to snapshot world for plugins: " + e.getMessage());
+        }
+        for (PluginRuntime runtime : runtimes.values()) {
+            try {
+                runtime.tick(tick);
+            } catch (Throwable t) {
+                // An uncaught throwable would cancel the tick loop for every plugin
+                runtime.recordError("tick", t);
+            }
+        }
+    }
+
+    private WorldSnapshot takeSnapshot() {
+        List<WorldSnapshot.PlayerView> players = new ArrayList<>();
+        for (ServerPlayer player : server.getPlayerManager().getOnlinePlayers()) {
+            Vector2 position = player.getPosition();
+            players.add(new WorldSnapshot.PlayerView(player.getUsername(), position.x, position.y,
+                player.getDirection(), player.isMoving()));
+        }
+        WildPokemonManager wildPokemon = server.getWildPokemonManager();
+        return new WorldSnapshot(currentTick, gameWorld.getName(), gameWorld.getConfig().getSeed(),
+            gameWorld.getWorldTimeInMinutes(), gameWorld.getDayLength(), gameWorld.getSpawnX(),
+            gameWorld.getSpawnY(), wildPokemon != null ? wildPokemon.getPopulation() : 0, players);
+    }
+
+    WorldSnapshot getWorldSnapshot() {
+        WorldSnapshot snapshot = worldSnapshot;
+        return snapshot != null ? snapshot : takeSnapshot();
+    }
+
+    long getCurrentTick() {
+        return currentTick;
+    }
+
     private List<String> calculateEnableOrder() {
         // Simple topological sort for dependencies
         Map<String, Set<String>> graph = new HashMap<>();
@@ -168,20 +538,31 @@ public class PluginManager {
     }
 
     public void disablePlugins() {
-        List<String> disableOrder = new ArrayList<>(loadedPlugins.keySet());
+        List<String> disableOrder = calculateEnableOrder();
         Collections.reverse(disableOrder);  // Disable in reverse order
 
         for (String pluginId : disableOrder) {
-            try {
-                ServerPlugin plugin = loadedPlugins.get(pluginId);
-                plugin.onDisable();
-                logger.info("Disabled plugin: " + pluginId);
-            } catch (Exception e) {
-                logger.severe("Error disabling plugin " + pluginId + ": " + e.getMessage());
+            disablePlugin(pluginId);
+        }
+        for (String pluginId : new ArrayList<>(loadedPlugins.keySet())) {
+            unloadPlugin(pluginId);
+        }
+    }
+
+    /**
+     * Stops the plugin tick thread and async pool. Call after {@link #disablePlugins()}.
+     */
+    public void shutdown() {
+        tickExecutor.shutdownNow();
+        asyncExecutor.shutdown();
+        try {
+            if (!asyncExecutor.awaitTermination(2, TimeUnit.SECONDS)) {
+                asyncExecutor.shutdownNow();
             }
+        } catch (InterruptedException e) {
+            asyncExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
         }
-        loadedPlugins.clear();
-        pluginConfigs.clear();
     }
 
     // Public API
@@ -189,6 +570,10 @@ public class PluginManager {
         return loadedPlugins.get(id);
     }
 
+    public PluginRuntime getRuntime(String id) {
+        return runtimes.get(id);
+    }
+
     public Collection<ServerPlugin> getPlugins() {
         return Collections.unmodifiableCollection(loadedPlugins.values());
     }
@@ -0,0 +1,279 @@
+package io.github.pokemeetup.multiplayer.server.plugin;
+
+import io.github.pokemeetup.multiplayer.server.events.EventListener;
+import io.github.pokemeetup.multiplayer.server.events.EventManager;
+import io.github.pokemeetup.multiplayer.server.events.ServerEvent;
+import io.github.pokemeetup.utils.GameLogger;
+import io.github.pokemeetup.utils.metrics.Counter;
+import io.github.pokemeetup.utils.metrics.Histogram;
+import io.github.pokemeetup.utils.metrics.MetricsRegistry;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Everything the server tracks for one loaded plugin: its scheduler, the event listeners it
+ * registered, and its resource accounting. Each tick the plugin's tasks are timed in thread CPU
+ * time against its budget. A plugin that overruns for {@link #SLOW_TICKS_TO_THROTTLE} ticks in a
+ * row is throttled, running only every 2nd, 4th, ... tick. It earns a level back after
+ * {@link #RECOVERY_TICKS} ticks within budget. Metrics are published as
+ * {@code plugin.<id>.*}.
+ */
+public final class PluginRuntime {
+    static final long DEFAULT_TICK_BUDGET_NANOS = 2_000_000L;
+    static final int SLOW_TICKS_TO_THROTTLE = 10;
+    static final int RECOVERY_TICKS = 200;
+    static final int MAX_THROTTLE_LEVEL = 5;
+    static final int MAX_ASYNC_IN_FLIGHT = 32;
+    private static final long STALL_WARNING_NANOS = 1_000_000_000L;
+    private static final int LOGGED_ERRORS = 10;
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private static final class Registration {
+        final Class<? extends ServerEvent> type;
+        final EventListener<?> listener;
+
+        Registration(Class<? extends ServerEvent> type, EventListener<?> listener) {
+            this.type = type;
+            this.listener = listener;
+        }
+    }
+
+    private final String id;
+    private final long tickBudgetNanos;
+    private final PluginManager manager;
+    private final EventManager eventManager;
+    private final Executor asyncExecutor;
+    private final PluginScheduler scheduler;
+    private final List<Registration> registrations = new CopyOnWriteArrayList<>();
+    private final AtomicInteger asyncInFlight = new AtomicInteger();
+    private volatile ClassLoader classLoader;
+
+    private final Histogram tickTime;
+    private final Histogram asyncTime;
+    private final Histogram eventTime;
+    private final Counter overBudget;
+    private final Counter skippedTicks;
+    private final Counter errors;
+    private final Counter rejected;
+
+    private volatile boolean enabled;
+    private volatile int throttleLevel;
+    private int slowTicks;
+    private int goodTicks;
+
+    PluginRuntime(String id, ClassLoader classLoader, long tickBudgetNanos, PluginManager manager,
+                  EventManager eventManager, Executor asyncExecutor) {
+        this.id = id;
+        this.classLoader = classLoader;
+        this.tickBudgetNanos = tickBudgetNanos > 0 ? tickBudgetNanos : DEFAULT_TICK_BUDGET_NANOS;
+        this.manager = manager;
+        this.eventManager = eventManager;
+        this.asyncExecutor = asyncExecutor;
+        this.scheduler = new PluginScheduler(this);
+
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        String prefix = "plugin." + id;
+        this.tickTime = metrics.histogram(prefix + ".tick");
+        this.asyncTime = metrics.histogram(prefix + ".async");
+        this.eventTime = metrics.histogram(prefix + ".event");
+        this.overBudget = metrics.counter(prefix + ".overBudget");
+        this.skippedTicks = metrics.counter(prefix + ".skippedTicks");
+        this.errors = metrics.counter(prefix + ".errors");
+        this.rejected = metrics.counter(prefix + ".asyncRejected");
+        metrics.gauge(prefix + ".throttleLevel", () -> throttleLevel);
+        metrics.gauge(prefix + ".asyncInFlight", asyncInFlight::get);
+    }
+
+    private static long cpuNanos() {
+        return THREADS.isCurrentThreadCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public PluginScheduler getScheduler() {
+        return scheduler;
+    }
+
+    public WorldSnapshot getWorldSnapshot() {
+        return manager.getWorldSnapshot();
+    }
+
+    public long getCurrentTick() {
+        return manager.getCurrentTick();
+    }
+
+    /**
+     * Registers a queued listener through the server's {@link EventManager}. Its time and errors
+     * are booked to this plugin, and it is removed when the plugin is disabled.
+     */
+    public <T extends ServerEvent> void registerListener(Class<T> eventClass, EventListener<T> listener) {
+        EventListener<T> accounted = event -> {
+            if (!enabled) {
+                return;
+            }
+            long start = System.nanoTime();
+            ClassLoader previous = enter();
+            try {
+                listener.onEvent(event);
+            } catch (Exception e) {
+                recordError("listener for " + eventClass.getSimpleName(), e);
+            } finally {
+                exit(previous);
+                eventTime.recordSince(start);
+            }
+        };
+        eventManager.registerListener(eventClass, accounted);
+        registrations.add(new Registration(eventClass, accounted));
+    }
+
+    void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getThrottleLevel() {
+        return throttleLevel;
+    }
+
+    /**
+     * Runs this plugin's due tick tasks on the plugin tick thread and updates its budget state.
+     */
+    void tick(long tick) {
+        if (!enabled || !scheduler.hasTasks()) {
+            return;
+        }
+        int level = throttleLevel;
+        if (level > 0 && (tick & ((1L << level) - 1)) != 0) {
+            skippedTicks.increment();
+            return;
+        }
+
+        long wallStart = System.nanoTime();
+        long cpuStart = cpuNanos();
+        ClassLoader previous = enter();
+        try {
+            scheduler.runDue(tick);
+        } finally {
+            exit(previous);
+        }
+        long used = cpuNanos() - cpuStart;
+        long wall = System.nanoTime() - wallStart;
+        tickTime.record(used);
+
+        if (wall > STALL_WARNING_NANOS) {
+            GameLogger.error("Plugin " + id + " held the plugin tick for " + wall / 1_000_000 + " ms");
+        }
+        if (used > tickBudgetNanos) {
+            overBudget.increment();
+            goodTicks = 0;
+            if (++slowTicks >= SLOW_TICKS_TO_THROTTLE && level < MAX_THROTTLE_LEVEL) {
+                slowTicks = 0;
+                throttleLevel = level + 1;
+                GameLogger.error(String.format("Plugin %s exceeded its %.1f ms tick budget %d ticks in a row "
+                        + "(last %.2f ms); now ticking every %d ticks", id, tickBudgetNanos / 1e6,
+                    SLOW_TICKS_TO_THROTTLE, used / 1e6, 1 << (level + 1)));
+            }
+        } else {
+            slowTicks = 0;
+            if (level > 0 && ++goodTicks >= RECOVERY_TICKS) {
+                goodTicks = 0;
+                throttleLevel = level - 1;
+                GameLogger.info("Plugin " + id + " is back within budget; now ticking every "
+                    + (1 << (level - 1)) + " ticks");
+            }
+        }
+    }
+
+    boolean submitAsync(Runnable task) {
+        if (!enabled) {
+            return false;
+        }
+        if (asyncInFlight.incrementAndGet() > MAX_ASYNC_IN_FLIGHT) {
+            asyncInFlight.decrementAndGet();
+            rejected.increment();
+            return false;
+        }
+        try {
+            asyncExecutor.execute(() -> {
+                long start = cpuNanos();
+                ClassLoader previous = enter();
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    recordError("async task", e);
+                } finally {
+                    exit(previous);
+                    asyncTime.record(cpuNanos() - start);
+                    asyncInFlight.decrementAndGet();
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            asyncInFlight.decrementAndGet();
+            rejected.increment();
+            return false;
+        }
+    }
+
+    /**
+     * Makes the plugin's class loader the current thread's context loader while plugin code runs.
+     * Threads the plugin starts inherit it, which lets the leak detector name them after an
+     * unload.
+     *
+     * @return the previous context loader, for {@link #exit(ClassLoader)}
+     */
+    ClassLoader enter() {
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        ClassLoader loader = classLoader;
+        if (loader != null) {
+            thread.setContextClassLoader(loader);
+        }
+        return previous;
+    }
+
+    static void exit(ClassLoader previous) {
+        Thread.currentThread().setContextClassLoader(previous);
+    }
+
+    void recordError(String where, Throwable e) {
+        errors.increment();
+        long count = errors.get();
+        // A plugin failing every tick would otherwise flood the log
+        if (count <= LOGGED_ERRORS || count % 1000 == 0) {
+            GameLogger.error("Plugin " + id + " " + where + " failed (" + count + " errors): " + e);
+        }
+    }
+
+    /**
+     * Stops the plugin's tasks and removes its listeners. Async tasks already running finish.
+     */
+    void close() {
+        enabled = false;
+        scheduler.cancelAll();
+        for (Registration registration : registrations) {
+            eventManager.unregisterListener(registration.type, registration.listener);
+        }
+        registrations.clear();
+    }
+
+    /**
+     * Drops the class loader reference once the plugin is unloaded. The metrics registry keeps
+     * this runtime reachable through its gauges, and must not keep the plugin's classes with it.
+     */
+    void release() {
+        close();
+        classLoader = null;
+    }
+}
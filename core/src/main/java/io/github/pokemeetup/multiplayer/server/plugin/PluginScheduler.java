@@ -0,0 +1,97 @@
+package io.github.pokemeetup.multiplayer.server.plugin;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A plugin's handle for periodic and background work, so it never needs threads of its own.
+ * Tick tasks run on the shared plugin tick thread at {@link PluginManager#TICK_RATE} Hz and
+ * count against the plugin's tick budget. Async tasks run on a small shared pool with a bounded
+ * queue; a submission is refused rather than queued without limit.
+ */
+public final class PluginScheduler {
+    public static final class Task {
+        private final Runnable runnable;
+        private final int periodTicks;
+        private final long firstTick;
+        private volatile boolean cancelled;
+
+        private Task(Runnable runnable, int periodTicks, long firstTick) {
+            this.runnable = runnable;
+            this.periodTicks = periodTicks;
+            this.firstTick = firstTick;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    private final PluginRuntime runtime;
+    private final List<Task> tasks = new CopyOnWriteArrayList<>();
+
+    PluginScheduler(PluginRuntime runtime) {
+        this.runtime = runtime;
+    }
+
+    public Task runEveryTick(Runnable task) {
+        return runTimer(task, 1);
+    }
+
+    /**
+     * Runs {@code task} on the plugin tick thread every {@code periodTicks} ticks, starting
+     * with the next one.
+     */
+    public Task runTimer(Runnable task, int periodTicks) {
+        if (periodTicks < 1) {
+            throw new IllegalArgumentException("periodTicks must be at least 1");
+        }
+        Task scheduled = new Task(task, periodTicks, runtime.getCurrentTick() + 1);
+        tasks.add(scheduled);
+        return scheduled;
+    }
+
+    /**
+     * Runs {@code task} on the shared async pool. Returns false if the plugin already has too
+     * many tasks in flight or the pool is saturated.
+     */
+    public boolean runAsync(Runnable task) {
+        return runtime.submitAsync(task);
+    }
+
+    public long getCurrentTick() {
+        return runtime.getCurrentTick();
+    }
+
+    boolean hasTasks() {
+        return !tasks.isEmpty();
+    }
+
+    void runDue(long tick) {
+        for (Task task : tasks) {
+            if (task.cancelled) {
+                tasks.remove(task);
+                continue;
+            }
+            if (tick < task.firstTick || (tick - task.firstTick) % task.periodTicks != 0) {
+                continue;
+            }
+            try {
+                task.runnable.run();
+            } catch (Exception e) {
+                runtime.recordError("tick task", e);
+            }
+        }
+    }
+
+    void cancelAll() {
+        for (Task task : tasks) {
+            task.cancel();
+        }
+        tasks.clear();
+    }
+}
@@ -0,0 +1,122 @@
+package io.github.pokemeetup.multiplayer.server.plugin;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable copy of the world state plugins may read, taken once per plugin tick. Plugins hold
+ * no reference to live server objects, so they cannot race with the game thread or change
+ * the world behind its back.
+ */
+public final class WorldSnapshot {
+    public static final class PlayerView {
+        private final String username;
+        private final float x;
+        private final float y;
+        private final String direction;
+        private final boolean moving;
+
+        public PlayerView(String username, float x, float y, String direction, boolean moving) {
+            this.username = username;
+            this.x = x;
+            this.y = y;
+            this.direction = direction;
+            this.moving = moving;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        /**
+         * Position in pixels.
+         */
+        public float getX() {
+            return x;
+        }
+
+        public float getY() {
+            return y;
+        }
+
+        public String getDirection() {
+            return direction;
+        }
+
+        public boolean isMoving() {
+            return moving;
+        }
+    }
+
+    private final long tick;
+    private final String worldName;
+    private final long seed;
+    private final double worldTimeInMinutes;
+    private final float dayLength;
+    private final int spawnX;
+    private final int spawnY;
+    private final int wildPokemonCount;
+    private final List<PlayerView> players;
+
+    public WorldSnapshot(long tick, String worldName, long seed, double worldTimeInMinutes, float dayLength,
+                         int spawnX, int spawnY, int wildPokemonCount, List<PlayerView> players) {
+        this.tick = tick;
+        this.worldName = worldName;
+        this.seed = seed;
+        this.worldTimeInMinutes = worldTimeInMinutes;
+        this.dayLength = dayLength;
+        this.spawnX = spawnX;
+        this.spawnY = spawnY;
+        this.wildPokemonCount = wildPokemonCount;
+        this.players = Collections.unmodifiableList(new ArrayList<>(players));
+    }
+
+    /**
+     * The plugin tick this snapshot was taken for.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    public String getWorldName() {
+        return worldName;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public double getWorldTimeInMinutes() {
+        return worldTimeInMinutes;
+    }
+
+    public float getDayLength() {
+        return dayLength;
+    }
+
+    public int getSpawnX() {
+        return spawnX;
+    }
+
+    public int getSpawnY() {
+        return spawnY;
+    }
+
+    public int getWildPokemonCount() {
+        return wildPokemonCount;
+    }
+
+    public List<PlayerView> getPlayers() {
+        return players;
+    }
+
+    public PlayerView getPlayer(String username) {
+        for (PlayerView player : players) {
+            if (player.username.equals(username)) {
+                return player;
+            }
+        }
+        return null;
+    }
+}
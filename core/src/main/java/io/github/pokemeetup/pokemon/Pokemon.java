@@ -2,15 +2,14 @@ package io.github.pokemeetup.pokemon;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import io.github.pokemeetup.pokemon.attacks.Move;
 import io.github.pokemeetup.pokemon.data.PokemonDatabase;
 import io.github.pokemeetup.system.battle.BattleCompletionHandler;
 import io.github.pokemeetup.system.gameplay.PokemonAnimations;
 import io.github.pokemeetup.utils.GameLogger;
-import io.github.pokemeetup.utils.textures.TextureManager;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -51,7 +50,8 @@ public class Pokemon {
     private Vector2 position;
     private String direction;
     private boolean isMoving;
-    private TextureRegion[] iconFrames; // Array to hold both frames
+    private PokemonSpriteCache.SpeciesSprites sprites; // Shared per species, see PokemonSpriteCache
+    private boolean spritesLoaded; // Sprites are looked up on first draw, see ensureSprites
     private int currentIconFrame;       // Index to track the current frame
     private float frameDuration = 0.5f; // Duration each frame is shown in seconds
     private float frameTimer = 0;
@@ -62,20 +62,48 @@ public class Pokemon {
         this.nature = generateNature();
         this.isShiny = calculateShinyStatus();
         this.stats = new Stats();
-        TextureRegion iconSheet = TextureManager.getPokemonicon().findRegion(name.toUpperCase() + "_icon");
         this.moves = new ArrayList<>();
-        iconFrames = new TextureRegion[2];
-        iconFrames[0] = new TextureRegion(iconSheet, 0, 0, iconSheet.getRegionWidth() / 2, iconSheet.getRegionHeight());
-        iconFrames[1] = new TextureRegion(iconSheet, iconSheet.getRegionWidth() / 2, 0, iconSheet.getRegionWidth() / 2, iconSheet.getRegionHeight());
 
         this.position = new Vector2();
         this.direction = "down";
         this.isMoving = false;
         this.currentHp = stats.getHp();
-        loadIcons(TextureManager.getPokemonicon());
-        loadFront(TextureManager.getPokemonfront());
-        loadBack(TextureManager.getPokemonback());
-        loadOverworld(TextureManager.getPokemonoverworld());
+    }
+
+    /**
+     * Loads the species sprites the first time something asks for them. Pokemon that are only
+     * simulated, as on the dedicated server, never do, so they never touch a texture.
+     */
+    private void ensureSprites() {
+        if (spritesLoaded) {
+            return;
+        }
+        spritesLoaded = true;
+        sprites = PokemonSpriteCache.acquire(name);
+        iconSprite = sprites.getIconSprite();
+        frontSprite = sprites.getFrontSprite();
+        frontShinySprite = sprites.getFrontShinySprite();
+        backSprite = sprites.getBackSprite();
+        backShinySprite = sprites.getBackShinySprite();
+        if (sprites.getOverworldFrames() != null) {
+            animations = new PokemonAnimations(sprites.getOverworldFrames());
+        }
+    }
+
+    /**
+     * Drops this instance's reference to the shared species sprites so the cache can evict
+     * them once no live instance of the species remains. Safe to call more than once.
+     */
+    public void releaseSprites() {
+        if (sprites != null) {
+            PokemonSpriteCache.release(sprites);
+            sprites = null;
+        }
+    }
+
+    protected PokemonSpriteCache.SpeciesSprites getSprites() {
+        ensureSprites();
+        return sprites;
     }
 
     public void heal() {
@@ -293,28 +321,13 @@ public class Pokemon {
         frameTimer += delta;
         if (frameTimer >= frameDuration) {
             frameTimer = 0;
-            currentIconFrame = (currentIconFrame + 1) % iconFrames.length; // Toggle between frames
+            currentIconFrame = (currentIconFrame + 1) % 2; // Toggle between frames
         }
-        return iconFrames[currentIconFrame];
+        ensureSprites();
+        return sprites != null ? sprites.getIconFrame(currentIconFrame) : iconSprite;
     }
 
-    private void loadIcons(TextureAtlas atlas) {
-        String baseName = name.toUpperCase();
-//        GameLogger.info("Loading sprites for: " + baseName);
-        // Load battle and icon sprites
-        iconSprite = atlas.findRegion(baseName + "_icon");
-        // Load overworld sprite sheet
-    }
-
-    private void loadOverworld(TextureAtlas atlas) {
-        String baseName = name.toUpperCase();
-        TextureRegion overworldSheet = atlas.findRegion(baseName + "_overworld");
-        if (overworldSheet != null) {
-            animations = new PokemonAnimations(overworldSheet);
-        } else {
-            GameLogger.error("Failed to load overworld sprite sheet for: " + name);
-        }
-    }private void levelUp() {
+    private void levelUp() {
         level++;
         // Recalculate stats on level up
         calculateStats();
@@ -330,10 +343,8 @@ public class Pokemon {
         for (PokemonDatabase.MoveEntry entry : moveEntries) {
             if (entry.level == level) {
                 // Learn the new move
-                Move newMove = PokemonDatabase.getMoveByName(entry.name);
-                if (newMove != null) {
-                    // Clone the move
-                    Move clonedMove = PokemonDatabase.cloneMove(newMove);
+                Move clonedMove = PokemonDatabase.getMoveByName(entry.name);
+                if (clonedMove != null) {
                     // If already have 4 moves, replace the oldest one or prompt the player
                     if (moves.size() < 4) {
                         moves.add(clonedMove);
@@ -349,25 +360,6 @@ public class Pokemon {
     }
 
 
-    private void loadFront(TextureAtlas atlas) {
-        String baseName = name.toUpperCase();
-        GameLogger.info("Loading sprites for: " + baseName);
-        // Load battle and icon sprites
-        frontSprite = atlas.findRegion(baseName + "_front");
-        frontShinySprite = atlas.findRegion(baseName + "_front_shiny");
-        // Load overworld sprite sheet
-
-    }
-
-    private void loadBack(TextureAtlas atlas) {
-        String baseName = name.toUpperCase();
-        GameLogger.info("Loading sprites for: " + baseName);
-        // Load battle and icon sprites
-        backSprite = atlas.findRegion(baseName + "_back");
-        backShinySprite = atlas.findRegion(baseName + "_back_shiny");
-
-    }
-
     public void update(float delta) {
         if (animations != null) {
             animations.update(delta);
@@ -375,42 +367,52 @@ public class Pokemon {
     }
 
     public TextureRegion getIconSprite() {
+        ensureSprites();
         return iconSprite;
     }
 
     public void setIconSprite(TextureRegion iconSprite) {
+        ensureSprites();
         this.iconSprite = iconSprite;
     }
 
     public TextureRegion getFrontSprite() {
+        ensureSprites();
         return frontSprite;
     }
 
     public void setFrontSprite(TextureRegion frontSprite) {
+        ensureSprites();
         this.frontSprite = frontSprite;
     }
 
     public TextureRegion getBackSprite() {
+        ensureSprites();
         return backSprite;
     }
 
     public void setBackSprite(TextureRegion backSprite) {
+        ensureSprites();
         this.backSprite = backSprite;
     }
 
     public TextureRegion getFrontShinySprite() {
+        ensureSprites();
         return frontShinySprite;
     }
 
     public void setFrontShinySprite(TextureRegion frontShinySprite) {
+        ensureSprites();
         this.frontShinySprite = frontShinySprite;
     }
 
     public TextureRegion getBackShinySprite() {
+        ensureSprites();
         return backShinySprite;
     }
 
     public void setBackShinySprite(TextureRegion backShinySprite) {
+        ensureSprites();
         this.backShinySprite = backShinySprite;
     }
 
@@ -439,6 +441,7 @@ public class Pokemon {
     }
 
     public void render(SpriteBatch batch) {
+        ensureSprites();
         if (animations != null) {
             TextureRegion currentFrame = animations.getCurrentFrame(direction, isMoving, Gdx.graphics.getDeltaTime());
             batch.draw(currentFrame, position.x, position.y);
@@ -451,11 +454,11 @@ public class Pokemon {
             "Relaxed", "Impish", "Lax", "Timid", "Hasty", "Serious", "Jolly",
             "Naive", "Modest", "Mild", "Quiet", "Bashful", "Rash", "Calm",
             "Gentle", "Sassy", "Careful", "Quirky"};
-        return natures[new Random().nextInt(natures.length)];
+        return natures[MathUtils.random(natures.length - 1)];
     }
 
     private boolean calculateShinyStatus() {
-        return new Random().nextInt(4096) == 0; // 1/4096 chance in modern games
+        return MathUtils.random(4095) == 0; // 1/4096 chance in modern games
     }
 
     // Getters and setters
@@ -540,6 +543,7 @@ public class Pokemon {
     }
 
     public PokemonAnimations getAnimations() {
+        ensureSprites();
         return animations;
     }
 
@@ -556,6 +560,7 @@ public class Pokemon {
     }
 
     public void setAnimations(PokemonAnimations animations) {
+        ensureSprites();
         this.animations = animations;
     }
 
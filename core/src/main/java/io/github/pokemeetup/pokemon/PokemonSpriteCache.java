@@ -0,0 +1,135 @@
+package io.github.pokemeetup.pokemon;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import io.github.pokemeetup.system.gameplay.PokemonAnimations;
+import io.github.pokemeetup.utils.GameLogger;
+import io.github.pokemeetup.utils.textures.TextureManager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Species-keyed cache of the sprites every Pokemon instance needs. Atlas lookups and
+ * sprite sheet splitting happen once per species; instances only hold references.
+ * Entries are reference counted and dropped when the last live instance releases them.
+ */
+public final class PokemonSpriteCache {
+    private static final Map<String, SpeciesSprites> cache = new HashMap<>();
+
+    private PokemonSpriteCache() {
+    }
+
+    public static synchronized SpeciesSprites acquire(String name) {
+        String key = name.toUpperCase();
+        SpeciesSprites sprites = cache.get(key);
+        if (sprites == null) {
+            sprites = new SpeciesSprites(key);
+            cache.put(key, sprites);
+        }
+        sprites.references++;
+        return sprites;
+    }
+
+    public static synchronized void release(SpeciesSprites sprites) {
+        if (sprites == null) {
+            return;
+        }
+        if (--sprites.references <= 0 && cache.get(sprites.species) == sprites) {
+            cache.remove(sprites.species);
+        }
+    }
+
+    public static synchronized int size() {
+        return cache.size();
+    }
+
+    public static synchronized void clear() {
+        cache.clear();
+    }
+
+    /**
+     * Immutable sprite set for one species.
+     */
+    public static final class SpeciesSprites {
+        private final String species;
+        private final TextureRegion iconSprite;
+        private final TextureRegion[] iconFrames;
+        private final TextureRegion frontSprite;
+        private final TextureRegion frontShinySprite;
+        private final TextureRegion backSprite;
+        private final TextureRegion backShinySprite;
+        private final PokemonAnimations.FrameSet overworldFrames;
+        private int references;
+
+        private SpeciesSprites(String species) {
+            this.species = species;
+
+            TextureAtlas icons = TextureManager.getPokemonicon();
+            TextureAtlas front = TextureManager.getPokemonfront();
+            TextureAtlas back = TextureManager.getPokemonback();
+            TextureAtlas overworld = TextureManager.getPokemonoverworld();
+
+            this.iconSprite = icons != null ? icons.findRegion(species + "_icon") : null;
+            if (iconSprite != null) {
+                int half = iconSprite.getRegionWidth() / 2;
+                this.iconFrames = new TextureRegion[]{
+                    new TextureRegion(iconSprite, 0, 0, half, iconSprite.getRegionHeight()),
+                    new TextureRegion(iconSprite, half, 0, half, iconSprite.getRegionHeight())
+                };
+            } else {
+                GameLogger.error("Failed to load icon for: " + species);
+                this.iconFrames = new TextureRegion[]{null, null};
+            }
+
+            this.frontSprite = front != null ? front.findRegion(species + "_front") : null;
+            this.frontShinySprite = front != null ? front.findRegion(species + "_front_shiny") : null;
+            this.backSprite = back != null ? back.findRegion(species + "_back") : null;
+            this.backShinySprite = back != null ? back.findRegion(species + "_back_shiny") : null;
+
+            TextureRegion overworldSheet = overworld != null ? overworld.findRegion(species + "_overworld") : null;
+            if (overworldSheet != null) {
+                this.overworldFrames = PokemonAnimations.FrameSet.fromSpriteSheet(overworldSheet);
+            } else {
+                GameLogger.error("Failed to load overworld sprite sheet for: " + species);
+                this.overworldFrames = null;
+            }
+        }
+
+        public String getSpecies() {
+            return species;
+        }
+
+        public TextureRegion getIconSprite() {
+            return iconSprite;
+        }
+
+        public TextureRegion getIconFrame(int index) {
+            return iconFrames[index];
+        }
+
+        public int getIconFrameCount() {
+            return iconFrames.length;
+        }
+
+        public TextureRegion getFrontSprite() {
+            return frontSprite;
+        }
+
+        public TextureRegion getFrontShinySprite() {
+            return frontShinySprite;
+        }
+
+        public TextureRegion getBackSprite() {
+            return backSprite;
+        }
+
+        public TextureRegion getBackShinySprite() {
+            return backShinySprite;
+        }
+
+        public PokemonAnimations.FrameSet getOverworldFrames() {
+            return overworldFrames;
+        }
+    }
+}
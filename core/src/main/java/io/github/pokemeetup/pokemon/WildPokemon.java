@@ -20,7 +20,6 @@ import io.github.pokemeetup.utils.GameLogger;
 
 import java.util.Collection;
 import java.util.List;
-import java.util.Random;
 
 import static io.github.pokemeetup.system.gameplay.PokemonAnimations.IDLE_BOUNCE_DURATION;
 
@@ -38,12 +37,11 @@ public class WildPokemon extends Pokemon {
     private static final float IDLE_BOUNCE_HEIGHT = 2f;
     private static final float IDLE_SWAY_AMOUNT = 0.5f; // Horizontal sway amount
     private static final float RANDOM_IDLE_INTERVAL = 3f; // Average seconds between idles
-    private final PokemonAnimations animations;
+    private final TextureRegion overworldSprite; // Null on the server
+    private PokemonAnimations animations; // Built on first draw, see getAnimations
     private final float width;
     private final float height;
     private final Rectangle boundingBox;
-    // Add to existing fields
-    private final Random random = new Random();
     private float pixelX;  // Store exact pixel positions
     private float pixelY;
     private World world;
@@ -87,7 +85,7 @@ public class WildPokemon extends Pokemon {
         this.startPosition = new Vector2(pixelX, pixelY);
         this.targetPosition = new Vector2(pixelX, pixelY);
         this.direction = "down";
-        this.animations = new PokemonAnimations(overworldSprite);
+        this.overworldSprite = overworldSprite;
         this.width = World.TILE_SIZE * SCALE;
         this.height = World.TILE_SIZE * SCALE;
         float collisionWidth = TILE_SIZE * COLLISION_SCALE;
@@ -164,8 +162,21 @@ public class WildPokemon extends Pokemon {
         return boundingBox;
     }
 
+    /**
+     * Built on first use, so Pokemon that are only simulated never touch sprites. Reuses the
+     * playback state over the species' shared frames, and only splits the supplied sheet when
+     * the species has no cached overworld frames.
+     */
     @Override
     public PokemonAnimations getAnimations() {
+        if (animations == null) {
+            PokemonAnimations shared = super.getAnimations();
+            if (shared != null) {
+                animations = shared;
+            } else if (overworldSprite != null) {
+                animations = new PokemonAnimations(overworldSprite);
+            }
+        }
         return animations;
     }
 
@@ -255,6 +266,7 @@ public class WildPokemon extends Pokemon {
     }
 
     public TextureRegion getCurrentFrame() {
+        PokemonAnimations animations = getAnimations();
         if (animations != null) {
             return animations.getCurrentFrame(direction, isMoving, Gdx.graphics.getDeltaTime());
         }
@@ -465,7 +477,9 @@ public class WildPokemon extends Pokemon {
             this.movementProgress = 0f;
 
             // Start walking animation
-            animations.startMoving(direction);
+            if (animations != null) {
+                animations.startMoving(direction);
+            }
 
             GameLogger.info(String.format(
                 "%s starting movement from (%.1f,%.1f) to (%.1f,%.1f) dir:%s distance:%.1f",
@@ -5,80 +5,45 @@ import io.github.pokemeetup.pokemon.Pokemon;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * A move known by one Pokemon. The move's data lives in a shared {@link MoveDefinition};
+ * the only per-instance state is the remaining PP.
+ */
 public class Move {
-    private String name;
-    private Pokemon.PokemonType type;
-    private int power;
-    private int accuracy;
+    private final MoveDefinition definition;
     private int pp;
-    private int maxPp;
 
-    public void setName(String name) {
-        this.name = name;
-    }
-
-    public void setType(Pokemon.PokemonType type) {
-        this.type = type;
-    }
-
-    public void setPower(int power) {
-        this.power = power;
-    }
-
-    public void setAccuracy(int accuracy) {
-        this.accuracy = accuracy;
-    }
-
-    public void setPp(int pp) {
+    public Move(MoveDefinition definition, int pp) {
+        this.definition = definition;
         this.pp = pp;
     }
 
-    public void setMaxPp(int maxPp) {
-        this.maxPp = maxPp;
-    }
-
-    public void setSpecial(boolean special) {
-        isSpecial = special;
-    }
-
-    public void setDescription(String description) {
-        this.description = description;
-    }
-
-    public void setEffect(MoveEffect effect) {
-        this.effect = effect;
+    public MoveDefinition getDefinition() {
+        return definition;
     }
 
-    public void setCanFlinch(boolean canFlinch) {
-        this.canFlinch = canFlinch;
+    public void setPp(int pp) {
+        this.pp = Math.max(0, Math.min(pp, definition.getMaxPp()));
     }
 
-    private boolean isSpecial;
-    private String description;
-
-    private MoveEffect effect;
-    private boolean canFlinch;
-
-    // Constructors, Getters, and Setters
-
-    public Move() {
-        // Default constructor
+    public void restorePp() {
+        this.pp = definition.getMaxPp();
     }
 
     public String getName() {
-        return name;
+        return definition.getName();
     }
 
     public Pokemon.PokemonType getType() {
-        return type;
+        return definition.getType();
     }
 
     public int getPower() {
-        return power;
+        return definition.getPower();
     }
 
     public int getAccuracy() {
-        return accuracy;
+        return definition.getAccuracy();
     }
 
     public int getPp() {
@@ -86,23 +51,23 @@ public class Move {
     }
 
     public int getMaxPp() {
-        return maxPp;
+        return definition.getMaxPp();
     }
 
     public boolean isSpecial() {
-        return isSpecial;
+        return definition.isSpecial();
     }
 
     public String getDescription() {
-        return description;
+        return definition.getDescription();
     }
 
     public MoveEffect getEffect() {
-        return effect;
+        return definition.getEffect();
     }
 
     public boolean canFlinch() {
-        return canFlinch;
+        return definition.canFlinch();
     }
 
     public static class MoveEffect {
@@ -179,52 +144,70 @@ public class Move {
 
     // Builder pattern for move creation
     public static class Builder {
-        private final Move move;
+        private final String name;
+        private final Pokemon.PokemonType type;
+        private int power;
+        private int accuracy;
+        private int pp;
+        private int maxPp;
+        private boolean isSpecial;
+        private String description;
+        private MoveEffect effect;
+        private boolean canFlinch;
 
         public Builder(String name, Pokemon.PokemonType type) {
-            move = new Move();
-            move.name = name;
-            move.type = type;
+            this.name = name;
+            this.type = type;
         }
 
         public Builder power(int power) {
-            move.power = power;
+            this.power = power;
             return this;
         }
 
         public Builder accuracy(int accuracy) {
-            move.accuracy = accuracy;
+            this.accuracy = accuracy;
             return this;
         }
 
         public Builder pp(int pp) {
-            move.pp = pp;
-            move.maxPp = pp;
+            this.pp = pp;
+            this.maxPp = pp;
+            return this;
+        }
+
+        public Builder maxPp(int maxPp) {
+            this.maxPp = maxPp;
             return this;
         }
 
         public Builder special(boolean isSpecial) {
-            move.isSpecial = isSpecial;
+            this.isSpecial = isSpecial;
             return this;
         }
 
         public Builder description(String description) {
-            move.description = description;
+            this.description = description;
             return this;
         }
 
         public Builder effect(MoveEffect effect) {
-            move.effect = effect;
+            this.effect = effect;
             return this;
         }
 
         public Builder canFlinch(boolean canFlinch) {
-            move.canFlinch = canFlinch;
+            this.canFlinch = canFlinch;
             return this;
         }
 
+        public MoveDefinition buildDefinition() {
+            return new MoveDefinition(MoveDefinition.NO_ID, name, type, power, accuracy, Math.max(pp, maxPp),
+                isSpecial, description, effect, canFlinch);
+        }
+
         public Move build() {
-            return move;
+            return new Move(buildDefinition(), pp);
         }
     }
 }
@@ -0,0 +1,90 @@
+package io.github.pokemeetup.pokemon.attacks;
+
+import io.github.pokemeetup.pokemon.Pokemon;
+
+/**
+ * Immutable data for one move, shared by every {@link Move} instance of it. Moves loaded
+ * from the database carry their index in the database as {@link #getId()}; moves built
+ * ad hoc through {@link Move.Builder} have id {@link #NO_ID}.
+ * <p>
+ * The effect is shared as well and must be treated as read-only.
+ */
+public final class MoveDefinition {
+    public static final int NO_ID = -1;
+
+    private final int id;
+    private final String name;
+    private final Pokemon.PokemonType type;
+    private final int power;
+    private final int accuracy;
+    private final int maxPp;
+    private final boolean special;
+    private final String description;
+    private final Move.MoveEffect effect;
+    private final boolean canFlinch;
+
+    public MoveDefinition(int id, String name, Pokemon.PokemonType type, int power, int accuracy, int maxPp,
+                          boolean special, String description, Move.MoveEffect effect, boolean canFlinch) {
+        this.id = id;
+        this.name = name;
+        this.type = type;
+        this.power = power;
+        this.accuracy = accuracy;
+        this.maxPp = maxPp;
+        this.special = special;
+        this.description = description;
+        this.effect = effect;
+        this.canFlinch = canFlinch;
+    }
+
+    MoveDefinition withId(int id) {
+        return new MoveDefinition(id, name, type, power, accuracy, maxPp, special, description, effect, canFlinch);
+    }
+
+    /**
+     * Creates a move instance at full PP.
+     */
+    public Move newInstance() {
+        return new Move(this, maxPp);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Pokemon.PokemonType getType() {
+        return type;
+    }
+
+    public int getPower() {
+        return power;
+    }
+
+    public int getAccuracy() {
+        return accuracy;
+    }
+
+    public int getMaxPp() {
+        return maxPp;
+    }
+
+    public boolean isSpecial() {
+        return special;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Move.MoveEffect getEffect() {
+        return effect;
+    }
+
+    public boolean canFlinch() {
+        return canFlinch;
+    }
+}
@@ -1,65 +1,48 @@
 package io.github.pokemeetup.pokemon.attacks;
 
-import com.google.gson.*;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import io.github.pokemeetup.pokemon.Pokemon;
 
-import java.io.FileReader;
 import java.io.IOException;
-import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.*;
 
+/**
+ * Parses {@code moves.json} into shared {@link MoveDefinition}s. Definitions are sorted by
+ * name and numbered in that order, so move ids are stable for a given moves.json.
+ */
 public class MoveLoader {
-    public static Map<String, Move> loadMovesFromJson(String jsonContent) {
-        Gson gson = new GsonBuilder().create();
-        Map<String, Move> moves = new HashMap<>();
+    public static List<MoveDefinition> loadMovesFromJson(String jsonContent) {
+        List<MoveDefinition> moves = new ArrayList<>();
 
         try {
-            // Parse the JSON string
             JsonObject jsonObject = JsonParser.parseString(jsonContent).getAsJsonObject();
-
-            // Get the "moves" object
             JsonObject movesJson = jsonObject.getAsJsonObject("moves");
 
-            // Iterate over each move
             for (Map.Entry<String, JsonElement> entry : movesJson.entrySet()) {
-                String moveName = entry.getKey();
-                JsonObject moveJson = entry.getValue().getAsJsonObject();
-
-                Move move = parseMove(moveName, moveJson);
-                moves.put(moveName, move);
+                moves.add(parseMove(entry.getKey(), entry.getValue().getAsJsonObject()));
             }
         } catch (Exception e) {
             throw new RuntimeException("Failed to parse moves JSON: " + e.getMessage());
         }
 
+        moves.sort(Comparator.comparing(MoveDefinition::getName));
+        for (int i = 0; i < moves.size(); i++) {
+            moves.set(i, moves.get(i).withId(i));
+        }
         return moves;
     }
-    public static Map<String, Move> loadMoves(String jsonFilePath) throws IOException {
-        Gson gson = new GsonBuilder().create();
-        Map<String, Move> moves = new HashMap<>();
-
-        // Read the JSON file
-        JsonObject jsonObject;
-        try (FileReader reader = new FileReader(jsonFilePath)) {
-            jsonObject = JsonParser.parseReader(reader).getAsJsonObject();
-        }
-
-        // Get the "moves" object
-        JsonObject movesJson = jsonObject.getAsJsonObject("moves");
 
-        // Iterate over each move
-        for (Map.Entry<String, JsonElement> entry : movesJson.entrySet()) {
-            String moveName = entry.getKey();
-            JsonObject moveJson = entry.getValue().getAsJsonObject();
-
-            Move move = parseMove(moveName, moveJson);
-            moves.put(moveName, move);
-        }
-
-        return moves;
+    public static List<MoveDefinition> loadMoves(String jsonFilePath) throws IOException {
+        byte[] bytes = Files.readAllBytes(Paths.get(jsonFilePath));
+        return loadMovesFromJson(new String(bytes, StandardCharsets.UTF_8));
     }
 
-    private static Move parseMove(String moveName, JsonObject moveJson) {
+    private static MoveDefinition parseMove(String moveName, JsonObject moveJson) {
         // Extract basic fields
         String typeStr = moveJson.get("type").getAsString();
         int power = moveJson.get("power").getAsInt();
@@ -86,7 +69,7 @@ public class MoveLoader {
             builder.effect(effect);
         }
 
-        return builder.build();
+        return builder.buildDefinition();
     }
 
     private static Move.MoveEffect parseMoveEffect(JsonObject effectsJson) {
@@ -120,7 +103,7 @@ public class MoveLoader {
                 int change = statEntry.getValue().getAsInt();
                 statModifiers.put(stat, change);
             }
-            effect.setStatModifiers(statModifiers);
+            effect.setStatModifiers(Collections.unmodifiableMap(statModifiers));
         }
 
         // Set animation and sound
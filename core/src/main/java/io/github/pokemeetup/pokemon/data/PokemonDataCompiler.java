@@ -0,0 +1,73 @@
+package io.github.pokemeetup.pokemon.data;
+
+import io.github.pokemeetup.pokemon.attacks.MoveDefinition;
+import io.github.pokemeetup.pokemon.attacks.MoveLoader;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Build step that compiles {@code moves.json} and {@code pokemon.json} into
+ * {@link PokemonDataSnapshot#SNAPSHOT_FILE}. Run through the {@code compileGameData}
+ * Gradle task: {@code PokemonDataCompiler <data dir> <output file>}.
+ */
+public final class PokemonDataCompiler {
+    private PokemonDataCompiler() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: PokemonDataCompiler <data dir> <output file>");
+            System.exit(1);
+        }
+        File dataDir = new File(args[0]);
+        File output = new File(args[1]);
+
+        long startTime = System.nanoTime();
+        String movesJson = new String(Files.readAllBytes(new File(dataDir, "moves.json").toPath()), StandardCharsets.UTF_8);
+        String pokemonJson = new String(Files.readAllBytes(new File(dataDir, "pokemon.json").toPath()), StandardCharsets.UTF_8);
+
+        List<MoveDefinition> moves = MoveLoader.loadMovesFromJson(movesJson);
+        Map<String, MoveDefinition> movesByName = new HashMap<>();
+        for (MoveDefinition move : moves) {
+            movesByName.put(move.getName().toLowerCase(), move);
+        }
+        List<PokemonDatabase.PokemonTemplate> species = PokemonDatabase.parseSpecies(pokemonJson, movesByName);
+        long parseMs = (System.nanoTime() - startTime) / 1_000_000L;
+
+        File parent = output.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("Could not create " + parent);
+        }
+        long checksum = PokemonDataSnapshot.checksum(movesJson, pokemonJson);
+        try (OutputStream out = new FileOutputStream(output)) {
+            PokemonDataSnapshot.write(out, moves, species, checksum);
+        }
+
+        // Read it back the way PokemonDatabase does, so the build log shows both load times and
+        // a snapshot that does not match its JSON fails the build instead of shipping
+        long readStart = System.nanoTime();
+        PokemonDataSnapshot snapshot;
+        try (InputStream in = new FileInputStream(output)) {
+            snapshot = PokemonDataSnapshot.read(in);
+        }
+        long readMs = (System.nanoTime() - readStart) / 1_000_000L;
+        if (snapshot.sourceChecksum != checksum || snapshot.moves.size() != moves.size()
+            || snapshot.species.size() != species.size()) {
+            throw new IOException("Snapshot " + output + " does not read back as written");
+        }
+
+        System.out.println("Compiled " + moves.size() + " moves and " + species.size() + " Pokemon into " +
+            output + " (" + output.length() + " bytes). Loading from JSON took " + parseMs +
+            " ms, from the snapshot " + readMs + " ms");
+    }
+}
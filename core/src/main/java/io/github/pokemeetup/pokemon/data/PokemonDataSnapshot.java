@@ -0,0 +1,201 @@
+package io.github.pokemeetup.pokemon.data;
+
+import io.github.pokemeetup.pokemon.Pokemon;
+import io.github.pokemeetup.pokemon.attacks.Move;
+import io.github.pokemeetup.pokemon.attacks.MoveDefinition;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.zip.CRC32;
+
+/**
+ * Binary form of {@code moves.json} and {@code pokemon.json}, written at build time by
+ * {@link PokemonDataCompiler} and read by {@link PokemonDatabase} instead of parsing JSON.
+ * Moves are stored in id order and species refer to them by id.
+ * <p>
+ * The header carries a checksum of the JSON the snapshot was compiled from, which the compiler
+ * verifies when it reads the snapshot back. The game does not check it: the build recompiles the
+ * snapshot whenever the JSON changes, and the point of the snapshot is not to read the JSON at
+ * all.
+ */
+public final class PokemonDataSnapshot {
+    /**
+     * Where the build puts the snapshot: in the core jar's resources and in the Android assets.
+     */
+    public static final String SNAPSHOT_FILE = "data/pokemon.bin";
+
+    private static final int MAGIC = 0x504D4442; // "PMDB"
+    private static final int VERSION = 1;
+
+    final long sourceChecksum;
+    final List<MoveDefinition> moves;
+    final List<PokemonDatabase.PokemonTemplate> species;
+
+    PokemonDataSnapshot(long sourceChecksum, List<MoveDefinition> moves, List<PokemonDatabase.PokemonTemplate> species) {
+        this.sourceChecksum = sourceChecksum;
+        this.moves = moves;
+        this.species = species;
+    }
+
+    public static long checksum(String movesJson, String pokemonJson) {
+        CRC32 crc = new CRC32();
+        crc.update(movesJson.getBytes(StandardCharsets.UTF_8));
+        crc.update(pokemonJson.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+
+    public static void write(OutputStream target, List<MoveDefinition> moves,
+                             Collection<PokemonDatabase.PokemonTemplate> species, long sourceChecksum) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(target));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(sourceChecksum);
+
+        out.writeInt(moves.size());
+        for (MoveDefinition move : moves) {
+            out.writeUTF(move.getName());
+            out.writeByte(move.getType().ordinal());
+            out.writeShort(move.getPower());
+            out.writeShort(move.getAccuracy());
+            out.writeShort(move.getMaxPp());
+            out.writeBoolean(move.isSpecial());
+            writeNullableString(out, move.getDescription());
+            out.writeBoolean(move.canFlinch());
+            writeEffect(out, move.getEffect());
+        }
+
+        out.writeInt(species.size());
+        for (PokemonDatabase.PokemonTemplate template : species) {
+            PokemonDatabase.BaseStats stats = template.baseStats;
+            out.writeUTF(template.name);
+            out.writeByte(template.primaryType.ordinal());
+            out.writeByte(template.secondaryType != null ? template.secondaryType.ordinal() : -1);
+            out.writeShort(stats.baseHp);
+            out.writeShort(stats.baseAttack);
+            out.writeShort(stats.baseDefense);
+            out.writeShort(stats.baseSpAtk);
+            out.writeShort(stats.baseSpDef);
+            out.writeShort(stats.baseSpeed);
+            out.writeFloat(template.width);
+            out.writeFloat(template.height);
+            out.writeShort(template.moves.size());
+            for (PokemonDatabase.MoveEntry entry : template.moves) {
+                out.writeInt(entry.moveId);
+                if (entry.moveId == MoveDefinition.NO_ID) {
+                    out.writeUTF(entry.name);
+                }
+                out.writeShort(entry.level);
+            }
+        }
+        out.flush();
+    }
+
+    public static PokemonDataSnapshot read(InputStream source) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(source));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a Pokemon data snapshot");
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported snapshot version " + version);
+        }
+        long checksum = in.readLong();
+
+        Pokemon.PokemonType[] types = Pokemon.PokemonType.values();
+
+        int moveCount = in.readInt();
+        List<MoveDefinition> moves = new ArrayList<>(moveCount);
+        for (int id = 0; id < moveCount; id++) {
+            String name = in.readUTF();
+            Pokemon.PokemonType type = types[in.readByte()];
+            int power = in.readShort();
+            int accuracy = in.readShort();
+            int maxPp = in.readShort();
+            boolean special = in.readBoolean();
+            String description = readNullableString(in);
+            boolean canFlinch = in.readBoolean();
+            Move.MoveEffect effect = readEffect(in);
+            moves.add(new MoveDefinition(id, name, type, power, accuracy, maxPp, special, description, effect, canFlinch));
+        }
+
+        int speciesCount = in.readInt();
+        List<PokemonDatabase.PokemonTemplate> species = new ArrayList<>(speciesCount);
+        for (int i = 0; i < speciesCount; i++) {
+            String name = in.readUTF();
+            Pokemon.PokemonType primaryType = types[in.readByte()];
+            int secondaryIndex = in.readByte();
+            Pokemon.PokemonType secondaryType = secondaryIndex >= 0 ? types[secondaryIndex] : null;
+            int hp = in.readShort();
+            int attack = in.readShort();
+            int defense = in.readShort();
+            int spAtk = in.readShort();
+            int spDef = in.readShort();
+            int speed = in.readShort();
+            float width = in.readFloat();
+            float height = in.readFloat();
+
+            int entryCount = in.readShort();
+            List<PokemonDatabase.MoveEntry> entries = new ArrayList<>(entryCount);
+            for (int j = 0; j < entryCount; j++) {
+                int moveId = in.readInt();
+                String moveName = moveId != MoveDefinition.NO_ID ? moves.get(moveId).getName() : in.readUTF();
+                entries.add(new PokemonDatabase.MoveEntry(moveName, in.readShort(), moveId));
+            }
+
+            PokemonDatabase.BaseStats stats = new PokemonDatabase.BaseStats(name, hp, attack, defense,
+                spAtk, spDef, speed, primaryType, secondaryType, entries);
+            species.add(PokemonDatabase.PokemonTemplate.of(i, stats, width, height));
+        }
+        return new PokemonDataSnapshot(checksum, moves, species);
+    }
+
+    private static void writeEffect(DataOutputStream out, Move.MoveEffect effect) throws IOException {
+        out.writeBoolean(effect != null);
+        if (effect == null) return;
+        writeNullableString(out, effect.getEffectType());
+        out.writeFloat(effect.getChance());
+        out.writeByte(effect.getStatusEffect() != null ? effect.getStatusEffect().ordinal() : -1);
+        writeNullableString(out, effect.getAnimation());
+        writeNullableString(out, effect.getSound());
+        out.writeInt(effect.getDuration());
+        Map<String, Integer> modifiers = effect.getStatModifiers();
+        out.writeShort(modifiers != null ? modifiers.size() : 0);
+        if (modifiers != null) {
+            for (Map.Entry<String, Integer> modifier : modifiers.entrySet()) {
+                out.writeUTF(modifier.getKey());
+                out.writeInt(modifier.getValue());
+            }
+        }
+    }
+
+    private static Move.MoveEffect readEffect(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) return null;
+        Move.MoveEffect effect = new Move.MoveEffect();
+        effect.setEffectType(readNullableString(in));
+        effect.setChance(in.readFloat());
+        int status = in.readByte();
+        effect.setStatusEffect(status >= 0 ? Pokemon.Status.values()[status] : null);
+        effect.setAnimation(readNullableString(in));
+        effect.setSound(readNullableString(in));
+        effect.setDuration(in.readInt());
+        int modifierCount = in.readShort();
+        Map<String, Integer> modifiers = new HashMap<>(modifierCount * 2);
+        for (int i = 0; i < modifierCount; i++) {
+            modifiers.put(in.readUTF(), in.readInt());
+        }
+        effect.setStatModifiers(Collections.unmodifiableMap(modifiers));
+        return effect;
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
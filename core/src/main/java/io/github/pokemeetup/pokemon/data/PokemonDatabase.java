@@ -1,18 +1,17 @@
 package io.github.pokemeetup.pokemon.data;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
-import com.google.gson.Gson;
 import io.github.pokemeetup.FileSystemDelegate;
 import io.github.pokemeetup.pokemon.Pokemon;
 import io.github.pokemeetup.pokemon.attacks.Move;
+import io.github.pokemeetup.pokemon.attacks.MoveDefinition;
 import io.github.pokemeetup.pokemon.attacks.MoveLoader;
 import io.github.pokemeetup.utils.GameLogger;
 import io.github.pokemeetup.utils.storage.GameFileSystem;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.*;
 
 public class PokemonDatabase {
@@ -20,10 +19,12 @@ public class PokemonDatabase {
     private static final String MOVE_DATA_FILE = "Data/moves.json";      // Capital D
     private static final Map<String, PokemonTemplate> pokemonTemplates = new HashMap<>();
     private static final Map<String, BaseStats> pokemonStats = new HashMap<>();
+    private static final List<PokemonTemplate> speciesById = new ArrayList<>();
     private static boolean isInitialized = false;
 
-    // Map to store all moves loaded from moves.json
-    private static Map<String, Move> allMoves = new HashMap<>();
+    // Shared move definitions, indexed by id and by lower-case name
+    private static final List<MoveDefinition> movesById = new ArrayList<>();
+    private static final Map<String, MoveDefinition> movesByName = new HashMap<>();
 
     public static PokemonTemplate getTemplate(String name) {
         if (!isInitialized) {
@@ -32,130 +33,144 @@ public class PokemonDatabase {
         return pokemonTemplates.get(name);
     }
 
+    public static PokemonTemplate getTemplate(int id) {
+        if (!isInitialized) {
+            initialize();
+        }
+        return id >= 0 && id < speciesById.size() ? speciesById.get(id) : null;
+    }
 
-        public static void initialize() {
-            if (isInitialized) {
-                return;
+    public static void initialize() {
+        if (isInitialized) {
+            return;
+        }
+
+        try {
+            GameLogger.info("Initializing Pokemon Database...");
+            long startTime = System.nanoTime();
+            FileSystemDelegate delegate = GameFileSystem.getInstance().getDelegate();
+
+            // The build recompiles the snapshot whenever the JSON changes, so a snapshot that is
+            // present is trusted and the JSON is not even read
+            String source;
+            if (loadSnapshot(delegate)) {
+                source = PokemonDataSnapshot.SNAPSHOT_FILE;
+            } else {
+                if (!delegate.exists(MOVE_DATA_FILE) || !delegate.exists(POKEMON_DATA_FILE)) {
+                    throw new IOException("Missing " + MOVE_DATA_FILE + " or " + POKEMON_DATA_FILE);
+                }
+                List<MoveDefinition> moves = MoveLoader.loadMovesFromJson(delegate.readString(MOVE_DATA_FILE));
+                registerMoves(moves);
+                registerSpecies(parseSpecies(delegate.readString(POKEMON_DATA_FILE), movesByName));
+                source = "JSON";
             }
 
-            try {
-                GameLogger.info("Initializing Pokemon Database...");
-                FileSystemDelegate delegate = GameFileSystem.getInstance().getDelegate();
+            isInitialized = true;
+            GameLogger.info("Loaded " + movesById.size() + " moves and " + speciesById.size() +
+                " Pokemon from " + source + " in " + (System.nanoTime() - startTime) / 1_000_000L + " ms");
 
-                // First load moves
-                try {
-                    String movesJson = delegate.readString(MOVE_DATA_FILE);
-                    GameLogger.info("Loaded moves.json content (length: " + movesJson.length() + ")");
-
-                    // Load moves using updated MoveLoader
-                    allMoves.putAll(MoveLoader.loadMovesFromJson(movesJson));
-                    GameLogger.info("Successfully loaded " + allMoves.size() + " moves");
-
-                    // Log first few moves for verification
-                    int count = 0;
-                    for (Map.Entry<String, Move> entry : allMoves.entrySet()) {
-                        if (count++ < 3) {
-                            GameLogger.info("Loaded move: " + entry.getKey() + " (" +
-                                entry.getValue().getType() + ", Power: " +
-                                entry.getValue().getPower() + ")");
-                        }
-                    }
-                } catch (Exception e) {
-                    GameLogger.error("Failed to load moves: " + e.getMessage());
-                    throw e;
-                }
+        } catch (Exception e) {
+            GameLogger.error("Pokemon database initialization failed: " + e.getMessage());
+            e.printStackTrace();
+            throw new RuntimeException("Failed to initialize Pokemon database", e);
+        }
+    }
 
-                // Then load Pokemon data
-                try {
-                    String pokemonJson = delegate.readString(POKEMON_DATA_FILE);
-                    GameLogger.info("Loaded pokemon.json content (length: " + pokemonJson.length() + ")");
+    /**
+     * Loads the snapshot from the classpath, where the core jar carries it, or else through the
+     * file system delegate, which finds it in the Android assets.
+     */
+    private static boolean loadSnapshot(FileSystemDelegate delegate) {
+        try (InputStream in = openSnapshot(delegate)) {
+            if (in == null) {
+                GameLogger.info("No " + PokemonDataSnapshot.SNAPSHOT_FILE + ", parsing JSON instead");
+                return false;
+            }
+            PokemonDataSnapshot snapshot = PokemonDataSnapshot.read(in);
+            registerMoves(snapshot.moves);
+            registerSpecies(snapshot.species);
+            return true;
+        } catch (IOException e) {
+            GameLogger.error("Failed to read " + PokemonDataSnapshot.SNAPSHOT_FILE + ": " + e.getMessage());
+            movesById.clear();
+            movesByName.clear();
+            return false;
+        }
+    }
 
-                    JsonReader reader = new JsonReader();
-                    JsonValue root = reader.parse(pokemonJson);
-                    JsonValue pokemonArray = root.get("pokemon");
+    private static InputStream openSnapshot(FileSystemDelegate delegate) throws IOException {
+        InputStream resource = PokemonDatabase.class.getResourceAsStream("/" + PokemonDataSnapshot.SNAPSHOT_FILE);
+        if (resource != null) {
+            return resource;
+        }
+        return delegate.exists(PokemonDataSnapshot.SNAPSHOT_FILE)
+            ? delegate.openInputStream(PokemonDataSnapshot.SNAPSHOT_FILE) : null;
+    }
 
-                    if (pokemonArray == null) {
-                        throw new RuntimeException("Invalid pokemon.json format - missing 'pokemon' array");
-                    }
+    private static void registerMoves(List<MoveDefinition> moves) {
+        movesById.clear();
+        movesByName.clear();
+        movesById.addAll(moves);
+        for (MoveDefinition move : moves) {
+            movesByName.put(move.getName().toLowerCase(), move);
+        }
+    }
 
-                    int pokemonCount = 0;
-                    for (JsonValue pokemonValue = pokemonArray.child;
-                         pokemonValue != null;
-                         pokemonValue = pokemonValue.next) {
-                        try {
-                            String name = pokemonValue.getString("name");
-                            if (name == null || name.isEmpty()) {
-                                continue;
-                            }
-
-                            Pokemon.PokemonType primaryType = Pokemon.PokemonType.valueOf(
-                                pokemonValue.getString("primaryType").toUpperCase());
-                            Pokemon.PokemonType secondaryType = getSecondaryType(pokemonValue);
-                            List<MoveEntry> moves = loadPokemonMoves(pokemonValue.get("moves"));
-
-                            BaseStats stats = new BaseStats(
-                                name,
-                                pokemonValue.getInt("baseHp"),
-                                pokemonValue.getInt("baseAttack"),
-                                pokemonValue.getInt("baseDefense"),
-                                pokemonValue.getInt("baseSpAtk"),
-                                pokemonValue.getInt("baseSpDef"),
-                                pokemonValue.getInt("baseSpeed"),
-                                primaryType,
-                                secondaryType,
-                                moves
-                            );
-                            pokemonStats.put(name, stats);
-
-                            // Create template
-                            PokemonTemplate template = new PokemonTemplate();
-                            template.name = name;
-                            template.primaryType = primaryType;
-                            template.secondaryType = secondaryType;
-                            template.baseStats = stats;
-                            template.moves = moves;
-                            template.width = pokemonValue.getFloat("width", 1.0f);
-                            template.height = pokemonValue.getFloat("height", 1.0f);
-
-                            pokemonTemplates.put(name, template);
-                            pokemonCount++;
-
-                            // Log first few Pokemon for verification
-                            if (pokemonCount <= 3) {
-                                GameLogger.info("Loaded Pokemon: " + name + " (" +
-                                    primaryType + (secondaryType != null ? "/" + secondaryType : "") +
-                                    ") with " + moves.size() + " moves");
-                            }
-
-                        } catch (Exception e) {
-                            GameLogger.error("Error loading Pokemon entry: " + e.getMessage());
-                        }
-                    }
+    private static void registerSpecies(List<PokemonTemplate> species) {
+        pokemonTemplates.clear();
+        pokemonStats.clear();
+        speciesById.clear();
+        for (PokemonTemplate template : species) {
+            pokemonTemplates.put(template.name, template);
+            pokemonStats.put(template.name, template.baseStats);
+            speciesById.add(template);
+        }
+    }
 
-                    GameLogger.info("Successfully loaded " + pokemonCount + " Pokemon");
-                    isInitialized = true;
+    /**
+     * Parses {@code pokemon.json}, resolving each learnable move against {@code moves} by
+     * name. Move entries are sorted by level so level-up lookups never need to sort.
+     */
+    static List<PokemonTemplate> parseSpecies(String pokemonJson, Map<String, MoveDefinition> moves) {
+        JsonValue root = new JsonReader().parse(pokemonJson);
+        JsonValue pokemonArray = root.get("pokemon");
+        if (pokemonArray == null) {
+            throw new RuntimeException("Invalid pokemon.json format - missing 'pokemon' array");
+        }
 
-                } catch (Exception e) {
-                    GameLogger.error("Failed to load Pokemon data: " + e.getMessage());
-                    throw e;
+        List<PokemonTemplate> species = new ArrayList<>();
+        for (JsonValue pokemonValue = pokemonArray.child; pokemonValue != null; pokemonValue = pokemonValue.next) {
+            try {
+                String name = pokemonValue.getString("name");
+                if (name == null || name.isEmpty()) {
+                    continue;
                 }
 
+                Pokemon.PokemonType primaryType = Pokemon.PokemonType.valueOf(
+                    pokemonValue.getString("primaryType").toUpperCase());
+                Pokemon.PokemonType secondaryType = getSecondaryType(pokemonValue);
+                List<MoveEntry> moveEntries = loadPokemonMoves(pokemonValue.get("moves"), moves);
+
+                BaseStats stats = new BaseStats(
+                    name,
+                    pokemonValue.getInt("baseHp"),
+                    pokemonValue.getInt("baseAttack"),
+                    pokemonValue.getInt("baseDefense"),
+                    pokemonValue.getInt("baseSpAtk"),
+                    pokemonValue.getInt("baseSpDef"),
+                    pokemonValue.getInt("baseSpeed"),
+                    primaryType,
+                    secondaryType,
+                    moveEntries
+                );
+                species.add(PokemonTemplate.of(species.size(), stats,
+                    pokemonValue.getFloat("width", 1.0f), pokemonValue.getFloat("height", 1.0f)));
+
             } catch (Exception e) {
-                GameLogger.error("Pokemon database initialization failed: " + e.getMessage());
-                e.printStackTrace();
-                throw new RuntimeException("Failed to initialize Pokemon database", e);
+                GameLogger.error("Error loading Pokemon entry: " + e.getMessage());
             }
         }
-    private static void loadAllMoves() {
-        try {
-            // Assuming moves.json is located in the assets/data directory
-            String movesJsonPath = Gdx.files.internal("Data/moves.json").file().getAbsolutePath();
-            allMoves = MoveLoader.loadMoves(movesJsonPath);
-            GameLogger.info("Loaded " + allMoves.size() + " moves from moves.json");
-        } catch (IOException e) {
-            GameLogger.error("Error loading moves: " + e.getMessage());
-            e.printStackTrace();
-        }
+        return species;
     }
 
     public static BaseStats getStats(String name) {
@@ -183,20 +198,25 @@ public class PokemonDatabase {
         return stats;
     }
 
-    private static List<MoveEntry> loadPokemonMoves(JsonValue movesArray) {
-        List<MoveEntry> moves = new ArrayList<>();
+    private static List<MoveEntry> loadPokemonMoves(JsonValue movesArray, Map<String, MoveDefinition> moves) {
+        List<MoveEntry> entries = new ArrayList<>();
         if (movesArray != null && movesArray.isArray()) {
             for (JsonValue moveValue = movesArray.child; moveValue != null; moveValue = moveValue.next) {
                 try {
                     String moveName = moveValue.getString("name");
                     int level = moveValue.getInt("level");
-                    moves.add(new MoveEntry(moveName, level));
+                    MoveDefinition move = moves.get(moveName.toLowerCase());
+                    if (move == null) {
+                        GameLogger.error("Move not found: " + moveName);
+                    }
+                    entries.add(new MoveEntry(moveName, level, move != null ? move.getId() : MoveDefinition.NO_ID));
                 } catch (Exception e) {
                     GameLogger.error("Error loading move: " + e.getMessage());
                 }
             }
         }
-        return moves;
+        entries.sort(Comparator.comparingInt(e -> e.level));
+        return entries;
     }
 
     private static Pokemon.PokemonType getSecondaryType(JsonValue pokemonValue) {
@@ -213,6 +233,7 @@ public class PokemonDatabase {
         }
         return null;
     }
+
     public static Pokemon createPokemon(String name, int level) {
         if (!isInitialized) {
             initialize();
@@ -249,83 +270,53 @@ public class PokemonDatabase {
             return null;
         }
     }
-    public static List<Move> getMovesForLevel(List<MoveEntry> moveEntries, int level) {
-        List<Move> moves = new ArrayList<>();
-
-        try {
-            // Create case-insensitive map of moves
-            Map<String, Move> moveMap = new HashMap<>();
-            for (Map.Entry<String, Move> entry : allMoves.entrySet()) {
-                moveMap.put(entry.getKey().toLowerCase(), entry.getValue());
-            }
 
-            // Filter moves learned at or before given level
-            List<MoveEntry> learnedMoves = new ArrayList<>();
-            for (MoveEntry entry : moveEntries) {
-                if (entry.level <= level) {
-                    learnedMoves.add(entry);
-                }
-            }
+    /**
+     * Returns fresh instances of the (up to) four most recent moves learned at or before
+     * {@code level}. Expects entries sorted by level, as the database stores them.
+     */
+    public static List<Move> getMovesForLevel(List<MoveEntry> moveEntries, int level) {
+        int learned = 0;
+        while (learned < moveEntries.size() && moveEntries.get(learned).level <= level) {
+            learned++;
+        }
 
-            // Sort by level ascending
-            learnedMoves.sort(Comparator.comparingInt(e -> e.level));
-
-            // Get most recent 4 moves
-            int movesToAdd = Math.min(learnedMoves.size(), 4);
-            for (int i = learnedMoves.size() - movesToAdd; i < learnedMoves.size(); i++) {
-                MoveEntry moveEntry = learnedMoves.get(i);
-                String moveName = moveEntry.name.toLowerCase(); // Convert to lowercase for comparison
-
-                Move move = moveMap.get(moveName);
-                if (move != null) {
-                    moves.add(cloneMove(move));
-                    GameLogger.info("Added move: " + moveEntry.name + " (Level " + moveEntry.level + ")");
-                } else {
-                    // Log available moves when not found
-                    GameLogger.error("Move not found: " + moveEntry.name);
-                    GameLogger.error("Available moves: " + String.join(", ", moveMap.keySet()));
-                }
+        List<Move> moves = new ArrayList<>(4);
+        for (int i = Math.max(0, learned - 4); i < learned; i++) {
+            MoveEntry entry = moveEntries.get(i);
+            MoveDefinition definition = entry.moveId != MoveDefinition.NO_ID ?
+                movesById.get(entry.moveId) : movesByName.get(entry.name.toLowerCase());
+            if (definition != null) {
+                moves.add(definition.newInstance());
+            } else {
+                GameLogger.error("Move not found: " + entry.name);
             }
-
-        } catch (Exception e) {
-            GameLogger.error("Error loading moves: " + e.getMessage());
-            e.printStackTrace();
         }
-
         return moves;
     }
-    public static Move cloneMove(Move move) {
-        // Clone the MoveEffect if present
-        Move.MoveEffect clonedEffect = null;
-        if (move.getEffect() != null) {
-            clonedEffect = cloneMoveEffect(move.getEffect());
-        }
 
-        return new Move.Builder(move.getName(), move.getType())
-            .power(move.getPower())
-            .accuracy(move.getAccuracy())
-            .pp(move.getPp())
-            .special(move.isSpecial())
-            .description(move.getDescription())
-            .effect(clonedEffect)
-            .build();
+    public static MoveDefinition getMoveDefinition(String moveName) {
+        return moveName != null ? movesByName.get(moveName.toLowerCase()) : null;
     }
 
-    private static Move.MoveEffect cloneMoveEffect(Move.MoveEffect effect) {
-        Move.MoveEffect clonedEffect = new Move.MoveEffect();
-        clonedEffect.setEffectType(effect.getEffectType());
-        clonedEffect.setChance(effect.getChance());
-        clonedEffect.setAnimation(effect.getAnimation());
-        clonedEffect.setSound(effect.getSound());
-        clonedEffect.setStatusEffect(effect.getStatusEffect());
-        clonedEffect.setDuration(effect.getDuration());
-        clonedEffect.setStatModifiers(new HashMap<>(effect.getStatModifiers()));
-        return clonedEffect;
+    public static MoveDefinition getMoveDefinition(int id) {
+        return id >= 0 && id < movesById.size() ? movesById.get(id) : null;
     }
 
-
+    /**
+     * Returns a new instance of the named move at full PP, or {@code null} if it is unknown.
+     */
     public static Move getMoveByName(String moveName) {
-        return allMoves.get(moveName);
+        MoveDefinition definition = getMoveDefinition(moveName);
+        return definition != null ? definition.newInstance() : null;
+    }
+
+    public static List<MoveDefinition> getMoveDefinitions() {
+        return Collections.unmodifiableList(movesById);
+    }
+
+    public static Collection<PokemonTemplate> getTemplates() {
+        return Collections.unmodifiableList(speciesById);
     }
 
     private static int calculateStat(int base, int level, boolean isHp) {
@@ -342,21 +333,41 @@ public class PokemonDatabase {
     public static class MoveEntry {
         public final String name;
         public final int level;
+        public final int moveId;
 
         public MoveEntry(String name, int level) {
+            this(name, level, MoveDefinition.NO_ID);
+        }
+
+        public MoveEntry(String name, int level, int moveId) {
             this.name = name;
             this.level = level;
+            this.moveId = moveId;
         }
     }
 
     public static class PokemonTemplate {
+        public int id;
         public Pokemon.PokemonType primaryType;
         public Pokemon.PokemonType secondaryType;
         public BaseStats baseStats;
-        public List<MoveEntry> moves; // List of moves with levels
+        public List<MoveEntry> moves; // List of moves with levels, sorted by level
         String name;
         float width;
         float height;
+
+        static PokemonTemplate of(int id, BaseStats stats, float width, float height) {
+            PokemonTemplate template = new PokemonTemplate();
+            template.id = id;
+            template.name = stats.name;
+            template.primaryType = stats.primaryType;
+            template.secondaryType = stats.secondaryType;
+            template.baseStats = stats;
+            template.moves = stats.moves;
+            template.width = width;
+            template.height = height;
+            return template;
+        }
     }
 
     public static class BaseStats {
@@ -8,6 +8,7 @@ import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
@@ -28,6 +29,7 @@ import io.github.pokemeetup.chat.ChatSystem;
 import io.github.pokemeetup.managers.BiomeManager;
 import io.github.pokemeetup.multiplayer.OtherPlayer;
 import io.github.pokemeetup.multiplayer.client.GameClient;
+import io.github.pokemeetup.multiplayer.client.InventoryPredictor;
 import io.github.pokemeetup.multiplayer.network.NetworkProtocol;
 import io.github.pokemeetup.multiplayer.server.ServerStorageSystem;
 import io.github.pokemeetup.pokemon.Pokemon;
@@ -47,6 +49,7 @@ import io.github.pokemeetup.system.gameplay.overworld.biomes.Biome;
 import io.github.pokemeetup.system.gameplay.overworld.multiworld.WorldManager;
 import io.github.pokemeetup.utils.textures.BattleAssets;
 import io.github.pokemeetup.utils.GameLogger;
+import io.github.pokemeetup.utils.metrics.FrameProfiler;
 import io.github.pokemeetup.utils.storage.InventoryConverter;
 import io.github.pokemeetup.utils.textures.TextureManager;
 import sun.font.TextLabel;
@@ -76,6 +79,8 @@ public class GameScreen implements Screen, PickupActionHandler, BattleInitiation
     private static final float RUN_BUTTON_SIZE = 70f;
     private static final long SCREEN_INIT_TIMEOUT = 30000; // 30 seconds
     public static boolean SHOW_DEBUG_INFO = false; // Toggle flag for debug inforldName;
+    public static boolean SHOW_FRAME_PROFILE = false; // F4: per-section frame time overlay
+    private static final FrameProfiler.Section[] PROFILE_SECTIONS = FrameProfiler.Section.values();
     private static float BUTTON_SIZE = Gdx.graphics.getWidth() * 0.12f; // Adjust as needed
     private static final float MAX_BUTTON_SIZE = 80f; // Adjust as needed
 
@@ -119,6 +124,10 @@ public class GameScreen implements Screen, PickupActionHandler, BattleInitiation
     private Stage uiStage;
     private Skin uiSkin;
     private BitmapFont font;
+    private final FrameProfiler frameProfiler = FrameProfiler.getInstance();
+    // Counts GL draw calls and texture binds while the frame overlay is shown
+    private final GLProfiler glProfiler = new GLProfiler(Gdx.graphics);
+    private int worldRenderCalls;
     private OrthographicCamera camera;
     private InputHandler inputHandler;
     private boolean isMultiplayer;
@@ -126,6 +135,7 @@ public class GameScreen implements Screen, PickupActionHandler, BattleInitiation
     private boolean inventoryOpen = false;
     private InventoryScreen inventoryScreen;
     private Inventory inventory;
+    private InventoryPredictor inventoryPredictor;
     private Table hotbarTable;
     private BuildModeUI buildModeUI;
     private Rectangle inventoryButton;
@@ -497,6 +507,7 @@ public class GameScreen implements Screen, PickupActionHandler, BattleInitiation
             setupCamera();
             // 7. Initialize essential game systems
             this.inventory = player.getInventory();
+            initializeInventoryPredictor();
             this.spawnManager = world.getPokemonSpawnManager();
 
             // 8. Check starter selection
@@ -1448,6 +1459,15 @@ public class GameScreen implements Screen, PickupActionHandler, BattleInitiation
 
     @Override
     public void render(float delta) {
+        frameProfiler.beginFrame();
+        if (SHOW_FRAME_PROFILE != glProfiler.isEnabled()) {
+            if (SHOW_FRAME_PROFILE) {
+                glProfiler.enable();
+            } else {
+                glProfiler.disable();
+            }
+        }
+        glProfiler.reset();
         // Clear screen
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
@@ -1467,12 +1487,10 @@ public class GameScreen implements Screen, PickupActionHandler, BattleInitiation
                 debugInputState();
                 debugTimer = 0;
             }
+            frameProfiler.endFrame();
             return;
         }
-        batch.begin();
-        batch.setProjectionMatrix(camera.combined);
-
-        // World rendering
+        // World rendering, drawn untinted and lit in one pass afterwards
         if (world != null && player != null) {
             Rectangle viewBounds = new Rectangle(
                 camera.position.x - (camera.viewportWidth * camera.zoom) / 2,
@@ -1481,19 +1499,31 @@ public class GameScreen implements Screen, PickupActionHandler, BattleInitiation
                 camera.viewportHeight * camera.zoom
             );
 
+            WorldLighting lighting = world.getLighting();
+            lighting.begin();
+            batch.begin();
+            batch.setProjectionMatrix(camera.combined);
             world.render(batch, viewBounds, player);
 
             if (!gameClient.isSinglePlayer()) {
+                frameProfiler.begin(FrameProfiler.Section.OBJECTS);
                 renderOtherPlayers(batch, viewBounds);
+                frameProfiler.end(FrameProfiler.Section.OBJECTS);
 
+                frameProfiler.begin(FrameProfiler.Section.NETWORK);
                 gameClient.processChunkQueue();
+                frameProfiler.end(FrameProfiler.Section.NETWORK);
             }
-        }           // Debug info
+            batch.end();
+            worldRenderCalls = batch.renderCalls;
+            lighting.end(batch, camera);
+        }
+        // Debug info
         if (SHOW_DEBUG_INFO) {
+            batch.begin();
             renderDebugInfo();
+            batch.end();
         }
-
-        batch.end();
         // Handle world initialization
         if (world != null && !initializedworld) {
             if (!world.areAllChunksLoaded()) {
@@ -1518,6 +1548,7 @@ public class GameScreen implements Screen, PickupActionHandler, BattleInitiation
         }
 
         // Enable blending for UI elements
+        frameProfiler.begin(FrameProfiler.Section.UI);
         Gdx.gl.glEnable(GL20.GL_BLEND);
         Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
 
@@ -1573,9 +1604,11 @@ public class GameScreen implements Screen, PickupActionHandler, BattleInitiation
         }
 
         Gdx.gl.glDisable(GL20.GL_BLEND);
+        frameProfiler.end(FrameProfiler.Section.UI);
 
         // Game state updates
         if (world != null && player != null) {
+            frameProfiler.begin(FrameProfiler.Section.WORLD_UPDATE);
             float deltaTime = Gdx.graphics.getDeltaTime();
             player.update(deltaTime);
             // Camera update
@@ -1588,7 +1621,11 @@ public class GameScreen implements Screen, PickupActionHandler, BattleInitiation
                 updateOtherPlayers(delta);
 
                 if (gameClient != null) {
+                    frameProfiler.end(FrameProfiler.Section.WORLD_UPDATE);
+                    frameProfiler.begin(FrameProfiler.Section.NETWORK);
                     gameClient.tick(delta);
+                    frameProfiler.end(FrameProfiler.Section.NETWORK);
+                    frameProfiler.begin(FrameProfiler.Section.WORLD_UPDATE);
                 }
                 if (world != null) {
                     world.update(delta, new Vector2(player.getTileX(), player.getTileY()),
@@ -1608,12 +1645,14 @@ public class GameScreen implements Screen, PickupActionHandler, BattleInitiation
             if (worldManager != null) {
                 worldManager.checkAutoSave();
             }
+            frameProfiler.end(FrameProfiler.Section.WORLD_UPDATE);
 
             handleInput();
             updateTimer += delta;
 
             // Handle multiplayer updates
             if (isMultiplayer && updateTimer >= UPDATE_INTERVAL) {
+                frameProfiler.begin(FrameProfiler.Section.NETWORK);
                 updateTimer = 0;
                 NetworkProtocol.PlayerUpdate update = new NetworkProtocol.PlayerUpdate();
                 update.username = player.getUsername();
@@ -1646,8 +1685,15 @@ public class GameScreen implements Screen, PickupActionHandler, BattleInitiation
                         }
                     }
                 }
+                frameProfiler.end(FrameProfiler.Section.NETWORK);
             }
         }
+
+        if (SHOW_FRAME_PROFILE) {
+            renderFrameProfile();
+            frameProfiler.addDrawStats(glProfiler.getDrawCalls(), glProfiler.getTextureBindings());
+        }
+        frameProfiler.endFrame();
     }
 
     private String formatPlayedTime(long millis) {
@@ -1720,6 +1766,30 @@ public class GameScreen implements Screen, PickupActionHandler, BattleInitiation
         }
     }
 
+    private void renderFrameProfile() {
+        batch.setProjectionMatrix(uiStage.getCamera().combined);
+        batch.begin();
+        font.setColor(Color.WHITE);
+
+        float x = uiStage.getViewport().getWorldWidth() - 280;
+        float y = uiStage.getViewport().getWorldHeight() - 10;
+        font.draw(batch, String.format("Frame: %.2f ms (max %.2f, p99 %.2f) %d FPS",
+            frameProfiler.getAverageFrameMillis(), frameProfiler.getPeakFrameMillis(),
+            frameProfiler.getFrameHistogram().getPercentile(0.99) / 1e6,
+            Gdx.graphics.getFramesPerSecond()), x, y);
+        y -= 20;
+        for (FrameProfiler.Section section : PROFILE_SECTIONS) {
+            font.draw(batch, String.format("%s: %.2f ms (max %.2f)", section.getLabel(),
+                frameProfiler.getAverageMillis(section), frameProfiler.getPeakMillis(section)), x, y);
+            y -= 20;
+        }
+        font.draw(batch, String.format("Other: %.2f ms", frameProfiler.getUnaccountedMillis()), x, y);
+        y -= 20;
+        font.draw(batch, String.format("Draw calls: %.0f, texture binds: %.0f (world batch: %d)",
+            frameProfiler.getAverageRenderCalls(), frameProfiler.getAverageTextureBinds(), worldRenderCalls), x, y);
+        batch.end();
+    }
+
     public void prepareForDisposal() {
         isDisposing = true;
         if (gameMenu != null) {
@@ -1762,6 +1832,10 @@ public class GameScreen implements Screen, PickupActionHandler, BattleInitiation
             SHOW_DEBUG_INFO = !SHOW_DEBUG_INFO;
         }
 
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F4)) {
+            SHOW_FRAME_PROFILE = !SHOW_FRAME_PROFILE;
+        }
+
         if (inventoryOpen) {
             return;
         }
@@ -1971,7 +2045,8 @@ public class GameScreen implements Screen, PickupActionHandler, BattleInitiation
                     skin,
                     gameClient,
                     inputHandler,
-                    player.getInventory()
+                    player.getInventory(),
+                    inventoryPredictor
                 );
                 inventoryScreen.initialize(); // Add initialization method
             }
@@ -2148,6 +2223,27 @@ public class GameScreen implements Screen, PickupActionHandler, BattleInitiation
         return null;
     }
 
+    /**
+     * One predictor for the whole session: the server ignores sequence numbers it has already
+     * seen, so they must not restart when the inventory screen is rebuilt.
+     */
+    private void initializeInventoryPredictor() {
+        boolean online = gameClient != null && !gameClient.isSinglePlayer();
+        inventoryPredictor = new InventoryPredictor(inventory, online ? gameClient::sendInventoryMessage : null);
+        if (online) {
+            gameClient.setInventoryAckHandler(ack -> {
+                inventoryPredictor.onAck(ack);
+                if (inventoryScreen != null) {
+                    inventoryScreen.syncHeldItem();
+                }
+                if (ack.itemId != null) {
+                    announcePickup(ack.itemId, ack.count, ack.accepted);
+                }
+            });
+        }
+        inventory.getCraftingSystem().setCraftHandler(inventoryPredictor::requestCraft);
+    }
+
     public void handlePickupAction() {
         WorldObject nearestPokeball = world.getNearestPokeball();
         if (nearestPokeball == null) {
@@ -2159,33 +2255,39 @@ public class GameScreen implements Screen, PickupActionHandler, BattleInitiation
 
         if (player.canPickupItem(nearestPokeball.getPixelX(), nearestPokeball.getPixelY())) {
             world.removeWorldObject(nearestPokeball);
+            if (inventoryPredictor.requestPickup(nearestPokeball.getTileX(), nearestPokeball.getTileY())) {
+                // The server chooses the item; it is announced when the ack arrives
+                return;
+            }
             ItemData randomItemData = generateRandomItemData();
             if (randomItemData == null) {
                 GameLogger.error("Failed to generate random item data.");
                 return;
             }
             boolean added = InventoryConverter.addItemToInventory(inventory, randomItemData);
-            NetworkProtocol.ChatMessage pickupMessage = new NetworkProtocol.ChatMessage();
-            pickupMessage.sender = "System";
-            pickupMessage.timestamp = System.currentTimeMillis();
-
-            if (added) {
-                pickupMessage.content = "You found: " + randomItemData.getItemId() + " (×" + randomItemData.getCount() + ")";
-                pickupMessage.type = NetworkProtocol.ChatType.SYSTEM;
-                GameLogger.info("Item added to inventory: " + randomItemData.getItemId());
-            } else {
-                pickupMessage.content = "Inventory full! Couldn't pick up: " + randomItemData.getItemId();
-                pickupMessage.type = NetworkProtocol.ChatType.SYSTEM;
-                GameLogger.info("Inventory full. Cannot add: " + randomItemData.getItemId());
-            }
-            chatSystem.handleIncomingMessage(pickupMessage);
+            announcePickup(randomItemData.getItemId(), randomItemData.getCount(), added);
+        } else {
+            GameLogger.info("Cannot pick up pokeball - too far or wrong direction");
+        }
+    }
 
+    private void announcePickup(String itemId, int count, boolean added) {
+        NetworkProtocol.ChatMessage pickupMessage = new NetworkProtocol.ChatMessage();
+        pickupMessage.sender = "System";
+        pickupMessage.timestamp = System.currentTimeMillis();
+        pickupMessage.type = NetworkProtocol.ChatType.SYSTEM;
 
-            AudioManager.getInstance().playSound(AudioManager.SoundEffect.ITEM_PICKUP);
-            player.updatePlayerData();
+        if (added) {
+            pickupMessage.content = "You found: " + itemId + " (×" + count + ")";
+            GameLogger.info("Item added to inventory: " + itemId);
         } else {
-            GameLogger.info("Cannot pick up pokeball - too far or wrong direction");
+            pickupMessage.content = "Inventory full! Couldn't pick up: " + itemId;
+            GameLogger.info("Inventory full. Cannot add: " + itemId);
         }
+        chatSystem.handleIncomingMessage(pickupMessage);
+
+        AudioManager.getInstance().playSound(AudioManager.SoundEffect.ITEM_PICKUP);
+        player.updatePlayerData();
     }
 
     private void updatePartyDisplay() {
@@ -17,6 +17,8 @@ import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.*;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import io.github.pokemeetup.multiplayer.client.GameClient;
+import io.github.pokemeetup.multiplayer.client.InventoryPredictor;
+import io.github.pokemeetup.multiplayer.network.NetworkProtocol;
 import io.github.pokemeetup.system.InputHandler;
 import io.github.pokemeetup.system.Player;
 import io.github.pokemeetup.system.data.ItemData;
@@ -24,6 +26,7 @@ import io.github.pokemeetup.system.gameplay.inventory.*;
 import io.github.pokemeetup.system.gameplay.inventory.secureinventories.InventoryObserver;
 import io.github.pokemeetup.system.gameplay.inventory.secureinventories.InventorySlotData;
 import io.github.pokemeetup.screens.otherui.InventorySlotUI;
+import io.github.pokemeetup.screens.otherui.ItemIcons;
 import io.github.pokemeetup.utils.GameLogger;
 import io.github.pokemeetup.utils.textures.TextureManager;
 
@@ -54,14 +57,20 @@ public class InventoryScreen implements Screen, InventoryObserver {
     private Image heldItemImage;
     private Label heldItemCountLabel;
     private Item heldItem = null;
+    private final InventoryPredictor predictor;
     private boolean initialized = false;
 
-    public InventoryScreen(Player player, Skin skin, GameClient gameClient, InputHandler inputHandler, Inventory inventory) {
+    /**
+     * @param predictor owned by the game screen, so its sequence numbers outlive this screen
+     */
+    public InventoryScreen(Player player, Skin skin, GameClient gameClient, InputHandler inputHandler,
+                           Inventory inventory, InventoryPredictor predictor) {
         this.player = player;
         this.skin = skin;
         this.gameClient = gameClient;
         this.inputHandler = inputHandler;
         this.inventory = inventory;
+        this.predictor = predictor;
 
         this.stage = new Stage(new ScreenViewport());
         this.batch = new SpriteBatch();
@@ -88,31 +97,34 @@ public class InventoryScreen implements Screen, InventoryObserver {
 
     public void initialize() {
         if (!initialized) {
-            setupUI();
+            // The slot grid was built in the constructor; building it again would stack a second one
             updateAllSlots(); // Force initial visual update
             initialized = true;
         }
     }
 
+    /**
+     * Copies the inventory into the slot data. Only slots whose item or count changed are
+     * touched, and each redraws itself through its observer.
+     */
     public void reloadInventory() {
-        GameLogger.info("Reloading inventory...");
         if (inventory != null) {
             List<ItemData> currentItems = inventory.getAllItems();
 
-            // Update slot data
             for (int i = 0; i < Inventory.INVENTORY_SIZE; i++) {
                 InventorySlotData slotData = inventorySlots.get(i);
                 ItemData item = i < currentItems.size() ? currentItems.get(i) : null;
 
-                if (item != null) {
+                if (item == null) {
+                    if (!slotData.isEmpty()) {
+                        slotData.clear();
+                    }
+                } else if (!item.getItemId().equals(slotData.getItemId())
+                    || item.getCount() != slotData.getCount()
+                    || !Objects.equals(item.getUuid(), slotData.getUuid())) {
                     slotData.setItem(item.getItemId(), item.getCount(), item.getUuid());
-                } else {
-                    slotData.clear();
                 }
             }
-
-            // Update all slot visuals
-            updateAllSlots();
         }
     }
 
@@ -349,40 +361,27 @@ public class InventoryScreen implements Screen, InventoryObserver {
         Gdx.gl.glDisable(GL20.GL_BLEND);
     }
 
+    /**
+     * Points the held item image and label, created once in {@link #setupHeldItemDisplay()},
+     * at the item on the cursor.
+     */
     private void updateHeldItemDisplay() {
-        if (heldItemGroup == null) {
-            heldItemGroup = new Group();
-            stage.addActor(heldItemGroup);
+        TextureRegionDrawable icon = heldItem != null ? ItemIcons.get(heldItem.getName()) : null;
+        if (icon == null) {
+            heldItemGroup.setVisible(false);
+            return;
         }
 
-        // Clear existing contents
-        heldItemGroup.clear();
-
-        if (heldItem != null) {
-            // Create image
-            TextureRegion texture = TextureManager.items.findRegion(heldItem.getName().toLowerCase() + "_item");
-            if (texture == null) {
-                texture = TextureManager.items.findRegion(heldItem.getName().toLowerCase());
-            }
-
-            if (texture != null) {
-                heldItemImage = new Image(texture);
-                heldItemImage.setSize(32, 32);
-                heldItemGroup.addActor(heldItemImage);
+        heldItemImage.setDrawable(icon);
+        heldItemImage.setSize(32, 32);
+        heldItemImage.setVisible(true);
 
-                if (heldItem.getCount() > 1) {
-                    heldItemCountLabel = new Label(String.valueOf(heldItem.getCount()), skin);
-                    heldItemGroup.addActor(heldItemCountLabel);
-                }
+        boolean showCount = heldItem.getCount() > 1;
+        heldItemCountLabel.setText(showCount ? ItemIcons.countText(heldItem.getCount()) : "");
+        heldItemCountLabel.setVisible(showCount);
 
-                heldItemGroup.setVisible(true);
-                heldItemGroup.toFront(); // Add this line
-                GameLogger.info("Updated held item display: " + heldItem.getName() + " x" + heldItem.getCount());
-            } else {
-                heldItemGroup.setVisible(false);
-                GameLogger.info("Hiding held item display");
-            }
-        }
+        heldItemGroup.setVisible(true);
+        heldItemGroup.toFront();
     }
 
     @Override
@@ -423,7 +422,35 @@ public class InventoryScreen implements Screen, InventoryObserver {
         return heldItem;
     }
 
-    public void setHeldItem(Item item) {
+    public InventoryOperations.Cursor getCursor() {
+        return predictor.getCursor();
+    }
+
+    /**
+     * Applies a slot click to the inventory and, online, sends it to the server as a single op.
+     *
+     * @return false if the op does not fit the current contents
+     */
+    public boolean applyOperation(NetworkProtocol.InventoryOp op) {
+        boolean applied = predictor.submit(op);
+        if (applied) {
+            syncHeldItem();
+        }
+        return applied;
+    }
+
+    /**
+     * Shows the predictor's cursor stack as the held item; called after an ack may have
+     * replaced it.
+     */
+    void syncHeldItem() {
+        ItemData held = predictor.getCursor().get();
+        Item item = null;
+        if (held != null) {
+            item = new Item(held.getItemId());
+            item.setCount(held.getCount());
+            item.setUuid(held.getUuid());
+        }
         GameLogger.info("Setting held item: " + (item != null ? item.getName() + " x" + item.getCount() : "null"));
         this.heldItem = item;
         updateHeldItemDisplay();
@@ -2,6 +2,7 @@ package io.github.pokemeetup.screens;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
@@ -9,7 +10,11 @@ import io.github.pokemeetup.CreatureCaptureGame;
 import io.github.pokemeetup.utils.GameLogger;
 
 public class LoadingScreen implements Screen {
+    // Milliseconds of asset loading allowed per frame so the progress bar keeps animating
+    private static final int LOAD_SLICE_MS = 12;
     private final CreatureCaptureGame game;
+    private final AssetManager assetManager;
+    private final Runnable onAssetsLoaded;
     private Screen nextScreen;
     private boolean initialized = false;
     private float progress = 0;
@@ -18,8 +23,23 @@ public class LoadingScreen implements Screen {
     private boolean disposed = false;
 
     public LoadingScreen(CreatureCaptureGame game, Screen nextScreen) {
+        this(game, nextScreen, null, null);
+    }
+
+    /**
+     * Drives {@link AssetManager#update(int)} in per-frame slices and reports its real
+     * progress. {@code onAssetsLoaded} runs on the render thread once the queue drains.
+     */
+    public LoadingScreen(CreatureCaptureGame game, AssetManager assetManager, Runnable onAssetsLoaded) {
+        this(game, null, assetManager, onAssetsLoaded);
+    }
+
+    private LoadingScreen(CreatureCaptureGame game, Screen nextScreen,
+                          AssetManager assetManager, Runnable onAssetsLoaded) {
         this.game = game;
         this.nextScreen = nextScreen;
+        this.assetManager = assetManager;
+        this.onAssetsLoaded = onAssetsLoaded;
         this.batch = new SpriteBatch();
         this.font = new BitmapFont();
     }
@@ -42,7 +62,12 @@ public class LoadingScreen implements Screen {
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
         // Update progress
-        progress = Math.min(1, progress + delta * 0.5f);
+        if (assetManager != null) {
+            boolean done = assetManager.update(LOAD_SLICE_MS);
+            progress = done ? 1 : assetManager.getProgress();
+        } else {
+            progress = Math.min(1, progress + delta * 0.5f);
+        }
 
         // Draw loading info
         batch.begin();
@@ -50,6 +75,16 @@ public class LoadingScreen implements Screen {
             20, Gdx.graphics.getHeight() - 20);
         batch.end();
 
+        if (assetManager != null && progress >= 1 && !initialized) {
+            initialized = true;
+            GameLogger.info("Asset stage loaded, continuing startup");
+            onAssetsLoaded.run();
+            if (game.getScreen() != this) {
+                dispose();
+            }
+            return;
+        }
+
         // Check for transition
         if (nextScreen != null && progress >= 1) {
             GameLogger.info("Loading complete, transitioning to next screen");
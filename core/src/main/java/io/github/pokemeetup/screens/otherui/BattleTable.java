@@ -20,12 +20,12 @@ import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.Scaling;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import io.github.pokemeetup.pokemon.Pokemon;
 import io.github.pokemeetup.pokemon.WildPokemon;
 import io.github.pokemeetup.pokemon.attacks.Move;
+import io.github.pokemeetup.system.battle.BattleEngine;
 import io.github.pokemeetup.utils.GameLogger;
 import io.github.pokemeetup.utils.textures.TextureManager;
 
@@ -68,12 +68,8 @@ public class BattleTable extends Table {
     private static final float ANIMATION_DURATION = 0.5f;
     private static final float DAMAGE_FLASH_DURATION = 0.1f;
     private static final float HP_UPDATE_DURATION = 0.5f;
-    private static final int MAX_TURN_COUNT = 20;
-    private static final ObjectMap<Pokemon.PokemonType, ObjectMap<Pokemon.PokemonType, Float>> typeEffectiveness;
     private static final float PLATFORM_SHAKE_DECAY = 0.9f;
     private static final float MIN_SHAKE_INTENSITY = 0.1f;
-    private static final float RUN_SUCCESS_BASE = 0.5f;
-    private static final float LEVEL_FACTOR = 0.1f;
     private static final HashMap<Pokemon.PokemonType, Color> TYPE_COLORS = new HashMap<Pokemon.PokemonType, Color>() {{
         put(Pokemon.PokemonType.FIRE, new Color(1, 0.3f, 0.3f, 1));
         put(Pokemon.PokemonType.WATER, new Color(0.2f, 0.6f, 1, 1));
@@ -95,212 +91,13 @@ public class BattleTable extends Table {
         put(Pokemon.PokemonType.FAIRY, new Color(1, 0.6f, 0.8f, 1));
     }};// Fine-tuned positioning constants// Update these constants for better positioning
 
-    static {
-        typeEffectiveness = new ObjectMap<>();
-        for (Pokemon.PokemonType type : Pokemon.PokemonType.values()) {
-            typeEffectiveness.put(type, new ObjectMap<>());
-            for (Pokemon.PokemonType defType : Pokemon.PokemonType.values()) {
-                typeEffectiveness.get(type).put(defType, 1.0f); // Default effectiveness
-            }
-        }
-
-        // Normal type
-        initTypeEffectiveness(Pokemon.PokemonType.NORMAL, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.ROCK, 0.5f);
-            put(Pokemon.PokemonType.GHOST, 0.0f);
-            put(Pokemon.PokemonType.STEEL, 0.5f);
-        }});
-
-        // Fire type
-        initTypeEffectiveness(Pokemon.PokemonType.FIRE, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.FIRE, 0.5f);
-            put(Pokemon.PokemonType.WATER, 0.5f);
-            put(Pokemon.PokemonType.GRASS, 2.0f);
-            put(Pokemon.PokemonType.ICE, 2.0f);
-            put(Pokemon.PokemonType.BUG, 2.0f);
-            put(Pokemon.PokemonType.ROCK, 0.5f);
-            put(Pokemon.PokemonType.DRAGON, 0.5f);
-            put(Pokemon.PokemonType.STEEL, 2.0f);
-        }});
-
-        // Water type
-        initTypeEffectiveness(Pokemon.PokemonType.WATER, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.FIRE, 2.0f);
-            put(Pokemon.PokemonType.WATER, 0.5f);
-            put(Pokemon.PokemonType.GRASS, 0.5f);
-            put(Pokemon.PokemonType.GROUND, 2.0f);
-            put(Pokemon.PokemonType.ROCK, 2.0f);
-            put(Pokemon.PokemonType.DRAGON, 0.5f);
-        }});
-
-        // Electric type
-        initTypeEffectiveness(Pokemon.PokemonType.ELECTRIC, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.WATER, 2.0f);
-            put(Pokemon.PokemonType.ELECTRIC, 0.5f);
-            put(Pokemon.PokemonType.GRASS, 0.5f);
-            put(Pokemon.PokemonType.GROUND, 0.0f);
-            put(Pokemon.PokemonType.FLYING, 2.0f);
-            put(Pokemon.PokemonType.DRAGON, 0.5f);
-        }});
-
-        // Grass type
-        initTypeEffectiveness(Pokemon.PokemonType.GRASS, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.FIRE, 0.5f);
-            put(Pokemon.PokemonType.WATER, 2.0f);
-            put(Pokemon.PokemonType.GRASS, 0.5f);
-            put(Pokemon.PokemonType.POISON, 0.5f);
-            put(Pokemon.PokemonType.GROUND, 2.0f);
-            put(Pokemon.PokemonType.FLYING, 0.5f);
-            put(Pokemon.PokemonType.BUG, 0.5f);
-            put(Pokemon.PokemonType.ROCK, 2.0f);
-            put(Pokemon.PokemonType.DRAGON, 0.5f);
-            put(Pokemon.PokemonType.STEEL, 0.5f);
-        }});
-
-        // Ice type
-        initTypeEffectiveness(Pokemon.PokemonType.ICE, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.FIRE, 0.5f);
-            put(Pokemon.PokemonType.WATER, 0.5f);
-            put(Pokemon.PokemonType.GRASS, 2.0f);
-            put(Pokemon.PokemonType.ICE, 0.5f);
-            put(Pokemon.PokemonType.GROUND, 2.0f);
-            put(Pokemon.PokemonType.FLYING, 2.0f);
-            put(Pokemon.PokemonType.DRAGON, 2.0f);
-            put(Pokemon.PokemonType.STEEL, 0.5f);
-        }});
-
-        // Fighting type
-        initTypeEffectiveness(Pokemon.PokemonType.FIGHTING, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.NORMAL, 2.0f);
-            put(Pokemon.PokemonType.ICE, 2.0f);
-            put(Pokemon.PokemonType.POISON, 0.5f);
-            put(Pokemon.PokemonType.FLYING, 0.5f);
-            put(Pokemon.PokemonType.PSYCHIC, 0.5f);
-            put(Pokemon.PokemonType.BUG, 0.5f);
-            put(Pokemon.PokemonType.ROCK, 2.0f);
-            put(Pokemon.PokemonType.GHOST, 0.0f);
-            put(Pokemon.PokemonType.DARK, 2.0f);
-            put(Pokemon.PokemonType.STEEL, 2.0f);
-            put(Pokemon.PokemonType.FAIRY, 0.5f);
-        }});
-        initTypeEffectiveness(Pokemon.PokemonType.POISON, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.GRASS, 2.0f);
-            put(Pokemon.PokemonType.POISON, 0.5f);
-            put(Pokemon.PokemonType.GROUND, 0.5f);
-            put(Pokemon.PokemonType.ROCK, 0.5f);
-            put(Pokemon.PokemonType.GHOST, 0.5f);
-            put(Pokemon.PokemonType.STEEL, 0.0f);
-            put(Pokemon.PokemonType.FAIRY, 2.0f);
-        }});
-
-        // Ground type
-        initTypeEffectiveness(Pokemon.PokemonType.GROUND, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.FIRE, 2.0f);
-            put(Pokemon.PokemonType.ELECTRIC, 2.0f);
-            put(Pokemon.PokemonType.GRASS, 0.5f);
-            put(Pokemon.PokemonType.POISON, 2.0f);
-            put(Pokemon.PokemonType.FLYING, 0.0f);
-            put(Pokemon.PokemonType.BUG, 0.5f);
-            put(Pokemon.PokemonType.ROCK, 2.0f);
-            put(Pokemon.PokemonType.STEEL, 2.0f);
-        }});
-
-        // Flying type
-        initTypeEffectiveness(Pokemon.PokemonType.FLYING, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.ELECTRIC, 0.5f);
-            put(Pokemon.PokemonType.GRASS, 2.0f);
-            put(Pokemon.PokemonType.FIGHTING, 2.0f);
-            put(Pokemon.PokemonType.BUG, 2.0f);
-            put(Pokemon.PokemonType.ROCK, 0.5f);
-            put(Pokemon.PokemonType.STEEL, 0.5f);
-        }});
-
-        // Psychic type
-        initTypeEffectiveness(Pokemon.PokemonType.PSYCHIC, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.FIGHTING, 2.0f);
-            put(Pokemon.PokemonType.POISON, 2.0f);
-            put(Pokemon.PokemonType.PSYCHIC, 0.5f);
-            put(Pokemon.PokemonType.DARK, 0.0f);
-            put(Pokemon.PokemonType.STEEL, 0.5f);
-        }});
-
-        // Bug type
-        initTypeEffectiveness(Pokemon.PokemonType.BUG, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.FIRE, 0.5f);
-            put(Pokemon.PokemonType.GRASS, 2.0f);
-            put(Pokemon.PokemonType.FIGHTING, 0.5f);
-            put(Pokemon.PokemonType.POISON, 0.5f);
-            put(Pokemon.PokemonType.FLYING, 0.5f);
-            put(Pokemon.PokemonType.PSYCHIC, 2.0f);
-            put(Pokemon.PokemonType.GHOST, 0.5f);
-            put(Pokemon.PokemonType.DARK, 2.0f);
-            put(Pokemon.PokemonType.STEEL, 0.5f);
-            put(Pokemon.PokemonType.FAIRY, 0.5f);
-        }});
-
-        // Rock type
-        initTypeEffectiveness(Pokemon.PokemonType.ROCK, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.FIRE, 2.0f);
-            put(Pokemon.PokemonType.ICE, 2.0f);
-            put(Pokemon.PokemonType.FIGHTING, 0.5f);
-            put(Pokemon.PokemonType.GROUND, 0.5f);
-            put(Pokemon.PokemonType.FLYING, 2.0f);
-            put(Pokemon.PokemonType.BUG, 2.0f);
-            put(Pokemon.PokemonType.STEEL, 0.5f);
-        }});
-
-        // Ghost type
-        initTypeEffectiveness(Pokemon.PokemonType.GHOST, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.NORMAL, 0.0f);
-            put(Pokemon.PokemonType.PSYCHIC, 2.0f);
-            put(Pokemon.PokemonType.GHOST, 2.0f);
-            put(Pokemon.PokemonType.DARK, 0.5f);
-        }});
-
-        // Dragon type
-        initTypeEffectiveness(Pokemon.PokemonType.DRAGON, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.DRAGON, 2.0f);
-            put(Pokemon.PokemonType.STEEL, 0.5f);
-            put(Pokemon.PokemonType.FAIRY, 0.0f);
-        }});
-
-        // Dark type
-        initTypeEffectiveness(Pokemon.PokemonType.DARK, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.FIGHTING, 0.5f);
-            put(Pokemon.PokemonType.PSYCHIC, 2.0f);
-            put(Pokemon.PokemonType.GHOST, 2.0f);
-            put(Pokemon.PokemonType.DARK, 0.5f);
-            put(Pokemon.PokemonType.FAIRY, 0.5f);
-        }});
-
-        // Steel type
-        initTypeEffectiveness(Pokemon.PokemonType.STEEL, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.FIRE, 0.5f);
-            put(Pokemon.PokemonType.WATER, 0.5f);
-            put(Pokemon.PokemonType.ELECTRIC, 0.5f);
-            put(Pokemon.PokemonType.ICE, 2.0f);
-            put(Pokemon.PokemonType.ROCK, 2.0f);
-            put(Pokemon.PokemonType.STEEL, 0.5f);
-            put(Pokemon.PokemonType.FAIRY, 2.0f);
-        }});
-
-        // Fairy type
-        initTypeEffectiveness(Pokemon.PokemonType.FAIRY, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.FIRE, 0.5f);
-            put(Pokemon.PokemonType.FIGHTING, 2.0f);
-            put(Pokemon.PokemonType.POISON, 0.5f);
-            put(Pokemon.PokemonType.DRAGON, 2.0f);
-            put(Pokemon.PokemonType.DARK, 2.0f);
-            put(Pokemon.PokemonType.STEEL, 0.5f);
-        }});
-    }
-
     private final Stage stage;
     private final Skin skin;
     private final Pokemon playerPokemon;
     private final Pokemon enemyPokemon;
     private final Array<Action> pendingActions = new Array<>();
     private final ShapeRenderer shapeRenderer;
+    private final BattleEngine engine = new BattleEngine();
     float platformHeight = 0;
     float platformWidth = 0;
     private TextureRegion battleBackground;
@@ -374,13 +171,6 @@ public class BattleTable extends Table {
         }
     }
 
-    private static void initTypeEffectiveness(Pokemon.PokemonType attackType,
-                                              ObjectMap<Pokemon.PokemonType, Float> effectiveness) {
-        typeEffectiveness.get(attackType).putAll(effectiveness);
-
-    }
-
-
     private static ProgressBar.ProgressBarStyle createHPBarStyle(float percentage) {
         ProgressBar.ProgressBarStyle style = new ProgressBar.ProgressBarStyle();
 
@@ -663,30 +453,7 @@ public class BattleTable extends Table {
     private void executeEnemyMove() {
         if (isAnimating || enemyPokemon.getCurrentHp() <= 0) return;
 
-        // Simple AI - prioritize super effective moves
-        Move selectedMove = null;
-        float bestEffectiveness = 0f;
-
-        for (Move move : enemyPokemon.getMoves()) {
-            if (move.getPp() > 0) {
-                float effectiveness = getTypeEffectiveness(
-                    move.getType(),
-                    playerPokemon.getPrimaryType()
-                );
-
-                if (playerPokemon.getSecondaryType() != null) {
-                    effectiveness *= getTypeEffectiveness(
-                        move.getType(),
-                        playerPokemon.getSecondaryType()
-                    );
-                }
-
-                if (effectiveness > bestEffectiveness) {
-                    bestEffectiveness = effectiveness;
-                    selectedMove = move;
-                }
-            }
-        }
+        Move selectedMove = engine.selectMove(enemyPokemon, playerPokemon);
         if (selectedMove == null) {
             executeStruggle(enemyPokemon, playerPokemon);
             return;
@@ -698,22 +465,20 @@ public class BattleTable extends Table {
     private void applyEndOfTurnEffects(Pokemon pokemon) {
         if (!pokemon.hasStatus()) return;
 
+        float statusDamage = engine.statusDamage(pokemon);
         switch (pokemon.getStatus()) {
             case BURNED:
-                float burnDamage = pokemon.getStats().getHp() * 0.0625f;
-                applyDamage(pokemon, burnDamage);
+                applyDamage(pokemon, statusDamage);
                 showBattleText(pokemon.getName() + " was hurt by its burn!");
                 break;
 
             case POISONED:
-                float poisonDamage = pokemon.getStats().getHp() * 0.125f;
-                applyDamage(pokemon, poisonDamage);
+                applyDamage(pokemon, statusDamage);
                 showBattleText(pokemon.getName() + " was hurt by poison!");
                 break;
 
             case BADLY_POISONED:
-                float toxicDamage = pokemon.getStats().getHp() * (0.0625f * pokemon.getToxicCounter());
-                applyDamage(pokemon, toxicDamage);
+                applyDamage(pokemon, statusDamage);
                 pokemon.incrementToxicCounter();
                 showBattleText(pokemon.getName() + " was hurt by toxic!");
                 break;
@@ -725,8 +490,7 @@ public class BattleTable extends Table {
     private void attemptRun() {
         if (isAnimating) return;
 
-        float runChance = calculateRunChance();
-        if (MathUtils.random() < runChance) {
+        if (engine.rollRun(playerPokemon, enemyPokemon)) {
             showBattleText("Got away safely!");
 
             SequenceAction escapeSequence = Actions.sequence(
@@ -794,11 +558,6 @@ public class BattleTable extends Table {
         remove();
     }
 
-    private float calculateRunChance() {
-        float levelDiff = playerPokemon.getLevel() - enemyPokemon.getLevel();
-        return RUN_SUCCESS_BASE + (levelDiff * LEVEL_FACTOR);
-    }
-
     private void initializeMoveMenu() {
         moveMenu = new Table(skin);
         moveMenu.setBackground(createTranslucentBackground(0.8f));
@@ -1724,7 +1483,7 @@ public class BattleTable extends Table {
 
             // 3. Show damage effect
             Actions.run(() -> {
-                float damage = calculateDamage(move, attacker, defender);
+                float damage = engine.calculateDamage(move, attacker, defender);
                 applyDamage(defender, damage);
 
                 // Flash the defender sprite
@@ -1760,7 +1519,7 @@ public class BattleTable extends Table {
 
 
     private void showEffectivenessMessage(Move move, Pokemon defender) {
-        float effectiveness = calculateTypeEffectiveness(move.getType(), defender);
+        float effectiveness = engine.typeMultiplier(move, defender);
 
         if (effectiveness > 1.5f) {
             showBattleText("It's super effective!");
@@ -1771,34 +1530,6 @@ public class BattleTable extends Table {
         }
     }
 
-    private float calculateTypeEffectiveness(Pokemon.PokemonType moveType, Pokemon defender) {
-        float effectiveness = getTypeEffectiveness(moveType, defender.getPrimaryType());
-
-        if (defender.getSecondaryType() != null) {
-            effectiveness *= getTypeEffectiveness(moveType, defender.getSecondaryType());
-        }
-
-        return effectiveness;
-    }
-
-    private float calculateDamage(Move move, Pokemon attacker, Pokemon defender) {
-        float baseDamage = move.getPower() * (move.isSpecial() ?
-            (float) attacker.getStats().getSpecialAttack() / defender.getStats().getSpecialDefense() :
-            (float) attacker.getStats().getAttack() / defender.getStats().getDefense());
-
-        float typeMultiplier = getTypeEffectiveness(move.getType(), defender.getPrimaryType());
-        if (defender.getSecondaryType() != null) {
-            typeMultiplier *= getTypeEffectiveness(move.getType(), defender.getSecondaryType());
-        }
-
-        float variation = MathUtils.random(0.85f, 1.0f);
-
-        float statusMultiplier = attacker.getStatusModifier(move);
-
-        return baseDamage * typeMultiplier * variation * statusMultiplier;
-    }
-
-
     private void applyDamage(Pokemon target, float damage) {
         // Flash the Pokemon sprite
         Image targetSprite = target == playerPokemon ? playerPokemonImage : enemyPokemonImage;
@@ -1828,7 +1559,7 @@ public class BattleTable extends Table {
 
     private boolean checkBattleEnd() {
         if (playerPokemon.getCurrentHp() <= 0 || enemyPokemon.getCurrentHp() <= 0 ||
-            turnCount >= MAX_TURN_COUNT) {
+            turnCount >= BattleEngine.MAX_TURN_COUNT) {
 
             boolean playerWon = playerPokemon.getCurrentHp() > 0 && enemyPokemon.getCurrentHp() <= 0;
             currentState = BattleState.ENDED;
@@ -1837,7 +1568,7 @@ public class BattleTable extends Table {
             // Create ending sequence
             SequenceAction endSequence = Actions.sequence(
                 Actions.run(() -> {
-                    if (turnCount >= MAX_TURN_COUNT) {
+                    if (turnCount >= BattleEngine.MAX_TURN_COUNT) {
                         showBattleText("Battle ended in a draw!");
                     } else {
                         showBattleText(playerWon ? "Victory!" : playerPokemon.getName() + " fainted!");
@@ -1918,8 +1649,8 @@ public class BattleTable extends Table {
 
     private void executeStruggle(Pokemon attacker, Pokemon defender) {
         // Struggle implementation - damages both Pokemon
-        float damage = attacker.getStats().getAttack() * 0.5f;
-        float recoil = damage * 0.25f;
+        float damage = engine.struggleDamage(attacker);
+        float recoil = engine.struggleRecoil(damage);
 
         applyDamage(defender, damage);
         applyDamage(attacker, recoil);
@@ -1927,20 +1658,6 @@ public class BattleTable extends Table {
         showBattleText(attacker.getName() + " used Struggle!");
     }
 
-    private float getTypeEffectiveness(Pokemon.PokemonType attackType, Pokemon.PokemonType defendType) {
-        if (attackType == null || defendType == null) {
-            GameLogger.error("Null type detected in getTypeEffectiveness: attackType=" + attackType + ", defendType=" + defendType);
-            return 1.0f; // Neutral effectiveness when types are unknown
-        }
-        ObjectMap<Pokemon.PokemonType, Float> effectivenessMap = typeEffectiveness.get(attackType);
-        if (effectivenessMap == null) {
-            GameLogger.error("No effectiveness data for attackType: " + attackType);
-            return 1.0f; // Default to neutral effectiveness
-        }
-        return effectivenessMap.get(defendType, 1.0f);
-    }
-
-
     private enum BattleState {
         INTRO,        // Initial battle animation
         PLAYER_TURN,  // Player selecting action
@@ -1,8 +1,6 @@
 package io.github.pokemeetup.screens.otherui;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -29,6 +27,7 @@ public class BuildModeUI {
     private final Player player;
     private final Table mainTable;
     private final Table hotbarTable;
+    private final HotbarSlot[] slots = new HotbarSlot[HOTBAR_SLOTS];
     private int selectedSlot = 0;
 
     // Map to track available blocks
@@ -50,7 +49,9 @@ public class BuildModeUI {
         // Initialize build inventory with blocks
         initializeBuildInventory();
 
+        createSlots();
         updateHotbarContent();
+        player.getBuildInventory().addObserver(this::updateHotbarContent);
         this.mainTable.add(hotbarTable).expandX().bottom();
         stage.addActor(mainTable);
 
@@ -91,16 +92,20 @@ public class BuildModeUI {
         return selectedSlot;
     }
 
-    private void updateHotbarContent() {
-        hotbarTable.clear();
+    /**
+     * Builds the slot cells once; {@link #updateHotbarContent()} only updates them in place.
+     */
+    private void createSlots() {
         hotbarTable.setBackground(new TextureRegionDrawable(
             TextureManager.ui.findRegion("hotbar_bg")
         ));
         hotbarTable.pad(4);
+        TextureRegionDrawable normal = new TextureRegionDrawable(TextureManager.ui.findRegion("slot_normal"));
+        TextureRegionDrawable selected = new TextureRegionDrawable(TextureManager.ui.findRegion("slot_selected"));
 
         for (int i = 0; i < HOTBAR_SLOTS; i++) {
             final int slotIndex = i;
-            Table slotCell = createSlotCell(i);
+            HotbarSlot slotCell = new HotbarSlot(skin, normal, selected);
 
             // Add click listener
             slotCell.addListener(new ClickListener() {
@@ -111,35 +116,17 @@ public class BuildModeUI {
                 }
             });
 
+            slots[i] = slotCell;
             hotbarTable.add(slotCell).size(SLOT_SIZE).pad(2);
         }
     }
 
-    private Table createSlotCell(int index) {
-        Table slotCell = new Table();
-        slotCell.setBackground(new TextureRegionDrawable(
-            TextureManager.ui.findRegion(index == selectedSlot ? "slot_selected" : "slot_normal")
-        ));
-
-        ItemData item = player.getBuildInventory().getItemAt(index);
-        if (item != null) {
-            TextureRegion itemTexture = TextureManager.items.findRegion(item.getItemId().toLowerCase());
-            if (itemTexture != null) {
-                Image itemIcon = new Image(itemTexture);
-                slotCell.add(itemIcon).size(32).center();
-
-                // Add count label if more than 1
-                if (item.getCount() > 1) {
-                    Label countLabel = new Label(String.valueOf(item.getCount()), skin);
-                    countLabel.setColor(Color.WHITE);
-                    Table countContainer = new Table();
-                    countContainer.add(countLabel).pad(2);
-                    slotCell.add(countContainer).expand().bottom().right();
-                }
-            }
+    private void updateHotbarContent() {
+        for (int i = 0; i < HOTBAR_SLOTS; i++) {
+            slots[i].setSelected(i == selectedSlot);
+            ItemData item = player.getBuildInventory().getItemAt(i);
+            slots[i].showItem(item != null ? item.getItemId() : null, item != null ? item.getCount() : 0);
         }
-
-        return slotCell;
     }
 
     public void selectSlot(int index) {
@@ -0,0 +1,95 @@
+package io.github.pokemeetup.screens.otherui;
+
+import com.badlogic.gdx.scenes.scene2d.ui.Image;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.scenes.scene2d.ui.Stack;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
+import com.badlogic.gdx.utils.Align;
+
+/**
+ * One hotbar cell: a background, an icon and a small label in the bottom-right corner. Built
+ * once; the setters only touch the actors when what they show changes.
+ */
+final class HotbarSlot extends Table {
+    private static final int SLOT_SIZE = 40;
+    private static final int ICON_SIZE = 32;
+
+    private final Image icon = new Image();
+    private final Label label;
+    private final Drawable normalBackground;
+    private final Drawable selectedBackground;
+    private Drawable shownIcon;
+    private CharSequence shownText = "";
+    // Item shown without an icon because it did not resolve yet; retried from act()
+    private String pendingItemId;
+    private int pendingCount;
+    private boolean selected;
+
+    HotbarSlot(Skin skin, Drawable normalBackground, Drawable selectedBackground) {
+        this.normalBackground = normalBackground;
+        this.selectedBackground = selectedBackground;
+        this.label = new Label("", skin);
+        setBackground(normalBackground);
+
+        Stack stack = new Stack();
+        Table iconContainer = new Table();
+        iconContainer.add(icon).size(ICON_SIZE).center();
+        stack.add(iconContainer);
+
+        label.setAlignment(Align.bottomRight);
+        Table labelContainer = new Table();
+        labelContainer.add(label).expand().right().bottom().pad(2);
+        stack.add(labelContainer);
+
+        add(stack).size(SLOT_SIZE);
+        icon.setVisible(false);
+        label.setVisible(false);
+    }
+
+    void setSelected(boolean selected) {
+        if (this.selected != selected) {
+            this.selected = selected;
+            setBackground(selected ? selectedBackground : normalBackground);
+        }
+    }
+
+    /**
+     * Shows an item stack; the count is only drawn above one.
+     */
+    void showItem(String itemId, int count) {
+        Drawable drawable = ItemIcons.get(itemId);
+        show(drawable, count > 1 ? ItemIcons.countText(count) : "");
+        pendingItemId = drawable == null ? itemId : null;
+        pendingCount = count;
+    }
+
+    /**
+     * @param text drawn in the corner; empty for none
+     */
+    void show(Drawable drawable, CharSequence text) {
+        pendingItemId = null;
+        if (drawable != shownIcon) {
+            shownIcon = drawable;
+            icon.setDrawable(drawable);
+            icon.setVisible(drawable != null);
+        }
+        if (drawable == null) {
+            text = "";
+        }
+        if (!text.equals(shownText)) {
+            shownText = text;
+            label.setText(text);
+            label.setVisible(text.length() > 0);
+        }
+    }
+
+    @Override
+    public void act(float delta) {
+        super.act(delta);
+        if (pendingItemId != null) {
+            showItem(pendingItemId, pendingCount);
+        }
+    }
+}
@@ -1,9 +1,8 @@
 package io.github.pokemeetup.screens.otherui;
 
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Stage;
-import com.badlogic.gdx.scenes.scene2d.ui.Image;
-import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
@@ -12,7 +11,6 @@ import io.github.pokemeetup.pokemon.PokemonParty;
 import io.github.pokemeetup.system.Player;
 import io.github.pokemeetup.system.gameplay.inventory.Inventory;
 import io.github.pokemeetup.system.data.ItemData;
-import io.github.pokemeetup.system.gameplay.inventory.ItemManager;
 
 public class HotbarUI {
     private static final int HOTBAR_SLOTS = 9;
@@ -21,6 +19,8 @@ public class HotbarUI {
     private final Skin skin;
     private final Player player;
     private final TextureAtlas atlas;
+    private final HotbarSlot[] slots = new HotbarSlot[HOTBAR_SLOTS];
+    private final TextureRegionDrawable[] pokemonIcons = new TextureRegionDrawable[HOTBAR_SLOTS];
 
     private Table hotbarTable;
     private boolean buildMode = false;
@@ -33,6 +33,12 @@ public class HotbarUI {
         this.mainTable = new Table();
 
         createUI();
+        // Only build inventory changes touch the slots; the party is redrawn on mode switches
+        player.getBuildInventory().addObserver(() -> {
+            if (buildMode) {
+                updateHotbarContent();
+            }
+        });
     }
 
     private void createUI() {
@@ -40,7 +46,16 @@ public class HotbarUI {
         mainTable.bottom();
         mainTable.pad(20);
 
+        // Slots are created once and updated in place
         hotbarTable = new Table();
+        hotbarTable.setBackground(new TextureRegionDrawable(atlas.findRegion("hotbar_bg")));
+        hotbarTable.pad(4);
+        TextureRegionDrawable normal = new TextureRegionDrawable(atlas.findRegion("slot_normal"));
+        TextureRegionDrawable selected = new TextureRegionDrawable(atlas.findRegion("slot_selected"));
+        for (int i = 0; i < HOTBAR_SLOTS; i++) {
+            slots[i] = new HotbarSlot(skin, normal, selected);
+            hotbarTable.add(slots[i]).size(40).pad(2);
+        }
         updateHotbarContent();
 
         mainTable.add(hotbarTable).expandX().bottom();
@@ -53,76 +68,39 @@ public class HotbarUI {
     }
 
     public void updateHotbarContent() {
-        hotbarTable.clear();
-        hotbarTable.setBackground(new TextureRegionDrawable(
-            atlas.findRegion("hotbar_bg")
-        ));
-        hotbarTable.pad(4);
-
         if (buildMode) {
-            createBuildModeSlots();
+            updateBuildModeSlots();
         } else {
-            createPokemonSlots();
+            updatePokemonSlots();
         }
     }
 
-    private void createBuildModeSlots() {
+    private void updateBuildModeSlots() {
         Inventory buildInventory = player.getBuildInventory();
 
         for (int i = 0; i < HOTBAR_SLOTS; i++) {
-            Table slotCell = new Table();
-            slotCell.setBackground(new TextureRegionDrawable(
-                atlas.findRegion("slot_normal")
-            ));
-
+            slots[i].setSelected(false);
             ItemData item = buildInventory.getItemAt(i);
-            if (item != null) {
-                // Add item icon
-                Image itemIcon = new Image(ItemManager.getItem(item.getItemId()).getIcon());
-                slotCell.add(itemIcon).size(32).center();
-
-                // Add count label if more than 1
-                if (item.getCount() > 1) {
-                    Label countLabel = new Label(String.valueOf(item.getCount()), skin);
-                    countLabel.setPosition(
-                        slotCell.getWidth() - 10,
-                        10
-                    );
-                    slotCell.addActor(countLabel);
-                }
-            }
-
-            hotbarTable.add(slotCell).size(40).pad(2);
+            slots[i].showItem(item != null ? item.getItemId() : null, item != null ? item.getCount() : 0);
         }
     }
 
-    private void createPokemonSlots() {
+    private void updatePokemonSlots() {
         PokemonParty party = player.getPokemonParty();
 
         for (int i = 0; i < HOTBAR_SLOTS; i++) {
-            Table slotCell = new Table();
-            slotCell.setBackground(new TextureRegionDrawable(
-                atlas.findRegion(i == 0 ? "slot_selected" : "slot_normal")
-            ));
-
-            if (i < party.getSize()) {
-                Pokemon pokemon = party.getPokemon(i);
-                if (pokemon != null) {
-                    // Add Pokemon icon
-                    Image pokemonIcon = new Image(pokemon.getCurrentIconFrame(0));
-                    slotCell.add(pokemonIcon).size(32).center();
-
-                    // Add level label
-                    Label levelLabel = new Label("Lv." + pokemon.getLevel(), skin);
-                    levelLabel.setPosition(
-                        slotCell.getWidth() - 10,
-                        10
-                    );
-                    slotCell.addActor(levelLabel);
-                }
+            slots[i].setSelected(i == 0);
+            Pokemon pokemon = i < party.getSize() ? party.getPokemon(i) : null;
+            if (pokemon == null) {
+                slots[i].show(null, "");
+                continue;
             }
-
-            hotbarTable.add(slotCell).size(40).pad(2);
+            TextureRegion frame = pokemon.getCurrentIconFrame(0);
+            TextureRegionDrawable icon = pokemonIcons[i];
+            if (icon == null || icon.getRegion() != frame) {
+                icon = pokemonIcons[i] = new TextureRegionDrawable(frame);
+            }
+            slots[i].show(icon, "Lv." + pokemon.getLevel());
         }
     }
 
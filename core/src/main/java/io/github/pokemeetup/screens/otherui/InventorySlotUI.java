@@ -2,23 +2,20 @@
 
     import com.badlogic.gdx.Gdx;
     import com.badlogic.gdx.Input;
-    import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-    import com.badlogic.gdx.graphics.g2d.TextureRegion;
     import com.badlogic.gdx.scenes.scene2d.*;
     import com.badlogic.gdx.scenes.scene2d.ui.*;
     import com.badlogic.gdx.scenes.scene2d.utils.*;
     import com.badlogic.gdx.utils.Align;
+    import io.github.pokemeetup.multiplayer.network.NetworkProtocol;
     import io.github.pokemeetup.screens.InventoryScreen;
     import io.github.pokemeetup.system.data.ItemData;
-    import io.github.pokemeetup.system.gameplay.inventory.Inventory;
+    import io.github.pokemeetup.system.gameplay.inventory.InventoryOperations;
     import io.github.pokemeetup.system.gameplay.inventory.Item;
     import io.github.pokemeetup.system.gameplay.inventory.secureinventories.InventorySlotData;
     import io.github.pokemeetup.system.gameplay.inventory.secureinventories.InventorySlotDataObserver;
     import io.github.pokemeetup.utils.GameLogger;
     import io.github.pokemeetup.utils.textures.TextureManager;
 
-    import java.util.UUID;
-
     public class InventorySlotUI extends Table implements InventorySlotDataObserver {
         private static final long CLICK_COOLDOWN = 250; // 250ms cooldown between clicks
         private static final int SLOT_SIZE = 40;
@@ -26,8 +23,12 @@
         private final InventorySlotData slotData;
         private final InventoryScreen inventoryScreen;
         private final Skin skin;
+        private final Drawable normalBackground;
+        private final Drawable hoverBackground;
         private Image itemImage;
         private Label countLabel;
+        private String shownItemId;
+        private int shownCount;
         private long lastClickTime = 0;
         private boolean isProcessingClick = false;
 
@@ -38,7 +39,9 @@
             this.setTouchable(Touchable.enabled);
 
             // Set the background of the slot
-            setBackground(new TextureRegionDrawable(TextureManager.ui.findRegion("slot_normal")));
+            this.normalBackground = new TextureRegionDrawable(TextureManager.ui.findRegion("slot_normal"));
+            this.hoverBackground = new TextureRegionDrawable(TextureManager.ui.findRegion("slot_selected"));
+            setBackground(normalBackground);
             slotData.addObserver(this);
 
             // Initialize UI components
@@ -52,23 +55,13 @@
             // Remove the redundant InputListener here
         }
 
+        /**
+         * Redraws the slot even if its contents look unchanged.
+         */
         public void forceUpdate() {
-            GameLogger.info("Force updating slot " + slotData.getSlotIndex());
-
-            // Clear existing visuals
-            clearVisuals();
-
-            if (slotData != null && !slotData.isEmpty()) {
-                ItemData item = slotData.getItemData();
-                if (item != null) {
-                    GameLogger.info("Forcing update for item: " + item.getItemId() +
-                        " x" + item.getCount());
-                    updateVisuals();
-                }
-            }
-
-            invalidate();
-            validate();
+            shownItemId = null;
+            shownCount = -1;
+            updateVisuals();
         }
 
         public int getSlotIndex() {
@@ -124,96 +117,43 @@
             });
         }
 
+        private boolean isInventorySlot() {
+            InventorySlotData.SlotType type = slotData.getSlotType();
+            return type != InventorySlotData.SlotType.CRAFTING && type != InventorySlotData.SlotType.CRAFTING_RESULT;
+        }
+
         private void handleLeftClick() {
-            synchronized (inventoryScreen.getInventory().getInventoryLock()) {
-                try {
-                    Item heldItem = inventoryScreen.getHeldItem();
-                    int slotIndex = slotData.getSlotIndex();
-                    Inventory inventory = inventoryScreen.getInventory();
-                    ItemData slotItemData = inventory.getItemAt(slotIndex);
+            if (!isInventorySlot()) return;
+            try {
+                int slotIndex = slotData.getSlotIndex();
+                ItemData slotItemData = inventoryScreen.getInventory().getItemAt(slotIndex);
+                ItemData heldItemData = inventoryScreen.getCursor().get();
+                int cursor = InventoryOperations.CURSOR_SLOT;
+                NetworkProtocol.InventoryOp op;
 
+                if (heldItemData == null) {
                     // PICKUP
-                    if (heldItem == null && slotItemData != null) {
-                        // Create held item from slot item data
-                        Item newHeldItem = new Item(slotItemData.getItemId());
-                        newHeldItem.setCount(slotItemData.getCount());
-                        newHeldItem.setUuid(slotItemData.getUuid());
-
-                        // Remove item from inventory slot
-                        inventory.setItemAt(slotIndex, null);
-
-                        // Update held item
-                        inventoryScreen.setHeldItem(newHeldItem);
-
-                        GameLogger.info("Picked up item: " + newHeldItem.getName() + " x" + newHeldItem.getCount());
-
-                    }
-                    // PLACE/STACK
-                    else if (heldItem != null) {
-                        // Empty slot - place
-                        if (slotItemData == null) {
-                            // Place held item into slot
-                            ItemData newItemData = new ItemData(heldItem.getName(), heldItem.getCount(), heldItem.getUuid());
-                            inventory.setItemAt(slotIndex, newItemData);
-
-                            // Clear held item
-                            inventoryScreen.setHeldItem(null);
-
-                            GameLogger.info("Placed item: " + newItemData.getItemId() + " x" + newItemData.getCount());
-
-                        }
-                        // Stack same items
-                        else if (slotItemData.getItemId().equals(heldItem.getName())) {
-                            int totalCount = slotItemData.getCount() + heldItem.getCount();
-                            if (totalCount <= Item.MAX_STACK_SIZE) {
-                                // Stack items
-                                ItemData newStack = new ItemData(slotItemData.getItemId(), totalCount, slotItemData.getUuid());
-                                inventory.setItemAt(slotIndex, newStack);
-
-                                // Clear held item
-                                inventoryScreen.setHeldItem(null);
-
-                                GameLogger.info("Stacked items to: " + newStack.getCount());
-
-                            } else {
-                                // Stack up to max, keep remaining in held item
-                                int spaceLeft = Item.MAX_STACK_SIZE - slotItemData.getCount();
-                                if (spaceLeft > 0) {
-                                    ItemData newSlotItem = new ItemData(slotItemData.getItemId(), Item.MAX_STACK_SIZE, slotItemData.getUuid());
-                                    inventory.setItemAt(slotIndex, newSlotItem);
-
-                                    // Update held item count
-                                    heldItem.setCount(heldItem.getCount() - spaceLeft);
-                                    inventoryScreen.setHeldItem(heldItem);
-
-                                    GameLogger.info("Partially stacked items, slot now has: " + newSlotItem.getCount() + ", held item remaining: " + heldItem.getCount());
-
-                                } else {
-                                    // Can't stack any more
-                                }
-                            }
-                        }
-                        // Swap different items
-                        else {
-                            // Swap items
-                            ItemData newSlotItemData = new ItemData(heldItem.getName(), heldItem.getCount(), heldItem.getUuid());
-                            inventory.setItemAt(slotIndex, newSlotItemData);
-
-                            // Set held item to the item previously in the slot
-                            Item newHeldItem = new Item(slotItemData.getItemId());
-                            newHeldItem.setCount(slotItemData.getCount());
-                            newHeldItem.setUuid(slotItemData.getUuid());
-                            inventoryScreen.setHeldItem(newHeldItem);
-
-                            GameLogger.info("Swapped items");
-
-                        }
-                    }
+                    if (slotItemData == null) return;
+                    op = InventoryOperations.op(NetworkProtocol.InventoryOpType.MOVE, slotIndex, cursor,
+                        slotItemData.getCount());
+                } else if (slotItemData == null) {
+                    // PLACE
+                    op = InventoryOperations.op(NetworkProtocol.InventoryOpType.MOVE, cursor, slotIndex,
+                        heldItemData.getCount());
+                } else if (slotItemData.getItemId().equals(heldItemData.getItemId())) {
+                    // STACK, keeping whatever does not fit on the cursor
+                    op = InventoryOperations.op(NetworkProtocol.InventoryOpType.STACK, cursor, slotIndex, 0);
+                } else {
+                    // SWAP
+                    op = InventoryOperations.op(NetworkProtocol.InventoryOpType.SWAP, cursor, slotIndex, 0);
+                }
 
-                } catch (Exception e) {
-                    GameLogger.error("Error handling left click: " + e.getMessage());
-                    e.printStackTrace();
+                if (!inventoryScreen.applyOperation(op)) {
+                    GameLogger.info("Inventory " + op.type + " on slot " + slotIndex + " not possible");
                 }
+            } catch (Exception e) {
+                GameLogger.error("Error handling left click: " + e.getMessage());
+                e.printStackTrace();
             }
         }
 
@@ -223,78 +163,27 @@
 
 
         private boolean handleRightClick() {
-            if (isProcessingClick) return false;
+            if (isProcessingClick || !isInventorySlot()) return false;
             isProcessingClick = true;
 
             try {
-                Inventory inventory = inventoryScreen.getInventory();
-                synchronized (inventory.getInventoryLock()) {
-                    Item heldItem = inventoryScreen.getHeldItem();
-                    ItemData currentSlotItem = slotData.getItemData();
-
-                    GameLogger.info("Right click - Held item: " + (heldItem != null ? heldItem.getName() + " x" + heldItem.getCount() : "null") +
-                        ", Slot item: " + (currentSlotItem != null ? currentSlotItem.getItemId() + " x" + currentSlotItem.getCount() : "null"));
-
-                    if (heldItem == null) {
-                        // Split stack
-                        if (currentSlotItem != null && currentSlotItem.getCount() > 1) {
-                            int splitAmount = (currentSlotItem.getCount() + 1) / 2;
-
-                            // Update current slot
-                            ItemData remainingStack = new ItemData(
-                                currentSlotItem.getItemId(),
-                                currentSlotItem.getCount() - splitAmount,
-                                currentSlotItem.getUuid()
-                            );
-                            inventory.setItemAt(slotData.getSlotIndex(), remainingStack);
-
-                            // Create held item with split amount
-                            Item splitStack = new Item(currentSlotItem.getItemId());
-                            splitStack.setCount(splitAmount);
-                            splitStack.setUuid(UUID.randomUUID());
-                            inventoryScreen.setHeldItem(splitStack);
-
-                            GameLogger.info("Split stack: Slot has " + remainingStack.getCount() +
-                                ", Holding " + splitStack.getCount());
-                            return true;
-                        }
-                    } else {
-                        // Place single item
-                        if (currentSlotItem == null ||
-                            (currentSlotItem.getItemId().equals(heldItem.getName()) &&
-                                currentSlotItem.getCount() < Item.MAX_STACK_SIZE)) {
-
-                            if (currentSlotItem == null) {
-                                // Create new stack of 1
-                                ItemData newStack = new ItemData(
-                                    heldItem.getName(),
-                                    1,
-                                    UUID.randomUUID()
-                                );
-                                inventory.setItemAt(slotData.getSlotIndex(), newStack);
-                            } else {
-                                // Add 1 to existing stack
-                                ItemData updatedStack = new ItemData(
-                                    currentSlotItem.getItemId(),
-                                    currentSlotItem.getCount() + 1,
-                                    currentSlotItem.getUuid()
-                                );
-                                inventory.setItemAt(slotData.getSlotIndex(), updatedStack);
-                            }
-
-                            // Update held item
-                            heldItem.setCount(heldItem.getCount() - 1);
-                            if (heldItem.getCount() <= 0) {
-                                inventoryScreen.setHeldItem(null);
-                            } else {
-                                inventoryScreen.setHeldItem(heldItem);
-                            }
-
-                            GameLogger.info("Placed single item. Remaining held: " +
-                                (heldItem.getCount() <= 0 ? "none" : heldItem.getCount()));
-                            return true;
-                        }
+                int slotIndex = slotData.getSlotIndex();
+                ItemData currentSlotItem = inventoryScreen.getInventory().getItemAt(slotIndex);
+                ItemData heldItemData = inventoryScreen.getCursor().get();
+                int cursor = InventoryOperations.CURSOR_SLOT;
+
+                if (heldItemData == null) {
+                    // Split stack, holding the larger half
+                    if (currentSlotItem != null && currentSlotItem.getCount() > 1) {
+                        return inventoryScreen.applyOperation(InventoryOperations.op(
+                            NetworkProtocol.InventoryOpType.SPLIT, slotIndex, cursor, 0));
                     }
+                } else if (currentSlotItem == null ||
+                    (currentSlotItem.getItemId().equals(heldItemData.getItemId()) &&
+                        currentSlotItem.getCount() < Item.MAX_STACK_SIZE)) {
+                    // Place single item
+                    return inventoryScreen.applyOperation(InventoryOperations.op(
+                        NetworkProtocol.InventoryOpType.MOVE, cursor, slotIndex, 1));
                 }
             } finally {
                 isProcessingClick = false;
@@ -305,80 +194,54 @@
             addListener(new InputListener() {
                 @Override
                 public void enter(InputEvent event, float x, float y, int pointer, Actor fromActor) {
-                    setBackground(new TextureRegionDrawable(TextureManager.ui.findRegion("slot_selected")));
+                    setBackground(hoverBackground);
                 }
 
                 @Override
                 public void exit(InputEvent event, float x, float y, int pointer, Actor toActor) {
-                    setBackground(new TextureRegionDrawable(TextureManager.ui.findRegion("slot_normal")));
+                    setBackground(normalBackground);
                 }
             });
         }
 
-
-        private void clearVisuals() {
-            if (itemImage != null) {
-                itemImage.setDrawable(null);
-                itemImage.setVisible(false);
-            }
-            if (countLabel != null) {
-                countLabel.setText("");
-                countLabel.setVisible(false);
-            }
-        }
-
         @Override
         public void onSlotDataChanged() {
             updateVisuals();
         }
 
-        public void updateVisuals() {
-            try {
-                clearVisuals();
-
-
-
-                ItemData item = slotData.getItemData();
-                if (item == null) {
-                    GameLogger.error("ItemData is null for slot " + slotData.getSlotIndex());
-                    return;
-                }
-
-                // Get texture
-                TextureRegion texture = TextureManager.items.findRegion(item.getItemId().toLowerCase() + "_item");
-                if (texture == null) {
-                    texture = TextureManager.items.findRegion(item.getItemId().toLowerCase());
-                    if (texture == null) {
-                        GameLogger.error("Could not find texture for item: " + item.getItemId());
-                        // Log available textures
-                        for (TextureAtlas.AtlasRegion region : TextureManager.items.getRegions()) {
-                            GameLogger.info("Available texture: " + region.name);
-                        }
-                        return;
-                    }
-                }
-
-                if (itemImage == null) {
-                    itemImage = new Image();
-                    add(itemImage).size(32);
-                }
-
-                itemImage.setDrawable(new TextureRegionDrawable(texture));
-                itemImage.setVisible(true);
-                itemImage.setSize(32, 32);
-
-                if (item.getCount() > 1) {
-                    if (countLabel == null) {
-                        countLabel = new Label("", skin);
-                        add(countLabel).expand().right().bottom().pad(4);
-                    }
-                    countLabel.setText(String.valueOf(item.getCount()));
-                    countLabel.setVisible(true);
-                }
+        @Override
+        public void act(float delta) {
+            super.act(delta);
+            // An item whose icon did not resolve yet (atlas still loading) is asked for again
+            if (!itemImage.isVisible() && !slotData.isEmpty()) {
+                updateVisuals();
+            }
+        }
 
-            } catch (Exception e) {
-                GameLogger.error("Error updating slot visuals: " + e.getMessage());
-                e.printStackTrace();
+        /**
+         * Points the existing image and label at the slot's item. Nothing is rebuilt, and nothing
+         * changes if the item and count are the ones already shown. An item is only remembered as
+         * shown once its icon resolved, so a miss is looked up again on the next call.
+         */
+        public void updateVisuals() {
+            String itemId = slotData.isEmpty() ? null : slotData.getItemId();
+            int count = slotData.getCount();
+            if (count == shownCount && (itemId == null ? shownItemId == null : itemId.equals(shownItemId))) {
+                return;
+            }
+            TextureRegionDrawable icon = ItemIcons.get(itemId);
+            if (itemId == null || icon != null) {
+                shownItemId = itemId;
+                shownCount = count;
+            } else {
+                shownItemId = null;
+                shownCount = -1;
             }
+            itemImage.setDrawable(icon);
+            itemImage.setVisible(icon != null);
+
+            boolean showCount = icon != null && count > 1;
+            countLabel.setText(showCount ? ItemIcons.countText(count) : "");
+            countLabel.setVisible(showCount);
         }
     }
@@ -0,0 +1,63 @@
+package io.github.pokemeetup.screens.otherui;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import io.github.pokemeetup.system.gameplay.inventory.Item;
+import io.github.pokemeetup.utils.GameLogger;
+import io.github.pokemeetup.utils.textures.TextureManager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Item icons and stack count strings for the inventory widgets. An item's region is looked up
+ * once through {@link TextureManager#findItemRegion} and its drawable shared by every slot that
+ * shows it, so updating a slot allocates nothing. Nothing is cached until the items atlas is
+ * loaded, and {@link #clear()} must follow any reload of it. Used from the render thread only.
+ */
+public final class ItemIcons {
+    private static final Map<String, TextureRegionDrawable> drawables = new HashMap<>();
+    private static final String[] COUNT_TEXT = new String[Item.MAX_STACK_SIZE + 1];
+
+    static {
+        for (int i = 0; i < COUNT_TEXT.length; i++) {
+            COUNT_TEXT[i] = String.valueOf(i);
+        }
+    }
+
+    private ItemIcons() {
+    }
+
+    /**
+     * @return the shared drawable for the item, or null if the atlas has no region for it
+     */
+    public static TextureRegionDrawable get(String itemId) {
+        if (itemId == null) {
+            return null;
+        }
+        if (drawables.containsKey(itemId)) {
+            return drawables.get(itemId);
+        }
+        if (TextureManager.items == null) {
+            return null; // Not loaded yet; ask again once it is
+        }
+        TextureRegion region = TextureManager.findItemRegion(itemId);
+        TextureRegionDrawable drawable = region != null ? new TextureRegionDrawable(region) : null;
+        if (drawable == null) {
+            GameLogger.error("Could not find texture for item: " + itemId);
+        }
+        drawables.put(itemId, drawable); // Misses are cached too, so a bad id is logged once
+        return drawable;
+    }
+
+    public static String countText(int count) {
+        return count >= 0 && count < COUNT_TEXT.length ? COUNT_TEXT[count] : String.valueOf(count);
+    }
+
+    /**
+     * Drops the cached drawables; call after the items atlas is reloaded.
+     */
+    public static void clear() {
+        drawables.clear();
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.pokemeetup.server.deployment;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.pokemeetup.utils.GameLogger;
+import io.github.pokemeetup.utils.metrics.MetricsRegistry;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Serves {@link MetricsRegistry#toJson()} at {@code GET /metrics} on the loopback interface,
+ * for a local dashboard or scraper. It is bound to 127.0.0.1 only and has no authentication,
+ * so remote access has to go through an SSH tunnel or a reverse proxy. Requests are handled
+ * on one daemon thread; rendering the registry takes well under a millisecond.
+ */
+public class MetricsHttpServer {
+    private final MetricsRegistry registry;
+    private final int port;
+    private HttpServer httpServer;
+    private ExecutorService executor;
+
+    public MetricsHttpServer(MetricsRegistry registry, int port) {
+        this.registry = registry;
+        this.port = port;
+    }
+
+    public void start() throws IOException {
+        registerJvmGauges(registry);
+        httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        httpServer.createContext("/metrics", this::handleMetrics);
+        executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "Metrics-HTTP");
+            thread.setDaemon(true);
+            return thread;
+        });
+        httpServer.setExecutor(executor);
+        httpServer.start();
+        GameLogger.info("Metrics endpoint listening on http://127.0.0.1:" + port + "/metrics");
+    }
+
+    public void stop() {
+        if (httpServer != null) {
+            httpServer.stop(0);
+            httpServer = null;
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = registry.toJson().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.getResponseHeaders().set("Cache-Control", "no-store");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (RuntimeException e) {
+            GameLogger.error("Error serving metrics: " + e.getMessage());
+            exchange.sendResponseHeaders(500, -1);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Thread, CPU and GC gauges from the management beans. They live here rather than in the
+     * registry because Android has no {@code java.lang.management}.
+     */
+    private static void registerJvmGauges(MetricsRegistry registry) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        registry.gauge("jvm.threads", threads::getThreadCount);
+        registry.gauge("jvm.loadAverage", os::getSystemLoadAverage);
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            com.sun.management.OperatingSystemMXBean sunOs = (com.sun.management.OperatingSystemMXBean) os;
+            registry.gauge("jvm.cpu.process", sunOs::getProcessCpuLoad);
+        }
+        registry.gauge("jvm.gc.count", () -> {
+            long count = 0;
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                count += Math.max(0, gc.getCollectionCount());
+            }
+            return count;
+        });
+        registry.gauge("jvm.gc.timeMs", () -> {
+            long time = 0;
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                time += Math.max(0, gc.getCollectionTime());
+            }
+            return time;
+        });
+    }
+}
@@ -11,16 +11,18 @@ public class ServerFileDelegate implements FileSystemDelegate {
     private final String basePath;
     @Override
     public void moveFile(String sourcePath, String destinationPath) throws IOException {
-        File sourceFile = new File(sourcePath);
-        File destFile = new File(destinationPath);
+        Path source = getPath(sourcePath);
+        Path destination = getPath(destinationPath);
 
-        if (!sourceFile.exists()) {
+        if (!Files.exists(source)) {
             throw new FileNotFoundException("Source file does not exist: " + sourcePath);
         }
 
-        boolean success = sourceFile.renameTo(destFile);
-        if (!success) {
-            throw new IOException("Failed to move file from " + sourcePath + " to " + destinationPath);
+        // Replaces the destination in one step, so readers see the old file or the new one
+        try {
+            Files.move(source, destination, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, destination, StandardCopyOption.REPLACE_EXISTING);
         }
     }
     public ServerFileDelegate() {
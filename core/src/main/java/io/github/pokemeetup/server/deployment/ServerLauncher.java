@@ -4,14 +4,19 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import io.github.pokemeetup.multiplayer.server.GameServer;
 import io.github.pokemeetup.multiplayer.server.ServerStorageSystem;
+import io.github.pokemeetup.multiplayer.server.WorldPregenerator;
 import io.github.pokemeetup.multiplayer.server.config.ServerConnectionConfig;
 import io.github.pokemeetup.system.data.WorldData;
 import io.github.pokemeetup.system.gameplay.overworld.multiworld.WorldManager;
+import io.github.pokemeetup.utils.metrics.MetricsRegistry;
 import io.github.pokemeetup.utils.storage.GameFileSystem;
 import org.h2.tools.Server;
 
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -22,8 +27,11 @@ public class ServerLauncher {
     private static final String DEFAULT_MOTD = "Basic and default server description fr!";
     private static final Logger logger = Logger.getLogger(ServerLauncher.class.getName());
     private static final Path SERVER_ROOT = Paths.get(".");
+    private static final String PREGEN_USAGE =
+        "Usage: pregen radius <chunks> | pregen rect <minX> <minY> <maxX> <maxY> | pregen stop | pregen resume | pregen status";
 
     public static void main(String[] args) {
+        long startTime = System.currentTimeMillis();
         Server h2Server = null;
         try {
             // Initialize server deployment
@@ -52,9 +60,15 @@ public class ServerLauncher {
             GameServer server = new GameServer(config);
             server.start();
             logger.info("Game server started successfully");
+            MetricsHttpServer metricsServer = startMetricsServer(config);
+            logStartupFootprint(startTime);
 
             // Add shutdown hook
-            addShutdownHook(server, h2Server);
+            addShutdownHook(server, h2Server, metricsServer);
+
+            // --pregen-radius <chunks> or --pregen <minX> <minY> <maxX> <maxY>, then console commands
+            startPregenFromArgs(server, args);
+            startConsole(server);
 
         } catch (Exception e) {
             logger.severe("Failed to start server: " + e.getMessage());
@@ -66,7 +80,95 @@ public class ServerLauncher {
         }
     }
 
-    private static Server startH2Server() throws Exception {
+    private static void startPregenFromArgs(GameServer server, String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            if ("--pregen-radius".equals(args[i]) && i + 1 < args.length) {
+                runPregenCommand(server, new String[]{"pregen", "radius", args[i + 1]});
+            } else if ("--pregen".equals(args[i]) && i + 4 < args.length) {
+                runPregenCommand(server, new String[]{"pregen", "rect", args[i + 1], args[i + 2], args[i + 3], args[i + 4]});
+            }
+        }
+    }
+
+    /**
+     * Reads server commands from standard input on a daemon thread.
+     */
+    private static void startConsole(GameServer server) {
+        Thread console = new Thread(() -> {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+            try {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] parts = line.trim().split("\\s+");
+                    if ("pregen".equalsIgnoreCase(parts[0])) {
+                        runPregenCommand(server, parts);
+                    } else if (!parts[0].isEmpty()) {
+                        logger.info("Unknown command: " + parts[0] + ". " + PREGEN_USAGE);
+                    }
+                }
+            } catch (IOException e) {
+                logger.warning("Console input closed: " + e.getMessage());
+            }
+        }, "ServerConsole");
+        console.setDaemon(true);
+        console.start();
+    }
+
+    private static void runPregenCommand(GameServer server, String[] parts) {
+        WorldPregenerator pregenerator = server.getPregenerator();
+        try {
+            String action = parts.length > 1 ? parts[1].toLowerCase() : "status";
+            switch (action) {
+                case "radius":
+                    server.pregenerateAroundSpawn(Integer.parseInt(parts[2]));
+                    break;
+                case "rect":
+                    pregenerator.start(Integer.parseInt(parts[2]), Integer.parseInt(parts[3]),
+                        Integer.parseInt(parts[4]), Integer.parseInt(parts[5]));
+                    break;
+                case "stop":
+                    pregenerator.stop();
+                    break;
+                case "resume":
+                    if (!pregenerator.resume()) {
+                        logger.info("No unfinished pre-generation to resume");
+                    }
+                    break;
+                case "status":
+                    logger.info(pregenerator.getStatus());
+                    break;
+                default:
+                    logger.info(PREGEN_USAGE);
+            }
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            logger.info(PREGEN_USAGE);
+        }
+    }
+
+    private static void logStartupFootprint(long startTime) {
+        Runtime runtime = Runtime.getRuntime();
+        long usedHeapMb = (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024);
+        logger.info(String.format("Headless startup took %dms, heap in use %dMB of %dMB",
+            System.currentTimeMillis() - startTime, usedHeapMb, runtime.maxMemory() / (1024 * 1024)));
+    }
+
+    private static MetricsHttpServer startMetricsServer(ServerConnectionConfig config) {
+        if (config.getMetricsPort() <= 0) {
+            logger.info("Metrics endpoint disabled");
+            return null;
+        }
+        MetricsHttpServer metricsServer = new MetricsHttpServer(MetricsRegistry.getInstance(), config.getMetricsPort());
+        try {
+            metricsServer.start();
+            return metricsServer;
+        } catch (IOException e) {
+            // Monitoring is optional; a taken port must not stop the game server
+            logger.warning("Could not start metrics endpoint on port " + config.getMetricsPort() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    static Server startH2Server() throws Exception {
         Server h2Server = Server.createTcpServer(
             "-tcpPort", "9101",
             "-tcpAllowOthers",
@@ -134,10 +236,14 @@ public class ServerLauncher {
     }
 
     // In ServerLauncher.java - Update shutdown hook
-    private static void addShutdownHook(GameServer server, Server h2Server) {
+    private static void addShutdownHook(GameServer server, Server h2Server, MetricsHttpServer metricsServer) {
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
             logger.info("Shutting down server...");
             try {
+                if (metricsServer != null) {
+                    metricsServer.stop();
+                }
+
                 // Stop game server first to prevent new changes
                 server.shutdown();
                 logger.info("Game server stopped");
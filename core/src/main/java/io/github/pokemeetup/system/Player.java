@@ -215,6 +215,18 @@ public class Player {
 
         GameLogger.info("Player initialized in world: " + username);
     }
+    /**
+     * Puts the player where the server says they are, cancelling any step in progress.
+     */
+    public void applyServerPosition(float pixelX, float pixelY, String direction) {
+        validateAndFixPosition(pixelToTileX(pixelX), pixelToTileY(pixelY));
+        this.isMoving = false;
+        if (direction != null) {
+            this.direction = direction;
+        }
+        updateCollisionBoxes();
+    }
+
     public void updateFromPlayerData(PlayerData data) {
         if (data == null) {
             GameLogger.error("Cannot update from null PlayerData");
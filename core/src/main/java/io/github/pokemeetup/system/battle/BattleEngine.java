@@ -0,0 +1,328 @@
+package io.github.pokemeetup.system.battle;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import io.github.pokemeetup.pokemon.Pokemon;
+import io.github.pokemeetup.pokemon.attacks.Move;
+
+import java.util.List;
+
+/**
+ * Battle rules with no UI dependencies: damage, type effectiveness, status damage,
+ * struggle, run chance and enemy move selection. Every random roll goes through the
+ * engine's own generator, so a seeded engine replays a battle exactly.
+ * <p>
+ * The {@link Pokemon} overloads back {@code BattleTable}; the {@link Combatant} overloads
+ * resolve whole turns without allocating and are what {@link BattleSimulator} uses.
+ * An engine instance is not thread safe; give each thread its own.
+ */
+public class BattleEngine {
+    public static final int MAX_TURN_COUNT = 20;
+    public static final int MAX_MOVES = 4;
+
+    public static final int OUTCOME_FIRST_WON = 0;
+    public static final int OUTCOME_SECOND_WON = 1;
+    public static final int OUTCOME_DRAW = 2;
+
+    private static final float RUN_SUCCESS_BASE = 0.5f;
+    private static final float LEVEL_FACTOR = 0.1f;
+    private static final float MIN_DAMAGE_ROLL = 0.85f;
+    private static final float STRUGGLE_ATTACK_FACTOR = 0.5f;
+    private static final float STRUGGLE_RECOIL_FACTOR = 0.25f;
+    private static final float BURN_DAMAGE_FACTOR = 0.0625f;
+    private static final float POISON_DAMAGE_FACTOR = 0.125f;
+    private static final float TOXIC_DAMAGE_STEP = 0.0625f;
+    private static final int MAX_TOXIC_COUNTER = 15;
+
+    private final RandomXS128 random;
+
+    public BattleEngine() {
+        this(MathUtils.random.nextLong());
+    }
+
+    public BattleEngine(long seed) {
+        this.random = new RandomXS128(seed);
+    }
+
+    public void setSeed(long seed) {
+        random.setSeed(seed);
+    }
+
+    public float typeMultiplier(Move move, Pokemon defender) {
+        return TypeChart.against(move.getType(), defender);
+    }
+
+    public float calculateDamage(Move move, Pokemon attacker, Pokemon defender) {
+        Pokemon.Stats attackerStats = attacker.getStats();
+        Pokemon.Stats defenderStats = defender.getStats();
+        float ratio = move.isSpecial() ?
+            (float) attackerStats.getSpecialAttack() / defenderStats.getSpecialDefense() :
+            (float) attackerStats.getAttack() / defenderStats.getDefense();
+        return rollDamage(move.getPower() * ratio, typeMultiplier(move, defender),
+            attacker.getStatusModifier(move));
+    }
+
+    /**
+     * Picks the usable move with the best type multiplier against the defender, or
+     * {@code null} when every move is out of PP and the attacker has to struggle.
+     */
+    public Move selectMove(Pokemon attacker, Pokemon defender) {
+        List<Move> moves = attacker.getMoves();
+        Move selected = null;
+        float best = 0f;
+        for (int i = 0; i < moves.size(); i++) {
+            Move move = moves.get(i);
+            if (move.getPp() <= 0) continue;
+            float effectiveness = typeMultiplier(move, defender);
+            if (effectiveness > best) {
+                best = effectiveness;
+                selected = move;
+            }
+        }
+        return selected;
+    }
+
+    public float struggleDamage(Pokemon attacker) {
+        return attacker.getStats().getAttack() * STRUGGLE_ATTACK_FACTOR;
+    }
+
+    public float struggleRecoil(float damage) {
+        return damage * STRUGGLE_RECOIL_FACTOR;
+    }
+
+    /**
+     * End-of-turn damage from the Pokemon's status. Does not advance the toxic counter.
+     */
+    public float statusDamage(Pokemon pokemon) {
+        if (!pokemon.hasStatus()) return 0f;
+        return statusDamage(pokemon.getStatus(), pokemon.getStats().getHp(), pokemon.getToxicCounter());
+    }
+
+    public float runChance(Pokemon runner, Pokemon opponent) {
+        return runChance(runner.getLevel(), opponent.getLevel());
+    }
+
+    public boolean rollRun(Pokemon runner, Pokemon opponent) {
+        return random.nextFloat() < runChance(runner, opponent);
+    }
+
+    public int selectMove(Combatant attacker, Combatant defender) {
+        int selected = -1;
+        float best = 0f;
+        for (int i = 0; i < attacker.moveCount; i++) {
+            if (attacker.pp[i] <= 0) continue;
+            float effectiveness = TypeChart.against(attacker.moveType[i], defender.primaryType, defender.secondaryType);
+            if (effectiveness > best) {
+                best = effectiveness;
+                selected = i;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Resolves one attack, applying damage and recoil to the combatants and spending one PP
+     * of the move. A negative move index means struggle.
+     */
+    public TurnResult resolveAttack(Combatant attacker, Combatant defender, int moveIndex, TurnResult out) {
+        out.reset();
+        out.moveIndex = moveIndex;
+        if (moveIndex < 0) {
+            out.struggled = true;
+            out.damage = attacker.attack * STRUGGLE_ATTACK_FACTOR;
+            out.recoil = out.damage * STRUGGLE_RECOIL_FACTOR;
+            out.effectiveness = 1f;
+        } else {
+            attacker.pp[moveIndex]--;
+            boolean special = attacker.moveSpecial[moveIndex];
+            float ratio = special ?
+                attacker.specialAttack / defender.specialDefense :
+                attacker.attack / defender.defense;
+            out.effectiveness = TypeChart.against(attacker.moveType[moveIndex],
+                defender.primaryType, defender.secondaryType);
+            out.damage = rollDamage(attacker.movePower[moveIndex] * ratio, out.effectiveness,
+                attacker.statusModifier(special));
+        }
+        defender.hp = Math.max(0f, defender.hp - out.damage);
+        attacker.hp = Math.max(0f, attacker.hp - out.recoil);
+        return out;
+    }
+
+    public TurnResult applyEndOfTurn(Combatant combatant, TurnResult out) {
+        out.statusDamage = statusDamage(combatant.status, combatant.maxHp, combatant.toxicCounter);
+        if (combatant.status == Pokemon.Status.BADLY_POISONED) {
+            combatant.toxicCounter = Math.min(combatant.toxicCounter + 1, MAX_TOXIC_COUNTER);
+        }
+        combatant.hp = Math.max(0f, combatant.hp - out.statusDamage);
+        return out;
+    }
+
+    /**
+     * Plays a battle to the end with the same turn order as the battle screen: the first
+     * combatant acts, then end-of-turn effects, then the second. Returns one of the
+     * {@code OUTCOME_} constants and leaves the turn count in {@code scratch.turn}.
+     */
+    public int fight(Combatant first, Combatant second, TurnResult scratch) {
+        int turn = 0;
+        while (turn < MAX_TURN_COUNT) {
+            turn++;
+            resolveAttack(first, second, selectMove(first, second), scratch);
+            applyEndOfTurn(first, scratch);
+            if (first.hp <= 0 || second.hp <= 0) break;
+
+            resolveAttack(second, first, selectMove(second, first), scratch);
+            applyEndOfTurn(second, scratch);
+            if (first.hp <= 0 || second.hp <= 0) break;
+        }
+        scratch.turn = turn;
+        if (first.hp > 0 && second.hp <= 0) return OUTCOME_FIRST_WON;
+        if (second.hp > 0 && first.hp <= 0) return OUTCOME_SECOND_WON;
+        return OUTCOME_DRAW;
+    }
+
+    private float rollDamage(float baseDamage, float typeMultiplier, float statusMultiplier) {
+        float variation = MIN_DAMAGE_ROLL + random.nextFloat() * (1f - MIN_DAMAGE_ROLL);
+        return baseDamage * typeMultiplier * variation * statusMultiplier;
+    }
+
+    private static float statusDamage(Pokemon.Status status, float maxHp, int toxicCounter) {
+        if (status == null) return 0f;
+        switch (status) {
+            case BURNED:
+                return maxHp * BURN_DAMAGE_FACTOR;
+            case POISONED:
+                return maxHp * POISON_DAMAGE_FACTOR;
+            case BADLY_POISONED:
+                return maxHp * (TOXIC_DAMAGE_STEP * toxicCounter);
+            default:
+                return 0f;
+        }
+    }
+
+    private static float runChance(int runnerLevel, int opponentLevel) {
+        return RUN_SUCCESS_BASE + (runnerLevel - opponentLevel) * LEVEL_FACTOR;
+    }
+
+    /**
+     * Flat, reusable snapshot of a Pokemon's battle state. Loading one copies the stats,
+     * types and moves into primitive fields so turns can be resolved without touching
+     * the live Pokemon or allocating.
+     */
+    public static final class Combatant {
+        final int[] moveType = new int[MAX_MOVES];
+        final int[] movePower = new int[MAX_MOVES];
+        final boolean[] moveSpecial = new boolean[MAX_MOVES];
+        final int[] pp = new int[MAX_MOVES];
+        private final int[] startingPp = new int[MAX_MOVES];
+        int moveCount;
+        int level;
+        int primaryType = TypeChart.NO_TYPE;
+        int secondaryType = TypeChart.NO_TYPE;
+        float maxHp;
+        float hp;
+        float attack;
+        float defense;
+        float specialAttack;
+        float specialDefense;
+        Pokemon.Status status = Pokemon.Status.NONE;
+        int toxicCounter = 1;
+        private float startingHp;
+        private Pokemon.Status startingStatus = Pokemon.Status.NONE;
+        private int startingToxicCounter = 1;
+
+        public Combatant load(Pokemon pokemon) {
+            Pokemon.Stats stats = pokemon.getStats();
+            level = pokemon.getLevel();
+            primaryType = TypeChart.index(pokemon.getPrimaryType());
+            secondaryType = TypeChart.index(pokemon.getSecondaryType());
+            maxHp = stats.getHp();
+            attack = stats.getAttack();
+            defense = stats.getDefense();
+            specialAttack = stats.getSpecialAttack();
+            specialDefense = stats.getSpecialDefense();
+            startingHp = pokemon.getCurrentHp();
+            startingStatus = pokemon.getStatus() != null ? pokemon.getStatus() : Pokemon.Status.NONE;
+            startingToxicCounter = pokemon.getToxicCounter();
+
+            List<Move> moves = pokemon.getMoves();
+            moveCount = Math.min(moves.size(), MAX_MOVES);
+            for (int i = 0; i < moveCount; i++) {
+                Move move = moves.get(i);
+                moveType[i] = TypeChart.index(move.getType());
+                movePower[i] = move.getPower();
+                moveSpecial[i] = move.isSpecial();
+                startingPp[i] = move.getPp();
+            }
+            reset();
+            return this;
+        }
+
+        public Combatant copyFrom(Combatant other) {
+            System.arraycopy(other.moveType, 0, moveType, 0, MAX_MOVES);
+            System.arraycopy(other.movePower, 0, movePower, 0, MAX_MOVES);
+            System.arraycopy(other.moveSpecial, 0, moveSpecial, 0, MAX_MOVES);
+            System.arraycopy(other.startingPp, 0, startingPp, 0, MAX_MOVES);
+            moveCount = other.moveCount;
+            level = other.level;
+            primaryType = other.primaryType;
+            secondaryType = other.secondaryType;
+            maxHp = other.maxHp;
+            attack = other.attack;
+            defense = other.defense;
+            specialAttack = other.specialAttack;
+            specialDefense = other.specialDefense;
+            startingHp = other.startingHp;
+            startingStatus = other.startingStatus;
+            startingToxicCounter = other.startingToxicCounter;
+            reset();
+            return this;
+        }
+
+        /**
+         * Restores the state captured by the last {@link #load}.
+         */
+        public void reset() {
+            hp = startingHp;
+            status = startingStatus;
+            toxicCounter = startingToxicCounter;
+            System.arraycopy(startingPp, 0, pp, 0, MAX_MOVES);
+        }
+
+        public float getHp() {
+            return hp;
+        }
+
+        public int getLevel() {
+            return level;
+        }
+
+        private float statusModifier(boolean specialMove) {
+            if (status == Pokemon.Status.BURNED && !specialMove) return 0.5f;
+            if (status == Pokemon.Status.PARALYZED) return 0.5f;
+            return 1.0f;
+        }
+    }
+
+    /**
+     * Mutable result of the last resolved attack or end-of-turn step. Callers keep one
+     * instance and pass it back in.
+     */
+    public static final class TurnResult {
+        public int moveIndex;
+        public float damage;
+        public float recoil;
+        public float effectiveness;
+        public float statusDamage;
+        public boolean struggled;
+        public int turn;
+
+        void reset() {
+            moveIndex = -1;
+            damage = 0f;
+            recoil = 0f;
+            effectiveness = 1f;
+            statusDamage = 0f;
+            struggled = false;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.pokemeetup.system.battle;
+
+import io.github.pokemeetup.pokemon.Pokemon;
+import io.github.pokemeetup.utils.GameLogger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Monte-Carlo balance runs on top of {@link BattleEngine}. Battles are split across one
+ * worker per core; each worker owns a seeded engine and its own combatant copies, so a
+ * run with the same seed and thread count always produces the same totals.
+ */
+public class BattleSimulator {
+    private static final long SEED_STRIDE = 0x9E3779B97F4A7C15L;
+
+    private final int threads;
+
+    public BattleSimulator() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public BattleSimulator(int threads) {
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * Plays {@code battles} battles between snapshots of the two Pokemon. The Pokemon
+     * themselves are only read once, on the calling thread.
+     */
+    public Summary run(Pokemon first, Pokemon second, long battles, long seed) {
+        BattleEngine.Combatant firstTemplate = new BattleEngine.Combatant().load(first);
+        BattleEngine.Combatant secondTemplate = new BattleEngine.Combatant().load(second);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "BattleSimulator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long startTime = System.nanoTime();
+        try {
+            List<Future<long[]>> results = new ArrayList<>(threads);
+            long perThread = battles / threads;
+            long remainder = battles % threads;
+            for (int i = 0; i < threads; i++) {
+                long count = perThread + (i < remainder ? 1 : 0);
+                long workerSeed = seed + SEED_STRIDE * i;
+                results.add(executor.submit(() -> simulate(firstTemplate, secondTemplate, count, workerSeed)));
+            }
+
+            long[] totals = new long[4];
+            for (Future<long[]> result : results) {
+                long[] counts = result.get();
+                for (int i = 0; i < totals.length; i++) {
+                    totals[i] += counts[i];
+                }
+            }
+            Summary summary = new Summary(battles, totals[BattleEngine.OUTCOME_FIRST_WON],
+                totals[BattleEngine.OUTCOME_SECOND_WON], totals[BattleEngine.OUTCOME_DRAW], totals[3]);
+            GameLogger.info(String.format("Simulated %d battles %s vs %s in %d ms: %s",
+                battles, first.getName(), second.getName(),
+                (System.nanoTime() - startTime) / 1_000_000L, summary));
+            return summary;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Battle simulation interrupted", e);
+        } catch (ExecutionException e) {
+            GameLogger.error("Battle simulation failed: " + e.getCause().getMessage());
+            throw new IllegalStateException("Battle simulation failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static long[] simulate(BattleEngine.Combatant firstTemplate, BattleEngine.Combatant secondTemplate,
+                                   long battles, long seed) {
+        BattleEngine engine = new BattleEngine(seed);
+        BattleEngine.Combatant first = new BattleEngine.Combatant().copyFrom(firstTemplate);
+        BattleEngine.Combatant second = new BattleEngine.Combatant().copyFrom(secondTemplate);
+        BattleEngine.TurnResult scratch = new BattleEngine.TurnResult();
+        long[] counts = new long[4];
+        for (long i = 0; i < battles; i++) {
+            first.reset();
+            second.reset();
+            counts[engine.fight(first, second, scratch)]++;
+            counts[3] += scratch.turn;
+        }
+        return counts;
+    }
+
+    public static final class Summary {
+        private final long battles;
+        private final long firstWins;
+        private final long secondWins;
+        private final long draws;
+        private final long totalTurns;
+
+        Summary(long battles, long firstWins, long secondWins, long draws, long totalTurns) {
+            this.battles = battles;
+            this.firstWins = firstWins;
+            this.secondWins = secondWins;
+            this.draws = draws;
+            this.totalTurns = totalTurns;
+        }
+
+        public long getBattles() { return battles; }
+        public long getFirstWins() { return firstWins; }
+        public long getSecondWins() { return secondWins; }
+        public long getDraws() { return draws; }
+
+        public float getFirstWinRate() {
+            return battles > 0 ? (float) firstWins / battles : 0f;
+        }
+
+        public float getAverageTurns() {
+            return battles > 0 ? (float) totalTurns / battles : 0f;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("first %.2f%%, second %.2f%%, draw %.2f%%, avg %.1f turns",
+                100f * firstWins / Math.max(1, battles), 100f * secondWins / Math.max(1, battles),
+                100f * draws / Math.max(1, battles), getAverageTurns());
+        }
+    }
+}
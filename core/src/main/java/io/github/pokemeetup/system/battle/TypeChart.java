@@ -0,0 +1,143 @@
+package io.github.pokemeetup.system.battle;
+
+import io.github.pokemeetup.pokemon.Pokemon;
+
+import java.util.Arrays;
+
+/**
+ * Type effectiveness chart stored as a flat float array indexed by
+ * {@code attack.ordinal() * TYPE_COUNT + defend.ordinal()}. Lookups are a single
+ * array read with no boxing. {@link Pokemon.PokemonType#UNKNOWN} is neutral against everything.
+ */
+public final class TypeChart {
+    public static final int TYPE_COUNT = Pokemon.PokemonType.values().length;
+    public static final int NO_TYPE = -1;
+
+    private static final float[] CHART = new float[TYPE_COUNT * TYPE_COUNT];
+
+    static {
+        Arrays.fill(CHART, 1.0f);
+
+        set(Pokemon.PokemonType.NORMAL, 0.5f, Pokemon.PokemonType.ROCK, Pokemon.PokemonType.STEEL);
+        set(Pokemon.PokemonType.NORMAL, 0.0f, Pokemon.PokemonType.GHOST);
+
+        set(Pokemon.PokemonType.FIRE, 0.5f, Pokemon.PokemonType.FIRE, Pokemon.PokemonType.WATER,
+            Pokemon.PokemonType.ROCK, Pokemon.PokemonType.DRAGON);
+        set(Pokemon.PokemonType.FIRE, 2.0f, Pokemon.PokemonType.GRASS, Pokemon.PokemonType.ICE,
+            Pokemon.PokemonType.BUG, Pokemon.PokemonType.STEEL);
+
+        set(Pokemon.PokemonType.WATER, 0.5f, Pokemon.PokemonType.WATER, Pokemon.PokemonType.GRASS,
+            Pokemon.PokemonType.DRAGON);
+        set(Pokemon.PokemonType.WATER, 2.0f, Pokemon.PokemonType.FIRE, Pokemon.PokemonType.GROUND,
+            Pokemon.PokemonType.ROCK);
+
+        set(Pokemon.PokemonType.ELECTRIC, 0.5f, Pokemon.PokemonType.ELECTRIC, Pokemon.PokemonType.GRASS,
+            Pokemon.PokemonType.DRAGON);
+        set(Pokemon.PokemonType.ELECTRIC, 2.0f, Pokemon.PokemonType.WATER, Pokemon.PokemonType.FLYING);
+        set(Pokemon.PokemonType.ELECTRIC, 0.0f, Pokemon.PokemonType.GROUND);
+
+        set(Pokemon.PokemonType.GRASS, 0.5f, Pokemon.PokemonType.FIRE, Pokemon.PokemonType.GRASS,
+            Pokemon.PokemonType.POISON, Pokemon.PokemonType.FLYING, Pokemon.PokemonType.BUG,
+            Pokemon.PokemonType.DRAGON, Pokemon.PokemonType.STEEL);
+        set(Pokemon.PokemonType.GRASS, 2.0f, Pokemon.PokemonType.WATER, Pokemon.PokemonType.GROUND,
+            Pokemon.PokemonType.ROCK);
+
+        set(Pokemon.PokemonType.ICE, 0.5f, Pokemon.PokemonType.FIRE, Pokemon.PokemonType.WATER,
+            Pokemon.PokemonType.ICE, Pokemon.PokemonType.STEEL);
+        set(Pokemon.PokemonType.ICE, 2.0f, Pokemon.PokemonType.GRASS, Pokemon.PokemonType.GROUND,
+            Pokemon.PokemonType.FLYING, Pokemon.PokemonType.DRAGON);
+
+        set(Pokemon.PokemonType.FIGHTING, 2.0f, Pokemon.PokemonType.NORMAL, Pokemon.PokemonType.ICE,
+            Pokemon.PokemonType.ROCK, Pokemon.PokemonType.DARK, Pokemon.PokemonType.STEEL);
+        set(Pokemon.PokemonType.FIGHTING, 0.5f, Pokemon.PokemonType.POISON, Pokemon.PokemonType.FLYING,
+            Pokemon.PokemonType.PSYCHIC, Pokemon.PokemonType.BUG, Pokemon.PokemonType.FAIRY);
+        set(Pokemon.PokemonType.FIGHTING, 0.0f, Pokemon.PokemonType.GHOST);
+
+        set(Pokemon.PokemonType.POISON, 2.0f, Pokemon.PokemonType.GRASS, Pokemon.PokemonType.FAIRY);
+        set(Pokemon.PokemonType.POISON, 0.5f, Pokemon.PokemonType.POISON, Pokemon.PokemonType.GROUND,
+            Pokemon.PokemonType.ROCK, Pokemon.PokemonType.GHOST);
+        set(Pokemon.PokemonType.POISON, 0.0f, Pokemon.PokemonType.STEEL);
+
+        set(Pokemon.PokemonType.GROUND, 2.0f, Pokemon.PokemonType.FIRE, Pokemon.PokemonType.ELECTRIC,
+            Pokemon.PokemonType.POISON, Pokemon.PokemonType.ROCK, Pokemon.PokemonType.STEEL);
+        set(Pokemon.PokemonType.GROUND, 0.5f, Pokemon.PokemonType.GRASS, Pokemon.PokemonType.BUG);
+        set(Pokemon.PokemonType.GROUND, 0.0f, Pokemon.PokemonType.FLYING);
+
+        set(Pokemon.PokemonType.FLYING, 0.5f, Pokemon.PokemonType.ELECTRIC, Pokemon.PokemonType.ROCK,
+            Pokemon.PokemonType.STEEL);
+        set(Pokemon.PokemonType.FLYING, 2.0f, Pokemon.PokemonType.GRASS, Pokemon.PokemonType.FIGHTING,
+            Pokemon.PokemonType.BUG);
+
+        set(Pokemon.PokemonType.PSYCHIC, 2.0f, Pokemon.PokemonType.FIGHTING, Pokemon.PokemonType.POISON);
+        set(Pokemon.PokemonType.PSYCHIC, 0.5f, Pokemon.PokemonType.PSYCHIC, Pokemon.PokemonType.STEEL);
+        set(Pokemon.PokemonType.PSYCHIC, 0.0f, Pokemon.PokemonType.DARK);
+
+        set(Pokemon.PokemonType.BUG, 0.5f, Pokemon.PokemonType.FIRE, Pokemon.PokemonType.FIGHTING,
+            Pokemon.PokemonType.POISON, Pokemon.PokemonType.FLYING, Pokemon.PokemonType.GHOST,
+            Pokemon.PokemonType.STEEL, Pokemon.PokemonType.FAIRY);
+        set(Pokemon.PokemonType.BUG, 2.0f, Pokemon.PokemonType.GRASS, Pokemon.PokemonType.PSYCHIC,
+            Pokemon.PokemonType.DARK);
+
+        set(Pokemon.PokemonType.ROCK, 2.0f, Pokemon.PokemonType.FIRE, Pokemon.PokemonType.ICE,
+            Pokemon.PokemonType.FLYING, Pokemon.PokemonType.BUG);
+        set(Pokemon.PokemonType.ROCK, 0.5f, Pokemon.PokemonType.FIGHTING, Pokemon.PokemonType.GROUND,
+            Pokemon.PokemonType.STEEL);
+
+        set(Pokemon.PokemonType.GHOST, 0.0f, Pokemon.PokemonType.NORMAL);
+        set(Pokemon.PokemonType.GHOST, 2.0f, Pokemon.PokemonType.PSYCHIC, Pokemon.PokemonType.GHOST);
+        set(Pokemon.PokemonType.GHOST, 0.5f, Pokemon.PokemonType.DARK);
+
+        set(Pokemon.PokemonType.DRAGON, 2.0f, Pokemon.PokemonType.DRAGON);
+        set(Pokemon.PokemonType.DRAGON, 0.5f, Pokemon.PokemonType.STEEL);
+        set(Pokemon.PokemonType.DRAGON, 0.0f, Pokemon.PokemonType.FAIRY);
+
+        set(Pokemon.PokemonType.DARK, 0.5f, Pokemon.PokemonType.FIGHTING, Pokemon.PokemonType.DARK,
+            Pokemon.PokemonType.FAIRY);
+        set(Pokemon.PokemonType.DARK, 2.0f, Pokemon.PokemonType.PSYCHIC, Pokemon.PokemonType.GHOST);
+
+        set(Pokemon.PokemonType.STEEL, 0.5f, Pokemon.PokemonType.FIRE, Pokemon.PokemonType.WATER,
+            Pokemon.PokemonType.ELECTRIC, Pokemon.PokemonType.STEEL);
+        set(Pokemon.PokemonType.STEEL, 2.0f, Pokemon.PokemonType.ICE, Pokemon.PokemonType.ROCK,
+            Pokemon.PokemonType.FAIRY);
+
+        set(Pokemon.PokemonType.FAIRY, 0.5f, Pokemon.PokemonType.FIRE, Pokemon.PokemonType.POISON,
+            Pokemon.PokemonType.STEEL);
+        set(Pokemon.PokemonType.FAIRY, 2.0f, Pokemon.PokemonType.FIGHTING, Pokemon.PokemonType.DRAGON,
+            Pokemon.PokemonType.DARK);
+    }
+
+    private TypeChart() {
+    }
+
+    private static void set(Pokemon.PokemonType attack, float multiplier, Pokemon.PokemonType... defenders) {
+        for (Pokemon.PokemonType defender : defenders) {
+            CHART[attack.ordinal() * TYPE_COUNT + defender.ordinal()] = multiplier;
+        }
+    }
+
+    public static int index(Pokemon.PokemonType type) {
+        return type != null ? type.ordinal() : NO_TYPE;
+    }
+
+    public static float get(int attack, int defend) {
+        if (attack == NO_TYPE || defend == NO_TYPE) {
+            return 1.0f;
+        }
+        return CHART[attack * TYPE_COUNT + defend];
+    }
+
+    public static float get(Pokemon.PokemonType attack, Pokemon.PokemonType defend) {
+        return get(index(attack), index(defend));
+    }
+
+    /**
+     * Combined multiplier against a defender with one or two types.
+     */
+    public static float against(int attack, int primary, int secondary) {
+        return get(attack, primary) * get(attack, secondary);
+    }
+
+    public static float against(Pokemon.PokemonType attack, Pokemon defender) {
+        return against(index(attack), index(defender.getPrimaryType()), index(defender.getSecondaryType()));
+    }
+}
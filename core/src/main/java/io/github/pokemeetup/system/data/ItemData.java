@@ -4,7 +4,6 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Json;
 import io.github.pokemeetup.system.gameplay.inventory.ItemManager;
 import io.github.pokemeetup.utils.GameLogger;
-import io.github.pokemeetup.utils.textures.TextureManager;
 
 import java.util.UUID;
 
@@ -37,27 +36,13 @@ public class ItemData {
         this.uuid = UUID.randomUUID();
     }
 
-    private String normalizeItemId(String itemId) {
-        // Convert to lowercase and ensure _item suffix
-        String normalized = itemId.toLowerCase();
-        if (!normalized.endsWith("_item")) {
-            normalized += "_item";
-        }
-        return normalized;
-    }
-
     // Getters and Setters
     public String getItemId() {
         return itemId;
     }
 
     public void setItemId(String itemId) {
-        // Verify texture exists
-        String normalizedId = normalizeItemId(itemId);
-        TextureRegion texture = TextureManager.items.findRegion(normalizedId);
-        if (texture == null) {
-            GameLogger.error("No texture found for item: " + normalizedId);
-        }
+        // Missing icons are reported by ItemIcons when something draws the item
         this.itemId = itemId;
     }
 
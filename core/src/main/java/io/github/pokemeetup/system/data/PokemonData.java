@@ -5,6 +5,8 @@ import com.badlogic.gdx.math.Vector2;
 import io.github.pokemeetup.pokemon.Pokemon;
 import io.github.pokemeetup.pokemon.attacks.LearnableMove;
 import io.github.pokemeetup.pokemon.attacks.Move;
+import io.github.pokemeetup.pokemon.attacks.MoveDefinition;
+import io.github.pokemeetup.pokemon.data.PokemonDatabase;
 import io.github.pokemeetup.utils.GameLogger;
 
 import java.io.Serializable;
@@ -578,10 +580,19 @@ public class PokemonData {
                 type = Pokemon.PokemonType.NORMAL;
             }
 
+            // Known moves share the database definition; only the saved PP is per-instance
+            MoveDefinition definition = PokemonDatabase.getMoveDefinition(name);
+            if (definition != null) {
+                Move move = definition.newInstance();
+                move.setPp(pp);
+                return move;
+            }
+
             Move.Builder builder = new Move.Builder(name, type)
                 .power(power)
                 .accuracy(accuracy)
                 .pp(pp)
+                .maxPp(maxPp)
                 .special(isSpecial)
                 .description(description)
                 .canFlinch(canFlinch);
@@ -5,10 +5,9 @@ import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
 import io.github.pokemeetup.utils.GameLogger;
 
-import java.util.Random;
-
 public class PokemonAnimations {
     public static final float IDLE_BOUNCE_DURATION = 1.0f;
     private static final float IDLE_BOUNCE_HEIGHT = 2f;
@@ -23,23 +22,17 @@ public class PokemonAnimations {
 
     private float idleOffset = 0f;
     private float timeSinceLastIdle = 0f;
-    private final Random random = new Random();
         // Constants for 256x256 sprite sheet with 4x4 grid
         private static final int SPRITE_SHEET_SIZE = 256;
         private static final int FRAMES_PER_DIRECTION = 4;
     private static final int FRAME_WIDTH = SPRITE_SHEET_SIZE / FRAMES_PER_DIRECTION;  // 64
     private static final int FRAME_HEIGHT = SPRITE_SHEET_SIZE / FRAMES_PER_DIRECTION; // 64
     private static final float FRAME_DURATION = 0.2f;
+    private static FrameSet defaultFrameSet;
 
-    // Animations for each direction
-    private Animation<TextureRegion> walkDownAnimation;  // Row 0
-    private Animation<TextureRegion> walkLeftAnimation;  // Row 1
-    private Animation<TextureRegion> walkRightAnimation; // Row 2
-    private Animation<TextureRegion> walkUpAnimation;    // Row 3
-
-    private final TextureRegion[] standingFrames;
+    // Shared, immutable frames; only the playback state below is per instance
+    private final FrameSet frames;
     private float stateTime;
-    private TextureRegion defaultFrame;
     private boolean isMoving;
     private String currentDirection;
 
@@ -50,88 +43,38 @@ public class PokemonAnimations {
     private boolean isInitialized;
 
     public PokemonAnimations(TextureRegion spriteSheet) {
-        this.standingFrames = new TextureRegion[4];
-        this.stateTime = 0f;
-
-        if (spriteSheet == null) {
-            GameLogger.error("Sprite sheet is null");
-            createDefaultFrame();
-            return;
-        }
-
-        try {
-            // Verify sprite sheet dimensions
-            if (spriteSheet.getRegionWidth() != SPRITE_SHEET_SIZE ||
-                spriteSheet.getRegionHeight() != SPRITE_SHEET_SIZE) {
-                GameLogger.error(String.format(
-                    "Invalid sprite sheet dimensions. Expected %dx%d, got %dx%d",
-                    SPRITE_SHEET_SIZE, SPRITE_SHEET_SIZE,
-                    spriteSheet.getRegionWidth(), spriteSheet.getRegionHeight()
-                ));
-            }
-
-            initializeAnimations(spriteSheet);
-            isInitialized = true;
-//            GameLogger.info("Successfully initialized Pokemon animations");
-        } catch (Exception e) {
-            GameLogger.error("Failed to initialize animations: " + e.getMessage());
-            e.printStackTrace();
-            createDefaultFrame();
-        }
+        this(FrameSet.fromSpriteSheet(spriteSheet));
     }
 
-    private void initializeAnimations(TextureRegion spriteSheet) {
-        // Split sprite sheet into frames
-        TextureRegion[][] allFrames = new TextureRegion[4][FRAMES_PER_DIRECTION];
-
-        for (int row = 0; row < 4; row++) {
-            for (int col = 0; col < FRAMES_PER_DIRECTION; col++) {
-                // Calculate frame coordinates
-                int x = col * FRAME_WIDTH;
-                int y = row * FRAME_HEIGHT;
-
-
-                allFrames[row][col] = new TextureRegion(
-                    spriteSheet,
-                    x, y,
-                    FRAME_WIDTH, FRAME_HEIGHT
-                );
-
-                // Store first frame of each row as standing frame
-                if (col == 0) {
-                    standingFrames[row] = new TextureRegion(allFrames[row][0]);
-                }
-            }
-        }
-
-        // Create animations for each direction
-        walkDownAnimation = new Animation<>(FRAME_DURATION, allFrames[0]);
-        walkLeftAnimation = new Animation<>(FRAME_DURATION, allFrames[1]);
-        walkRightAnimation = new Animation<>(FRAME_DURATION, allFrames[2]);
-        walkUpAnimation = new Animation<>(FRAME_DURATION, allFrames[3]);
-
-        // Set default frame
-        defaultFrame = standingFrames[0];
-
-//        GameLogger.info("Created all animations successfully");
+    /**
+     * Creates playback state over a frame set that may be shared between any number of
+     * instances of the same species (see {@link io.github.pokemeetup.pokemon.PokemonSpriteCache}).
+     */
+    public PokemonAnimations(FrameSet frames) {
+        this.stateTime = 0f;
+        this.isInitialized = frames != null;
+        this.frames = frames != null ? frames : getDefaultFrameSet();
     }
 
-    private void createDefaultFrame() {
-        Pixmap pixmap = new Pixmap(FRAME_WIDTH, FRAME_HEIGHT, Pixmap.Format.RGBA8888);
-        pixmap.setColor(Color.MAGENTA);
-        pixmap.fill();
-        Texture texture = new Texture(pixmap);
-        pixmap.dispose();
-
-        defaultFrame = new TextureRegion(texture);
-        for (int i = 0; i < 4; i++) {
-            standingFrames[i] = new TextureRegion(defaultFrame);
+    private static synchronized FrameSet getDefaultFrameSet() {
+        if (defaultFrameSet == null) {
+            Pixmap pixmap = new Pixmap(FRAME_WIDTH, FRAME_HEIGHT, Pixmap.Format.RGBA8888);
+            pixmap.setColor(Color.MAGENTA);
+            pixmap.fill();
+            Texture texture = new Texture(pixmap);
+            pixmap.dispose();
+
+            TextureRegion frame = new TextureRegion(texture);
+            TextureRegion[] standing = {frame, frame, frame, frame};
+            Animation<TextureRegion> still = new Animation<>(FRAME_DURATION, frame);
+            defaultFrameSet = new FrameSet(still, still, still, still, standing);
         }
+        return defaultFrameSet;
     }
 
     public TextureRegion getCurrentFrame(String direction, boolean isMoving, float delta) {
         if (!isInitialized) {
-            return defaultFrame;
+            return frames.standingFrames[0];
         }
 
         this.isMoving = isMoving;
@@ -146,7 +89,7 @@ public class PokemonAnimations {
             frame = getStandingFrame(direction);
         }
 
-        return frame != null ? frame : defaultFrame;
+        return frame != null ? frame : frames.standingFrames[0];
     }  public float getIdleOffset() {
         if (!isIdling) return 0f;
 
@@ -158,30 +101,30 @@ public class PokemonAnimations {
     private TextureRegion getStandingFrame(String direction) {
         switch (direction.toLowerCase()) {
             case "down":
-                return standingFrames[0];
+                return frames.standingFrames[0];
             case "left":
-                return standingFrames[1];
+                return frames.standingFrames[1];
             case "right":
-                return standingFrames[2];
+                return frames.standingFrames[2];
             case "up":
-                return standingFrames[3];
+                return frames.standingFrames[3];
             default:
-                return standingFrames[0]; // Default to down
+                return frames.standingFrames[0]; // Default to down
         }
     }
 
     private Animation<TextureRegion> getAnimationForDirection(String direction) {
         switch (direction.toLowerCase()) {
             case "down":
-                return walkDownAnimation;
+                return frames.walkDown;
             case "left":
-                return walkLeftAnimation;
+                return frames.walkLeft;
             case "right":
-                return walkRightAnimation;
+                return frames.walkRight;
             case "up":
-                return walkUpAnimation;
+                return frames.walkUp;
             default:
-                return walkDownAnimation;
+                return frames.walkDown;
         }
     }
 
@@ -208,7 +151,7 @@ public class PokemonAnimations {
             timeSinceLastIdle += delta;
 
             // Randomly start new idle animation
-            if (!isIdling && random.nextFloat() < IDLE_ANIMATION_CHANCE * delta) {
+            if (!isIdling && MathUtils.random() < IDLE_ANIMATION_CHANCE * delta) {
                 isIdling = true;
                 idleTime = 0f;
             }
@@ -223,4 +166,76 @@ public class PokemonAnimations {
             }
         }
     }
+
+    /**
+     * Walk animations and standing frames cut from one overworld sprite sheet.
+     * Animations are only sampled by state time, so one set can back every instance of a species.
+     */
+    public static final class FrameSet {
+        private final Animation<TextureRegion> walkDown;  // Row 0
+        private final Animation<TextureRegion> walkLeft;  // Row 1
+        private final Animation<TextureRegion> walkRight; // Row 2
+        private final Animation<TextureRegion> walkUp;    // Row 3
+        private final TextureRegion[] standingFrames;
+
+        private FrameSet(Animation<TextureRegion> walkDown, Animation<TextureRegion> walkLeft,
+                         Animation<TextureRegion> walkRight, Animation<TextureRegion> walkUp,
+                         TextureRegion[] standingFrames) {
+            this.walkDown = walkDown;
+            this.walkLeft = walkLeft;
+            this.walkRight = walkRight;
+            this.walkUp = walkUp;
+            this.standingFrames = standingFrames;
+        }
+
+        /**
+         * Splits a 4x4 sprite sheet into a frame set, or returns null if it cannot be used.
+         */
+        public static FrameSet fromSpriteSheet(TextureRegion spriteSheet) {
+            if (spriteSheet == null) {
+                GameLogger.error("Sprite sheet is null");
+                return null;
+            }
+
+            try {
+                // Verify sprite sheet dimensions
+                if (spriteSheet.getRegionWidth() != SPRITE_SHEET_SIZE ||
+                    spriteSheet.getRegionHeight() != SPRITE_SHEET_SIZE) {
+                    GameLogger.error(String.format(
+                        "Invalid sprite sheet dimensions. Expected %dx%d, got %dx%d",
+                        SPRITE_SHEET_SIZE, SPRITE_SHEET_SIZE,
+                        spriteSheet.getRegionWidth(), spriteSheet.getRegionHeight()
+                    ));
+                }
+
+                // Split sprite sheet into frames
+                TextureRegion[][] allFrames = new TextureRegion[4][FRAMES_PER_DIRECTION];
+                TextureRegion[] standingFrames = new TextureRegion[4];
+
+                for (int row = 0; row < 4; row++) {
+                    for (int col = 0; col < FRAMES_PER_DIRECTION; col++) {
+                        allFrames[row][col] = new TextureRegion(
+                            spriteSheet,
+                            col * FRAME_WIDTH, row * FRAME_HEIGHT,
+                            FRAME_WIDTH, FRAME_HEIGHT
+                        );
+                    }
+                    // First frame of each row doubles as the standing frame
+                    standingFrames[row] = allFrames[row][0];
+                }
+
+                return new FrameSet(
+                    new Animation<>(FRAME_DURATION, allFrames[0]),
+                    new Animation<>(FRAME_DURATION, allFrames[1]),
+                    new Animation<>(FRAME_DURATION, allFrames[2]),
+                    new Animation<>(FRAME_DURATION, allFrames[3]),
+                    standingFrames
+                );
+            } catch (Exception e) {
+                GameLogger.error("Failed to initialize animations: " + e.getMessage());
+                e.printStackTrace();
+                return null;
+            }
+        }
+    }
 }
@@ -0,0 +1,291 @@
+package io.github.pokemeetup.system.gameplay.inventory;
+
+import io.github.pokemeetup.multiplayer.network.NetworkProtocol;
+import io.github.pokemeetup.system.data.ItemData;
+import io.github.pokemeetup.system.gameplay.inventory.crafting.CraftingResult;
+
+import java.util.UUID;
+
+/**
+ * Applies {@link NetworkProtocol.InventoryOp}s to an inventory. The client uses this to predict an
+ * op before sending it, and the server uses it to validate the op and apply it for real. Both
+ * sides run the same rules, so an accepted op needs no reply beyond its sequence number.
+ * <ul>
+ *     <li>MOVE: {@code count} items from {@code from} to {@code to}, which must be empty or hold
+ *     the same item with room;</li>
+ *     <li>SPLIT: the larger half of {@code from} into the empty {@code to};</li>
+ *     <li>STACK: as many items from {@code from} as fit onto the same item in {@code to};</li>
+ *     <li>SWAP: exchanges {@code from} and {@code to};</li>
+ *     <li>ADD: {@code count} of {@code itemId} into {@code to}, or wherever fits if {@code to}
+ *     is -1;</li>
+ *     <li>REMOVE: {@code count} items from {@code from};</li>
+ *     <li>CRAFT: one of each item in {@code grid} into the recipe's result.</li>
+ * </ul>
+ * ADD and CRAFT create items, so the server never takes them from a client; see
+ * {@link #createsItems}.
+ */
+public final class InventoryOperations {
+    /**
+     * Index of the stack held on the mouse, just past the inventory slots.
+     */
+    public static final int CURSOR_SLOT = Inventory.INVENTORY_SIZE;
+    public static final int SLOT_COUNT = Inventory.INVENTORY_SIZE + 1;
+    private static final int GRID_SIZE = 4;
+
+    /**
+     * The stack held on the mouse between clicks. Only the inventory screen shows it, but the
+     * server tracks it too so that pick-up and put-down are each a single op.
+     */
+    public static final class Cursor {
+        private ItemData item;
+
+        public ItemData get() {
+            return item;
+        }
+
+        public void set(ItemData item) {
+            this.item = item;
+        }
+
+        public boolean isEmpty() {
+            return item == null;
+        }
+    }
+
+    private InventoryOperations() {
+    }
+
+    public static NetworkProtocol.InventoryOp op(NetworkProtocol.InventoryOpType type, int from, int to, int count) {
+        NetworkProtocol.InventoryOp op = new NetworkProtocol.InventoryOp();
+        op.type = type;
+        op.from = from;
+        op.to = to;
+        op.count = count;
+        return op;
+    }
+
+    /**
+     * Whether ops of this type create items. The server applies these only for its own events,
+     * such as pickups and crafting requests, never straight from a connection.
+     */
+    public static boolean createsItems(NetworkProtocol.InventoryOpType type) {
+        return type == NetworkProtocol.InventoryOpType.ADD || type == NetworkProtocol.InventoryOpType.CRAFT;
+    }
+
+    /**
+     * Applies {@code op} if it is valid for the current contents, or leaves them untouched.
+     *
+     * @return whether the op was applied
+     */
+    public static boolean apply(Inventory inventory, Cursor cursor, NetworkProtocol.InventoryOp op) {
+        if (op == null || op.type == null) {
+            return false;
+        }
+        synchronized (inventory.getInventoryLock()) {
+            ItemData[] before = snapshot(inventory, cursor);
+            ItemData[] after = copy(before);
+            if (!applyTo(after, inventory, op)) {
+                return false;
+            }
+            for (int slot = 0; slot < SLOT_COUNT; slot++) {
+                if (!sameStack(before[slot], after[slot])) {
+                    write(inventory, cursor, slot, after[slot]);
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Every inventory slot followed by the cursor, as copies.
+     */
+    public static ItemData[] snapshot(Inventory inventory, Cursor cursor) {
+        synchronized (inventory.getInventoryLock()) {
+            ItemData[] slots = new ItemData[SLOT_COUNT];
+            for (int slot = 0; slot < Inventory.INVENTORY_SIZE; slot++) {
+                ItemData item = inventory.getItemAt(slot);
+                slots[slot] = item != null ? item.copy() : null;
+            }
+            slots[CURSOR_SLOT] = cursor.get() != null ? cursor.get().copy() : null;
+            return slots;
+        }
+    }
+
+    /**
+     * Replaces the inventory and cursor with {@code slots}, as laid out by {@link #snapshot}.
+     */
+    public static void restore(Inventory inventory, Cursor cursor, ItemData[] slots) {
+        synchronized (inventory.getInventoryLock()) {
+            for (int slot = 0; slot < SLOT_COUNT; slot++) {
+                ItemData item = slot < slots.length ? slots[slot] : null;
+                ItemData current = slot == CURSOR_SLOT ? cursor.get() : inventory.getItemAt(slot);
+                if (!sameStack(current, item)) {
+                    write(inventory, cursor, slot, item != null ? item.copy() : null);
+                }
+            }
+        }
+    }
+
+    private static void write(Inventory inventory, Cursor cursor, int slot, ItemData item) {
+        if (slot == CURSOR_SLOT) {
+            cursor.set(item);
+        } else {
+            inventory.setItemAt(slot, item);
+        }
+    }
+
+    private static boolean applyTo(ItemData[] slots, Inventory inventory, NetworkProtocol.InventoryOp op) {
+        switch (op.type) {
+            case MOVE:
+                return move(slots, op.from, op.to, op.count);
+            case SPLIT:
+                if (!isSlot(op.from) || slots[op.from] == null || slots[op.from].getCount() < 2) {
+                    return false;
+                }
+                return isSlot(op.to) && slots[op.to] == null
+                    && move(slots, op.from, op.to, (slots[op.from].getCount() + 1) / 2);
+            case STACK: {
+                if (!isSlot(op.from) || !isSlot(op.to) || slots[op.from] == null || slots[op.to] == null) {
+                    return false;
+                }
+                int room = Item.MAX_STACK_SIZE - slots[op.to].getCount();
+                return move(slots, op.from, op.to, Math.min(room, slots[op.from].getCount()));
+            }
+            case SWAP: {
+                if (!isSlot(op.from) || !isSlot(op.to) || op.from == op.to
+                    || (slots[op.from] == null && slots[op.to] == null)) {
+                    return false;
+                }
+                ItemData held = slots[op.from];
+                slots[op.from] = slots[op.to];
+                slots[op.to] = held;
+                return true;
+            }
+            case ADD:
+                if (!ItemManager.isKnownItem(op.itemId) || op.count < 1 || op.count > Item.MAX_STACK_SIZE) {
+                    return false;
+                }
+                if (op.to == -1) {
+                    return addAnywhere(slots, op.itemId, op.count);
+                }
+                return isSlot(op.to) && add(slots, op.to, op.itemId, op.count, UUID.randomUUID());
+            case REMOVE:
+                return isSlot(op.from) && take(slots, op.from, op.count) != null;
+            case CRAFT:
+                return craft(slots, inventory, op.grid);
+            default:
+                return false;
+        }
+    }
+
+    private static boolean move(ItemData[] slots, int from, int to, int count) {
+        if (!isSlot(from) || !isSlot(to) || from == to || slots[from] == null) {
+            return false;
+        }
+        ItemData source = slots[from];
+        if (count < 1 || count > source.getCount()) {
+            return false;
+        }
+        // A whole stack keeps its identity; a partial one becomes a new stack
+        UUID uuid = count == source.getCount() ? source.getUuid() : UUID.randomUUID();
+        if (!add(slots, to, source.getItemId(), count, uuid)) {
+            return false;
+        }
+        take(slots, from, count);
+        return true;
+    }
+
+    private static boolean add(ItemData[] slots, int slot, String itemId, int count, UUID uuid) {
+        ItemData target = slots[slot];
+        if (target == null) {
+            slots[slot] = new ItemData(itemId, count, uuid);
+            return true;
+        }
+        if (!target.getItemId().equals(itemId) || target.getCount() + count > Item.MAX_STACK_SIZE) {
+            return false;
+        }
+        slots[slot] = new ItemData(itemId, target.getCount() + count, target.getUuid());
+        return true;
+    }
+
+    private static ItemData take(ItemData[] slots, int slot, int count) {
+        ItemData source = slots[slot];
+        if (source == null || count < 1 || count > source.getCount()) {
+            return null;
+        }
+        slots[slot] = count == source.getCount()
+            ? null
+            : new ItemData(source.getItemId(), source.getCount() - count, source.getUuid());
+        return source;
+    }
+
+    /**
+     * Same placement as {@link Inventory#addItem}: top up matching stacks, then the first empty
+     * slot. Fails without changes if the items do not all fit.
+     */
+    private static boolean addAnywhere(ItemData[] slots, String itemId, int count) {
+        int remaining = count;
+        for (int slot = 0; slot < Inventory.INVENTORY_SIZE && remaining > 0; slot++) {
+            ItemData existing = slots[slot];
+            if (existing != null && existing.getItemId().equals(itemId) && existing.getCount() < Item.MAX_STACK_SIZE) {
+                int added = Math.min(Item.MAX_STACK_SIZE - existing.getCount(), remaining);
+                slots[slot] = new ItemData(itemId, existing.getCount() + added, existing.getUuid());
+                remaining -= added;
+            }
+        }
+        for (int slot = 0; slot < Inventory.INVENTORY_SIZE && remaining > 0; slot++) {
+            if (slots[slot] == null) {
+                slots[slot] = new ItemData(itemId, remaining, UUID.randomUUID());
+                remaining = 0;
+            }
+        }
+        return remaining == 0;
+    }
+
+    private static boolean craft(ItemData[] slots, Inventory inventory, int[] grid) {
+        if (grid == null || grid.length != GRID_SIZE || inventory.getCraftingSystem() == null) {
+            return false;
+        }
+        String[][] pattern = new String[2][2];
+        boolean[] used = new boolean[Inventory.INVENTORY_SIZE];
+        for (int cell = 0; cell < GRID_SIZE; cell++) {
+            int slot = grid[cell];
+            if (slot == -1) {
+                continue;
+            }
+            // Each ingredient must be a distinct, filled inventory slot
+            if (slot < 0 || slot >= Inventory.INVENTORY_SIZE || used[slot] || slots[slot] == null) {
+                return false;
+            }
+            used[slot] = true;
+            pattern[cell / 2][cell % 2] = slots[slot].getItemId();
+        }
+        CraftingResult result = inventory.getCraftingSystem().checkRecipe(pattern);
+        if (result == null) {
+            return false;
+        }
+        for (int slot : grid) {
+            if (slot != -1) {
+                take(slots, slot, 1);
+            }
+        }
+        return addAnywhere(slots, result.getItemId(), result.getCount());
+    }
+
+    private static boolean isSlot(int slot) {
+        return slot >= 0 && slot < SLOT_COUNT;
+    }
+
+    private static ItemData[] copy(ItemData[] slots) {
+        ItemData[] copy = new ItemData[slots.length];
+        System.arraycopy(slots, 0, copy, 0, slots.length);
+        return copy;
+    }
+
+    private static boolean sameStack(ItemData a, ItemData b) {
+        if (a == null || b == null) {
+            return a == b;
+        }
+        return a.getItemId().equals(b.getItemId()) && a.getCount() == b.getCount() && a.getUuid().equals(b.getUuid());
+    }
+}
@@ -34,8 +34,7 @@ public class Item { public static boolean verifyTexture(String itemId) {
         } else {
             // Log error but don't crash
             GameLogger.error("Failed to find template for item: " + name);
-            this.iconName = "missing";
-            this.icon = TextureManager.items.findRegion("stick_item");
+            this.iconName = "missing"; // getIcon shows a stick in its place
         }
         this.count = 1;
     }
@@ -130,9 +129,9 @@ public class Item { public static boolean verifyTexture(String itemId) {
     }
 
     public TextureRegion getIcon() {
-        if (icon == null) {
-            // Try to load from TextureManager
-            icon = TextureManager.items.findRegion(name.toLowerCase() + "_item");
+        if (icon == null && TextureManager.items != null) {
+            // Resolved on first use, so items built where nothing renders never touch the atlas
+            icon = TextureManager.findItemRegion("missing".equals(iconName) ? "stick" : name);
             if (icon != null) {
                 GameLogger.info("Loaded icon for " + name + " from TextureManager");
             } else {
@@ -19,6 +19,17 @@ public class ItemManager {
         public static final String CRAFTING_TABLE = "craftingtable";
     }
 
+    // Item id to its texture key. Needs no atlas, so the server can check ids too
+    private static final Map<String, String> STANDARD_ITEMS = new LinkedHashMap<>();
+
+    static {
+        STANDARD_ITEMS.put(ItemIDs.POTION, "potion_item");
+        STANDARD_ITEMS.put(ItemIDs.ELIXIR, "elixir_item");
+        STANDARD_ITEMS.put(ItemIDs.POKEBALL, "pokeball_item");
+        STANDARD_ITEMS.put(ItemIDs.STICK, "stick_item");
+        STANDARD_ITEMS.put(ItemIDs.CRAFTING_TABLE, "craftingtable_item");
+    }
+
     public static void initialize(TextureAtlas atlas) {
         if (initialized) {
             GameLogger.info("ItemManager already initialized");
@@ -33,16 +44,8 @@ public class ItemManager {
         GameLogger.info("Initializing ItemManager with atlas...");
         logAvailableRegions(atlas);
 
-        // Define standard items with consistent IDs
-        Map<String, String> standardItems = new HashMap<>();
-        standardItems.put(ItemIDs.POTION, "potion_item");
-        standardItems.put(ItemIDs.ELIXIR, "elixir_item");
-        standardItems.put(ItemIDs.POKEBALL, "pokeball_item");
-        standardItems.put(ItemIDs.STICK, "stick_item");
-        standardItems.put(ItemIDs.CRAFTING_TABLE, "craftingtable_item");
-
         // Initialize all standard items
-        for (Map.Entry<String, String> entry : standardItems.entrySet()) {
+        for (Map.Entry<String, String> entry : STANDARD_ITEMS.entrySet()) {
             String itemId = entry.getKey();
             String textureKey = entry.getValue();
 
@@ -94,7 +97,7 @@ public class ItemManager {
         }
 
         // Normalize item ID to match our standard format
-        String normalizedId = itemId.toLowerCase().replace("_item", "");
+        String normalizedId = normalizeId(itemId);
         Item baseItem = items.get(normalizedId);
 
         if (baseItem == null) {
@@ -139,6 +142,25 @@ public class ItemManager {
         return new ArrayList<>(items.keySet());
     }
 
+    /**
+     * Whether {@code itemId} names a standard item, in any of the spellings {@link #getItem}
+     * accepts. Works without textures, unlike the other lookups.
+     */
+    public static boolean isKnownItem(String itemId) {
+        return itemId != null && STANDARD_ITEMS.containsKey(normalizeId(itemId));
+    }
+
+    /**
+     * The standard item ids; available without textures.
+     */
+    public static List<String> getStandardItemIds() {
+        return new ArrayList<>(STANDARD_ITEMS.keySet());
+    }
+
+    private static String normalizeId(String itemId) {
+        return itemId.toLowerCase().replace("_item", "");
+    }
+
     public static boolean isInitialized() {
         return initialized;
     }
@@ -1,23 +1,32 @@
 package io.github.pokemeetup.system.gameplay.inventory.crafting;
 
+import io.github.pokemeetup.multiplayer.network.NetworkProtocol;
 import io.github.pokemeetup.system.gameplay.inventory.Inventory;
+import io.github.pokemeetup.system.gameplay.inventory.InventoryOperations;
 import io.github.pokemeetup.system.data.ItemData;
 import io.github.pokemeetup.utils.GameLogger;
 
 import java.util.*;
+import java.util.function.Predicate;
 
+/**
+ * Recipes and the 2x2 crafting grid. Each cell points at an inventory slot rather than holding
+ * items, so ingredients stay in the inventory until a craft consumes them and a craft is a single
+ * CRAFT op. The craft handler applies it: locally by default, through the server when online.
+ */
 public class CraftingSystem {
     private final Map<CraftingRecipeKey, CraftingResult> recipes;
-    private final ItemData[] craftingSlots;
-    private ItemData craftingResultSlot;
+    private final int[] gridSlots;
     private final Inventory inventory;
+    private Predicate<int[]> craftHandler;
     private static final int GRID_SIZE = 4; // 2x2 grid
 
     public CraftingSystem(Inventory inventory) {
         this.inventory = inventory;
         this.recipes = initializeRecipes();
-        this.craftingSlots = new ItemData[GRID_SIZE];
-        this.craftingResultSlot = null;
+        this.gridSlots = new int[GRID_SIZE];
+        Arrays.fill(gridSlots, -1);
+        this.craftHandler = this::craftLocally;
     }
 
     private Map<CraftingRecipeKey, CraftingResult> initializeRecipes() {
@@ -42,92 +51,63 @@ public class CraftingSystem {
         return recipeMap;
     }
 
-    public void setItemInGrid(int index, ItemData item) {
+    /**
+     * @param handler receives the inventory slot of each cell, -1 if empty, and returns whether
+     *                the craft went ahead; null restores local crafting
+     */
+    public void setCraftHandler(Predicate<int[]> handler) {
+        this.craftHandler = handler != null ? handler : this::craftLocally;
+    }
+
+    /**
+     * Points a grid cell at an inventory slot, or clears it with -1.
+     */
+    public void setSlotInGrid(int index, int inventorySlot) {
         if (index < 0 || index >= GRID_SIZE) {
             GameLogger.error("Invalid crafting grid index: " + index);
             return;
         }
-
-        if (item != null) {
-            craftingSlots[index] = item.copy();
-        } else {
-            craftingSlots[index] = null;
+        if (inventorySlot < -1 || inventorySlot >= Inventory.INVENTORY_SIZE) {
+            GameLogger.error("Invalid inventory slot for crafting: " + inventorySlot);
+            return;
         }
-
-        updateCraftingResult();
+        gridSlots[index] = inventorySlot;
     }
 
     public ItemData getItemFromGrid(int index) {
-        if (index < 0 || index >= GRID_SIZE) {
+        if (index < 0 || index >= GRID_SIZE || gridSlots[index] == -1) {
             return null;
         }
-        return craftingSlots[index] != null ? craftingSlots[index].copy() : null;
+        ItemData item = inventory.getItemAt(gridSlots[index]);
+        return item != null ? item.copy() : null;
     }
 
     public ItemData getCraftingResult() {
-        return craftingResultSlot != null ? craftingResultSlot.copy() : null;
-    }
-
-    private void updateCraftingResult() {
-        // Convert crafting slots to recipe grid format
         String[][] currentGrid = new String[2][2];
-        for (int i = 0; i < 2; i++) {
-            for (int j = 0; j < 2; j++) {
-                int index = i * 2 + j;
-                ItemData item = craftingSlots[index];
-                currentGrid[i][j] = item != null ? item.getItemId() : null;
-            }
+        for (int index = 0; index < GRID_SIZE; index++) {
+            ItemData item = getItemFromGrid(index);
+            currentGrid[index / 2][index % 2] = item != null ? item.getItemId() : null;
         }
-
-        // Check recipe
         CraftingResult result = checkRecipe(currentGrid);
-        if (result != null) {
-            craftingResultSlot = new ItemData(result.getItemId(), result.getCount(), UUID.randomUUID());
-        } else {
-            craftingResultSlot = null;
-        }
+        return result != null ? new ItemData(result.getItemId(), result.getCount(), UUID.randomUUID()) : null;
     }
 
     public boolean craftItem() {
-        if (craftingResultSlot == null) return false;
-
-        // Try to add crafted item to inventory
-        if (inventory.addItem(craftingResultSlot.copy())) {
-            // Consume crafting ingredients
-            consumeIngredients();
-            // Clear result slot
-            craftingResultSlot = null;
-            return true;
-        }
-        return false;
+        if (getCraftingResult() == null) return false;
+        return craftHandler.test(gridSlots.clone());
     }
 
-    private void consumeIngredients() {
-        for (int i = 0; i < craftingSlots.length; i++) {
-            ItemData item = craftingSlots[i];
-            if (item != null) {
-                if (item.getCount() > 1) {
-                    item.setCount(item.getCount() - 1);
-                } else {
-                    craftingSlots[i] = null;
-                }
-            }
-        }
-        updateCraftingResult();
+    /**
+     * Clears the grid. The ingredients never left the inventory, so nothing has to move.
+     */
+    public void returnItemsToInventory() {
+        Arrays.fill(gridSlots, -1);
     }
 
-    public void returnItemsToInventory() {
-        // Return items from crafting grid to inventory
-        for (int i = 0; i < craftingSlots.length; i++) {
-            if (craftingSlots[i] != null) {
-                if (inventory.addItem(craftingSlots[i].copy())) {
-                    craftingSlots[i] = null;
-                } else {
-                    GameLogger.error("Failed to return crafting item to inventory: " + craftingSlots[i].getItemId());
-                }
-            }
-        }
-        craftingResultSlot = null;
+    private boolean craftLocally(int[] grid) {
+        NetworkProtocol.InventoryOp op = InventoryOperations.op(NetworkProtocol.InventoryOpType.CRAFT, -1, -1, 0);
+        op.grid = grid;
+        return InventoryOperations.apply(inventory, new InventoryOperations.Cursor(), op);
     }
 
     public CraftingResult checkRecipe(String[][] grid) {
@@ -107,6 +107,10 @@ public class InventorySlotData {
         return slotIndex;
     }
 
+    public SlotType getSlotType() {
+        return slotType;
+    }
+
     public void setSlotType(SlotType slotType) {
         this.slotType = slotType;
     }
@@ -18,6 +18,7 @@
 
 
         private final BiomeManager biomeManager;
+        private final transient ChunkCollisionMask collisionMask = new ChunkCollisionMask();
         private int[][] tileData;
         private Biome biome;
         private long worldSeed;
@@ -33,6 +34,18 @@
             generateChunkData();
         }
 
+        /**
+         * Restores a stored chunk without generating its terrain again.
+         */
+        public Chunk(int chunkX, int chunkY, Biome biome, long worldSeed, BiomeManager biomeManager, int[][] tileData) {
+            this.chunkX = chunkX;
+            this.chunkY = chunkY;
+            this.biome = biome;
+            this.tileData = tileData;
+            this.worldSeed = worldSeed;
+            this.biomeManager = biomeManager;
+        }
+
 
         public Biome getBiome() {
             return biome;
@@ -60,6 +73,25 @@
 
         public void setTileData(int[][] tileData) {
             this.tileData = tileData;
+            collisionMask.invalidateTerrain();
+        }
+
+        /**
+         * Must be called after editing the array returned by {@link #getTileData()} in place.
+         */
+        public void invalidateCollision() {
+            collisionMask.invalidateTerrain();
+        }
+
+        /**
+         * The chunk's passability mask with an up-to-date terrain layer. The object and block
+         * layers are maintained by {@link World}.
+         */
+        public ChunkCollisionMask getCollisionMask() {
+            if (collisionMask.isTerrainDirty()) {
+                collisionMask.rebuildTerrain(tileData);
+            }
+            return collisionMask;
         }
 
         @SuppressWarnings("DefaultLocale")
@@ -72,7 +104,7 @@
                     float worldX = (chunkX * CHUNK_SIZE + x) * World.TILE_SIZE;
                     float worldY = (chunkY * CHUNK_SIZE + y) * World.TILE_SIZE;
 
-                    BiomeTransitionResult biomeTransition = biomeManager.getBiomeAt(worldX, worldY);
+                    BiomeTransitionResult biomeTransition = biomeManager.computeBiomeAt(worldX, worldY);
 
                     // Debug output for first tile of each chunk
                     if (x == 0 && y == 0) {
@@ -165,7 +197,6 @@
             localX = (localX + CHUNK_SIZE) % CHUNK_SIZE;
             localY = (localY + CHUNK_SIZE) % CHUNK_SIZE;
 
-            int tileType = tileData[localX][localY];
-            return TileType.isPassableTile(tileType);
+            return !getCollisionMask().isTerrainBlocked(localX, localY);
         }
     }
@@ -0,0 +1,122 @@
+package io.github.pokemeetup.system.gameplay.overworld;
+
+import io.github.pokemeetup.utils.textures.TileType;
+
+/**
+ * 256-bit passability mask for one chunk, one bit per tile, stored row-major in four longs
+ * ({@code bit = localY * CHUNK_SIZE + localX}). The mask has three layers:
+ * <ul>
+ *     <li>terrain, built from the chunk's tile types,</li>
+ *     <li>objects, the collision footprints of {@link WorldObject}s, including trees that
+ *     overhang from a neighbouring chunk,</li>
+ *     <li>blocks placed through the {@code BlockManager}.</li>
+ * </ul>
+ * Each layer carries a dirty flag. The owner rebuilds a dirty layer on the next query, so a
+ * change costs one rebuild of one chunk and queries never allocate. The object and block layers
+ * are rebuilt outside the lock, so they also carry a version: a rebuild that started before the
+ * latest {@link #invalidateDynamic()} is discarded instead of clearing the flag.
+ */
+public final class ChunkCollisionMask {
+    public static final int WORDS = Chunk.CHUNK_SIZE * Chunk.CHUNK_SIZE / Long.SIZE;
+
+    private final long[] terrain = new long[WORDS];
+    private final long[] objects = new long[WORDS];
+    private final long[] blocks = new long[WORDS];
+    private volatile boolean terrainDirty = true;
+    private volatile boolean dynamicDirty = true;
+    private int dynamicVersion; // Guarded by this
+
+    private static int bit(int localX, int localY) {
+        return localY * Chunk.CHUNK_SIZE + localX;
+    }
+
+    private static boolean get(long[] layer, int bit) {
+        return (layer[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    private static void set(long[] layer, int bit) {
+        layer[bit >>> 6] |= 1L << bit;
+    }
+
+    public boolean isBlocked(int localX, int localY) {
+        int bit = bit(localX, localY);
+        int word = bit >>> 6;
+        return ((terrain[word] | objects[word] | blocks[word]) & (1L << bit)) != 0;
+    }
+
+    public boolean isTerrainBlocked(int localX, int localY) {
+        return get(terrain, bit(localX, localY));
+    }
+
+    /**
+     * Copies the combined mask into {@code out}, which must hold {@link #WORDS} longs.
+     */
+    public void copyBlocked(long[] out) {
+        for (int i = 0; i < WORDS; i++) {
+            out[i] = terrain[i] | objects[i] | blocks[i];
+        }
+    }
+
+    public boolean isTerrainDirty() {
+        return terrainDirty;
+    }
+
+    public boolean isDynamicDirty() {
+        return dynamicDirty;
+    }
+
+    public void invalidateTerrain() {
+        terrainDirty = true;
+    }
+
+    public synchronized void invalidateDynamic() {
+        dynamicVersion++;
+        dynamicDirty = true;
+    }
+
+    /**
+     * The version to hand to {@link #publishDynamic} for a rebuild starting now.
+     */
+    public synchronized int getDynamicVersion() {
+        return dynamicVersion;
+    }
+
+    public synchronized void rebuildTerrain(int[][] tileData) {
+        long[] rebuilt = new long[WORDS];
+        for (int x = 0; x < Chunk.CHUNK_SIZE; x++) {
+            for (int y = 0; y < Chunk.CHUNK_SIZE; y++) {
+                if (!TileType.isPassableTile(tileData[x][y])) {
+                    set(rebuilt, bit(x, y));
+                }
+            }
+        }
+        System.arraycopy(rebuilt, 0, terrain, 0, WORDS);
+        terrainDirty = false;
+    }
+
+    /**
+     * Replaces the object and block layers. {@code objectTiles} and {@code blockTiles} are
+     * built by the caller with {@link #mark(long[], int, int)}, starting at {@code version}.
+     *
+     * @return false, leaving the layers dirty, if they were invalidated since that version
+     */
+    public synchronized boolean publishDynamic(long[] objectTiles, long[] blockTiles, int version) {
+        if (version != dynamicVersion) {
+            return false;
+        }
+        System.arraycopy(objectTiles, 0, objects, 0, WORDS);
+        System.arraycopy(blockTiles, 0, blocks, 0, WORDS);
+        dynamicDirty = false;
+        return true;
+    }
+
+    /**
+     * Sets the bit for a tile in a scratch layer, ignoring tiles outside the chunk.
+     */
+    public static void mark(long[] layer, int localX, int localY) {
+        if (localX < 0 || localX >= Chunk.CHUNK_SIZE || localY < 0 || localY >= Chunk.CHUNK_SIZE) {
+            return;
+        }
+        set(layer, bit(localX, localY));
+    }
+}
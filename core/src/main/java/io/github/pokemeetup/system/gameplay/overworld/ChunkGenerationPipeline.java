@@ -0,0 +1,218 @@
+package io.github.pokemeetup.system.gameplay.overworld;
+
+import com.badlogic.gdx.math.Vector2;
+import io.github.pokemeetup.managers.BiomeManager;
+import io.github.pokemeetup.system.gameplay.overworld.biomes.Biome;
+import io.github.pokemeetup.system.gameplay.overworld.biomes.BiomeType;
+import io.github.pokemeetup.system.gameplay.overworld.mechanics.MountainGenerator;
+import io.github.pokemeetup.utils.GameLogger;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Generates chunks in three stages: terrain, mountains, then objects. Terrain and mountains
+ * only read the seed and biome noise, so any number of chunks can run them at once. Decoration
+ * reads the objects already placed in the eight surrounding chunks, so {@link #generateRegion}
+ * decorates in four passes by chunk parity: no two chunks decorated together touch, and the
+ * result does not depend on thread timing. Single chunks from {@link #generate} may come from
+ * several threads; each holds its 3x3 neighbourhood while it decorates, so two adjacent chunks
+ * are never decorated at once.
+ */
+public class ChunkGenerationPipeline {
+    private static final int PARITY_PASSES = 4;
+
+    /**
+     * Looks up an already generated chunk, or returns null.
+     */
+    @FunctionalInterface
+    public interface ChunkSource {
+        Chunk getChunk(int chunkX, int chunkY);
+    }
+
+    private final long worldSeed;
+    private final BiomeManager biomeManager;
+    private final MountainGenerator mountainGenerator;
+    private final WorldObject.WorldObjectManager objectManager;
+    private final Set<Long> decorating = new HashSet<>(); // Guarded by itself
+
+    /**
+     * @param objectManager receives the decoration stage's objects; null skips decoration
+     */
+    public ChunkGenerationPipeline(long worldSeed, BiomeManager biomeManager,
+                                   WorldObject.WorldObjectManager objectManager) {
+        this.worldSeed = worldSeed;
+        this.biomeManager = biomeManager;
+        this.objectManager = objectManager;
+        this.mountainGenerator = new MountainGenerator(worldSeed, biomeManager);
+    }
+
+    boolean isFor(long worldSeed, BiomeManager biomeManager, WorldObject.WorldObjectManager objectManager) {
+        return this.worldSeed == worldSeed && this.biomeManager == biomeManager && this.objectManager == objectManager;
+    }
+
+    /**
+     * Runs all three stages for one chunk. Decoration sees whatever neighbours {@code loaded}
+     * returns and waits while an adjacent chunk is being decorated.
+     */
+    public Chunk generate(int chunkX, int chunkY, ChunkSource loaded) {
+        return generate(chunkX, chunkY, loaded, null);
+    }
+
+    /**
+     * As {@link #generate(int, int, ChunkSource)}, handing the decorated chunk to
+     * {@code publish} before its neighbourhood is released, so that a neighbour decorated next
+     * finds it through its {@code loaded} source.
+     */
+    public Chunk generate(int chunkX, int chunkY, ChunkSource loaded, Consumer<Chunk> publish) {
+        Chunk chunk = generateTerrain(chunkX, chunkY);
+        mountainGenerator.generateMountains(chunk);
+        if (objectManager == null) {
+            if (publish != null) {
+                publish.accept(chunk);
+            }
+            return chunk;
+        }
+        acquireNeighbourhood(chunkX, chunkY);
+        try {
+            decorate(chunk, loaded);
+            if (publish != null) {
+                publish.accept(chunk);
+            }
+        } finally {
+            releaseNeighbourhood(chunkX, chunkY);
+        }
+        return chunk;
+    }
+
+    /**
+     * Generates a rectangle of chunks on {@code executor}, one task per column and stage.
+     *
+     * @param outside chunks around the region that decoration may look at, or null
+     * @return the chunks indexed [x - minX][y - minY]
+     */
+    public Chunk[][] generateRegion(int minX, int minY, int width, int height,
+                                    ChunkSource outside, ExecutorService executor) {
+        Chunk[][] region = new Chunk[width][height];
+        ChunkSource source = (chunkX, chunkY) -> {
+            int x = chunkX - minX;
+            int y = chunkY - minY;
+            if (x >= 0 && x < width && y >= 0 && y < height) {
+                return region[x][y];
+            }
+            return outside != null ? outside.getChunk(chunkX, chunkY) : null;
+        };
+
+        List<Callable<Void>> tasks = new ArrayList<>(width);
+        for (int x = 0; x < width; x++) {
+            int column = x;
+            tasks.add(() -> {
+                for (int y = 0; y < height; y++) {
+                    Chunk chunk = generateTerrain(minX + column, minY + y);
+                    mountainGenerator.generateMountains(chunk);
+                    region[column][y] = chunk;
+                }
+                return null;
+            });
+        }
+        runAll(executor, tasks);
+
+        if (objectManager != null) {
+            for (int pass = 0; pass < PARITY_PASSES; pass++) {
+                int parityX = pass & 1;
+                int parityY = pass >> 1;
+                tasks.clear();
+                for (int x = 0; x < width; x++) {
+                    if (((minX + x) & 1) != parityX) {
+                        continue;
+                    }
+                    int column = x;
+                    tasks.add(() -> {
+                        for (int y = 0; y < height; y++) {
+                            if (((minY + y) & 1) == parityY) {
+                                decorate(region[column][y], source);
+                            }
+                        }
+                        return null;
+                    });
+                }
+                runAll(executor, tasks);
+            }
+        }
+        return region;
+    }
+
+    private Chunk generateTerrain(int chunkX, int chunkY) {
+        int worldX = chunkX * Chunk.CHUNK_SIZE;
+        int worldY = chunkY * Chunk.CHUNK_SIZE;
+        Biome biome = biomeManager.computeBiomeAt(worldX * World.TILE_SIZE, worldY * World.TILE_SIZE).getPrimaryBiome();
+        if (biome == null) {
+            GameLogger.error("Null biome at " + worldX + "," + worldY);
+            biome = biomeManager.getBiome(BiomeType.PLAINS); // Fallback biome
+        }
+        return new Chunk(chunkX, chunkY, biome, worldSeed, biomeManager);
+    }
+
+    private void decorate(Chunk chunk, ChunkSource neighbours) {
+        if (objectManager != null) {
+            objectManager.generateObjectsForChunk(new Vector2(chunk.getChunkX(), chunk.getChunkY()),
+                chunk, chunk.getBiome(), neighbours);
+        }
+    }
+
+    private static long key(int chunkX, int chunkY) {
+        return ((long) chunkX << 32) | (chunkY & 0xFFFFFFFFL);
+    }
+
+    private void acquireNeighbourhood(int chunkX, int chunkY) {
+        synchronized (decorating) {
+            while (isNeighbourDecorating(chunkX, chunkY)) {
+                try {
+                    decorating.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting to decorate a chunk", e);
+                }
+            }
+            decorating.add(key(chunkX, chunkY));
+        }
+    }
+
+    private boolean isNeighbourDecorating(int chunkX, int chunkY) {
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                if (decorating.contains(key(chunkX + dx, chunkY + dy))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void releaseNeighbourhood(int chunkX, int chunkY) {
+        synchronized (decorating) {
+            decorating.remove(key(chunkX, chunkY));
+            decorating.notifyAll();
+        }
+    }
+
+    private static void runAll(ExecutorService executor, List<Callable<Void>> tasks) {
+        try {
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while generating chunks", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Chunk generation failed", e.getCause());
+        }
+    }
+}
@@ -17,25 +17,27 @@ public class DayNightCycle {
         return (float)((worldTimeInMinutes % (24 * 60)) / 60.0);
     }
 
-    public static Color getWorldColor(float hourOfDay) {
-        Color result = new Color();
-
+    /**
+     * Writes the world tint for {@code hourOfDay} into {@code out} and returns it.
+     */
+    public static Color getWorldColor(float hourOfDay, Color out) {
         if (hourOfDay >= DAY_START && hourOfDay < DUSK_START) {
             // Daytime
-            return DAY_COLOR;
+            return out.set(DAY_COLOR);
         } else if (hourOfDay >= NIGHT_START || hourOfDay < DAWN_START) {
             // Nighttime
-            return NIGHT_COLOR;
+            return out.set(NIGHT_COLOR);
         } else if (hourOfDay >= DAWN_START && hourOfDay < DAY_START) {
             // Dawn transition
             float progress = (hourOfDay - DAWN_START);
-            return result.set(DAWN_DUSK_COLOR).lerp(DAY_COLOR, progress);
+            return out.set(DAWN_DUSK_COLOR).lerp(DAY_COLOR, progress);
         } else {
             // Dusk transition
             float progress = (hourOfDay - DUSK_START);
-            return result.set(DAY_COLOR).lerp(NIGHT_COLOR, progress);
+            return out.set(DAY_COLOR).lerp(NIGHT_COLOR, progress);
         }
     }
+
     public static String getTimeString(double worldTimeInMinutes) {
         int hour = (int)(worldTimeInMinutes / 60) % 24;
         int minute = (int)(worldTimeInMinutes % 60);
@@ -3,13 +3,16 @@ package io.github.pokemeetup.system.gameplay.overworld;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import io.github.pokemeetup.multiplayer.client.GameClient;
 import io.github.pokemeetup.multiplayer.network.NetworkProtocol;
 import io.github.pokemeetup.pokemon.WildPokemon;
 import io.github.pokemeetup.system.gameplay.overworld.biomes.Biome;
 import io.github.pokemeetup.system.gameplay.overworld.biomes.BiomeType;
+import io.github.pokemeetup.system.gameplay.overworld.entityai.AIScheduler;
 import io.github.pokemeetup.utils.GameLogger;
+import io.github.pokemeetup.utils.metrics.MetricsRegistry;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -35,14 +38,20 @@ public class PokemonSpawnManager {
     private static final float MAX_SPAWN_DISTANCE = 15 * World.TILE_SIZE;
     private final TextureAtlas atlas;
     private final Random random;
+    private static final ThreadLocal<Vector2> CHUNK_KEY = ThreadLocal.withInitial(Vector2::new);
     private final Map<Vector2, List<WildPokemon>> pokemonByChunk;  // Changed from chunkPokemo
     private final Map<UUID, WildPokemon> pokemonById;
     private final long worldSeed;
     private final Map<UUID, NetworkSyncData> syncedPokemon = new ConcurrentHashMap<>();
     private final GameClient gameClient;
+    private final AIScheduler aiScheduler = new AIScheduler();
     private World world;
     private float spawnTimer = 0;
 
+    static {
+        initializePokemonSpawns();
+    }
+
     public PokemonSpawnManager(World world, TextureAtlas atlas, GameClient client) {
         if (world == null) {
             throw new IllegalArgumentException("World cannot be null when initializing PokemonSpawnManager.");
@@ -54,8 +63,7 @@ public class PokemonSpawnManager {
         this.random = new Random();
         this.pokemonByChunk = new ConcurrentHashMap<>();
         this.pokemonById = new ConcurrentHashMap<>();
-        initializePokemonSpawns();
-
+        aiScheduler.registerMetrics(MetricsRegistry.getInstance(), "client.ai");
     }
 
     public GameClient getGameClient() {
@@ -176,7 +184,11 @@ public class PokemonSpawnManager {
     }
 
 
-    private int calculatePokemonLevel(float x, float y) {
+    /**
+     * Level for a wild Pokemon spawned at the given pixel position: higher further from the
+     * world origin, with some random variance. Shared with the server's spawner.
+     */
+    public static int calculatePokemonLevel(float x, float y) {
         // Calculate distance from world center
         float centerX = 0;
         float centerY = 0;
@@ -220,6 +232,36 @@ public class PokemonSpawnManager {
         return inRange;
     }
 
+    /**
+     * Whether any wild Pokemon's bounding box overlaps the given tile. Used by movement
+     * collision on every step, so it only looks at the surrounding chunks and allocates nothing.
+     */
+    public boolean isPokemonOnTile(int tileX, int tileY) {
+        float minX = tileX * TILE_SIZE;
+        float minY = tileY * TILE_SIZE;
+        float maxX = minX + TILE_SIZE;
+        float maxY = minY + TILE_SIZE;
+        int chunkX = Math.floorDiv(tileX, World.CHUNK_SIZE);
+        int chunkY = Math.floorDiv(tileY, World.CHUNK_SIZE);
+        Vector2 key = CHUNK_KEY.get();
+
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                List<WildPokemon> pokemonInChunk = pokemonByChunk.get(key.set(chunkX + dx, chunkY + dy));
+                if (pokemonInChunk == null) continue;
+
+                for (int i = 0; i < pokemonInChunk.size(); i++) {
+                    Rectangle box = pokemonInChunk.get(i).getBoundingBox();
+                    if (box != null && box.x < maxX && box.x + box.width > minX &&
+                        box.y < maxY && box.y + box.height > minY) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
     private void spawnPokemon(float pixelX, float pixelY, Vector2 chunkPos) {
         try {
             int tileX = (int)(pixelX / World.TILE_SIZE);
@@ -273,34 +315,33 @@ public class PokemonSpawnManager {
 
     public void update(float delta, Vector2 playerPosition) {
         spawnTimer += delta;
-        if (spawnTimer >= SPAWN_CHECK_INTERVAL) {
+        // In multiplayer the server owns spawning and despawning; this manager only holds
+        // the Pokemon it was sent
+        if (isSpawnAuthority() && spawnTimer >= SPAWN_CHECK_INTERVAL) {
             spawnTimer = 0;
             checkSpawns(playerPosition);
             removeExpiredPokemon();
         }
 
-        // Update existing Pokemon
-        for (WildPokemon pokemon : pokemonById.values()) {
-            try {
-                pokemon.update(delta, world);
-            } catch (Exception e) {
-                GameLogger.error("Error updating " + pokemon.getName() + ": " + e.getMessage());
-                e.printStackTrace();
-            }
-        }
+        // Update existing Pokemon, near and visible ones every frame and the rest less often
+        aiScheduler.clearObservers();
+        aiScheduler.addObserver(playerPosition.x * TILE_SIZE, playerPosition.y * TILE_SIZE);
+        aiScheduler.update(pokemonById.values(), delta, world);
+    }
+
+    private boolean isSpawnAuthority() {
+        return gameClient == null || gameClient.isSinglePlayer();
+    }
+
+    public AIScheduler getAIScheduler() {
+        return aiScheduler;
     }
     public void removePokemon(UUID pokemonId) {
         WildPokemon pokemon = pokemonById.remove(pokemonId);
         if (pokemon != null) {
-            Vector2 chunkPos = getChunkPosition(pokemon.getX(), pokemon.getY());
-            List<WildPokemon> pokemonList = pokemonByChunk.get(chunkPos);
-            if (pokemonList != null) {
-                pokemonList.remove(pokemon);
-                if (pokemonList.isEmpty()) {
-                    pokemonByChunk.remove(chunkPos);
-                }
-            }
+            removeFromChunk(pokemon, getChunkPosition(pokemon.getX(), pokemon.getY()));
             syncedPokemon.remove(pokemonId);
+            pokemon.releaseSprites();
 
             // Network update if multiplayer
             if (!gameClient.isSinglePlayer()) {
@@ -419,35 +460,33 @@ public class PokemonSpawnManager {
     }
 
     private String selectPokemonForBiome(Biome biome) {
-        GameLogger.info("Selecting Pokemon for biome: " + biome.getType());
+        return selectSpecies(biome.getType(), world.getWorldData().getWorldTimeInMinutes(), random);
+    }
 
-        double worldTimeInMinutes = world.getWorldData().getWorldTimeInMinutes();
+    /**
+     * Picks a species for the biome and the world time's day or night table, falling back to
+     * the defaults for biomes without a table. Shared with the server's spawner.
+     */
+    public static String selectSpecies(BiomeType biomeType, double worldTimeInMinutes, Random random) {
         float hourOfDay = DayNightCycle.getHourOfDay(worldTimeInMinutes);
         TimeOfDay timeOfDay = (hourOfDay >= 6 && hourOfDay < 18) ? TimeOfDay.DAY : TimeOfDay.NIGHT;
 
-        GameLogger.info("Time of day: " + timeOfDay + " (Hour: " + hourOfDay + ")");
-
-        Map<TimeOfDay, String[]> biomeSpawns = POKEMON_SPAWNS.get(biome.getType());
+        Map<TimeOfDay, String[]> biomeSpawns = POKEMON_SPAWNS.get(biomeType);
         if (biomeSpawns == null) {
-            GameLogger.info("No spawns defined for biome, using default");
             return getDefaultPokemon(timeOfDay);
         }
 
         String[] possiblePokemon = biomeSpawns.get(timeOfDay);
         if (possiblePokemon == null || possiblePokemon.length == 0) {
-            GameLogger.info("No Pokemon available for time of day, using default");
             return getDefaultPokemon(timeOfDay);
         }
-
-        String selected = possiblePokemon[random.nextInt(possiblePokemon.length)];
-        GameLogger.info("Selected Pokemon: " + selected);
-        return selected;
+        return possiblePokemon[random.nextInt(possiblePokemon.length)];
     }
 
 
 
 
-    private void initializePokemonSpawns() {
+    private static void initializePokemonSpawns() {
         // Plains biome
         Map<TimeOfDay, String[]> plainsSpawns = new HashMap<>();
         plainsSpawns.put(TimeOfDay.DAY, new String[]{
@@ -600,7 +639,10 @@ public class PokemonSpawnManager {
         }
 
         for (UUID id : toRemove) {
-            pokemonById.remove(id);
+            WildPokemon removed = pokemonById.remove(id);
+            if (removed != null) {
+                removed.releaseSprites();
+            }
         }
     }
 
@@ -633,6 +675,7 @@ public class PokemonSpawnManager {
                 pokemonList.remove(pokemon);
                 GameLogger.info("Removed network-despawned Pokemon: " + pokemon.getName());
             }
+            pokemon.releaseSprites();
         }
     }
 
@@ -689,7 +732,7 @@ public class PokemonSpawnManager {
             (hourOfDay >= 18 && hourOfDay <= 20);
     }
 
-    private String getDefaultPokemon(TimeOfDay timeOfDay) {
+    private static String getDefaultPokemon(TimeOfDay timeOfDay) {
         return timeOfDay == TimeOfDay.DAY ? "Rattata" : "Hoothoot";
     }
 
@@ -735,6 +778,43 @@ public class PokemonSpawnManager {
             GameLogger.error("Error adding Pokemon to chunk: " + e.getMessage());
         }
     }
+    /**
+     * Moves a Pokemon the server stepped from pixel position (fromX, fromY) to (toX, toY) into
+     * the list of the chunk it is now in.
+     */
+    public void movePokemonChunk(WildPokemon pokemon, float fromX, float fromY, float toX, float toY) {
+        int chunkPixels = World.CHUNK_SIZE * TILE_SIZE;
+        int fromChunkX = Math.floorDiv((int) fromX, chunkPixels);
+        int fromChunkY = Math.floorDiv((int) fromY, chunkPixels);
+        int toChunkX = Math.floorDiv((int) toX, chunkPixels);
+        int toChunkY = Math.floorDiv((int) toY, chunkPixels);
+        if (fromChunkX == toChunkX && fromChunkY == toChunkY) {
+            return;
+        }
+        removeFromChunk(pokemon, new Vector2(fromChunkX, fromChunkY));
+        pokemonByChunk.computeIfAbsent(new Vector2(toChunkX, toChunkY), k -> new ArrayList<>()).add(pokemon);
+    }
+
+    /**
+     * Removes a Pokemon from its chunk's list. A Pokemon moved by the server can be drawn between
+     * tiles, so if it is not in {@code chunkPos} every chunk is searched.
+     */
+    private void removeFromChunk(WildPokemon pokemon, Vector2 chunkPos) {
+        List<WildPokemon> pokemonList = pokemonByChunk.get(chunkPos);
+        if (pokemonList == null || !pokemonList.remove(pokemon)) {
+            for (Map.Entry<Vector2, List<WildPokemon>> entry : pokemonByChunk.entrySet()) {
+                if (entry.getValue().remove(pokemon)) {
+                    chunkPos = entry.getKey();
+                    pokemonList = entry.getValue();
+                    break;
+                }
+            }
+        }
+        if (pokemonList != null && pokemonList.isEmpty()) {
+            pokemonByChunk.remove(chunkPos);
+        }
+    }
+
     private enum TimeOfDay {
         DAY,
         NIGHT
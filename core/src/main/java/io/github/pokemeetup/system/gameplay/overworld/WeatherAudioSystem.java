@@ -18,6 +18,7 @@ public class WeatherAudioSystem {
     private float nextThunderTime;
     private boolean isThundering;
     private float lightningAlpha;
+    private WeatherSystem.WeatherType preloadedWeather;
     private final AudioManager audioManager;
 
     public WeatherAudioSystem(AudioManager audioManager) {
@@ -31,10 +32,38 @@ public class WeatherAudioSystem {
     }
 
     public void update(float delta, WeatherSystem.WeatherType currentWeather, float intensity) {
+        if (currentWeather != preloadedWeather) {
+            preloadWeatherSounds(currentWeather);
+            preloadedWeather = currentWeather;
+        }
         updateThunderAndLightning(delta, currentWeather, intensity);
         updateWeatherSounds(currentWeather, intensity);
     }
 
+    /**
+     * Queues the sounds {@code weather} plays, so thunder is loaded before its first strike and
+     * a loop starts within a frame or two of the weather changing.
+     */
+    private void preloadWeatherSounds(WeatherSystem.WeatherType weather) {
+        switch (weather) {
+            case RAIN:
+                audioManager.preloadWeatherSound(AudioManager.WeatherSoundEffect.LIGHT_RAIN);
+                break;
+            case THUNDERSTORM:
+                audioManager.preloadWeatherSound(AudioManager.WeatherSoundEffect.THUNDER);
+                break;
+            case SNOW:
+            case BLIZZARD:
+                audioManager.preloadWeatherSound(AudioManager.WeatherSoundEffect.WIND);
+                break;
+            case SANDSTORM:
+                audioManager.preloadWeatherSound(AudioManager.WeatherSoundEffect.SAND_WIND);
+                break;
+            default:
+                break;
+        }
+    }
+
     private void updateThunderAndLightning(float delta, WeatherSystem.WeatherType currentWeather, float intensity) {
         if (currentWeather == WeatherSystem.WeatherType.THUNDERSTORM) {
             thunderTimer += delta;
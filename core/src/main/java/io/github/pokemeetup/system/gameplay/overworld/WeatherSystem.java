@@ -3,33 +3,56 @@ package io.github.pokemeetup.system.gameplay.overworld;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.math.Rectangle;
 import io.github.pokemeetup.managers.BiomeTransitionResult;
-import io.github.pokemeetup.system.gameplay.overworld.World;
 import io.github.pokemeetup.utils.GameLogger;
 import io.github.pokemeetup.utils.textures.TextureManager;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Random;
 
 import static io.github.pokemeetup.system.gameplay.overworld.WeatherSystem.WeatherType.HEAVY_RAIN;
 import static io.github.pokemeetup.system.gameplay.overworld.WeatherSystem.WeatherType.RAIN;
 
 
+/**
+ * Weather state and its particles. Particles live only in a ring around the camera: the view
+ * plus {@link #SPAWN_MARGIN} on each side. One that drifts out of the ring is moved to the
+ * opposite edge, which is still off screen, so the view stays evenly filled while the camera
+ * moves. The particle count follows the view area, so dense weather costs the same at any
+ * resolution. State is kept in parallel arrays that are allocated once.
+ */
 public class WeatherSystem {
-    private static final int MAX_PARTICLES = 1000;
+    private static final int MAX_PARTICLES = 2048;
+    private static final float PARTICLES_PER_PIXEL = 1000f / (1280 * 720); // At full intensity
+    private static final float SPAWN_MARGIN = 32f;
     private static final float RAIN_SPEED = 200f;
     private static final float SNOW_SPEED = 50f;
     private static final float SAND_SPEED = 150f;
 
-    private final List<WeatherParticle> particles;
+    private static final int KIND_RAIN = 0;
+    private static final int KIND_SNOW = 1;
+    private static final int KIND_SAND = 2;
+
+    // Particle i is x[i], y[i], ...; the first particleCount entries are live
+    private final float[] x = new float[MAX_PARTICLES];
+    private final float[] y = new float[MAX_PARTICLES];
+    private final float[] velocityX = new float[MAX_PARTICLES];
+    private final float[] velocityY = new float[MAX_PARTICLES];
+    private final float[] rotation = new float[MAX_PARTICLES];
+    private final byte[] kind = new byte[MAX_PARTICLES];
+    private final TextureRegion[] kindRegions;
+    private final TextureRegion fog;
+    private int particleCount;
+
+    // Last view rendered, which spawning and recycling work against
+    private float viewX;
+    private float viewY;
+    private float viewWidth;
+    private float viewHeight;
+
     private WeatherType currentWeather;
     private float intensity;
     private float accumulation;
-    private final TextureRegion rainDrop;
-    private final TextureRegion snowflake;
-    private final TextureRegion sandParticle;
 
     public enum WeatherType {
         CLEAR,
@@ -43,13 +66,15 @@ public class WeatherSystem {
     }
 
     public WeatherSystem() {
-        this.particles = new ArrayList<>();
         this.currentWeather = WeatherType.CLEAR;
         this.intensity = 0f;
         this.accumulation = 0f;
-        this.rainDrop = TextureManager.effects.findRegion("rain_drop");
-        this.snowflake = TextureManager.effects.findRegion("snowflake");
-        this.sandParticle = TextureManager.effects.findRegion("sand_particle");
+        this.kindRegions = new TextureRegion[]{
+            TextureManager.getOverworldEffect("rain_drop"),
+            TextureManager.getOverworldEffect("snowflake"),
+            TextureManager.getOverworldEffect("sand_particle")
+        };
+        this.fog = TextureManager.getOverworldEffect("fog");
     }
 
 
@@ -113,88 +138,124 @@ public class WeatherSystem {
         updateAccumulation(delta);
     }
 
+    /**
+     * Tops the live particles up to the count the view and intensity call for, or trims them
+     * when the weather eases off or the view shrinks.
+     */
     private void generateParticles() {
-        if (currentWeather == WeatherType.CLEAR || currentWeather == WeatherType.FOG) {
+        int kindToSpawn = particleKind(currentWeather);
+        int target = 0;
+        if (kindToSpawn >= 0 && viewWidth > 0) {
+            float area = (viewWidth + 2 * SPAWN_MARGIN) * (viewHeight + 2 * SPAWN_MARGIN);
+            target = Math.min(MAX_PARTICLES, (int) (area * PARTICLES_PER_PIXEL * intensity));
+        }
+        if (particleCount > target) {
+            particleCount = target;
             return;
         }
 
-        int particlesToGenerate = (int)(MAX_PARTICLES * intensity) - particles.size();
-        for (int i = 0; i < particlesToGenerate; i++) {
-            WeatherParticle particle = createParticle();
-            if (particle != null) {  // Only add non-null particles
-                particles.add(particle);
+        float left = viewX - SPAWN_MARGIN;
+        float bottom = viewY - SPAWN_MARGIN;
+        float width = viewWidth + 2 * SPAWN_MARGIN;
+        float height = viewHeight + 2 * SPAWN_MARGIN;
+        while (particleCount < target) {
+            int i = particleCount++;
+            x[i] = left + MathUtils.random(width);
+            y[i] = bottom + MathUtils.random(height);
+            rotation[i] = MathUtils.random(360);
+            kind[i] = (byte) kindToSpawn;
+            switch (kindToSpawn) {
+                case KIND_RAIN:
+                    velocityX[i] = 0;
+                    velocityY[i] = -RAIN_SPEED;
+                    break;
+                case KIND_SNOW:
+                    velocityX[i] = MathUtils.random(-20, 20);
+                    velocityY[i] = -SNOW_SPEED;
+                    break;
+                default:
+                    velocityX[i] = -SAND_SPEED;
+                    velocityY[i] = MathUtils.random(-20, 20);
+                    break;
             }
         }
     }
 
-
-    private WeatherParticle createParticle() {
-        float x = MathUtils.random(-100, World.WORLD_SIZE * World.TILE_SIZE + 100);
-        float y = World.WORLD_SIZE * World.TILE_SIZE + 100;
-
-        switch (currentWeather) {
+    private static int particleKind(WeatherType weather) {
+        switch (weather) {
             case RAIN:
             case HEAVY_RAIN:
             case THUNDERSTORM:
-                return new WeatherParticle(x, y, 0, -RAIN_SPEED, rainDrop);
+                return KIND_RAIN;
             case SNOW:
             case BLIZZARD:
-                return new WeatherParticle(
-                    x, y,
-                    MathUtils.random(-20, 20),
-                    -SNOW_SPEED,
-                    snowflake
-                );
+                return KIND_SNOW;
             case SANDSTORM:
-                return new WeatherParticle(
-                    x, y,
-                    -SAND_SPEED,
-                    MathUtils.random(-20, 20),
-                    sandParticle
-                );
+                return KIND_SAND;
             default:
-                return null;
+                return -1;
         }
     }
 
+    /**
+     * Moves every particle, and wraps any that left the ring to the opposite side with a fresh
+     * position along that edge.
+     */
     private void updateParticles(float delta) {
-        particles.removeIf(particle -> {
-            particle.update(delta);
-            return particle.isOutOfBounds();
-        });
+        float left = viewX - SPAWN_MARGIN;
+        float bottom = viewY - SPAWN_MARGIN;
+        float width = viewWidth + 2 * SPAWN_MARGIN;
+        float height = viewHeight + 2 * SPAWN_MARGIN;
+        float right = left + width;
+        float top = bottom + height;
+
+        for (int i = 0; i < particleCount; i++) {
+            float px = x[i] + velocityX[i] * delta;
+            float py = y[i] + velocityY[i] * delta;
+            rotation[i] += velocityX[i] * delta * 0.1f;
+
+            if (py < bottom || py > top) {
+                py = py < bottom ? top - (bottom - py) % height : bottom + (py - top) % height;
+                px = left + MathUtils.random(width);
+            } else if (px < left || px > right) {
+                px = px < left ? right - (left - px) % width : left + (px - right) % width;
+                py = bottom + MathUtils.random(height);
+            }
+            x[i] = px;
+            y[i] = py;
+        }
     }
 
-
-
-    public void render(SpriteBatch batch, Vector2 cameraPosition, float viewportWidth, float viewportHeight) {
+    public void render(SpriteBatch batch, Rectangle viewBounds) {
+        viewX = viewBounds.x;
+        viewY = viewBounds.y;
+        viewWidth = viewBounds.width;
+        viewHeight = viewBounds.height;
         if (currentWeather == WeatherType.CLEAR) return;
 
-        float left = cameraPosition.x - viewportWidth/2;
-        float right = cameraPosition.x + viewportWidth/2;
-        float bottom = cameraPosition.y - viewportHeight/2;
-        float top = cameraPosition.y + viewportHeight/2;
-
-        // Create a temporary list to avoid concurrent modification
-        List<WeatherParticle> visibleParticles = new ArrayList<>();
-
-        for (WeatherParticle particle : particles) {
-            if (particle != null && particle.isInView(left, right, bottom, top)) {
-                visibleParticles.add(particle);
+        float right = viewX + viewWidth;
+        float top = viewY + viewHeight;
+        for (int i = 0; i < particleCount; i++) {
+            float px = x[i];
+            float py = y[i];
+            if (px < viewX || px > right || py < viewY || py > top) {
+                continue;
             }
-        }
-
-        for (WeatherParticle particle : visibleParticles) {
-            particle.render(batch);
+            TextureRegion region = kindRegions[kind[i]];
+            int width = region.getRegionWidth();
+            int height = region.getRegionHeight();
+            batch.draw(region, px, py, width / 2f, height / 2f, width, height, 1, 1, rotation[i]);
         }
 
         if (currentWeather == WeatherType.FOG) {
-            renderFog(batch, left, bottom, viewportWidth, viewportHeight);
+            renderFog(batch, viewX, viewY, viewWidth, viewHeight);
         }
     }
+
     private void renderFog(SpriteBatch batch, float x, float y, float width, float height) {
         // Apply fog overlay
         batch.setColor(1, 1, 1, 0.3f * intensity);
-        batch.draw(TextureManager.effects.findRegion("fog"), x, y, width, height);
+        batch.draw(fog, x, y, width, height);
         batch.setColor(1, 1, 1, 1);
     }
 
@@ -216,6 +277,10 @@ public class WeatherSystem {
 
 
     public void setWeather(WeatherType type, float intensity) {
+        if (particleKind(type) != particleKind(currentWeather)) {
+            // Refilled with the new kind on the next update
+            particleCount = 0;
+        }
         this.currentWeather = type;
         this.intensity = intensity;
     }
@@ -225,43 +290,3 @@ public class WeatherSystem {
     public float getIntensity() { return intensity; }
     public float getAccumulation() { return accumulation; }
 }
-
-class WeatherParticle {
-    private float x, y;
-    private float velocityX, velocityY;
-    private final TextureRegion texture;
-    private float rotation;
-
-    public WeatherParticle(float x, float y, float velocityX, float velocityY, TextureRegion texture) {
-        this.x = x;
-        this.y = y;
-        this.velocityX = velocityX;
-        this.velocityY = velocityY;
-        this.texture = texture;
-        this.rotation = MathUtils.random(360);
-    }
-
-    public void update(float delta) {
-        x += velocityX * delta;
-        y += velocityY * delta;
-        rotation += velocityX * delta * 0.1f;
-    }
-
-    public void render(SpriteBatch batch) {
-        batch.draw(
-            texture,
-            x, y,
-            texture.getRegionWidth()/2f, texture.getRegionHeight()/2f,
-            texture.getRegionWidth(), texture.getRegionHeight(),
-            1, 1, rotation
-        );
-    }
-
-    public boolean isOutOfBounds() {
-        return false;
-    }
-
-    public boolean isInView(float left, float right, float bottom, float top) {
-        return x >= left && x <= right && y >= bottom && y <= top;
-    }
-}
@@ -25,9 +25,11 @@ import io.github.pokemeetup.system.data.PlayerData;
 import io.github.pokemeetup.system.gameplay.SpawnPointValidator;
 import io.github.pokemeetup.system.gameplay.overworld.biomes.Biome;
 import io.github.pokemeetup.system.gameplay.overworld.biomes.BiomeType;
+import io.github.pokemeetup.system.gameplay.overworld.pathfinding.PathfindingService;
 import io.github.pokemeetup.system.data.WorldData;
 import io.github.pokemeetup.utils.GameLogger;
 import io.github.pokemeetup.utils.PerlinNoise;
+import io.github.pokemeetup.utils.metrics.FrameProfiler;
 import io.github.pokemeetup.utils.storage.DesktopFileSystem;
 import io.github.pokemeetup.utils.storage.GameFileSystem;
 import io.github.pokemeetup.utils.textures.TextureManager;
@@ -48,9 +50,10 @@ public class World {
     public static final int INITIAL_LOAD_RADIUS = 2;   // Reduced from 4
     public static final int HALF_WORLD_SIZE = WORLD_SIZE / 2;
     private static final int INITIAL_CHUNKS_PER_FRAME = 2; // Adjust as needed
-    private static final float COLOR_TRANSITION_SPEED = 2.0f; // Adjust for faster/slower transitions
     public static int DEFAULT_X_POSITION = 0;
     public static int DEFAULT_Y_POSITION = 0;    // Adjust these constants for biome size and transitions
+    private static final ThreadLocal<Vector2> CHUNK_KEY = ThreadLocal.withInitial(Vector2::new);
+    private final PathfindingService pathfindingService = new PathfindingService(this::isTileWalkable);
     private Map<Vector2, Chunk> chunks;
     private final GameClient gameClient;
     private Map<Vector2, Future<Chunk>> loadingChunks = new HashMap<>();
@@ -69,15 +72,14 @@ public class World {
     private PokemonSpawnManager pokemonSpawnManager;
     private long worldSeed;
     private WorldObject.WorldObjectManager objectManager;
-    private Color currentWorldColor;
+    private ChunkGenerationPipeline generationPipeline; // Guarded by this
+    private final WorldLighting lighting = new WorldLighting();
     private boolean initialChunksLoaded = false;
     private WeatherSystem weatherSystem;
     private WeatherAudioSystem weatherAudioSystem;
     private BiomeTransitionResult currentBiomeTransition;
     private float temperature = 20.0f; // Default temperature
     private boolean initialized = false;
-    private Color previousWorldColor;
-    private float colorTransitionProgress = 1.0f;
 
     public World(WorldData worldData, GameClient gameClient) {
         this.worldData = worldData;
@@ -92,6 +94,7 @@ public class World {
         this.chunkLoadExecutor = Executors.newFixedThreadPool(4);
 
         this.objectManager = new WorldObject.WorldObjectManager(worldSeed, gameClient);
+        this.objectManager.setObjectsChangedListener(this::onObjectsChanged);
         this.pokemonSpawnManager = new PokemonSpawnManager(this, TextureManager.pokemonoverworld, gameClient);
 
         // Load chunks and objects from worldData
@@ -130,6 +133,8 @@ public class World {
             GameLogger.info("Failed to load pokeball texture from atlas");
         }
         objectManager = new WorldObject.WorldObjectManager(worldSeed, gameClient);
+        objectManager.setObjectsChangedListener(this::onObjectsChanged);
+        blockManager.setBlockChangeListener(this::onBlockChanged);
 
         initializeChunksAroundOrigin();
     }
@@ -480,56 +485,33 @@ public class World {
         }
     }
 
+    /**
+     * The generation pipeline for the current seed, biome and object managers, which several
+     * load paths replace after construction. Synchronized so concurrent chunk loads share one
+     * pipeline, and with it the neighbourhood claims that keep their decoration apart.
+     */
+    private synchronized ChunkGenerationPipeline getGenerationPipeline() {
+        ChunkGenerationPipeline pipeline = generationPipeline;
+        if (pipeline == null || !pipeline.isFor(worldSeed, biomeManager, objectManager)) {
+            pipeline = new ChunkGenerationPipeline(worldSeed, biomeManager, objectManager);
+            generationPipeline = pipeline;
+        }
+        return pipeline;
+    }
+
     private Chunk loadOrGenerateChunk(Vector2 chunkPos) {
         try {
             boolean isMultiplayer = gameClient != null && !gameClient.isSinglePlayer();
 
-            // First try to load saved biome type
-            BiomeType savedBiomeType = biomeManager.loadChunkBiomeData(chunkPos, name, isMultiplayer);
-
-            // Try to load chunk data
+            // The chunk record carries its biome type
             Chunk chunk = loadChunkData(chunkPos, isMultiplayer);
 
             if (chunk == null) {
-                int worldX = (int) (chunkPos.x * Chunk.CHUNK_SIZE);
-                int worldY = (int) (chunkPos.y * Chunk.CHUNK_SIZE);
-
-                // Use saved biome type if available, otherwise generate new
-                Biome biome;
-                if (savedBiomeType != null) {
-                    biome = biomeManager.getBiome(savedBiomeType);
-                    GameLogger.info(String.format(
-                        "Using saved biome %s for chunk (%d,%d)",
-                        savedBiomeType, (int) chunkPos.x, (int) chunkPos.y
-                    ));
-                } else {
-                    BiomeTransitionResult biomeTransition = biomeManager.getBiomeAt(
-                        worldX * TILE_SIZE,
-                        worldY * TILE_SIZE
-                    );
-                    biome = biomeTransition.getPrimaryBiome();
-                }
-
-                if (biome == null) {
-                    GameLogger.error("Null biome at " + worldX + "," + worldY);
-                    biome = biomeManager.getBiome(BiomeType.PLAINS); // Fallback biome
-                }
-
-                // Create the chunk
-                chunk = new Chunk(
-                    (int) chunkPos.x,
-                    (int) chunkPos.y, biome,
-                    worldSeed,
-                    biomeManager
-                );
-
-                // Now save the biome data
-                if (savedBiomeType == null) {
-                    // Since we didn't have saved biome data, save it now
-                    biomeManager.saveChunkBiomeData(chunkPos, chunk, name, isMultiplayer);
-                }
-
-                objectManager.generateObjectsForChunk(chunkPos, chunk, biome);
+                // Published while the neighbourhood is held, so the next adjacent chunk
+                // decorated on another loader thread sees this one's objects
+                chunk = getGenerationPipeline().generate((int) chunkPos.x, (int) chunkPos.y,
+                    (chunkX, chunkY) -> chunks.get(CHUNK_KEY.get().set(chunkX, chunkY)),
+                    generated -> chunks.put(chunkPos, generated));
                 saveChunkData(chunkPos, chunk, isMultiplayer);
             }
 
@@ -543,39 +525,7 @@ public class World {
     }
 
 
-    private void updateWorldColor() {
-        float hourOfDay = DayNightCycle.getHourOfDay((long) worldData.getWorldTimeInMinutes());
-
-        // Store the previous color before updating
-        if (currentWorldColor != null) {
-            if (previousWorldColor == null) {
-                previousWorldColor = currentWorldColor.cpy();
-            } else if (colorTransitionProgress >= 1.0f) {
-                previousWorldColor.set(currentWorldColor);
-            }
-        }
-
-        Color targetColor = DayNightCycle.getWorldColor(hourOfDay);
-
-        // If we have both colors, interpolate between them
-        if (previousWorldColor != null && targetColor != null) {
-            if (!targetColor.equals(currentWorldColor)) {
-                colorTransitionProgress = 0.0f;
-                currentWorldColor = new Color();
-            }
-
-            // Smooth interpolation
-            colorTransitionProgress = Math.min(1.0f, colorTransitionProgress + Gdx.graphics.getDeltaTime() * COLOR_TRANSITION_SPEED);
-            currentWorldColor.r = previousWorldColor.r + (targetColor.r - previousWorldColor.r) * colorTransitionProgress;
-            currentWorldColor.g = previousWorldColor.g + (targetColor.g - previousWorldColor.g) * colorTransitionProgress;
-            currentWorldColor.b = previousWorldColor.b + (targetColor.b - previousWorldColor.b) * colorTransitionProgress;
-            currentWorldColor.a = previousWorldColor.a + (targetColor.a - previousWorldColor.a) * colorTransitionProgress;
-        } else {
-            currentWorldColor = targetColor;
-        }
-    }
-
-private void validateChunkState() {
+    private void validateChunkState() {
         if (chunks == null) {
             chunks = new ConcurrentHashMap<>();
         }
@@ -643,8 +593,7 @@ private void validateChunkState() {
             worldData.updateTime(delta);
         }
 
-        // Update render color
-        updateWorldColor();
+        lighting.setHourOfDay(DayNightCycle.getHourOfDay(worldData.getWorldTimeInMinutes()));
 
         // Update weather
         updateWeather(delta, playerPosition);
@@ -657,6 +606,8 @@ private void validateChunkState() {
             viewportHeight
         );
 
+        pokemonSpawnManager.getAIScheduler().setViewBounds(viewBounds);
+
         // Get chunks that need to be loaded
         Set<Vector2> chunksToLoad = ChunkManager.getChunksToLoad(playerPosition, viewBounds);
 
@@ -694,26 +645,35 @@ private void validateChunkState() {
         // Handle audio based on current biome
         if (AudioManager.getInstance() != null) {
             AudioManager.getInstance().updateBiomeMusic(currentBiome.getType());
+            Biome neighbour = currentBiomeTransition.getSecondaryBiome();
+            if (neighbour != null && neighbour.getType() != currentBiome.getType()) {
+                AudioManager.getInstance().prefetchBiomeMusic(neighbour.getType());
+            }
             AudioManager.getInstance().update(delta);
         }
         // Update other systems
         pokemonSpawnManager.update(delta, playerPosition);
+        pathfindingService.update();
 
         objectManager.update(chunks);
         checkPlayerInteractions(playerPosition);
     }
 
+    public PathfindingService getPathfindingService() {
+        return pathfindingService;
+    }
+
+    public WorldLighting getLighting() {
+        return lighting;
+    }
+
     public PokemonSpawnManager getPokemonSpawnManager() {
         return pokemonSpawnManager;
     }
 
     private void renderWeather(SpriteBatch batch, Rectangle viewBounds) {
         if (weatherSystem != null) {
-            Vector2 cameraPosition = new Vector2(
-                viewBounds.x + viewBounds.width / 2,
-                viewBounds.y + viewBounds.height / 2
-            );
-            weatherSystem.render(batch, cameraPosition, viewBounds.width, viewBounds.height);
+            weatherSystem.render(batch, viewBounds);
         }
     }
 
@@ -726,11 +686,8 @@ private void validateChunkState() {
         // Set the blending function to the default before rendering
         batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
 
-        // Save the current batch color and set to world color
+        // Day/night tint is applied afterwards by WorldLighting
         Color prevColor = batch.getColor();
-        if (currentWorldColor != null) {
-            batch.setColor(currentWorldColor);
-        }
         renderWeather(batch, viewBounds);
 
         // Render lightning if present
@@ -750,10 +707,14 @@ private void validateChunkState() {
             List<Map.Entry<Vector2, Chunk>> sortedChunks = getSortedChunks();
 
             sortedChunks.sort(Comparator.comparingDouble(entry -> entry.getKey().y));
+            FrameProfiler profiler = FrameProfiler.getInstance();
             // === RENDER PASS 1: Ground and Terrain ===
+            profiler.begin(FrameProfiler.Section.TERRAIN);
             renderTerrainLayer(batch, sortedChunks, expandedBounds);
+            profiler.end(FrameProfiler.Section.TERRAIN);
 
             // === RENDER PASS 2: Object Bases and Low Objects ===
+            profiler.begin(FrameProfiler.Section.OBJECTS);
             renderLowObjects(batch, expandedBounds);
 
             // === RENDER PASS 3: Characters and Mid-Layer Objects ===
@@ -764,6 +725,7 @@ private void validateChunkState() {
 
             // === RENDER PASS 5: Effects and Overlays ===
             renderEffects(batch, expandedBounds);
+            profiler.end(FrameProfiler.Section.OBJECTS);
 
         } finally {
             // Restore original batch color
@@ -939,33 +901,13 @@ private void validateChunkState() {
             GameLogger.error("Error saving world: " + e.getMessage());
             e.printStackTrace();
         }
+        lighting.dispose();
     }
 
     // Add this call in the update method:
 
     public boolean isPokemonAt(int tileX, int tileY) {
-        float pixelX = tileX * TILE_SIZE;
-        float pixelY = tileY * TILE_SIZE;
-
-        // Create a collision box for the tile
-        Rectangle tileBox = new Rectangle(
-            pixelX,
-            pixelY,
-            TILE_SIZE,
-            TILE_SIZE
-        );
-        Collection<WildPokemon> nearbyPokemon = pokemonSpawnManager.getPokemonInRange(
-            pixelX + ((float) TILE_SIZE / 2),
-            pixelY + ((float) TILE_SIZE / 2),
-            TILE_SIZE * 2
-        );
-
-        for (WildPokemon pokemon : nearbyPokemon) {
-            if (pokemon.getBoundingBox().overlaps(tileBox)) {
-                return true;
-            }
-        }
-        return false;
+        return pokemonSpawnManager.isPokemonOnTile(tileX, tileY);
     }
 
     public void loadChunksAroundPositionSynchronously(Vector2 position, int radius) {
@@ -987,41 +929,28 @@ private void validateChunkState() {
     }
 
     public boolean isPassable(int worldX, int worldY) {
-        if (!isPositionLoaded(worldX, worldY)) {
-            return false;
-        }
-
         try {
-            // Convert pixel coordinates to chunk coordinates
             int chunkX = Math.floorDiv(worldX, Chunk.CHUNK_SIZE);
             int chunkY = Math.floorDiv(worldY, Chunk.CHUNK_SIZE);
-            Vector2 chunkPos = new Vector2(chunkX, chunkY);
-
-            Chunk chunk = chunks.get(chunkPos);
-            if (chunk == null) return false;
+            ChunkCollisionMask mask = getCollisionMask(chunkX, chunkY);
+            if (mask == null) return false;
 
             int localX = Math.floorMod(worldX, Chunk.CHUNK_SIZE);
             int localY = Math.floorMod(worldY, Chunk.CHUNK_SIZE);
 
             String currentDirection = player != null ? player.getDirection() : "down";
 
-            // Basic tile passability
-            if (!chunk.isPassable(localX, localY)) {
-                handleCollision(currentDirection);
+            if (mask.isBlocked(localX, localY)) {
+                if (mask.isTerrainBlocked(localX, localY)) {
+                    handleCollision(currentDirection);
+                } else if (player != null) {
+                    player.setDirection(currentDirection);
+                    player.setMoving(false);
+                }
                 return false;
             }
 
-            // Calculate pixel-based collision box
-            Rectangle movementBounds = new Rectangle(
-                worldX * TILE_SIZE,  // Now using actual pixel position
-                worldY * TILE_SIZE,
-                TILE_SIZE * 0.5f,    // Half tile collision size
-                TILE_SIZE * 0.5f
-            );
-
-            // Check collisions with objects and Pokemon
-            return !checkObjectCollision(movementBounds, currentDirection) &&
-                !checkPokemonCollision(worldX, worldY, currentDirection);
+            return !checkPokemonCollision(worldX, worldY, currentDirection);
 
         } catch (Exception e) {
             GameLogger.error("Error checking passability: " + e.getMessage());
@@ -1029,6 +958,85 @@ private void validateChunkState() {
         }
     }
 
+    /**
+     * Static passability from the collision masks only: terrain, objects and placed blocks.
+     * Unlike {@link #isPassable} it ignores Pokemon and never touches the player, so it is what
+     * pathfinding searches against. Unloaded chunks count as blocked.
+     */
+    public boolean isTileWalkable(int tileX, int tileY) {
+        ChunkCollisionMask mask = getCollisionMask(
+            Math.floorDiv(tileX, Chunk.CHUNK_SIZE), Math.floorDiv(tileY, Chunk.CHUNK_SIZE));
+        return mask != null && !mask.isBlocked(
+            Math.floorMod(tileX, Chunk.CHUNK_SIZE), Math.floorMod(tileY, Chunk.CHUNK_SIZE));
+    }
+
+    /**
+     * Returns the up-to-date collision mask for a loaded chunk, or null if the chunk is not
+     * loaded. Dirty layers are rebuilt here, so callers (movement, spawning, AI) can query
+     * the mask repeatedly without allocating.
+     */
+    public ChunkCollisionMask getCollisionMask(int chunkX, int chunkY) {
+        Chunk chunk = getLoadedChunk(chunkX, chunkY);
+        if (chunk == null) return null;
+
+        ChunkCollisionMask mask = chunk.getCollisionMask();
+        if (mask.isDynamicDirty()) {
+            rebuildDynamicCollision(mask, chunkX, chunkY);
+        }
+        return mask;
+    }
+
+    private Chunk getLoadedChunk(int chunkX, int chunkY) {
+        return chunks.get(CHUNK_KEY.get().set(chunkX, chunkY));
+    }
+
+    private void rebuildDynamicCollision(ChunkCollisionMask mask, int chunkX, int chunkY) {
+        int version = mask.getDynamicVersion();
+        long[] objectTiles = new long[ChunkCollisionMask.WORDS];
+        long[] blockTiles = new long[ChunkCollisionMask.WORDS];
+
+        // Tree footprints overhang chunk borders, so stamp the neighbours' objects too
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                List<WorldObject> objects = objectManager.getObjectsForChunk(
+                    new Vector2(chunkX + dx, chunkY + dy));
+                for (WorldObject obj : objects) {
+                    obj.markCollisionTiles(objectTiles, chunkX, chunkY);
+                }
+            }
+        }
+
+        if (blockManager != null) {
+            blockManager.markCollisionTiles(blockTiles, chunkX, chunkY);
+        }
+
+        // Dropped if an object or block changed meanwhile; the next query rebuilds again
+        mask.publishDynamic(objectTiles, blockTiles, version);
+    }
+
+    private void invalidateDynamicCollision(int chunkX, int chunkY) {
+        Chunk chunk = getLoadedChunk(chunkX, chunkY);
+        if (chunk != null) {
+            chunk.getCollisionMask().invalidateDynamic();
+        }
+    }
+
+    private void onObjectsChanged(Vector2 chunkPos) {
+        int chunkX = (int) chunkPos.x;
+        int chunkY = (int) chunkPos.y;
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                invalidateDynamicCollision(chunkX + dx, chunkY + dy);
+            }
+        }
+    }
+
+    private void onBlockChanged(Vector2 tilePos) {
+        invalidateDynamicCollision(
+            Math.floorDiv((int) tilePos.x, Chunk.CHUNK_SIZE),
+            Math.floorDiv((int) tilePos.y, Chunk.CHUNK_SIZE));
+    }
+
     public GameClient getGameClient() {
         if (gameClient == null) {
             throw new IllegalStateException("GameClient is null - World not properly initialized");
@@ -1036,12 +1044,6 @@ private void validateChunkState() {
         return gameClient;
     }
 
-    private boolean isPositionLoaded(int worldX, int worldY) {
-        int chunkX = Math.floorDiv(worldX, Chunk.CHUNK_SIZE);
-        int chunkY = Math.floorDiv(worldY, Chunk.CHUNK_SIZE);
-        return chunks.containsKey(new Vector2(chunkX, chunkY));
-    }
-
     private void handleCollision(String direction) {
         if (player != null) {
             switch (direction) {
@@ -1062,25 +1064,6 @@ private void validateChunkState() {
         }
     }
 
-    private boolean checkObjectCollision(Rectangle movementBounds, String direction) {
-        List<WorldObject> nearbyObjects = objectManager.getObjectsNearPosition(
-            movementBounds.x + movementBounds.width / 2,
-            movementBounds.y + movementBounds.height / 2
-        );
-
-        for (WorldObject obj : nearbyObjects) {
-            Rectangle collisionBox = obj.getCollisionBox();
-            if (collisionBox != null && collisionBox.overlaps(movementBounds)) {
-                if (player != null) {
-                    player.setDirection(direction);
-                    player.setMoving(false);
-                }
-                return true;
-            }
-        }
-        return false;
-    }
-
     private boolean checkPokemonCollision(int worldX, int worldY, String direction) {
         if (isPokemonAt(worldX, worldY)) {
             if (player != null) {
@@ -1195,6 +1178,7 @@ private void validateChunkState() {
         if (objects != null) {
             objects.remove(obj);
         }
+        onObjectsChanged(chunkPos);
     }
 
     public void spawnPlayer(Player player) {
@@ -0,0 +1,268 @@
+package io.github.pokemeetup.system.gameplay.overworld;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Disposable;
+import io.github.pokemeetup.utils.GameLogger;
+
+/**
+ * Day/night tint and point lights, applied in one pass over the finished world image. The world
+ * is drawn untinted into a framebuffer between {@link #begin()} and {@link #end}; {@code end}
+ * draws it to the screen through a shader. The shader looks the tint up in a time-of-day
+ * texture baked from {@link DayNightCycle}, and adds up to {@link #MAX_LIGHTS} lights that only
+ * show as the tint darkens. If the shader does not compile, the framebuffer is drawn with the
+ * tint as the batch color and lights are skipped. Nothing is allocated per frame.
+ */
+public class WorldLighting implements Disposable {
+    public static final int MAX_LIGHTS = 16;
+    private static final int LUT_SAMPLES = 128; // Power of two so the texture can repeat on GLES2
+
+    private static final String VERTEX_SHADER =
+        "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" +
+        "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" +
+        "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n" +
+        "uniform mat4 u_projTrans;\n" +
+        "varying vec4 v_color;\n" +
+        "varying vec2 v_texCoords;\n" +
+        "void main() {\n" +
+        "    v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" +
+        "    v_texCoords = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n" +
+        "    gl_Position = u_projTrans * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" +
+        "}\n";
+
+    private static final String FRAGMENT_SHADER =
+        "#ifdef GL_ES\n" +
+        "precision mediump float;\n" +
+        "#endif\n" +
+        "varying vec4 v_color;\n" +
+        "varying vec2 v_texCoords;\n" +
+        "uniform sampler2D u_texture;\n" +
+        "uniform sampler2D u_tintLut;\n" +
+        "uniform float u_timeOfDay;\n" +
+        "uniform int u_lightCount;\n" +
+        "uniform vec3 u_lights[" + MAX_LIGHTS + "];\n" + // Screen x, y and radius in pixels
+        "uniform vec3 u_lightColors[" + MAX_LIGHTS + "];\n" +
+        "void main() {\n" +
+        "    vec4 scene = texture2D(u_texture, v_texCoords);\n" +
+        "    vec3 tint = texture2D(u_tintLut, vec2(u_timeOfDay, 0.5)).rgb;\n" +
+        "    float darkness = 1.0 - dot(tint, vec3(0.299, 0.587, 0.114));\n" +
+        "    vec3 light = tint;\n" +
+        "    for (int i = 0; i < " + MAX_LIGHTS + "; i++) {\n" +
+        "        if (i >= u_lightCount) break;\n" +
+        "        float falloff = clamp(1.0 - distance(gl_FragCoord.xy, u_lights[i].xy) / u_lights[i].z, 0.0, 1.0);\n" +
+        "        light += u_lightColors[i] * (falloff * falloff * darkness);\n" +
+        "    }\n" +
+        "    gl_FragColor = vec4(scene.rgb * min(light, vec3(1.0)), scene.a) * v_color;\n" +
+        "}\n";
+
+    private final float[] tintLut = new float[LUT_SAMPLES * 3];
+    private final float[] lights = new float[MAX_LIGHTS * 3];
+    private final float[] lightColors = new float[MAX_LIGHTS * 3];
+    private final Vector3 projected = new Vector3();
+    private final Matrix4 screenProjection = new Matrix4();
+    private final Matrix4 previousProjection = new Matrix4();
+    private final Color tint = new Color();
+
+    private FrameBuffer frameBuffer;
+    private TextureRegion frameRegion;
+    private Texture lutTexture;
+    private ShaderProgram shader;
+    private boolean shaderFailed;
+    private float timeOfDay;
+    private int lightCount;
+    private boolean active;
+
+    public WorldLighting() {
+        Color sample = new Color();
+        for (int i = 0; i < LUT_SAMPLES; i++) {
+            DayNightCycle.getWorldColor((i + 0.5f) * 24f / LUT_SAMPLES, sample);
+            tintLut[i * 3] = sample.r;
+            tintLut[i * 3 + 1] = sample.g;
+            tintLut[i * 3 + 2] = sample.b;
+        }
+    }
+
+    public void setHourOfDay(float hourOfDay) {
+        this.timeOfDay = hourOfDay / 24f;
+    }
+
+    /**
+     * Adds a light for the current frame. Lights are cleared by {@link #end}; ones past
+     * {@link #MAX_LIGHTS} are ignored.
+     *
+     * @param x      world x in pixels
+     * @param y      world y in pixels
+     * @param radius in world pixels
+     */
+    public void addLight(float x, float y, float radius, float r, float g, float b) {
+        if (lightCount >= MAX_LIGHTS) {
+            return;
+        }
+        int i = lightCount++ * 3;
+        lights[i] = x;
+        lights[i + 1] = y;
+        lights[i + 2] = radius;
+        lightColors[i] = r;
+        lightColors[i + 1] = g;
+        lightColors[i + 2] = b;
+    }
+
+    /**
+     * Redirects drawing into the world framebuffer, resizing it to the back buffer if needed.
+     */
+    public void begin() {
+        int width = Gdx.graphics.getBackBufferWidth();
+        int height = Gdx.graphics.getBackBufferHeight();
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        ensureResources(width, height);
+        frameBuffer.begin();
+        Gdx.gl.glClearColor(0, 0, 0, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        active = true;
+    }
+
+    /**
+     * Draws the world framebuffer to the screen with the tint and lights applied. The batch
+     * must not be drawing; its projection matrix is restored afterwards.
+     */
+    public void end(SpriteBatch batch, OrthographicCamera camera) {
+        if (!active) {
+            lightCount = 0;
+            return;
+        }
+        active = false;
+        frameBuffer.end();
+
+        int width = frameBuffer.getWidth();
+        int height = frameBuffer.getHeight();
+        previousProjection.set(batch.getProjectionMatrix());
+        batch.setProjectionMatrix(screenProjection.setToOrtho2D(0, 0, width, height));
+        batch.disableBlending();
+
+        if (shader != null) {
+            batch.setShader(shader);
+            batch.begin();
+            lutTexture.bind(1);
+            Gdx.gl.glActiveTexture(GL20.GL_TEXTURE0);
+            shader.setUniformi("u_tintLut", 1);
+            shader.setUniformf("u_timeOfDay", timeOfDay);
+            setLightUniforms(camera, width);
+            batch.draw(frameRegion, 0, 0, width, height);
+            batch.end();
+            batch.setShader(null);
+        } else {
+            lookUpTint(tint);
+            batch.setColor(tint);
+            batch.begin();
+            batch.draw(frameRegion, 0, 0, width, height);
+            batch.end();
+            batch.setColor(Color.WHITE);
+        }
+
+        batch.enableBlending();
+        batch.setProjectionMatrix(previousProjection);
+        lightCount = 0;
+    }
+
+    private void setLightUniforms(OrthographicCamera camera, int width) {
+        float pixelsPerUnit = width / (camera.viewportWidth * camera.zoom);
+        int height = frameBuffer.getHeight();
+        int count = 0;
+        for (int i = 0; i < lightCount * 3; i += 3) {
+            camera.project(projected.set(lights[i], lights[i + 1], 0), 0, 0, width, height);
+            float radius = lights[i + 2] * pixelsPerUnit;
+            if (projected.x + radius < 0 || projected.x - radius > width
+                || projected.y + radius < 0 || projected.y - radius > height) {
+                continue;
+            }
+            // Compacted in place; the slots before i are already consumed
+            int j = count++ * 3;
+            lights[j] = projected.x;
+            lights[j + 1] = projected.y;
+            lights[j + 2] = radius;
+            lightColors[j] = lightColors[i];
+            lightColors[j + 1] = lightColors[i + 1];
+            lightColors[j + 2] = lightColors[i + 2];
+        }
+        shader.setUniformi("u_lightCount", count);
+        if (count > 0) {
+            shader.setUniform3fv("u_lights", lights, 0, count * 3);
+            shader.setUniform3fv("u_lightColors", lightColors, 0, count * 3);
+        }
+    }
+
+    /**
+     * The tint for the current time, interpolated from the same table the shader samples.
+     */
+    private Color lookUpTint(Color out) {
+        float position = timeOfDay * LUT_SAMPLES - 0.5f;
+        int first = (int) Math.floor(position);
+        float t = position - first;
+        int a = (first + LUT_SAMPLES) % LUT_SAMPLES * 3;
+        int b = (first + 1) % LUT_SAMPLES * 3;
+        return out.set(
+            tintLut[a] + (tintLut[b] - tintLut[a]) * t,
+            tintLut[a + 1] + (tintLut[b + 1] - tintLut[a + 1]) * t,
+            tintLut[a + 2] + (tintLut[b + 2] - tintLut[a + 2]) * t,
+            1f);
+    }
+
+    private void ensureResources(int width, int height) {
+        if (frameBuffer == null || frameBuffer.getWidth() != width || frameBuffer.getHeight() != height) {
+            if (frameBuffer != null) {
+                frameBuffer.dispose();
+            }
+            frameBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, width, height, false);
+            frameRegion = new TextureRegion(frameBuffer.getColorBufferTexture());
+            frameRegion.flip(false, true);
+        }
+        if (lutTexture == null) {
+            Pixmap pixmap = new Pixmap(LUT_SAMPLES, 1, Pixmap.Format.RGBA8888);
+            for (int i = 0; i < LUT_SAMPLES; i++) {
+                pixmap.drawPixel(i, 0, Color.rgba8888(tintLut[i * 3], tintLut[i * 3 + 1], tintLut[i * 3 + 2], 1f));
+            }
+            lutTexture = new Texture(pixmap);
+            lutTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+            lutTexture.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.ClampToEdge);
+            pixmap.dispose();
+        }
+        if (shader == null && !shaderFailed) {
+            ShaderProgram program = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+            if (program.isCompiled()) {
+                shader = program;
+            } else {
+                GameLogger.error("Lighting shader failed to compile, using batch tint: " + program.getLog());
+                program.dispose();
+                shaderFailed = true;
+            }
+        }
+    }
+
+    @Override
+    public void dispose() {
+        if (frameBuffer != null) {
+            frameBuffer.dispose();
+            frameBuffer = null;
+        }
+        if (lutTexture != null) {
+            lutTexture.dispose();
+            lutTexture = null;
+        }
+        if (shader != null) {
+            shader.dispose();
+            shader = null;
+        }
+    }
+}
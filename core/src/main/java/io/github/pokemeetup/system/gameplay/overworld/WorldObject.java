@@ -1,7 +1,6 @@
 package io.github.pokemeetup.system.gameplay.overworld;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
@@ -17,6 +16,7 @@ import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static com.badlogic.gdx.math.MathUtils.random;
@@ -214,6 +214,34 @@ public class WorldObject {
         );
     }
 
+    /**
+     * Marks the tiles covered by {@link #getCollisionBox()} that fall inside the given chunk
+     * in a {@link ChunkCollisionMask} scratch layer.
+     */
+    public void markCollisionTiles(long[] layer, int chunkX, int chunkY) {
+        if (!type.isCollidable) {
+            return;
+        }
+        int minX = MathUtils.floor(pixelX / World.TILE_SIZE);
+        int minY = MathUtils.floor(pixelY / World.TILE_SIZE);
+        int width = type.widthInTiles;
+        int height = type.heightInTiles;
+        if (type == ObjectType.TREE || type == ObjectType.SNOW_TREE ||
+            type == ObjectType.HAUNTED_TREE || type == ObjectType.RAIN_TREE) {
+            minX -= 1;
+            width = 2;
+            height = 2;
+        }
+
+        int originX = chunkX * Chunk.CHUNK_SIZE;
+        int originY = chunkY * Chunk.CHUNK_SIZE;
+        for (int x = minX; x < minX + width; x++) {
+            for (int y = minY; y < minY + height; y++) {
+                ChunkCollisionMask.mark(layer, x - originX, y - originY);
+            }
+        }
+    }
+
     public void render(SpriteBatch batch) {
         if (type.renderType == ObjectType.RenderLayer.LAYERED) {
             // Objects like trees that need layered rendering
@@ -308,72 +336,117 @@ public class WorldObject {
         private static final int MAX_POKEBALLS_PER_CHUNK = 2;
         private static final int MIN_OBJECT_SPACING = 2; // Base spacing for small objectsprivate static final int MIN_TREE_SPACING = 1; // Reduced from 2
         private static final int MIN_TREE_SPACING = 1; // Reduced from 2
+        // Tiles of each neighbouring chunk visible to the decoration pass
+        private static final int APRON = 2;
+        private static final int SPAN = Chunk.CHUNK_SIZE + APRON * 2;
+        private static final byte OCCUPIED = 1;
+        private static final byte TREE_ANCHOR = 2;
+
+        /**
+         * Per-thread buffers for {@link #generateObjectsForChunk}, so decorating a chunk does not
+         * allocate beyond the objects it places.
+         */
+        private static final class DecorationScratch {
+            final byte[] flags = new byte[SPAN * SPAN];
+            final Chunk[] chunks = new Chunk[9];
+            final BitSet allowedTiles = new BitSet();
+            final ObjectType[] spawnable = new ObjectType[ObjectType.values().length];
+            final int[] spots = new int[9];
+            final Vector2 key = new Vector2();
+            int spawnableCount;
+        }
+
+        private static final ThreadLocal<DecorationScratch> DECORATION_SCRATCH =
+            ThreadLocal.withInitial(DecorationScratch::new);
         public void setObjectsForChunk(Vector2 chunkPos, List<WorldObject> objects) {
             if (objects != null) {
                 objectsByChunk.put(chunkPos, new CopyOnWriteArrayList<>(objects));
             } else {
                 objectsByChunk.remove(chunkPos);
             }
+            notifyObjectsChanged(chunkPos);
         }
 
         private final GameClient gameClient;
         private final Map<Vector2, List<WorldObject>> objectsByChunk = new ConcurrentHashMap<>();
-        private final TextureAtlas atlas;
-        private final Map<WorldObject.ObjectType, TextureRegion> objectTextures;
+        private volatile Map<WorldObject.ObjectType, TextureRegion> objectTextures; // See textureFor
         private final long worldSeed;
         private final ConcurrentLinkedQueue<WorldObjectOperation> operationQueue = new ConcurrentLinkedQueue<>();
+        private Consumer<Vector2> objectsChangedListener;
 
         public WorldObjectManager(long seed, GameClient gameClient) {
             this.worldSeed = seed;
             this.gameClient = gameClient;
-            this.atlas = TextureManager.tiles;
-            this.objectTextures = new HashMap<>();
-            objectTextures.put(ObjectType.TREE, atlas.findRegion("tree"));
-            objectTextures.put(ObjectType.SNOW_TREE, atlas.findRegion("snow_tree"));
-            objectTextures.put(ObjectType.HAUNTED_TREE, atlas.findRegion("haunted_tree"));
-            objectTextures.put(ObjectType.POKEBALL, atlas.findRegion("pokeball"));
-            objectTextures.put(ObjectType.CACTUS, atlas.findRegion("desert_cactus"));
-            objectTextures.put(ObjectType.BUSH, atlas.findRegion("bush"));
-            objectTextures.put(ObjectType.SUNFLOWER, atlas.findRegion("sunflower"));
-            objectTextures.put(ObjectType.VINES, atlas.findRegion("vines"));
-            objectTextures.put(ObjectType.DEAD_TREE, atlas.findRegion("dead_tree"));
-            objectTextures.put(ObjectType.SMALL_HAUNTED_TREE, atlas.findRegion("small_haunted_tree"));
-            objectTextures.put(ObjectType.SNOW_BALL, atlas.findRegion("snowball"));
-            objectTextures.put(ObjectType.RAIN_TREE, atlas.findRegion("rain_tree"));
-            objectTextures.put(ObjectType.CHERRY_TREE, atlas.findRegion("CherryTree"));
         }
 
-        private void tryPlaceVine(Chunk chunk, Vector2 chunkPos, List<WorldObject> objects, Random random) {
-            // Find all trees in the current chunk
-            List<WorldObject> trees = objects.stream()
-                .filter(obj -> obj.getType() == ObjectType.TREE ||
-                    obj.getType() == ObjectType.SNOW_TREE ||
-                    obj.getType() == ObjectType.HAUNTED_TREE ||
-                    obj.getType() == ObjectType.RAIN_TREE)
-                .collect(Collectors.toList());
+        /**
+         * The region objects of this type are drawn with, or null while the tile atlas is not
+         * loaded, which on the server is always. Resolved through TextureManager on first use, so
+         * objects draw from the shared overworld pages; safe from the generation threads.
+         */
+        private TextureRegion textureFor(ObjectType type) {
+            Map<ObjectType, TextureRegion> textures = objectTextures;
+            if (textures == null) {
+                if (TextureManager.tiles == null) {
+                    return null;
+                }
+                textures = new EnumMap<>(ObjectType.class);
+                for (ObjectType objectType : ObjectType.values()) {
+                    textures.put(objectType, TextureManager.getTextureForObjectType(objectType));
+                }
+                objectTextures = textures;
+            }
+            return textures.get(type);
+        }
 
+        /**
+         * Called with the chunk position whenever that chunk's object list changes.
+         */
+        public void setObjectsChangedListener(Consumer<Vector2> listener) {
+            this.objectsChangedListener = listener;
+        }
+
+        private void notifyObjectsChanged(Vector2 chunkPos) {
+            if (objectsChangedListener != null) {
+                objectsChangedListener.accept(chunkPos);
+            }
+        }
+
+        private void tryPlaceVine(List<WorldObject> objects, Random random) {
             // Chance for each tree to spawn a vine
             float vineSpawnChance = 0.3f; // 30% chance per tree
 
-            for (WorldObject tree : trees) {
-                if (random.nextFloat() < vineSpawnChance) {
+            for (int i = 0, placed = objects.size(); i < placed; i++) {
+                WorldObject tree = objects.get(i);
+                if (isTree(tree.getType()) && random.nextFloat() < vineSpawnChance && canCreate(ObjectType.VINES)) {
                     // Create vine at tree's position
-                    TextureRegion vineTexture = objectTextures.get(ObjectType.VINES);
-                    if (vineTexture != null) {
-                        WorldObject vine = new WorldObject(
-                            tree.getTileX(),
-                            tree.getTileY(),
-                            vineTexture,
-                            ObjectType.VINES
-                        );
-                        vine.setAttachedTo(tree);
-                        objects.add(vine);
-                    }
+                    WorldObject vine = new WorldObject(
+                        tree.getTileX(),
+                        tree.getTileY(),
+                        textureFor(ObjectType.VINES),
+                        ObjectType.VINES
+                    );
+                    vine.setAttachedTo(tree);
+                    objects.add(vine);
                 }
             }
         }
 
         public void generateObjectsForChunk(Vector2 chunkPos, Chunk chunk, Biome biome) {
+            generateObjectsForChunk(chunkPos, chunk, biome, null);
+        }
+
+        /**
+         * Places trees, clusters and small objects on a freshly generated chunk. Objects already
+         * placed in the eight surrounding chunks are respected, and when {@code neighbours} is
+         * given their tiles are too, so trees can stand on the chunk edge without overlapping
+         * anything across the border. Only this chunk's list is written, so neighbouring chunks
+         * must not be decorated at the same time (see {@link ChunkGenerationPipeline}).
+         *
+         * @param neighbours loaded chunks around this one, or null to treat them as unknown
+         */
+        public void generateObjectsForChunk(Vector2 chunkPos, Chunk chunk, Biome biome,
+                                            ChunkGenerationPipeline.ChunkSource neighbours) {
             // Check if objects for this chunk have already been loaded
             if (objectsByChunk.containsKey(chunkPos)) {
                 // Objects already exist for this chunk, do not regenerate
@@ -381,31 +454,130 @@ public class WorldObject {
                 return;
             }
 
-            List<WorldObject> objects = new CopyOnWriteArrayList<>();
-            objectsByChunk.put(chunkPos, objects);
+            DecorationScratch scratch = DECORATION_SCRATCH.get();
+            prepareNeighbourhood(scratch, chunk, biome, neighbours);
 
+            // Built in a plain list and published once; a CopyOnWriteArrayList copies on every add
+            List<WorldObject> objects = new ArrayList<>();
             Random random = new Random((long) (worldSeed + chunkPos.x * 31 + chunkPos.y * 17));
-            List<String> spawnableObjects = biome.getSpawnableObjects().stream()
-                .filter(obj -> obj != ObjectType.VINES)
-                .map(Enum::name)
-                .collect(Collectors.toList());
 
-            generateObjectClusters(chunk, chunkPos, objects, biome, random);
+            generateObjectClusters(chunk, objects, biome, random, scratch);
 
             // Handle individual objects
             for (int x = 0; x < Chunk.CHUNK_SIZE; x++) {
                 for (int y = 0; y < Chunk.CHUNK_SIZE; y++) {
-                    tryPlaceObject(chunk, x, y, objects, biome, chunkPos, random, spawnableObjects);
+                    tryPlaceObject(chunk, x, y, objects, biome, random, scratch);
                 }
             }
 
             // After all other objects are placed, try to place vines on trees
             if (biome.getSpawnableObjects().contains(ObjectType.VINES)) {
-                tryPlaceVine(chunk, chunkPos, objects, random);
+                tryPlaceVine(objects, random);
+            }
+            if (objectsByChunk.putIfAbsent(chunkPos, new CopyOnWriteArrayList<>(objects)) == null) {
+                notifyObjectsChanged(chunkPos);
             }
         }
 
+        /**
+         * Fills the scratch for one chunk: the surrounding chunks for tile checks, the footprints
+         * and tree anchors of objects already placed around it, and the biome's spawnable
+         * objects and allowed tiles.
+         */
+        private void prepareNeighbourhood(DecorationScratch scratch, Chunk chunk, Biome biome,
+                                          ChunkGenerationPipeline.ChunkSource neighbours) {
+            Arrays.fill(scratch.flags, (byte) 0);
+            for (int dx = -1; dx <= 1; dx++) {
+                for (int dy = -1; dy <= 1; dy++) {
+                    int slot = (dx + 1) * 3 + (dy + 1);
+                    if (dx == 0 && dy == 0) {
+                        scratch.chunks[slot] = chunk;
+                        continue;
+                    }
+                    int neighbourX = chunk.getChunkX() + dx;
+                    int neighbourY = chunk.getChunkY() + dy;
+                    scratch.chunks[slot] = neighbours != null ? neighbours.getChunk(neighbourX, neighbourY) : null;
+                    List<WorldObject> placed = objectsByChunk.get(scratch.key.set(neighbourX, neighbourY));
+                    if (placed != null) {
+                        for (WorldObject object : placed) {
+                            markObject(scratch, chunk, object.getTileX(), object.getTileY(), object.getType());
+                        }
+                    }
+                }
+            }
 
+            scratch.spawnableCount = 0;
+            for (ObjectType type : biome.getSpawnableObjects()) {
+                if (type != ObjectType.VINES) {
+                    scratch.spawnable[scratch.spawnableCount++] = type;
+                }
+            }
+            scratch.allowedTiles.clear();
+            for (Integer tileType : biome.getAllowedTileTypes()) {
+                if (tileType != null && tileType >= 0) {
+                    scratch.allowedTiles.set(tileType);
+                }
+            }
+        }
+
+        private static boolean isTree(ObjectType type) {
+            return type == ObjectType.TREE || type == ObjectType.SNOW_TREE
+                || type == ObjectType.HAUNTED_TREE || type == ObjectType.RAIN_TREE;
+        }
+
+        /**
+         * Without an atlas objects are placed without textures; with one, only types it can draw.
+         */
+        private boolean canCreate(ObjectType type) {
+            return TextureManager.tiles == null || textureFor(type) != null;
+        }
+
+        /**
+         * Tile type at a position relative to the chunk being decorated, which may lie in a
+         * neighbour; -1 if that neighbour is not loaded.
+         */
+        private static int tileAt(DecorationScratch scratch, int localX, int localY) {
+            int column = localX < 0 ? 0 : localX < Chunk.CHUNK_SIZE ? 1 : 2;
+            int row = localY < 0 ? 0 : localY < Chunk.CHUNK_SIZE ? 1 : 2;
+            Chunk chunk = scratch.chunks[column * 3 + row];
+            if (chunk == null) {
+                return -1;
+            }
+            return chunk.getTileType(localX - (column - 1) * Chunk.CHUNK_SIZE, localY - (row - 1) * Chunk.CHUNK_SIZE);
+        }
+
+        private static boolean isAllowedTile(DecorationScratch scratch, int localX, int localY) {
+            int tileType = tileAt(scratch, localX, localY);
+            return tileType >= 0 && scratch.allowedTiles.get(tileType);
+        }
+
+        private static boolean hasFlag(DecorationScratch scratch, int localX, int localY, byte flag) {
+            int i = localX + APRON;
+            int j = localY + APRON;
+            return i >= 0 && i < SPAN && j >= 0 && j < SPAN && (scratch.flags[i * SPAN + j] & flag) != 0;
+        }
+
+        /**
+         * Records an object's footprint, and its anchor if it is a tree, in chunk-local tiles.
+         */
+        private static void markObject(DecorationScratch scratch, Chunk chunk, int tileX, int tileY, ObjectType type) {
+            int localX = tileX - chunk.getChunkX() * Chunk.CHUNK_SIZE;
+            int localY = tileY - chunk.getChunkY() * Chunk.CHUNK_SIZE;
+            for (int dx = 0; dx < type.widthInTiles; dx++) {
+                for (int dy = 0; dy < type.heightInTiles; dy++) {
+                    int i = localX + dx + APRON;
+                    int j = localY + dy + APRON;
+                    if (i >= 0 && i < SPAN && j >= 0 && j < SPAN) {
+                        scratch.flags[i * SPAN + j] |= OCCUPIED;
+                    }
+                }
+            }
+            int i = localX + APRON;
+            int j = localY + APRON;
+            if (isTree(type) && i >= 0 && i < SPAN && j >= 0 && j < SPAN) {
+                scratch.flags[i * SPAN + j] |= TREE_ANCHOR;
+            }
+        }
 
         public void renderTreeBase(SpriteBatch batch, WorldObject tree) {
             // Position to center the tree on 2 tiles width
@@ -527,6 +699,7 @@ public class WorldObject {
 
             List<WorldObject> objects = objectsByChunk.computeIfAbsent(actualChunkPos, k -> new CopyOnWriteArrayList<>());
             objects.add(object);
+            notifyObjectsChanged(actualChunkPos);
 
         }
 
@@ -549,13 +722,14 @@ public class WorldObject {
                         AddOperation addOp = (AddOperation) operation;
                         List<WorldObject> addList = objectsByChunk.computeIfAbsent(addOp.chunkPos, k -> new CopyOnWriteArrayList<>());
                         addList.add(addOp.object);
+                        notifyObjectsChanged(addOp.chunkPos);
                         break;
 
                     case REMOVE:
                         RemoveOperation removeOp = (RemoveOperation) operation;
                         List<WorldObject> removeList = objectsByChunk.get(removeOp.chunkPos);
-                        if (removeList != null) {
-                            removeList.removeIf(obj -> obj.getId().equals(removeOp.objectId));
+                        if (removeList != null && removeList.removeIf(obj -> obj.getId().equals(removeOp.objectId))) {
+                            notifyObjectsChanged(removeOp.chunkPos);
                         }
                         break;
 
@@ -566,6 +740,7 @@ public class WorldObject {
                             for (WorldObject obj : updateList) {
                                 if (obj.getId().equals(updateOp.update.objectId)) {
                                     obj.updateFromNetwork(updateOp.update);
+                                    notifyObjectsChanged(updateOp.chunkPos);
                                     break;
                                 }
                             }
@@ -581,7 +756,9 @@ public class WorldObject {
                 List<WorldObject> objects = objectsByChunk.computeIfAbsent(chunkPos, k -> new CopyOnWriteArrayList<>());
 
                 // Remove expired objects safely with CopyOnWriteArrayList
-                objects.removeIf(WorldObject::isExpired);
+                if (objects.removeIf(WorldObject::isExpired)) {
+                    notifyObjectsChanged(chunkPos);
+                }
 
                 // Check if more objects should be added based on conditions
                 long pokeballCount = objects.stream()
@@ -664,11 +841,12 @@ public class WorldObject {
                     }
                     if (shouldSpawnPokeball(objects)) {
                         if (locationClear) {
-                            TextureRegion pokeballTexture = objectTextures.get(WorldObject.ObjectType.POKEBALL);
+                            TextureRegion pokeballTexture = textureFor(WorldObject.ObjectType.POKEBALL);
                             if (pokeballTexture != null) {
                                 WorldObject pokeball = new WorldObject(worldTileX, worldTileY,
                                     pokeballTexture, WorldObject.ObjectType.POKEBALL);
                                 objects.add(pokeball);
+                                notifyObjectsChanged(chunkPos);
 
                                 // Send network update if in multiplayer
                                 if (gameClient != null && !gameClient.isSinglePlayer()) {
@@ -706,7 +884,7 @@ public class WorldObject {
 
 
         public WorldObject createObject(WorldObject.ObjectType type, float x, float y) {
-            TextureRegion texture = objectTextures.get(type);
+            TextureRegion texture = textureFor(type);
             if (texture == null) {
                 throw new IllegalStateException("No texture found for object type: " + type);
             }
@@ -718,23 +896,23 @@ public class WorldObject {
         }
 
         private void tryPlaceObject(Chunk chunk, int x, int y, List<WorldObject> objects,
-                                    Biome biome, Vector2 chunkPos, Random random, List<String> spawnableObjects) {
-            if (!spawnableObjects.isEmpty() && canPlaceObject(chunk, x, y, objects, biome)) {
-                String objectType = spawnableObjects.get(random.nextInt(spawnableObjects.size()));
-                WorldObject.ObjectType type = WorldObject.ObjectType.valueOf(objectType);
+                                    Biome biome, Random random, DecorationScratch scratch) {
+            if (scratch.spawnableCount > 0 && canPlaceObject(x, y, scratch)) {
+                ObjectType type = scratch.spawnable[random.nextInt(scratch.spawnableCount)];
 
                 // Check spawn chance before placing
                 if (biome.shouldSpawnObject(type, random)) {
-                    placeObject(chunk, x, y, objects, biome, chunkPos, random, objectType);
+                    placeObject(chunk, x, y, objects, random, type, scratch);
                 }
             }
         }
 
 
-        private void generateObjectClusters(Chunk chunk, Vector2 chunkPos, List<WorldObject> objects,
-                                            Biome biome, Random random) {
+        private void generateObjectClusters(Chunk chunk, List<WorldObject> objects,
+                                            Biome biome, Random random, DecorationScratch scratch) {
             // Adjust cluster parameters
-            int maxClusters = (Chunk.CHUNK_SIZE * Chunk.CHUNK_SIZE) / (MIN_TREE_SPACING * MIN_TREE_SPACING);int clusterAttempts = Math.min(maxClusters, 10); // Increased from 5
+            int maxClusters = (Chunk.CHUNK_SIZE * Chunk.CHUNK_SIZE) / (MIN_TREE_SPACING * MIN_TREE_SPACING);
+            int clusterAttempts = Math.min(maxClusters, 10); // Increased from 5
 
             for (int i = 0; i < clusterAttempts; i++) {
                 if (random.nextFloat() < 0.4f) { // Increased cluster chance
@@ -742,64 +920,73 @@ public class WorldObject {
                     int centerX = random.nextInt(Chunk.CHUNK_SIZE / 2) * 2;
                     int centerY = random.nextInt(Chunk.CHUNK_SIZE / 2) * 2;
 
-                    generateCluster(chunk, chunkPos, objects, biome, random,
+                    generateCluster(chunk, objects, biome, random, scratch,
                         centerX, centerY, random.nextInt(2) + 2); // 2-3 trees per cluster
                 }
             }
         }
 
-        private void generateCluster(Chunk chunk, Vector2 chunkPos, List<WorldObject> objects,
-                                     Biome biome, Random random, int centerX, int centerY, int clusterSize) {
-            List<Point> potentialSpots = new ArrayList<>();
-
-            // Generate potential spots on grid
+        private void generateCluster(Chunk chunk, List<WorldObject> objects, Biome biome, Random random,
+                                     DecorationScratch scratch, int centerX, int centerY, int clusterSize) {
+            // Potential spots on a 2-tile grid, packed as x * CHUNK_SIZE + y. Anchors stay in
+            // this chunk; a tree's base may reach into the neighbour.
+            int[] spots = scratch.spots;
+            int spotCount = 0;
             for (int dx = -2; dx <= 2; dx += 2) {
                 for (int dy = -2; dy <= 2; dy += 2) {
                     int newX = centerX + dx;
                     int newY = centerY + dy;
 
-                    if (newX >= 0 && newX < Chunk.CHUNK_SIZE - 1 &&
-                        newY >= 0 && newY < Chunk.CHUNK_SIZE - 1) {
-                        potentialSpots.add(new Point(newX, newY));
+                    if (newX >= 0 && newX < Chunk.CHUNK_SIZE &&
+                        newY >= 0 && newY < Chunk.CHUNK_SIZE) {
+                        spots[spotCount++] = newX * Chunk.CHUNK_SIZE + newY;
                     }
                 }
             }
 
-            // Shuffle spots and try to place trees
-            Collections.shuffle(potentialSpots, random);
+            // Shuffle spots the way Collections.shuffle does and try to place trees
+            for (int i = spotCount; i > 1; i--) {
+                int j = random.nextInt(i);
+                int swap = spots[i - 1];
+                spots[i - 1] = spots[j];
+                spots[j] = swap;
+            }
             int treesPlaced = 0;
 
-            for (Point spot : potentialSpots) {
-                if (treesPlaced >= clusterSize) break;
-
-                if (canPlaceTree(chunk, spot.x, spot.y, objects, biome)) {
-                    placeTree(chunk, spot.x, spot.y, objects, biome, chunkPos);
+            for (int i = 0; i < spotCount && treesPlaced < clusterSize; i++) {
+                int x = spots[i] / Chunk.CHUNK_SIZE;
+                int y = spots[i] % Chunk.CHUNK_SIZE;
+                if (canPlaceTree(x, y, scratch)) {
+                    placeTree(chunk, x, y, objects, biome, scratch);
                     treesPlaced++;
                 }
             }
-        }  private void placeTree(Chunk chunk, int x, int y, List<WorldObject> objects,
-                                  Biome biome, Vector2 chunkPos) {
-            int worldTileX = (int) (chunkPos.x * Chunk.CHUNK_SIZE + x);
-            int worldTileY = (int) (chunkPos.y * Chunk.CHUNK_SIZE + y);
+        }
+
+        private void placeTree(Chunk chunk, int x, int y, List<WorldObject> objects,
+                               Biome biome, DecorationScratch scratch) {
+            int worldTileX = chunk.getChunkX() * Chunk.CHUNK_SIZE + x;
+            int worldTileY = chunk.getChunkY() * Chunk.CHUNK_SIZE + y;
 
             ObjectType treeType = biome.getType() == BiomeType.SNOW ? ObjectType.SNOW_TREE :
                 biome.getType() == BiomeType.HAUNTED ? ObjectType.HAUNTED_TREE :
                     biome.getType() == BiomeType.RAIN_FOREST ? ObjectType.RAIN_TREE :
                         ObjectType.TREE;
 
-            TextureRegion texture = objectTextures.get(treeType);
-            if (texture != null) {
-                WorldObject tree = new WorldObject(worldTileX, worldTileY, texture, treeType);
+            if (canCreate(treeType)) {
+                WorldObject tree = new WorldObject(worldTileX, worldTileY, textureFor(treeType), treeType);
                 objects.add(tree);
+                markObject(scratch, chunk, worldTileX, worldTileY, treeType);
             }
         }
+
         private void placeObject(Chunk chunk, int x, int y, List<WorldObject> objects,
                                  ObjectType objectType, Vector2 chunkPos, boolean[][] occupiedTiles) {
             // Convert to world coordinates
             int worldTileX = (int) (chunkPos.x * Chunk.CHUNK_SIZE + x);
             int worldTileY = (int) (chunkPos.y * Chunk.CHUNK_SIZE + y);
 
-            TextureRegion texture = objectTextures.get(objectType);
+            TextureRegion texture = textureFor(objectType);
             if (texture != null) {
                 WorldObject object = new WorldObject(worldTileX, worldTileY, texture, objectType);
                 objects.add(object);
@@ -870,47 +1057,26 @@ public class WorldObject {
             // Check tile type
             int tileType = chunk.getTileType(x, y);
             return biome.getAllowedTileTypes().contains(tileType);
-        }  private boolean canPlaceTree(Chunk chunk, int localX, int localY, List<WorldObject> existingObjects, Biome biome) {
+        }
+
+        private boolean canPlaceTree(int localX, int localY, DecorationScratch scratch) {
             int treeBaseWidth = 2;
             int treeBaseHeight = 2;
-            int edgeBuffer = 1;
-
-            // Check chunk bounds
-            if (localX < edgeBuffer || localY < edgeBuffer ||
-                localX + treeBaseWidth >= Chunk.CHUNK_SIZE - edgeBuffer ||
-                localY + treeBaseHeight >= Chunk.CHUNK_SIZE - edgeBuffer) {
-                return false;
-            }
-
-            // Convert to world coordinates for consistent spacing check
-            int worldX = chunk.getChunkX() * Chunk.CHUNK_SIZE + localX;
-            int worldY = chunk.getChunkY() * Chunk.CHUNK_SIZE + localY;
-
-            // Check surrounding area including neighboring chunks
-            for (WorldObject obj : existingObjects) {
-                if (obj.getType() == ObjectType.TREE ||
-                    obj.getType() == ObjectType.SNOW_TREE ||
-                    obj.getType() == ObjectType.HAUNTED_TREE ||
-                    obj.getType() == ObjectType.RAIN_TREE) {
-
-                    // Calculate distance in world coordinates
-                    int dx = Math.abs(obj.getTileX() - worldX);
-                    int dy = Math.abs(obj.getTileY() - worldY);
 
-                    if (dx < MIN_TREE_SPACING * 2 && dy < MIN_TREE_SPACING * 2) {
+            // Spacing against trees here and in the neighbouring chunks
+            for (int dx = -MIN_TREE_SPACING; dx <= MIN_TREE_SPACING; dx++) {
+                for (int dy = -MIN_TREE_SPACING; dy <= MIN_TREE_SPACING; dy++) {
+                    if (hasFlag(scratch, localX + dx, localY + dy, TREE_ANCHOR)) {
                         return false;
                     }
                 }
             }
 
-            // Check base tiles for valid placement
+            // Check base tiles for valid placement; they may lie in a neighbour
             for (int dx = 0; dx < treeBaseWidth; dx++) {
                 for (int dy = 0; dy < treeBaseHeight; dy++) {
-                    int checkX = localX + dx;
-                    int checkY = localY + dy;
-
-                    int tileType = chunk.getTileType(checkX, checkY);
-                    if (!biome.getAllowedTileTypes().contains(tileType)) {
+                    if (!isAllowedTile(scratch, localX + dx, localY + dy)
+                        || hasFlag(scratch, localX + dx, localY + dy, OCCUPIED)) {
                         return false;
                     }
                 }
@@ -1008,50 +1174,21 @@ public class WorldObject {
         }
 
         private void placeObject(Chunk chunk, int x, int y, List<WorldObject> objects,
-                                 Biome biome, Vector2 chunkPos, Random random, String objectType) {
-            int worldTileX = (int) ((chunkPos.x * Chunk.CHUNK_SIZE) + x);
-            int worldTileY = (int) ((chunkPos.y * Chunk.CHUNK_SIZE) + y);
-
-            WorldObject.ObjectType type = WorldObject.ObjectType.valueOf(objectType);
-            TextureRegion texture = objectTextures.get(type);
+                                 Random random, ObjectType type, DecorationScratch scratch) {
+            int worldTileX = chunk.getChunkX() * Chunk.CHUNK_SIZE + x;
+            int worldTileY = chunk.getChunkY() * Chunk.CHUNK_SIZE + y;
 
-            if (texture != null) {
+            if (canCreate(type)) {
                 float scale = 0.8f + random.nextFloat() * 0.4f; // Random scale 0.8-1.2
-                WorldObject object = new WorldObject(worldTileX, worldTileY, texture, type);
-                // Add variation in rotation for non-tree objects
-                if (type != ObjectType.TREE && type != ObjectType.SNOW_TREE
-                    && type != ObjectType.HAUNTED_TREE) {
-                    // Add rotation variation logic here if needed
-                }
+                WorldObject object = new WorldObject(worldTileX, worldTileY, textureFor(type), type);
                 objects.add(object);
+                markObject(scratch, chunk, worldTileX, worldTileY, type);
             }
         }
 
-        private boolean canPlaceObject(Chunk chunk, int x, int y, List<WorldObject> objects, Biome biome) {
-            // Check if tile type is allowed for object placement
-            int tileType = chunk.getTileType(x, y);
-            if (!biome.getAllowedTileTypes().contains(tileType)) {
-                return false;
-            }
-            int minSpacing = 1; // Reduced from 2
-
-            if (objects != null) {
-                int worldX = (int) (chunk.getChunkX() * Chunk.CHUNK_SIZE + x);
-                int worldY = (int) (chunk.getChunkY() * Chunk.CHUNK_SIZE + y);
-
-                for (WorldObject obj : objects) {
-                    int dx = Math.abs(obj.getTileX() - worldX);
-                    int dy = Math.abs(obj.getTileY() - worldY);
-
-                    // Adjust spacing based on object type
-
-                    if (dx < minSpacing && dy < minSpacing) {
-                        return false;
-                    }
-                }
-            }
-
-            return true;
+        private boolean canPlaceObject(int x, int y, DecorationScratch scratch) {
+            // Allowed tile not covered by another object, here or across the border
+            return isAllowedTile(scratch, x, y) && !hasFlag(scratch, x, y, OCCUPIED);
         }
 
         private float getSpawnChance(Biome biome) {
@@ -1078,28 +1215,6 @@ public class WorldObject {
             return random.nextFloat() < spawnChance;
         }
 
-
-        private static class Point {
-            final int x, y;
-
-            Point(int x, int y) {
-                this.x = x;
-                this.y = y;
-            }
-
-            @Override
-            public boolean equals(Object o) {
-                if (this == o) return true;
-                if (o == null || getClass() != o.getClass()) return false;
-                Point point = (Point) o;
-                return x == point.x && y == point.y;
-            }
-
-            @Override
-            public int hashCode() {
-                return Objects.hash(x, y);
-            }
-        }
     }
 
 }
@@ -1,9 +1,9 @@
 package io.github.pokemeetup.system.gameplay.overworld.biomes;
 
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import io.github.pokemeetup.system.gameplay.overworld.WorldObject;
 import io.github.pokemeetup.utils.GameLogger;
 import io.github.pokemeetup.utils.textures.TextureManager;
+import io.github.pokemeetup.utils.textures.TileType;
 
 import java.util.*;
 
@@ -49,18 +49,19 @@ public class Biome {
             }
         }
 
-        // Verify textures exist for all tiles
-        boolean allTexturesValid = true;
+        // Check the tile ids against the registry rather than the atlas: the server has no
+        // textures and must keep the configured distribution so its terrain matches the clients'
+        boolean allTilesValid = true;
         for (Integer tileType : distribution.keySet()) {
-            if (TextureManager.getTileTexture(tileType) == null) {
-                GameLogger.error(String.format("Biome %s: Missing texture for tile type %d",
+            if (!TileType.getTileTypeNames().containsKey(tileType)) {
+                GameLogger.error(String.format("Biome %s: Unknown tile type %d",
                     name, tileType));
-                allTexturesValid = false;
+                allTilesValid = false;
             }
         }
 
-        if (!allTexturesValid) {
-            GameLogger.error(String.format("Biome %s: Using fallback tile distribution due to missing textures",
+        if (!allTilesValid) {
+            GameLogger.error(String.format("Biome %s: Using fallback tile distribution due to unknown tile types",
                 name));
             useFallbackDistribution();
             return;
@@ -118,11 +119,10 @@ public class Biome {
         int total = tileDistribution.values().stream().mapToInt(Integer::intValue).sum();
         GameLogger.info(String.format("Biome %s distribution total: %d%%, tiles: %s", name, total, tileDistribution.keySet()));
 
-        // Verify each tile has a valid texture
+        // Textures are checked where tiles are drawn; here only the ids must be known
         tileDistribution.keySet().forEach(tileType -> {
-            TextureRegion texture = TextureManager.getTileTexture(tileType);
-            if (texture == null) {
-                GameLogger.error(String.format("Biome %s: Missing texture for tile type %d", name, tileType));
+            if (!TileType.getTileTypeNames().containsKey(tileType)) {
+                GameLogger.error(String.format("Biome %s: Unknown tile type %d", name, tileType));
             }
         });
     }
@@ -0,0 +1,268 @@
+package io.github.pokemeetup.system.gameplay.overworld.entityai;
+
+import com.badlogic.gdx.math.Rectangle;
+import io.github.pokemeetup.pokemon.WildPokemon;
+import io.github.pokemeetup.system.gameplay.overworld.World;
+import io.github.pokemeetup.utils.GameLogger;
+import io.github.pokemeetup.utils.metrics.MetricsRegistry;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Decides which wild Pokemon update each frame. Every Pokemon gets an importance tier from its
+ * distance to the nearest observer (a player) and from whether it is inside the view bounds:
+ * <ul>
+ *     <li>{@link Tier#NEAR} Pokemon, and all visible ones, update every frame.</li>
+ *     <li>Other tiers update every few frames with the delta they missed, so timers and
+ *     movement catch up instead of slowing down. Pokemon are phase-shifted so a tier's
+ *     updates spread over its interval.</li>
+ * </ul>
+ * Updates outside {@link Tier#NEAR} stop once the frame budget is spent. Deferred Pokemon stay
+ * due and go first on the next frame, starting where the previous overdue pass ran out, so under
+ * sustained overrun the budget works round the whole list instead of always reaching the same
+ * Pokemon.
+ * {@link #registerMetrics} publishes the per-frame cost, update counts and tier sizes.
+ */
+public class AIScheduler {
+    public static final long DEFAULT_FRAME_BUDGET_NANOS = 2_000_000L;
+    private static final float MAX_CATCH_UP_DELTA = 1.0f;
+    private static final float NEAR_DISTANCE = 12 * World.TILE_SIZE;
+    private static final float MID_DISTANCE = 32 * World.TILE_SIZE;
+    private static final float FAR_DISTANCE = 64 * World.TILE_SIZE;
+
+    public enum Tier {
+        NEAR(1),
+        MID(4),
+        FAR(12),
+        DORMANT(30);
+
+        final int interval;
+
+        Tier(int interval) {
+            this.interval = interval;
+        }
+
+        public int getInterval() {
+            return interval;
+        }
+    }
+
+    private static final Tier[] TIERS = Tier.values();
+
+    private float[] observerX = new float[4];
+    private float[] observerY = new float[4];
+    private int observerCount;
+    private final Rectangle viewBounds = new Rectangle();
+    private boolean hasViewBounds;
+
+    private long frameBudgetNanos = DEFAULT_FRAME_BUDGET_NANOS;
+    private long frame;
+    private int overdueCursor; // List position where the last overdue pass ran out of budget
+
+    private final int[] tierCounts = new int[TIERS.length];
+    private final int[] lastTierCounts = new int[TIERS.length]; // Copied at the end of a frame for the gauges
+    private volatile long lastFrameNanos;
+    private volatile int lastUpdateCount;
+    private volatile int lastDeferredCount;
+    private volatile long budgetOverruns;
+
+    public void clearObservers() {
+        observerCount = 0;
+    }
+
+    /**
+     * Adds a player position, in pixels, for this frame's distance tiers.
+     */
+    public void addObserver(float pixelX, float pixelY) {
+        if (observerCount == observerX.length) {
+            observerX = Arrays.copyOf(observerX, observerCount * 2);
+            observerY = Arrays.copyOf(observerY, observerCount * 2);
+        }
+        observerX[observerCount] = pixelX;
+        observerY[observerCount] = pixelY;
+        observerCount++;
+    }
+
+    /**
+     * The visible area in pixels. Pokemon inside it always update every frame.
+     */
+    public void setViewBounds(Rectangle bounds) {
+        if (bounds == null) {
+            hasViewBounds = false;
+            return;
+        }
+        viewBounds.set(bounds);
+        hasViewBounds = true;
+    }
+
+    public void setFrameBudgetNanos(long frameBudgetNanos) {
+        this.frameBudgetNanos = frameBudgetNanos;
+    }
+
+    public long getFrameBudgetNanos() {
+        return frameBudgetNanos;
+    }
+
+    /**
+     * Registers this scheduler's gauges under {@code <prefix>.}, replacing those of an earlier
+     * scheduler with the same prefix.
+     */
+    public void registerMetrics(MetricsRegistry metrics, String prefix) {
+        metrics.gauge(prefix + ".frameNanos", this::getLastFrameNanos);
+        metrics.gauge(prefix + ".updated", this::getLastUpdateCount);
+        metrics.gauge(prefix + ".deferred", this::getLastDeferredCount);
+        metrics.gauge(prefix + ".budgetOverruns", this::getBudgetOverruns);
+        for (Tier tier : TIERS) {
+            metrics.gauge(prefix + ".tier." + tier.name().toLowerCase(Locale.ROOT), () -> getTierCount(tier));
+        }
+    }
+
+    public void update(Collection<WildPokemon> pokemon, float delta, World world) {
+        long start = System.nanoTime();
+        long deadline = start + frameBudgetNanos;
+        frame++;
+        Arrays.fill(tierCounts, 0);
+
+        int size = pokemon.size();
+        int overdueStart = overdueCursor < size ? overdueCursor : 0;
+        int updated = runOverdue(pokemon, overdueStart, size, deadline, delta, world);
+        if (System.nanoTime() < deadline) {
+            updated += runOverdue(pokemon, 0, overdueStart, deadline, delta, world);
+        }
+
+        int deferred = 0;
+        for (WildPokemon wildPokemon : pokemon) {
+            PokemonAI ai = wildPokemon.getAi();
+            if (ai == null) {
+                updatePokemon(wildPokemon, delta, world);
+                updated++;
+                continue;
+            }
+
+            Tier tier = classify(wildPokemon);
+            tierCounts[tier.ordinal()]++;
+            if (ai.scheduledFrame == frame) {
+                continue; // Already ran this frame as overdue
+            }
+            ai.scheduledDelta = Math.min(ai.scheduledDelta + delta, MAX_CATCH_UP_DELTA);
+
+            if (tier == Tier.NEAR) {
+                runScheduled(wildPokemon, ai, world);
+                updated++;
+                continue;
+            }
+
+            boolean due = ai.scheduleOverdue || (frame + ai.schedulePhase) % tier.interval == 0;
+            if (!due) {
+                continue;
+            }
+            if (System.nanoTime() < deadline) {
+                runScheduled(wildPokemon, ai, world);
+                updated++;
+            } else {
+                ai.scheduleOverdue = true;
+                deferred++;
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        if (elapsed > frameBudgetNanos) {
+            budgetOverruns++;
+        }
+        lastFrameNanos = elapsed;
+        lastUpdateCount = updated;
+        lastDeferredCount = deferred;
+        System.arraycopy(tierCounts, 0, lastTierCounts, 0, tierCounts.length);
+    }
+
+    /**
+     * Runs the overdue Pokemon at list positions {@code [from, to)} until {@code deadline},
+     * remembering where it ran out so the next frame starts there.
+     *
+     * @return how many were updated
+     */
+    private int runOverdue(Collection<WildPokemon> pokemon, int from, int to, long deadline, float delta, World world) {
+        int updated = 0;
+        int position = 0;
+        for (WildPokemon wildPokemon : pokemon) {
+            if (position >= to) {
+                break;
+            }
+            if (position++ < from) {
+                continue;
+            }
+            PokemonAI ai = wildPokemon.getAi();
+            if (ai == null || !ai.scheduleOverdue) {
+                continue;
+            }
+            if (System.nanoTime() >= deadline) {
+                overdueCursor = position - 1;
+                break;
+            }
+            ai.scheduledDelta = Math.min(ai.scheduledDelta + delta, MAX_CATCH_UP_DELTA);
+            ai.scheduledFrame = frame;
+            runScheduled(wildPokemon, ai, world);
+            updated++;
+        }
+        return updated;
+    }
+
+    private Tier classify(WildPokemon pokemon) {
+        float x = pokemon.getX();
+        float y = pokemon.getY();
+        if (hasViewBounds && viewBounds.contains(x, y)) {
+            return Tier.NEAR;
+        }
+        if (observerCount == 0) {
+            return Tier.NEAR;
+        }
+
+        float nearest = Float.MAX_VALUE;
+        for (int i = 0; i < observerCount; i++) {
+            float dx = observerX[i] - x;
+            float dy = observerY[i] - y;
+            nearest = Math.min(nearest, dx * dx + dy * dy);
+        }
+        if (nearest <= NEAR_DISTANCE * NEAR_DISTANCE) return Tier.NEAR;
+        if (nearest <= MID_DISTANCE * MID_DISTANCE) return Tier.MID;
+        if (nearest <= FAR_DISTANCE * FAR_DISTANCE) return Tier.FAR;
+        return Tier.DORMANT;
+    }
+
+    private void runScheduled(WildPokemon pokemon, PokemonAI ai, World world) {
+        float scheduledDelta = ai.scheduledDelta;
+        ai.scheduledDelta = 0;
+        ai.scheduleOverdue = false;
+        updatePokemon(pokemon, scheduledDelta, world);
+    }
+
+    private void updatePokemon(WildPokemon pokemon, float delta, World world) {
+        try {
+            pokemon.update(delta, world);
+        } catch (Exception e) {
+            GameLogger.error("Error updating " + pokemon.getName() + ": " + e.getMessage());
+        }
+    }
+
+    public long getLastFrameNanos() {
+        return lastFrameNanos;
+    }
+
+    public int getLastUpdateCount() {
+        return lastUpdateCount;
+    }
+
+    public int getLastDeferredCount() {
+        return lastDeferredCount;
+    }
+
+    public long getBudgetOverruns() {
+        return budgetOverruns;
+    }
+
+    public int getTierCount(Tier tier) {
+        return lastTierCounts[tier.ordinal()];
+    }
+}
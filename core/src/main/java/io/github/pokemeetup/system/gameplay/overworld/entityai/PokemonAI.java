@@ -5,6 +5,10 @@ import com.badlogic.gdx.math.Vector2;
 import io.github.pokemeetup.pokemon.WildPokemon;
 import io.github.pokemeetup.system.Player;
 import io.github.pokemeetup.system.gameplay.overworld.World;
+import io.github.pokemeetup.system.gameplay.overworld.pathfinding.FlowField;
+import io.github.pokemeetup.system.gameplay.overworld.pathfinding.PathRequest;
+import io.github.pokemeetup.system.gameplay.overworld.pathfinding.TileDirections;
+import io.github.pokemeetup.system.gameplay.overworld.pathfinding.TilePath;
 import io.github.pokemeetup.utils.GameLogger;
 
 import java.util.Collection;
@@ -21,12 +25,20 @@ public class PokemonAI {
     private static final float MOVEMENT_CHANCE = 0.6f;
     private static final float FLEE_RANGE = 150f;
     private static final float MIN_DISTANCE_TO_OTHERS = World.TILE_SIZE * 2;
+    private static final int WANDER_RADIUS = 6;
 
     private final WildPokemon pokemon;
     private float decisionTimer = 0;
     private float stateTimer = 0;
     private float idleDuration = 0;
     private AIState currentState = AIState.IDLE;
+    private PathRequest pathRequest;
+
+    // Bookkeeping for AIScheduler
+    float scheduledDelta;
+    boolean scheduleOverdue;
+    long scheduledFrame; // Frame it last ran in ahead of its turn, as an overdue update
+    final int schedulePhase = MathUtils.random(0, 59);
 
     public PokemonAI(WildPokemon pokemon) {
         this.pokemon = pokemon;
@@ -42,21 +54,19 @@ public class PokemonAI {
         stateTimer += delta;
         decisionTimer += delta;
 
-        // Log current state
+        if (currentState == AIState.MOVING && pathRequest != null) {
+            followPath(world);
+        } else if (currentState == AIState.FLEEING && !pokemon.isMoving() && !checkForNearbyPlayer(world)) {
+            enterIdleState();
+        }
+
         if (decisionTimer >= DECISION_INTERVAL) {
             decisionTimer = 0;
-            GameLogger.error(String.format(
-                "Pokemon %s at (%.1f,%.1f) - State: %s, Timer: %.1f, Duration: %.1f",
-                pokemon.getName(), pokemon.getX(), pokemon.getY(),
-                currentState, stateTimer, idleDuration
-            ));
 
             if (currentState == AIState.IDLE && stateTimer >= idleDuration) {
                 if (MathUtils.random() < MOVEMENT_CHANCE) {
-                    GameLogger.error("Attempting to choose new target");
                     chooseNewTarget(world);
                 } else {
-                    GameLogger.error("Staying idle");
                     enterIdleState();
                 }
             }
@@ -67,12 +77,9 @@ public class PokemonAI {
         if (player != null) {
             float dist = Vector2.dst(
                 pokemon.getX(), pokemon.getY(),
-                player.getX() * World.TILE_SIZE, player.getY() * World.TILE_SIZE
+                player.getX(), player.getY()
             );
             if (dist < FLEE_RANGE) {
-                GameLogger.error(String.format(
-                    "Player detected at distance %.1f - initiating flee", dist
-                ));
                 enterFleeingState(world);
             }
         }
@@ -80,48 +87,56 @@ public class PokemonAI {
 
     private void chooseNewTarget(World world) {
         if (pokemon.isMoving()) {
-            GameLogger.error("Cannot choose new target while moving");
             return;
         }
 
-        int currentTileX = (int)(pokemon.getX() / World.TILE_SIZE);
-        int currentTileY = (int)(pokemon.getY() / World.TILE_SIZE);
-
-        GameLogger.info(String.format(
-            "Current position: Tile(%d,%d) Pixel(%.1f,%.1f)",
-            currentTileX, currentTileY, pokemon.getX(), pokemon.getY()
-        ));
+        int currentTileX = MathUtils.floor(pokemon.getX() / World.TILE_SIZE);
+        int currentTileY = MathUtils.floor(pokemon.getY() / World.TILE_SIZE);
+        int targetTileX = currentTileX + MathUtils.random(-WANDER_RADIUS, WANDER_RADIUS);
+        int targetTileY = currentTileY + MathUtils.random(-WANDER_RADIUS, WANDER_RADIUS);
+        if (targetTileX == currentTileX && targetTileY == currentTileY) {
+            enterIdleState();
+            return;
+        }
 
-        // Try all directions systematically
-        int[] dx = {0, 0, -1, 1};
-        int[] dy = {1, -1, 0, 0};
-        String[] dirs = {"up", "down", "left", "right"};
+        cancelPath();
+        pathRequest = world.getPathfindingService().requestPath(
+            currentTileX, currentTileY, targetTileX, targetTileY);
+        currentState = AIState.MOVING;
+        stateTimer = 0;
+    }
 
-        for (int i = 0; i < 4; i++) {
-            int targetTileX = currentTileX + dx[i];
-            int targetTileY = currentTileY + dy[i];
+    private void followPath(World world) {
+        if (!pathRequest.isDone() || pokemon.isMoving()) {
+            return;
+        }
+        TilePath path = pathRequest.getPath();
+        if (!pathRequest.isFound() || !path.hasNext()) {
+            enterIdleState();
+            return;
+        }
 
-            GameLogger.info(String.format(
-                "Checking move to (%d,%d) direction: %s",
-                targetTileX, targetTileY, dirs[i]
-            ));
+        int currentTileX = MathUtils.floor(pokemon.getX() / World.TILE_SIZE);
+        int currentTileY = MathUtils.floor(pokemon.getY() / World.TILE_SIZE);
+        int nextTileX = path.nextX();
+        int nextTileY = path.nextY();
+        String direction = TileDirections.between(currentTileX, currentTileY, nextTileX, nextTileY);
 
-            if (isValidMove(targetTileX, targetTileY, world)) {
-                pokemon.moveToTile(targetTileX, targetTileY, dirs[i]);
-                currentState = AIState.MOVING;
-                GameLogger.info(String.format(
-                    "Move validated - moving %s to (%d,%d)",
-                    dirs[i], targetTileX, targetTileY
-                ));
-                return;
-            }
+        // The path only knows static collision; give up if another Pokemon is in the way
+        if (direction == null || !isValidMove(nextTileX, nextTileY, world)) {
+            enterIdleState();
+            return;
         }
-
-        GameLogger.error("No valid moves found - entering idle state");
-        enterIdleState();
+        pokemon.moveToTile(nextTileX, nextTileY, direction);
+        path.advance();
     }
 
-
+    private void cancelPath() {
+        if (pathRequest != null) {
+            pathRequest.cancel();
+            pathRequest = null;
+        }
+    }
 
     private boolean isValidMove(int tileX, int tileY, World world) {
         // Check passability
@@ -147,8 +162,8 @@ public class PokemonAI {
 
         float distanceToPlayer = Vector2.dst(
             pokemon.getX(), pokemon.getY(),
-            player.getX() * World.TILE_SIZE,
-            player.getY() * World.TILE_SIZE
+            player.getX(),
+            player.getY()
         );
 
         return distanceToPlayer < FLEE_RANGE;
@@ -156,39 +171,36 @@ public class PokemonAI {
 
     private void enterFleeingState(World world) {
         Player player = world.getPlayer();
-        if (player == null) return;
-
-        // Calculate direction away from player in tile coordinates
-        int pokemonTileX = (int)(pokemon.getX() / World.TILE_SIZE);
-        int pokemonTileY = (int)(pokemon.getY() / World.TILE_SIZE);
-        int playerTileX = (int)(player.getX());
-        int playerTileY = (int)(player.getY());
-
-        // Determine escape direction
-        int dx = pokemonTileX - playerTileX;
-        int dy = pokemonTileY - playerTileY;
-
-        // Try to move away from player
-        int targetTileX = pokemonTileX + (dx != 0 ? dx / Math.abs(dx) : 0);
-        int targetTileY = pokemonTileY + (dy != 0 ? dy / Math.abs(dy) : 0);
-
-        if (world.isPassable(targetTileX, targetTileY)) {
-            String direction = "";
-            if (Math.abs(dx) > Math.abs(dy)) {
-                direction = dx > 0 ? "right" : "left";
-            } else {
-                direction = dy > 0 ? "up" : "down";
+        if (player == null || pokemon.isMoving()) return;
+
+        int pokemonTileX = MathUtils.floor(pokemon.getX() / World.TILE_SIZE);
+        int pokemonTileY = MathUtils.floor(pokemon.getY() / World.TILE_SIZE);
+        int playerTileX = player.getTileX();
+        int playerTileY = player.getTileY();
+
+        // Every Pokemon fleeing this player shares one flow field
+        FlowField field = world.getPathfindingService().getFlowField(playerTileX, playerTileY);
+        int direction = field.stepAway(pokemonTileX, pokemonTileY);
+
+        if (direction != TileDirections.NONE) {
+            int targetTileX = pokemonTileX + TileDirections.dx(direction);
+            int targetTileY = pokemonTileY + TileDirections.dy(direction);
+            if (isValidMove(targetTileX, targetTileY, world)) {
+                cancelPath();
+                pokemon.moveToTile(targetTileX, targetTileY, TileDirections.name(direction));
+                currentState = AIState.FLEEING;
+                return;
             }
+        }
 
-            pokemon.moveToTile(targetTileX, targetTileY, direction);
-            currentState = AIState.FLEEING;
-        } else {
-            // If can't move directly away, try to move perpendicular
+        // Cornered: wander off instead, unless a path is already being followed
+        if (pathRequest == null) {
             chooseNewTarget(world);
         }
     }
 
     public void enterIdleState() {
+        cancelPath();
         currentState = AIState.IDLE;
         stateTimer = 0;
         idleDuration = MathUtils.random(IDLE_MIN_DURATION, IDLE_MAX_DURATION);
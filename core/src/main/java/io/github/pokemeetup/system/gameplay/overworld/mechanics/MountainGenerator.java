@@ -1,44 +1,140 @@
 package io.github.pokemeetup.system.gameplay.overworld.mechanics;
 
+import io.github.pokemeetup.managers.BiomeManager;
 import io.github.pokemeetup.system.gameplay.overworld.Chunk;
+import io.github.pokemeetup.system.gameplay.overworld.World;
 import io.github.pokemeetup.system.gameplay.overworld.biomes.BiomeType;
 import io.github.pokemeetup.utils.PerlinNoise;
 import io.github.pokemeetup.utils.textures.TileType;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 import java.util.Random;
+
+/**
+ * Places mountain formations on generated chunks. Heights are a function of world tile position
+ * and are computed over the chunk plus an apron of {@link #APRON} tiles from each neighbour, so
+ * smoothing, formation checks and edge tiles agree on both sides of a chunk border. Only the
+ * chunk's own tiles are written, which lets chunks be processed in parallel. Whether an area has
+ * mountains at all is decided per {@link #RANGE_CELL}-tile cell rather than per chunk, so
+ * formations are no longer cut at every chunk edge. Scratch buffers are per thread.
+ */
 public class MountainGenerator {
     private static final float BASE_NOISE_SCALE = 0.03f;
-    private static final float DETAIL_NOISE_SCALE = 0.06f;
     private static final int MIN_MOUNTAIN_SIZE = 4;
-    private static final int MAX_MOUNTAIN_SIZE = 12;
+    private static final int APRON = 4;
+    private static final int SPAN = Chunk.CHUNK_SIZE + APRON * 2;
+    private static final int RANGE_CELL = Chunk.CHUNK_SIZE * 4;
 
     // Biome-specific mountain spawn chances
     private static final float BIG_MOUNTAINS_CHANCE = 0.85f;
     private static final float SNOW_BIOME_CHANCE = 0.25f;
     private static final float DEFAULT_MOUNTAIN_CHANCE = 0.12f;
 
+    private static final class Scratch {
+        final int[] heights = new int[SPAN * SPAN];
+        final int[] temp = new int[SPAN * SPAN];
+        final boolean[] visited = new boolean[SPAN * SPAN];
+        final int[] stack = new int[SPAN * SPAN];
+        final int[] formation = new int[SPAN * SPAN];
+        final BiomeType[] biomes = new BiomeType[9];
+    }
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
     private final PerlinNoise heightNoise;
     private final PerlinNoise detailNoise;
-    private final Random random;
+    private final BiomeManager biomeManager;
+    private final long seed;
 
-    public MountainGenerator(long seed) {
+    public MountainGenerator(long seed, BiomeManager biomeManager) {
         this.heightNoise = new PerlinNoise((int) seed);
         this.detailNoise = new PerlinNoise((int) (seed + 123));
-        this.random = new Random(seed);
+        this.biomeManager = biomeManager;
+        this.seed = seed;
     }
 
     public void generateMountains(Chunk chunk) {
-        float mountainChance = getMountainChanceForBiome(chunk.getBiome().getType());
+        Scratch scratch = SCRATCH.get();
+        resolveBiomes(chunk, scratch.biomes);
+        if (!buildHeightMap(chunk, scratch)) {
+            return;
+        }
+        smoothHeightMap(scratch);
+        validateMountainFormations(scratch);
+        smoothElevations(scratch);
+        applyMountainTiles(chunk, scratch);
+    }
 
-        double worldX = chunk.getChunkX() * Chunk.CHUNK_SIZE * BASE_NOISE_SCALE;
-        double worldY = chunk.getChunkY() * Chunk.CHUNK_SIZE * BASE_NOISE_SCALE;
+    /**
+     * Biomes of the chunk and its eight neighbours, indexed {@code (dx + 1) * 3 + (dy + 1)}.
+     * Neighbours are asked of the biome manager so the answer does not depend on load order.
+     */
+    private void resolveBiomes(Chunk chunk, BiomeType[] out) {
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                BiomeType type;
+                if (dx == 0 && dy == 0 || biomeManager == null) {
+                    type = chunk.getBiome().getType();
+                } else {
+                    type = biomeManager.computeBiomeAt(
+                        (chunk.getChunkX() + dx) * Chunk.CHUNK_SIZE * World.TILE_SIZE,
+                        (chunk.getChunkY() + dy) * Chunk.CHUNK_SIZE * World.TILE_SIZE
+                    ).getPrimaryBiome().getType();
+                }
+                out[(dx + 1) * 3 + (dy + 1)] = type;
+            }
+        }
+    }
 
-        double noiseValue = (heightNoise.noise(worldX, worldY) + 1) / 2;
-        if (noiseValue * random.nextFloat() < mountainChance) {
-            generateMountainFormation(chunk);
+    /**
+     * Fills the apron-extended height map; -1 marks tiles without mountain.
+     *
+     * @return false if no tile in the area is high enough, so the chunk can be skipped
+     */
+    private boolean buildHeightMap(Chunk chunk, Scratch scratch) {
+        int originX = chunk.getChunkX() * Chunk.CHUNK_SIZE - APRON;
+        int originY = chunk.getChunkY() * Chunk.CHUNK_SIZE - APRON;
+        boolean any = false;
+
+        for (int i = 0; i < SPAN; i++) {
+            int tileX = originX + i;
+            int column = i < APRON ? 0 : i < APRON + Chunk.CHUNK_SIZE ? 1 : 2;
+            for (int j = 0; j < SPAN; j++) {
+                int tileY = originY + j;
+                int row = j < APRON ? 0 : j < APRON + Chunk.CHUNK_SIZE ? 1 : 2;
+                BiomeType biomeType = scratch.biomes[column * 3 + row];
+
+                int height = -1;
+                if (isMountainRange(tileX, tileY, biomeType)) {
+                    double wx = tileX * BASE_NOISE_SCALE;
+                    double wy = tileY * BASE_NOISE_SCALE;
+                    double value = heightNoise.noise(wx, wy);
+                    value += detailNoise.noise(wx * 2, wy * 2) * 0.5;
+                    value = adjustHeightForBiome(value, biomeType);
+                    if (value > 0.3) {
+                        height = (int) ((value - 0.3) * 8);
+                        any = true;
+                    }
+                }
+                scratch.heights[i * SPAN + j] = height;
+            }
         }
+        return any;
+    }
+
+    /**
+     * Whether the range cell containing a tile may hold mountains, rolled once per cell from
+     * the seed so every chunk that touches the cell agrees.
+     */
+    private boolean isMountainRange(int tileX, int tileY, BiomeType biomeType) {
+        long cellX = Math.floorDiv(tileX, RANGE_CELL);
+        long cellY = Math.floorDiv(tileY, RANGE_CELL);
+        long hash = seed ^ (cellX * 0x9E3779B97F4A7C15L) ^ (cellY * 0xC2B2AE3D27D4EB4FL);
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        float roll = (hash >>> 40) / (float) (1 << 24);
+        return roll < getMountainChanceForBiome(biomeType);
     }
 
     private float getMountainChanceForBiome(BiomeType biomeType) {
@@ -53,156 +149,99 @@ public class MountainGenerator {
         }
     }
 
-    private void generateMountainFormation(Chunk chunk) {
-        int[][] heightMap = new int[Chunk.CHUNK_SIZE][Chunk.CHUNK_SIZE];
-        BiomeType biomeType = chunk.getBiome().getType();
+    private void validateMountainFormations(Scratch scratch) {
+        int[] heights = scratch.heights;
+        boolean[] visited = scratch.visited;
+        Arrays.fill(visited, false);
 
-        // Generate base mountain shape
-        for (int x = 0; x < Chunk.CHUNK_SIZE; x++) {
-            for (int y = 0; y < Chunk.CHUNK_SIZE; y++) {
-                double wx = (chunk.getChunkX() * Chunk.CHUNK_SIZE + x) * BASE_NOISE_SCALE;
-                double wy = (chunk.getChunkY() * Chunk.CHUNK_SIZE + y) * BASE_NOISE_SCALE;
-
-                double height = heightNoise.noise(wx, wy);
-                height += detailNoise.noise(wx * 2, wy * 2) * 0.5;
-                height = adjustHeightForBiome(height, biomeType);
-
-                if (height > 0.3) {
-                    heightMap[x][y] = (int)((height - 0.3) * 8);
-                } else {
-                    heightMap[x][y] = -1;
-                }
+        // Find formations and drop the ones too small to read as a mountain
+        for (int start = 0; start < heights.length; start++) {
+            if (heights[start] < 0 || visited[start]) {
+                continue;
             }
-        }
-
-        smoothHeightMap(heightMap);
-        validateMountainFormations(heightMap);
-        applyMountainTiles(chunk, heightMap, biomeType);
-    }
-
-    private void validateMountainFormations(int[][] heightMap) {
-        List<Point> toRemove = new ArrayList<>();
-        boolean[][] visited = new boolean[Chunk.CHUNK_SIZE][Chunk.CHUNK_SIZE];
-
-        // Find and validate mountain formations
-        for (int x = 0; x < Chunk.CHUNK_SIZE; x++) {
-            for (int y = 0; y < Chunk.CHUNK_SIZE; y++) {
-                if (heightMap[x][y] >= 0 && !visited[x][y]) {
-                    List<Point> formation = new ArrayList<>();
-                    floodFill(heightMap, x, y, visited, formation);
-
-                    // If formation is too small, mark for removal
-                    if (formation.size() < MIN_MOUNTAIN_SIZE) {
-                        toRemove.addAll(formation);
-                    }
+            int size = floodFill(scratch, start);
+            if (size < MIN_MOUNTAIN_SIZE) {
+                for (int k = 0; k < size; k++) {
+                    heights[scratch.formation[k]] = -1;
                 }
             }
         }
-
-        // Remove invalid formations
-        for (Point p : toRemove) {
-            heightMap[p.x][p.y] = -1;
-        }
-
-        // Optional: Ensure gradual elevation changes
-        smoothElevations(heightMap);
     }
-    // Simple Point class for tracking coordinates
-    private static class Point {
-        final int x, y;
 
-        Point(int x, int y) {
-            this.x = x;
-            this.y = y;
+    /**
+     * Collects the 4-connected formation containing {@code start} into {@code scratch.formation}.
+     *
+     * @return the number of tiles in the formation
+     */
+    private int floodFill(Scratch scratch, int start) {
+        int[] heights = scratch.heights;
+        boolean[] visited = scratch.visited;
+        int[] stack = scratch.stack;
+        int top = 0;
+        int size = 0;
+        stack[top++] = start;
+        visited[start] = true;
+
+        while (top > 0) {
+            int index = stack[--top];
+            scratch.formation[size++] = index;
+            int x = index / SPAN;
+            int y = index % SPAN;
+            if (x + 1 < SPAN) top = visit(heights, visited, stack, top, index + SPAN);
+            if (x > 0) top = visit(heights, visited, stack, top, index - SPAN);
+            if (y + 1 < SPAN) top = visit(heights, visited, stack, top, index + 1);
+            if (y > 0) top = visit(heights, visited, stack, top, index - 1);
         }
+        return size;
     }
 
-    private void floodFill(int[][] heightMap, int x, int y, boolean[][] visited, List<Point> formation) {
-        // Check bounds and validity
-        if (x < 0 || x >= Chunk.CHUNK_SIZE || y < 0 || y >= Chunk.CHUNK_SIZE ||
-            visited[x][y] || heightMap[x][y] < 0) {
-            return;
+    private static int visit(int[] heights, boolean[] visited, int[] stack, int top, int index) {
+        if (!visited[index] && heights[index] >= 0) {
+            visited[index] = true;
+            stack[top++] = index;
         }
-
-        // Mark as visited and add to formation
-        visited[x][y] = true;
-        formation.add(new Point(x, y));
-
-        // Check all adjacent tiles
-        floodFill(heightMap, x + 1, y, visited, formation);  // Right
-        floodFill(heightMap, x - 1, y, visited, formation);  // Left
-        floodFill(heightMap, x, y + 1, visited, formation);  // Up
-        floodFill(heightMap, x, y - 1, visited, formation);  // Down
+        return top;
     }
 
-    private void smoothElevations(int[][] heightMap) {
-        int[][] tempMap = new int[Chunk.CHUNK_SIZE][Chunk.CHUNK_SIZE];
-
-        // Copy original heightMap
-        for (int x = 0; x < Chunk.CHUNK_SIZE; x++) {
-            for (int y = 0; y < Chunk.CHUNK_SIZE; y++) {
-                tempMap[x][y] = heightMap[x][y];
-            }
-        }
+    private void smoothElevations(Scratch scratch) {
+        int[] heights = scratch.heights;
+        int[] temp = scratch.temp;
+        System.arraycopy(heights, 0, temp, 0, heights.length);
 
         // Smooth out harsh elevation changes
-        for (int x = 1; x < Chunk.CHUNK_SIZE - 1; x++) {
-            for (int y = 1; y < Chunk.CHUNK_SIZE - 1; y++) {
-                if (heightMap[x][y] >= 0) {
-                    // Check for harsh elevation differences with neighbors
-                    int maxDiff = 2; // Maximum allowed elevation difference
-                    boolean needsSmoothing = false;
-
-                    // Check adjacent tiles
-                    for (int dx = -1; dx <= 1; dx++) {
-                        for (int dy = -1; dy <= 1; dy++) {
-                            if (dx == 0 && dy == 0) continue;
-
-                            int nx = x + dx;
-                            int ny = y + dy;
-
-                            if (heightMap[nx][ny] >= 0) {
-                                int diff = Math.abs(heightMap[x][y] - heightMap[nx][ny]);
-                                if (diff > maxDiff) {
-                                    needsSmoothing = true;
-                                    break;
-                                }
-                            }
-                        }
-                        if (needsSmoothing) break;
-                    }
-
-                    // Smooth out elevation if needed
-                    if (needsSmoothing) {
-                        int sum = heightMap[x][y];
-                        int count = 1;
-
-                        // Average with valid neighbors
-                        for (int dx = -1; dx <= 1; dx++) {
-                            for (int dy = -1; dy <= 1; dy++) {
-                                if (dx == 0 && dy == 0) continue;
-
-                                int nx = x + dx;
-                                int ny = y + dy;
+        for (int x = 1; x < SPAN - 1; x++) {
+            for (int y = 1; y < SPAN - 1; y++) {
+                int index = x * SPAN + y;
+                if (heights[index] < 0) {
+                    continue;
+                }
+                int maxDiff = 2; // Maximum allowed elevation difference
+                boolean needsSmoothing = false;
+                int sum = heights[index];
+                int count = 1;
 
-                                if (heightMap[nx][ny] >= 0) {
-                                    sum += heightMap[nx][ny];
-                                    count++;
-                                }
+                for (int dx = -1; dx <= 1; dx++) {
+                    for (int dy = -1; dy <= 1; dy++) {
+                        if (dx == 0 && dy == 0) continue;
+                        int neighbour = heights[index + dx * SPAN + dy];
+                        if (neighbour >= 0) {
+                            if (Math.abs(heights[index] - neighbour) > maxDiff) {
+                                needsSmoothing = true;
                             }
+                            sum += neighbour;
+                            count++;
                         }
-                        tempMap[x][y] = Math.round((float) sum / count);
                     }
                 }
-            }
-        }
 
-        // Copy back smoothed heights
-        for (int x = 0; x < Chunk.CHUNK_SIZE; x++) {
-            for (int y = 0; y < Chunk.CHUNK_SIZE; y++) {
-                heightMap[x][y] = tempMap[x][y];
+                // Average with valid neighbours if needed
+                if (needsSmoothing) {
+                    temp[index] = Math.round((float) sum / count);
+                }
             }
         }
+
+        System.arraycopy(temp, 0, heights, 0, heights.length);
     }
 
     private double adjustHeightForBiome(double height, BiomeType biomeType) {
@@ -218,24 +257,33 @@ public class MountainGenerator {
         return height;
     }
 
-    private void applyMountainTiles(Chunk chunk, int[][] heightMap, BiomeType biomeType) {
+    private void applyMountainTiles(Chunk chunk, Scratch scratch) {
         int[][] tileData = chunk.getTileData();
+        BiomeType biomeType = chunk.getBiome().getType();
+        boolean placed = false;
 
         for (int x = 0; x < Chunk.CHUNK_SIZE; x++) {
             for (int y = 0; y < Chunk.CHUNK_SIZE; y++) {
-                if (heightMap[x][y] >= 0) {
-                    int mountainTile = determineMountainTile(x, y, heightMap, biomeType);
-                    tileData[x][y] = mountainTile;
+                int index = (x + APRON) * SPAN + (y + APRON);
+                if (scratch.heights[index] >= 0) {
+                    tileData[x][y] = determineMountainTile(index, scratch.heights, biomeType);
+                    placed = true;
                 }
             }
         }
+        if (!placed) {
+            return;
+        }
 
-        if (shouldAddPath(biomeType)) {
-            addMountainPath(chunk, heightMap);
+        // Paths are per chunk, so seed them from the chunk rather than a shared generator
+        Random random = new Random(seed ^ (chunk.getChunkX() * 341873128712L + chunk.getChunkY() * 132897987541L));
+        if (shouldAddPath(biomeType, random)) {
+            addMountainPath(chunk, scratch.heights, random);
         }
+        chunk.invalidateCollision();
     }
 
-    private boolean shouldAddPath(BiomeType biomeType) {
+    private boolean shouldAddPath(BiomeType biomeType, Random random) {
         float pathProbability;
         if (biomeType == BiomeType.BIG_MOUNTAINS) {
             pathProbability = 0.8f;
@@ -249,8 +297,8 @@ public class MountainGenerator {
         return random.nextFloat() < pathProbability;
     }
 
-    private int determineMountainTile(int x, int y, int[][] heightMap, BiomeType biomeType) {
-        int baseTile = getBaseMountainTile(x, y, heightMap);
+    private int determineMountainTile(int index, int[] heights, BiomeType biomeType) {
+        int baseTile = getBaseMountainTile(index, heights);
 
         if (biomeType == BiomeType.SNOW) {
             return adjustForSnowBiome(baseTile);
@@ -262,13 +310,17 @@ public class MountainGenerator {
         return baseTile;
     }
 
-    private int getBaseMountainTile(int x, int y, int[][] heightMap) {
-        int currentHeight = heightMap[x][y];
+    /**
+     * Edge tiles look at the apron, so a formation crossing a chunk border gets no false edge.
+     * Only called for the chunk's own tiles, which always have all four neighbours in the map.
+     */
+    private int getBaseMountainTile(int index, int[] heights) {
+        int currentHeight = heights[index];
 
-        int leftHeight = x > 0 ? heightMap[x-1][y] : -1;
-        int rightHeight = x < heightMap.length-1 ? heightMap[x+1][y] : -1;
-        int topHeight = y < heightMap[0].length-1 ? heightMap[x][y+1] : -1;
-        int bottomHeight = y > 0 ? heightMap[x][y-1] : -1;
+        int leftHeight = heights[index - SPAN];
+        int rightHeight = heights[index + SPAN];
+        int topHeight = heights[index + 1];
+        int bottomHeight = heights[index - 1];
 
         if (currentHeight == 0) {
             return TileType.MOUNTAIN_BASE;
@@ -304,57 +356,53 @@ public class MountainGenerator {
         return baseTile; // Add haunted-specific adjustments if needed
     }
 
-    private void smoothHeightMap(int[][] heightMap) {
-        int[][] smoothed = new int[Chunk.CHUNK_SIZE][Chunk.CHUNK_SIZE];
+    private void smoothHeightMap(Scratch scratch) {
+        int[] heights = scratch.heights;
+        int[] smoothed = scratch.temp;
 
-        for (int x = 1; x < Chunk.CHUNK_SIZE - 1; x++) {
-            for (int y = 1; y < Chunk.CHUNK_SIZE - 1; y++) {
-                if (heightMap[x][y] == -1) continue;
+        for (int x = 1; x < SPAN - 1; x++) {
+            for (int y = 1; y < SPAN - 1; y++) {
+                int index = x * SPAN + y;
+                if (heights[index] == -1) {
+                    smoothed[index] = -1;
+                    continue;
+                }
 
                 int neighbors = 0;
                 int totalHeight = 0;
-
                 for (int dx = -1; dx <= 1; dx++) {
                     for (int dy = -1; dy <= 1; dy++) {
-                        if (heightMap[x + dx][y + dy] != -1) {
+                        int neighbour = heights[index + dx * SPAN + dy];
+                        if (neighbour != -1) {
                             neighbors++;
-                            totalHeight += heightMap[x + dx][y + dy];
+                            totalHeight += neighbour;
                         }
                     }
                 }
 
-                if (neighbors < 4) {
-                    smoothed[x][y] = -1;
-                } else if (neighbors > 0) {
-                    smoothed[x][y] = Math.round((float)totalHeight / neighbors);
-                }
+                smoothed[index] = neighbors < 4 ? -1 : Math.round((float) totalHeight / neighbors);
             }
         }
 
-        for (int x = 1; x < Chunk.CHUNK_SIZE - 1; x++) {
-            for (int y = 1; y < Chunk.CHUNK_SIZE - 1; y++) {
-                heightMap[x][y] = smoothed[x][y];
-            }
+        for (int x = 1; x < SPAN - 1; x++) {
+            System.arraycopy(smoothed, x * SPAN + 1, heights, x * SPAN + 1, SPAN - 2);
         }
     }
 
-    private void addMountainPath(Chunk chunk, int[][] heightMap) {
+    private void addMountainPath(Chunk chunk, int[] heights, Random random) {
         // Find suitable entrance point
         int entranceX = random.nextInt(Chunk.CHUNK_SIZE - 4) + 2;
+        int[][] tileData = chunk.getTileData();
 
         // Create path upward
         for (int y = 0; y < Chunk.CHUNK_SIZE; y++) {
-            if (heightMap[entranceX][y] >= 0) {
-                chunk.getTileData()[entranceX][y] = TileType.MOUNTAIN_PATH;
+            if (heights[(entranceX + APRON) * SPAN + (y + APRON)] >= 0) {
+                tileData[entranceX][y] = TileType.MOUNTAIN_PATH;
                 if (y == 0) {
                     // Add stairs at entrance
-                    chunk.getTileData()[entranceX][y] = TileType.MOUNTAIN_STAIRS;
-                    if (entranceX > 0) {
-                        chunk.getTileData()[entranceX - 1][y] = TileType.MOUNTAIN_STAIRS_LEFT;
-                    }
-                    if (entranceX < Chunk.CHUNK_SIZE - 1) {
-                        chunk.getTileData()[entranceX + 1][y] = TileType.MOUNTAIN_STAIRS_RIGHT;
-                    }
+                    tileData[entranceX][y] = TileType.MOUNTAIN_STAIRS;
+                    tileData[entranceX - 1][y] = TileType.MOUNTAIN_STAIRS_LEFT;
+                    tileData[entranceX + 1][y] = TileType.MOUNTAIN_STAIRS_RIGHT;
                 }
             }
         }
@@ -0,0 +1,219 @@
+package io.github.pokemeetup.system.gameplay.overworld.pathfinding;
+
+import java.util.Arrays;
+
+/**
+ * Four-way A* over a square window centred on the start tile. All node state lives in flat
+ * arrays sized for the window and is reset by bumping a generation stamp, so a search allocates
+ * nothing. Instances are not thread-safe; {@link PathfindingService} keeps one per thread.
+ */
+public class AStarPathfinder {
+    public static final int DEFAULT_SEARCH_RADIUS = 32;
+    public static final int DEFAULT_MAX_EXPANSIONS = 2048;
+
+    private final int radius;
+    private final int width;
+    private final int maxExpansions;
+
+    private final int[] gScore;
+    private final int[] fScore;
+    private final int[] parent;
+    private final int[] openStamp;
+    private final int[] closedStamp;
+    private final int[] heap;
+    private final int[] heapIndex;
+    private int heapSize;
+    private int generation;
+
+    private int originX;
+    private int originY;
+    private int lastExpansions;
+
+    public AStarPathfinder() {
+        this(DEFAULT_SEARCH_RADIUS, DEFAULT_MAX_EXPANSIONS);
+    }
+
+    public AStarPathfinder(int radius, int maxExpansions) {
+        this.radius = radius;
+        this.width = radius * 2 + 1;
+        this.maxExpansions = maxExpansions;
+
+        int nodes = width * width;
+        gScore = new int[nodes];
+        fScore = new int[nodes];
+        parent = new int[nodes];
+        openStamp = new int[nodes];
+        closedStamp = new int[nodes];
+        heap = new int[nodes];
+        heapIndex = new int[nodes];
+    }
+
+    public int getRadius() {
+        return radius;
+    }
+
+    /**
+     * Number of nodes expanded by the last search.
+     */
+    public int getLastExpansions() {
+        return lastExpansions;
+    }
+
+    /**
+     * Finds a path from the start tile to the goal tile and writes it to {@code out}, excluding
+     * the start. The start tile itself is not checked, since the caller is standing on it.
+     *
+     * @return false if the goal is outside the search window, blocked or unreachable within the
+     * expansion limit; {@code out} is left empty in that case
+     */
+    public boolean findPath(WalkableGrid grid, int startX, int startY, int goalX, int goalY, TilePath out) {
+        out.clear();
+        lastExpansions = 0;
+        if (Math.abs(goalX - startX) > radius || Math.abs(goalY - startY) > radius) {
+            return false;
+        }
+        if (startX == goalX && startY == goalY) {
+            return true;
+        }
+        if (!grid.isWalkable(goalX, goalY)) {
+            return false;
+        }
+
+        nextGeneration();
+        originX = startX - radius;
+        originY = startY - radius;
+        heapSize = 0;
+
+        int start = index(startX, startY);
+        int goal = index(goalX, goalY);
+        gScore[start] = 0;
+        parent[start] = -1;
+        push(start, heuristic(startX, startY, goalX, goalY));
+
+        while (heapSize > 0 && lastExpansions < maxExpansions) {
+            int current = pop();
+            if (current == goal) {
+                reconstruct(goal, out);
+                return true;
+            }
+            closedStamp[current] = generation;
+            lastExpansions++;
+
+            int cx = current % width;
+            int cy = current / width;
+            for (int dir = 0; dir < TileDirections.COUNT; dir++) {
+                int nx = cx + TileDirections.DX[dir];
+                int ny = cy + TileDirections.DY[dir];
+                if (nx < 0 || ny < 0 || nx >= width || ny >= width) {
+                    continue;
+                }
+                int neighbor = ny * width + nx;
+                if (closedStamp[neighbor] == generation) {
+                    continue;
+                }
+
+                int tentative = gScore[current] + 1;
+                if (openStamp[neighbor] == generation) {
+                    if (tentative < gScore[neighbor]) {
+                        gScore[neighbor] = tentative;
+                        parent[neighbor] = current;
+                        fScore[neighbor] = tentative + heuristic(nx + originX, ny + originY, goalX, goalY);
+                        siftUp(heapIndex[neighbor]);
+                    }
+                } else if (grid.isWalkable(nx + originX, ny + originY)) {
+                    gScore[neighbor] = tentative;
+                    parent[neighbor] = current;
+                    push(neighbor, tentative + heuristic(nx + originX, ny + originY, goalX, goalY));
+                }
+            }
+        }
+        return false;
+    }
+
+    private void reconstruct(int goal, TilePath out) {
+        for (int node = goal; parent[node] != -1; node = parent[node]) {
+            out.add(node % width + originX, node / width + originY);
+        }
+        out.reverse();
+    }
+
+    private int index(int tileX, int tileY) {
+        return (tileY - originY) * width + (tileX - originX);
+    }
+
+    private static int heuristic(int x, int y, int goalX, int goalY) {
+        return Math.abs(goalX - x) + Math.abs(goalY - y);
+    }
+
+    private void nextGeneration() {
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(openStamp, 0);
+            Arrays.fill(closedStamp, 0);
+            generation = 1;
+        }
+    }
+
+    private void push(int node, int f) {
+        fScore[node] = f;
+        openStamp[node] = generation;
+        heap[heapSize] = node;
+        heapIndex[node] = heapSize;
+        siftUp(heapSize++);
+    }
+
+    private int pop() {
+        int top = heap[0];
+        heapSize--;
+        if (heapSize > 0) {
+            heap[0] = heap[heapSize];
+            heapIndex[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    private boolean before(int a, int b) {
+        int fa = fScore[a];
+        int fb = fScore[b];
+        // Prefer deeper nodes on ties so the search runs straight at the goal
+        return fa < fb || (fa == fb && gScore[a] > gScore[b]);
+    }
+
+    private void siftUp(int pos) {
+        int node = heap[pos];
+        while (pos > 0) {
+            int parentPos = (pos - 1) >>> 1;
+            int parentNode = heap[parentPos];
+            if (!before(node, parentNode)) {
+                break;
+            }
+            heap[pos] = parentNode;
+            heapIndex[parentNode] = pos;
+            pos = parentPos;
+        }
+        heap[pos] = node;
+        heapIndex[node] = pos;
+    }
+
+    private void siftDown(int pos) {
+        int node = heap[pos];
+        while (true) {
+            int child = pos * 2 + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && before(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!before(heap[child], node)) {
+                break;
+            }
+            heap[pos] = heap[child];
+            heapIndex[heap[pos]] = pos;
+            pos = child;
+        }
+        heap[pos] = node;
+        heapIndex[node] = pos;
+    }
+}
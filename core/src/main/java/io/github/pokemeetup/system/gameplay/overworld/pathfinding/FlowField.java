@@ -0,0 +1,129 @@
+package io.github.pokemeetup.system.gameplay.overworld.pathfinding;
+
+import java.util.Arrays;
+
+/**
+ * Breadth-first step distances from one target tile over a square window around it. One field
+ * serves every creature heading to or fleeing from the same target: each just compares the
+ * distances of its four neighbours.
+ */
+public class FlowField {
+    public static final int UNREACHABLE = -1;
+
+    private final int targetX;
+    private final int targetY;
+    private final int radius;
+    private final int width;
+    private final int originX;
+    private final int originY;
+    private final int[] distance;
+    private final long createdTick;
+
+    FlowField(WalkableGrid grid, int targetX, int targetY, int radius, long createdTick) {
+        this.targetX = targetX;
+        this.targetY = targetY;
+        this.radius = radius;
+        this.width = radius * 2 + 1;
+        this.originX = targetX - radius;
+        this.originY = targetY - radius;
+        this.createdTick = createdTick;
+        this.distance = new int[width * width];
+        build(grid);
+    }
+
+    private void build(WalkableGrid grid) {
+        Arrays.fill(distance, UNREACHABLE);
+        int[] queue = new int[distance.length];
+        int head = 0;
+        int tail = 0;
+
+        int target = radius * width + radius;
+        distance[target] = 0;
+        queue[tail++] = target;
+
+        while (head < tail) {
+            int current = queue[head++];
+            int cx = current % width;
+            int cy = current / width;
+            for (int dir = 0; dir < TileDirections.COUNT; dir++) {
+                int nx = cx + TileDirections.DX[dir];
+                int ny = cy + TileDirections.DY[dir];
+                if (nx < 0 || ny < 0 || nx >= width || ny >= width) {
+                    continue;
+                }
+                int neighbor = ny * width + nx;
+                if (distance[neighbor] != UNREACHABLE || !grid.isWalkable(nx + originX, ny + originY)) {
+                    continue;
+                }
+                distance[neighbor] = distance[current] + 1;
+                queue[tail++] = neighbor;
+            }
+        }
+    }
+
+    public int getTargetX() {
+        return targetX;
+    }
+
+    public int getTargetY() {
+        return targetY;
+    }
+
+    long getCreatedTick() {
+        return createdTick;
+    }
+
+    public boolean contains(int tileX, int tileY) {
+        return Math.abs(tileX - targetX) <= radius && Math.abs(tileY - targetY) <= radius;
+    }
+
+    /**
+     * Steps from the tile to the target, or {@link #UNREACHABLE}.
+     */
+    public int getDistance(int tileX, int tileY) {
+        if (!contains(tileX, tileY)) {
+            return UNREACHABLE;
+        }
+        return distance[(tileY - originY) * width + (tileX - originX)];
+    }
+
+    /**
+     * Direction of the neighbour closest to the target, or {@link TileDirections#NONE} if the
+     * tile is already on the target or cannot reach it.
+     */
+    public int stepToward(int tileX, int tileY) {
+        int best = getDistance(tileX, tileY);
+        if (best <= 0) {
+            return TileDirections.NONE;
+        }
+        int bestDir = TileDirections.NONE;
+        for (int dir = 0; dir < TileDirections.COUNT; dir++) {
+            int d = getDistance(tileX + TileDirections.DX[dir], tileY + TileDirections.DY[dir]);
+            if (d != UNREACHABLE && d < best) {
+                best = d;
+                bestDir = dir;
+            }
+        }
+        return bestDir;
+    }
+
+    /**
+     * Direction of the reachable neighbour furthest from the target, or
+     * {@link TileDirections#NONE} if every neighbour is closer or blocked.
+     */
+    public int stepAway(int tileX, int tileY) {
+        int best = getDistance(tileX, tileY);
+        if (best == UNREACHABLE) {
+            return TileDirections.NONE;
+        }
+        int bestDir = TileDirections.NONE;
+        for (int dir = 0; dir < TileDirections.COUNT; dir++) {
+            int d = getDistance(tileX + TileDirections.DX[dir], tileY + TileDirections.DY[dir]);
+            if (d > best) {
+                best = d;
+                bestDir = dir;
+            }
+        }
+        return bestDir;
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.pokemeetup.system.gameplay.overworld.pathfinding;
+
+/**
+ * A queued path search. AI code keeps the request, polls {@link #isDone()} on its own update
+ * and then follows {@link #getPath()}.
+ */
+public class PathRequest {
+    public enum Status {
+        PENDING,
+        FOUND,
+        FAILED,
+        CANCELLED
+    }
+
+    final int startX;
+    final int startY;
+    final int goalX;
+    final int goalY;
+    private final TilePath path = new TilePath();
+    private volatile Status status = Status.PENDING;
+
+    PathRequest(int startX, int startY, int goalX, int goalY) {
+        this.startX = startX;
+        this.startY = startY;
+        this.goalX = goalX;
+        this.goalY = goalY;
+    }
+
+    void complete(TilePath result, boolean found) {
+        if (status != Status.PENDING) {
+            return;
+        }
+        if (found) {
+            path.set(result);
+        }
+        status = found ? Status.FOUND : Status.FAILED;
+    }
+
+    /**
+     * Drops the request; a pending search is skipped when its turn comes.
+     */
+    public void cancel() {
+        if (status == Status.PENDING) {
+            status = Status.CANCELLED;
+        }
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public boolean isDone() {
+        return status != Status.PENDING;
+    }
+
+    public boolean isFound() {
+        return status == Status.FOUND;
+    }
+
+    public TilePath getPath() {
+        return path;
+    }
+
+    public int getGoalX() {
+        return goalX;
+    }
+
+    public int getGoalY() {
+        return goalY;
+    }
+}
@@ -0,0 +1,118 @@
+package io.github.pokemeetup.system.gameplay.overworld.pathfinding;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Pathfinding over a {@link WalkableGrid} for wild Pokemon.
+ * <ul>
+ *     <li>{@link #requestPath} queues an A* search. {@link #update()} runs queued searches once
+ *     per tick until the per-tick request count or time budget runs out, so AI cost stays
+ *     bounded however many creatures ask at once.</li>
+ *     <li>{@link #findPath} runs a search immediately on the calling thread's own pathfinder.</li>
+ *     <li>{@link #getFlowField} returns a cached distance field for targets many creatures share,
+ *     such as a player they are fleeing from.</li>
+ * </ul>
+ */
+public class PathfindingService {
+    public static final int DEFAULT_MAX_SEARCHES_PER_TICK = 16;
+    public static final long DEFAULT_TICK_BUDGET_NANOS = 1_000_000L;
+    public static final int FLOW_FIELD_RADIUS = 24;
+    private static final int FLOW_FIELD_TTL_TICKS = 30;
+    private static final int MAX_FLOW_FIELDS = 16;
+
+    private static final ThreadLocal<AStarPathfinder> PATHFINDERS = ThreadLocal.withInitial(AStarPathfinder::new);
+    private static final ThreadLocal<TilePath> SCRATCH_PATHS = ThreadLocal.withInitial(TilePath::new);
+
+    private final WalkableGrid grid;
+    private final Queue<PathRequest> pending = new ConcurrentLinkedQueue<>();
+    private final Map<Long, FlowField> flowFields = new LinkedHashMap<Long, FlowField>(MAX_FLOW_FIELDS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, FlowField> eldest) {
+            return size() > MAX_FLOW_FIELDS;
+        }
+    };
+    private int maxSearchesPerTick = DEFAULT_MAX_SEARCHES_PER_TICK;
+    private long tickBudgetNanos = DEFAULT_TICK_BUDGET_NANOS;
+    private volatile long tick;
+    private volatile long searchesCompleted;
+
+    public PathfindingService(WalkableGrid grid) {
+        this.grid = grid;
+    }
+
+    public WalkableGrid getGrid() {
+        return grid;
+    }
+
+    public void setMaxSearchesPerTick(int maxSearchesPerTick) {
+        this.maxSearchesPerTick = Math.max(1, maxSearchesPerTick);
+    }
+
+    public void setTickBudgetNanos(long tickBudgetNanos) {
+        this.tickBudgetNanos = tickBudgetNanos;
+    }
+
+    public PathRequest requestPath(int startX, int startY, int goalX, int goalY) {
+        PathRequest request = new PathRequest(startX, startY, goalX, goalY);
+        pending.add(request);
+        return request;
+    }
+
+    public boolean findPath(int startX, int startY, int goalX, int goalY, TilePath out) {
+        return PATHFINDERS.get().findPath(grid, startX, startY, goalX, goalY, out);
+    }
+
+    /**
+     * Runs queued searches for one tick. At least one search runs per call so the queue always
+     * drains, even with a tiny budget.
+     */
+    public void update() {
+        tick++;
+        long deadline = System.nanoTime() + tickBudgetNanos;
+        AStarPathfinder pathfinder = PATHFINDERS.get();
+        TilePath scratch = SCRATCH_PATHS.get();
+
+        int searches = 0;
+        PathRequest request;
+        while (searches < maxSearchesPerTick && (request = pending.poll()) != null) {
+            if (request.isDone()) {
+                continue;
+            }
+            boolean found = pathfinder.findPath(grid, request.startX, request.startY,
+                request.goalX, request.goalY, scratch);
+            request.complete(scratch, found);
+            searches++;
+            if (System.nanoTime() >= deadline) {
+                break;
+            }
+        }
+        searchesCompleted += searches;
+    }
+
+    /**
+     * Distance field around a target tile. Cached fields are rebuilt after
+     * {@code FLOW_FIELD_TTL_TICKS} ticks so they follow changes to the collision masks.
+     */
+    public FlowField getFlowField(int targetX, int targetY) {
+        long key = ((long) targetX << 32) | (targetY & 0xFFFFFFFFL);
+        synchronized (flowFields) {
+            FlowField field = flowFields.get(key);
+            if (field == null || tick - field.getCreatedTick() > FLOW_FIELD_TTL_TICKS) {
+                field = new FlowField(grid, targetX, targetY, FLOW_FIELD_RADIUS, tick);
+                flowFields.put(key, field);
+            }
+            return field;
+        }
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    public long getSearchesCompleted() {
+        return searchesCompleted;
+    }
+}
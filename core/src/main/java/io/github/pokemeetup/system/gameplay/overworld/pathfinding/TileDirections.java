@@ -0,0 +1,42 @@
+package io.github.pokemeetup.system.gameplay.overworld.pathfinding;
+
+/**
+ * The four tile directions used by overworld movement, in the order up, down, left, right.
+ */
+public final class TileDirections {
+    public static final int COUNT = 4;
+    public static final int NONE = -1;
+
+    static final int[] DX = {0, 0, -1, 1};
+    static final int[] DY = {1, -1, 0, 0};
+    private static final String[] NAMES = {"up", "down", "left", "right"};
+
+    private TileDirections() {
+    }
+
+    public static int dx(int direction) {
+        return DX[direction];
+    }
+
+    public static int dy(int direction) {
+        return DY[direction];
+    }
+
+    public static String name(int direction) {
+        return NAMES[direction];
+    }
+
+    /**
+     * Direction name for a single-tile step, or null if the tiles are not adjacent.
+     */
+    public static String between(int fromX, int fromY, int toX, int toY) {
+        int dx = toX - fromX;
+        int dy = toY - fromY;
+        for (int i = 0; i < COUNT; i++) {
+            if (DX[i] == dx && DY[i] == dy) {
+                return NAMES[i];
+            }
+        }
+        return null;
+    }
+}
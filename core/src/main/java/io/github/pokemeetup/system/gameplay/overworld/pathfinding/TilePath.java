@@ -0,0 +1,88 @@
+package io.github.pokemeetup.system.gameplay.overworld.pathfinding;
+
+import java.util.Arrays;
+
+/**
+ * Reusable list of tile waypoints with a follow cursor. The start tile is not included, so
+ * the first waypoint is the first step to take.
+ */
+public class TilePath {
+    private int[] xs;
+    private int[] ys;
+    private int size;
+    private int cursor;
+
+    public TilePath() {
+        this(32);
+    }
+
+    public TilePath(int capacity) {
+        xs = new int[capacity];
+        ys = new int[capacity];
+    }
+
+    public void clear() {
+        size = 0;
+        cursor = 0;
+    }
+
+    public void add(int tileX, int tileY) {
+        if (size == xs.length) {
+            xs = Arrays.copyOf(xs, size * 2);
+            ys = Arrays.copyOf(ys, size * 2);
+        }
+        xs[size] = tileX;
+        ys[size] = tileY;
+        size++;
+    }
+
+    void reverse() {
+        for (int i = 0, j = size - 1; i < j; i++, j--) {
+            int x = xs[i];
+            xs[i] = xs[j];
+            xs[j] = x;
+            int y = ys[i];
+            ys[i] = ys[j];
+            ys[j] = y;
+        }
+    }
+
+    public void set(TilePath other) {
+        clear();
+        for (int i = 0; i < other.size; i++) {
+            add(other.xs[i], other.ys[i]);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int getX(int index) {
+        return xs[index];
+    }
+
+    public int getY(int index) {
+        return ys[index];
+    }
+
+    public boolean hasNext() {
+        return cursor < size;
+    }
+
+    public int nextX() {
+        return xs[cursor];
+    }
+
+    public int nextY() {
+        return ys[cursor];
+    }
+
+    public void advance() {
+        cursor++;
+    }
+}
@@ -0,0 +1,10 @@
+package io.github.pokemeetup.system.gameplay.overworld.pathfinding;
+
+/**
+ * Static passability used by the pathfinder. Implementations must not allocate, since a
+ * single search can query thousands of tiles.
+ */
+@FunctionalInterface
+public interface WalkableGrid {
+    boolean isWalkable(int tileX, int tileY);
+}
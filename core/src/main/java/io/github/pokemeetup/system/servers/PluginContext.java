@@ -1,18 +1,49 @@
 package io.github.pokemeetup.system.servers;
 
+import io.github.pokemeetup.multiplayer.server.events.EventListener;
+import io.github.pokemeetup.multiplayer.server.events.ServerEvent;
+import io.github.pokemeetup.multiplayer.server.plugin.PluginRuntime;
+import io.github.pokemeetup.multiplayer.server.plugin.PluginScheduler;
+import io.github.pokemeetup.multiplayer.server.plugin.WorldSnapshot;
 import io.github.pokemeetup.system.data.WorldData;
 
 import java.util.Map;
 
 public class PluginContext {
-    private WorldData world;
-    private Map<String, Object> config;
+    private final PluginRuntime runtime;
+    private final WorldData world;
+    private final Map<String, Object> config;
 
-    public PluginContext(WorldData world, Map<String, Object> config) {
+    public PluginContext(PluginRuntime runtime, WorldData world, Map<String, Object> config) {
+        this.runtime = runtime;
         this.world = world;
         this.config = config;
     }
 
+    /**
+     * The live world, shared with the game thread. Reading or changing it from a plugin races
+     * with the server.
+     *
+     * @deprecated use {@link #getWorldSnapshot()} for reads
+     */
+    @Deprecated
     public WorldData getWorld() { return world; }
+
+    /**
+     * Read-only copy of the world state, refreshed every plugin tick.
+     */
+    public WorldSnapshot getWorldSnapshot() { return runtime.getWorldSnapshot(); }
+
+    public PluginScheduler getScheduler() { return runtime.getScheduler(); }
+
+    /**
+     * Listens for server events. Listeners run on event threads, are timed against this plugin
+     * and are removed when it is disabled.
+     */
+    public <T extends ServerEvent> void registerListener(Class<T> eventClass, EventListener<T> listener) {
+        runtime.registerListener(eventClass, listener);
+    }
+
+    public String getPluginId() { return runtime.getId(); }
     public Map<String, Object> getConfig() { return config; }
 }
@@ -0,0 +1,166 @@
+package io.github.pokemeetup.utils.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Per-frame CPU time breakdown for the client. The render thread brackets each part of the
+ * frame with {@link #begin(Section)} and {@link #end(Section)}; a section may be entered several
+ * times per frame and its times add up. {@link #endFrame()} folds the frame into smoothed
+ * per-section averages for the overlay and records the whole frame in the
+ * {@code client.frame} histogram. A sample is two {@link System#nanoTime()} calls, so profiling
+ * stays on whether or not the overlay is shown. Not thread-safe: render thread only.
+ */
+public final class FrameProfiler {
+    public enum Section {
+        WORLD_UPDATE("World update"),
+        TERRAIN("Terrain"),
+        OBJECTS("Objects"),
+        UI("UI"),
+        NETWORK("Network");
+
+        private final String label;
+
+        Section(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private static final FrameProfiler INSTANCE = new FrameProfiler();
+    private static final Section[] SECTIONS = Section.values();
+    /**
+     * Weight of the newest frame in the smoothed averages; about the last 20 frames count.
+     */
+    private static final double SMOOTHING = 0.05;
+    /**
+     * How many frames the displayed maxima cover, about two seconds at 60 FPS.
+     */
+    private static final int PEAK_WINDOW_FRAMES = 120;
+
+    private final long[] started = new long[SECTIONS.length];
+    private final long[] frameNanos = new long[SECTIONS.length];
+    private final double[] averageNanos = new double[SECTIONS.length];
+    private final long[] peakNanos = new long[SECTIONS.length];
+    private final long[] windowPeakNanos = new long[SECTIONS.length];
+    private final Histogram frameHistogram = MetricsRegistry.getInstance().histogram("client.frame");
+    private long frameStart;
+    private long outsideFrameNanos;
+    private double averageFrameNanos;
+    private long peakFrameNanos;
+    private long windowPeakFrameNanos;
+    private int framesInWindow;
+    private int frameRenderCalls;
+    private int frameTextureBinds;
+    private double averageRenderCalls;
+    private double averageTextureBinds;
+
+    public static FrameProfiler getInstance() {
+        return INSTANCE;
+    }
+
+    public void beginFrame() {
+        frameStart = System.nanoTime();
+    }
+
+    public void begin(Section section) {
+        started[section.ordinal()] = System.nanoTime();
+    }
+
+    public void end(Section section) {
+        int i = section.ordinal();
+        if (started[i] != 0) {
+            frameNanos[i] += System.nanoTime() - started[i];
+            started[i] = 0;
+        }
+    }
+
+    /**
+     * Adds time spent on the render thread outside {@code beginFrame}/{@code endFrame}, e.g. a
+     * posted task that runs before the screen renders. It counts towards the frame total too.
+     */
+    public void add(Section section, long nanos) {
+        frameNanos[section.ordinal()] += nanos;
+        outsideFrameNanos += nanos;
+    }
+
+    /**
+     * Adds GPU submission counts for this frame: batch flushes or draw calls, and texture binds.
+     */
+    public void addDrawStats(int renderCalls, int textureBinds) {
+        frameRenderCalls += renderCalls;
+        frameTextureBinds += textureBinds;
+    }
+
+    public void endFrame() {
+        if (frameStart == 0) {
+            return;
+        }
+        long total = System.nanoTime() - frameStart + outsideFrameNanos;
+        frameStart = 0;
+        outsideFrameNanos = 0;
+        frameHistogram.record(total);
+
+        for (int i = 0; i < SECTIONS.length; i++) {
+            long nanos = frameNanos[i];
+            averageNanos[i] += (nanos - averageNanos[i]) * SMOOTHING;
+            windowPeakNanos[i] = Math.max(windowPeakNanos[i], nanos);
+            frameNanos[i] = 0;
+        }
+        averageFrameNanos += (total - averageFrameNanos) * SMOOTHING;
+        averageRenderCalls += (frameRenderCalls - averageRenderCalls) * SMOOTHING;
+        averageTextureBinds += (frameTextureBinds - averageTextureBinds) * SMOOTHING;
+        frameRenderCalls = 0;
+        frameTextureBinds = 0;
+        windowPeakFrameNanos = Math.max(windowPeakFrameNanos, total);
+
+        if (++framesInWindow >= PEAK_WINDOW_FRAMES) {
+            System.arraycopy(windowPeakNanos, 0, peakNanos, 0, SECTIONS.length);
+            Arrays.fill(windowPeakNanos, 0);
+            peakFrameNanos = windowPeakFrameNanos;
+            windowPeakFrameNanos = 0;
+            framesInWindow = 0;
+        }
+    }
+
+    public double getAverageMillis(Section section) {
+        return averageNanos[section.ordinal()] / 1e6;
+    }
+
+    public double getPeakMillis(Section section) {
+        return peakNanos[section.ordinal()] / 1e6;
+    }
+
+    public double getAverageRenderCalls() {
+        return averageRenderCalls;
+    }
+
+    public double getAverageTextureBinds() {
+        return averageTextureBinds;
+    }
+
+    public double getAverageFrameMillis() {
+        return averageFrameNanos / 1e6;
+    }
+
+    public double getPeakFrameMillis() {
+        return peakFrameNanos / 1e6;
+    }
+
+    /**
+     * Smoothed frame time not covered by any section: batch flushes, input, camera and so on.
+     */
+    public double getUnaccountedMillis() {
+        double sections = 0;
+        for (double nanos : averageNanos) {
+            sections += nanos;
+        }
+        return Math.max(0, averageFrameNanos - sections) / 1e6;
+    }
+
+    public Histogram getFrameHistogram() {
+        return frameHistogram;
+    }
+}
@@ -0,0 +1,10 @@
+package io.github.pokemeetup.utils.metrics;
+
+/**
+ * A value read on demand, e.g. a queue size or heap use. It is only evaluated when metrics are
+ * exported, so it costs nothing on the hot path.
+ */
+@FunctionalInterface
+public interface Gauge {
+    double get();
+}
@@ -0,0 +1,146 @@
+package io.github.pokemeetup.utils.metrics;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Named counters, gauges and histograms shared by the process. Look-ups are by dotted name,
+ * e.g. {@code server.chunk.generate}; callers on hot paths should look a metric up once and keep
+ * the reference. Histograms that time things record nanoseconds. Heap gauges are registered
+ * up front from {@link Runtime}, which Android has too; the server adds its management-bean
+ * gauges itself. {@link #toJson()} renders everything for the metrics endpoint.
+ */
+public final class MetricsRegistry {
+    private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+
+    private final Map<String, Counter> counters = new ConcurrentSkipListMap<>();
+    private final Map<String, Gauge> gauges = new ConcurrentSkipListMap<>();
+    private final Map<String, Histogram> histograms = new ConcurrentSkipListMap<>();
+    private final Map<String, Object> names = new ConcurrentHashMap<>();
+    private final long startMillis = System.currentTimeMillis();
+
+    public static MetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    public MetricsRegistry() {
+        Runtime runtime = Runtime.getRuntime();
+        gauge("jvm.heap.used", () -> runtime.totalMemory() - runtime.freeMemory());
+        gauge("jvm.heap.committed", runtime::totalMemory);
+        gauge("jvm.heap.max", runtime::maxMemory);
+    }
+
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(claim(name, Counter.class), k -> new Counter());
+    }
+
+    public Histogram histogram(String name) {
+        return histograms.computeIfAbsent(claim(name, Histogram.class), k -> new Histogram());
+    }
+
+    /**
+     * Registers or replaces a gauge. Replacing lets a restarted component point the name at its
+     * new state.
+     */
+    public void gauge(String name, Gauge gauge) {
+        gauges.put(claim(name, Gauge.class), gauge);
+    }
+
+    public void removeGauge(String name) {
+        gauges.remove(name);
+    }
+
+    private String claim(String name, Class<?> kind) {
+        Object existing = names.putIfAbsent(name, kind);
+        if (existing != null && existing != kind) {
+            throw new IllegalArgumentException("Metric " + name + " is already registered as a "
+                + ((Class<?>) existing).getSimpleName());
+        }
+        return name;
+    }
+
+    public Map<String, Counter> getCounters() {
+        return counters;
+    }
+
+    public Map<String, Gauge> getGauges() {
+        return gauges;
+    }
+
+    public Map<String, Histogram> getHistograms() {
+        return histograms;
+    }
+
+    /**
+     * Everything as one JSON object, names sorted. Histogram values are reported in
+     * milliseconds.
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder(4096);
+        json.append("{\"timestamp\":").append(System.currentTimeMillis())
+            .append(",\"uptimeMs\":").append(System.currentTimeMillis() - startMillis);
+
+        json.append(",\"counters\":{");
+        String separator = "";
+        for (Map.Entry<String, Counter> entry : counters.entrySet()) {
+            json.append(separator);
+            appendName(json, entry.getKey()).append(entry.getValue().get());
+            separator = ",";
+        }
+
+        json.append("},\"gauges\":{");
+        separator = "";
+        for (Map.Entry<String, Gauge> entry : gauges.entrySet()) {
+            double value;
+            try {
+                value = entry.getValue().get();
+            } catch (RuntimeException e) {
+                continue;
+            }
+            json.append(separator);
+            appendName(json, entry.getKey()).append(Double.isFinite(value) ? formatNumber(value) : "null");
+            separator = ",";
+        }
+
+        json.append("},\"histograms\":{");
+        separator = "";
+        for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+            Histogram histogram = entry.getValue();
+            json.append(separator);
+            appendName(json, entry.getKey())
+                .append("{\"count\":").append(histogram.getCount())
+                .append(",\"meanMs\":").append(formatMillis(histogram.getMean()))
+                .append(",\"p50Ms\":").append(formatMillis(histogram.getPercentile(0.5)))
+                .append(",\"p90Ms\":").append(formatMillis(histogram.getPercentile(0.9)))
+                .append(",\"p99Ms\":").append(formatMillis(histogram.getPercentile(0.99)))
+                .append(",\"maxMs\":").append(formatMillis(histogram.getMax()))
+                .append('}');
+            separator = ",";
+        }
+        return json.append("}}").toString();
+    }
+
+    private static StringBuilder appendName(StringBuilder json, String name) {
+        json.append('"');
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\');
+            }
+            json.append(c);
+        }
+        return json.append("\":");
+    }
+
+    private static String formatMillis(double nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1e6);
+    }
+
+    private static String formatNumber(double value) {
+        return value == Math.rint(value) && Math.abs(value) < 1e15
+            ? Long.toString((long) value)
+            : String.format(Locale.ROOT, "%.4f", value);
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.pokemeetup.utils.textures;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import io.github.pokemeetup.utils.GameLogger;
+
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Repacks the regions drawn in the overworld pass (tiles, world objects, weather) into one
+ * set of shared pages at startup. Terrain, objects and weather then draw from as few textures
+ * as possible, so {@code SpriteBatch} does not flush on every switch between source atlases.
+ * When the regions already share one texture, or a source texture cannot be read back, the
+ * original regions are kept.
+ */
+final class OverworldAtlas {
+    private static final int PAGE_SIZE = 1024;
+    private static final int PADDING = 2;
+
+    private PixmapPacker packer; // Kept: its page pixmaps back the managed textures
+    private TextureAtlas atlas;
+
+    /**
+     * @param regions source regions by key; null values are skipped
+     * @return the same keys mapped to regions on the shared pages
+     */
+    Map<String, TextureRegion> pack(Map<String, TextureRegion> regions) {
+        Map<Texture, Boolean> sources = new IdentityHashMap<>();
+        for (TextureRegion region : regions.values()) {
+            if (region != null) {
+                sources.put(region.getTexture(), Boolean.TRUE);
+            }
+        }
+        if (sources.size() <= 1) {
+            GameLogger.info("Overworld regions already share " + sources.size() + " texture; not repacking");
+            return regions;
+        }
+
+        Map<Texture, Pixmap> pixmaps = new IdentityHashMap<>();
+        Map<Texture, Boolean> ownedPixmaps = new IdentityHashMap<>();
+        Map<TextureRegion, String> packedNames = new IdentityHashMap<>();
+        Map<String, TextureRegion> result = new LinkedHashMap<>(regions);
+        packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, PADDING, true);
+        try {
+            for (Map.Entry<String, TextureRegion> entry : regions.entrySet()) {
+                TextureRegion region = entry.getValue();
+                if (region == null || packedNames.containsKey(region) || isRotated(region)) {
+                    continue;
+                }
+                Pixmap source = readBack(region.getTexture(), pixmaps, ownedPixmaps);
+                if (source == null) {
+                    continue;
+                }
+                int width = region.getRegionWidth();
+                int height = region.getRegionHeight();
+                Pixmap copy = new Pixmap(width, height, Pixmap.Format.RGBA8888);
+                copy.setBlending(Pixmap.Blending.None);
+                copy.drawPixmap(source, 0, 0, region.getRegionX(), region.getRegionY(), width, height);
+                packer.pack(entry.getKey(), copy);
+                copy.dispose();
+                packedNames.put(region, entry.getKey());
+            }
+
+            atlas = packer.generateTextureAtlas(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest, false);
+            for (Map.Entry<String, TextureRegion> entry : regions.entrySet()) {
+                String packedName = entry.getValue() != null ? packedNames.get(entry.getValue()) : null;
+                TextureRegion packed = packedName != null ? atlas.findRegion(packedName) : null;
+                if (packed != null) {
+                    result.put(entry.getKey(), packed);
+                }
+            }
+            GameLogger.info(String.format("Packed %d overworld regions from %d textures onto %d page(s)",
+                packedNames.size(), sources.size(), packer.getPages().size));
+            return result;
+        } catch (RuntimeException e) {
+            GameLogger.error("Could not repack overworld regions, using source atlases: " + e.getMessage());
+            return regions;
+        } finally {
+            for (Map.Entry<Texture, Pixmap> entry : pixmaps.entrySet()) {
+                if (ownedPixmaps.containsKey(entry.getKey())) {
+                    entry.getValue().dispose();
+                }
+            }
+        }
+    }
+
+    private static boolean isRotated(TextureRegion region) {
+        return region instanceof TextureAtlas.AtlasRegion && ((TextureAtlas.AtlasRegion) region).rotate;
+    }
+
+    private static Pixmap readBack(Texture texture, Map<Texture, Pixmap> pixmaps, Map<Texture, Boolean> owned) {
+        if (pixmaps.containsKey(texture)) {
+            return pixmaps.get(texture);
+        }
+        Pixmap pixmap = null;
+        TextureData data = texture.getTextureData();
+        if (data.getType() == TextureData.TextureDataType.Pixmap) {
+            if (!data.isPrepared()) {
+                data.prepare();
+            }
+            pixmap = data.consumePixmap();
+            if (data.disposePixmap()) {
+                owned.put(texture, Boolean.TRUE);
+            }
+        } else {
+            GameLogger.error("Cannot read back texture " + texture + " for repacking");
+        }
+        pixmaps.put(texture, pixmap);
+        return pixmap;
+    }
+}
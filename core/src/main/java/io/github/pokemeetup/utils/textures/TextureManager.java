@@ -11,6 +11,7 @@
     import io.github.pokemeetup.utils.GameLogger;
 
     import java.util.HashMap;
+    import java.util.LinkedHashMap;
     import java.util.Map;
 
     import static io.github.pokemeetup.utils.textures.TileType.*;
@@ -26,6 +27,13 @@
         private static final Map<StatusCondition, TextureRegion> statusIcons = new HashMap<>();
         private static final Map<Pokemon.PokemonType, Color> TYPE_COLORS = new HashMap<>();
         private static final Map<StatusCondition, Color> STATUS_COLORS = new HashMap<>();
+        private static final String[] OVERWORLD_EFFECTS = {"rain_drop", "snowflake", "sand_particle", "fog"};
+        private static final WorldObject.ObjectType[] OBJECT_TYPES = WorldObject.ObjectType.values();
+        private static final OverworldAtlas overworldAtlas = new OverworldAtlas();
+        // Overworld regions on the shared pages; tiles indexed by tile id, objects by ordinal
+        private static TextureRegion[] tileIndex = new TextureRegion[0];
+        private static final TextureRegion[] objectIndex = new TextureRegion[OBJECT_TYPES.length];
+        private static final Map<String, TextureRegion> overworldEffects = new HashMap<>();
         public static TextureAtlas ui;
         public static TextureAtlas pokemonback;
         public static TextureAtlas pokemonfront;
@@ -37,17 +45,6 @@
         public static TextureAtlas battlebacks;
         public static TextureAtlas mountains;
         public static TextureAtlas effects;
-        public static TextureAtlas atlasPlains;
-        public static TextureAtlas atlasForest;
-        public static TextureAtlas atlasMountains;
-        public static TextureAtlas atlasRuins;
-        public static TextureAtlas atlasSafari;
-        public static TextureAtlas atlasSnow;
-        public static TextureAtlas atlasDesert;
-        public static TextureAtlas atlasSwamp;
-        public static TextureAtlas atlasHaunted;
-        public static TextureAtlas atlasCherryBlossom;
-        public static TextureAtlas atlasVolcano;
 
         private static boolean usingFallbackSystem = false;
         private static Texture whitePixel;
@@ -129,6 +126,11 @@
         }
 
         public static TextureRegion getTextureForObjectType(WorldObject.ObjectType objectType) {
+            TextureRegion region = objectIndex[objectType.ordinal()];
+            return region != null ? region : findObjectRegion(objectType);
+        }
+
+        private static TextureRegion findObjectRegion(WorldObject.ObjectType objectType) {
             switch (objectType) {
                 case TREE:
                     return tiles.findRegion("tree");
@@ -137,7 +139,8 @@
                 case HAUNTED_TREE:
                     return tiles.findRegion("haunted_tree");
                 case POKEBALL:
-                    return items.findRegion("pokeball");
+                    TextureRegion pokeball = tiles.findRegion("pokeball");
+                    return pokeball != null ? pokeball : items.findRegion("pokeball");
                 case CACTUS:
                     return tiles.findRegion("desert_cactus");
                 case SUNFLOWER:
@@ -154,6 +157,8 @@
                     return tiles.findRegion("dead_tree");
                 case SMALL_HAUNTED_TREE:
                     return tiles.findRegion("small_haunted_tree");
+                case CHERRY_TREE:
+                    return tiles.findRegion("CherryTree");
                 default:
                     GameLogger.error("Missing texture for object type: " + objectType);
                     return null; // or a default texture if you prefer
@@ -351,11 +356,7 @@
         public static void initialize(TextureAtlas battlebacks, TextureAtlas ui,
                                       TextureAtlas pokemonback, TextureAtlas pokemonfront, TextureAtlas pokemonicon,
                                       TextureAtlas pokemonoverworld, TextureAtlas items, TextureAtlas boy,
-                                      TextureAtlas tiles, TextureAtlas effects, TextureAtlas mountains,
-                                      TextureAtlas plains, TextureAtlas ruins, TextureAtlas safari,
-                                      TextureAtlas snow, TextureAtlas desert, TextureAtlas swamp,
-                                      TextureAtlas haunted, TextureAtlas cherryBlossom,
-                                      TextureAtlas volcano, TextureAtlas atlasMountains, TextureAtlas atlasForest) {
+                                      TextureAtlas tiles, TextureAtlas effects, TextureAtlas mountains) {
 
             TextureManager.effects = effects;
             TextureManager.battlebacks = battlebacks;
@@ -368,7 +369,6 @@
             TextureManager.boy = boy;
             TextureManager.tiles = tiles;
             TextureManager.mountains = mountains;
-            TextureManager.atlasForest = atlasForest;
 
             // Create white pixel texture
             Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
@@ -376,47 +376,16 @@
             pixmap.fill();
             whitePixel = new Texture(pixmap);
             pixmap.dispose();
-            // Initialize new atlas variables
-            TextureManager.atlasPlains = plains;
-            TextureManager.atlasRuins = ruins;
-            TextureManager.atlasSafari = safari;
-            TextureManager.atlasSnow = snow;
-            TextureManager.atlasDesert = desert;
-            TextureManager.atlasSwamp = swamp;
-            TextureManager.atlasHaunted = haunted;
-            if (haunted == null) {
-                GameLogger.error("Haunted atlas failed to initialize!");
-            } else {
-                GameLogger.info("Haunted atlas initialized with " + haunted.getRegions().size + " regions");
-            }
-            TextureManager.atlasCherryBlossom = cherryBlossom;
-            TextureManager.atlasMountains = atlasMountains;
-            TextureManager.atlasVolcano = volcano;
-            if (haunted != null) {
-                GameLogger.info("=== Haunted Atlas Contents ===");
-                for (TextureAtlas.AtlasRegion region : haunted.getRegions()) {
-                    GameLogger.info(region.name + " [" + region.getRegionWidth() + "x" + region.getRegionHeight() + "]");
-                }
-                GameLogger.info("============================");
-            }
             // Initialize biome textures
 
             loadTypeAndStatusIcons();
             loadCentralTileTextures();
+            buildOverworldIndex();
 
             GameLogger.info("=== Initializing Texture Manager ===");
             debugAtlas("tiles", tiles);
             debugAtlas("ui", ui);
             debugAtlas("boy", boy);
-            debugAtlas("plains", plains);
-            debugAtlas("ruins", ruins);
-            debugAtlas("safari", safari);
-            debugAtlas("snow", snow);
-            debugAtlas("desert", desert);
-            debugAtlas("swamp", swamp);
-            debugAtlas("haunted", haunted);
-            debugAtlas("cherryBlossom", cherryBlossom);
-            debugAtlas("volcano", volcano);
             GameLogger.info("=== Texture Manager Initialization Complete ===");
 
         }
@@ -513,6 +482,20 @@
             }
         }
 
+        /**
+         * An item's icon: {@code <name>_item}, then {@code <name>}. Null while the items atlas is
+         * not loaded, which on the dedicated server is always; only render code should ask.
+         */
+        public static TextureRegion findItemRegion(String name) {
+            TextureAtlas atlas = items;
+            if (atlas == null || name == null) {
+                return null;
+            }
+            String key = name.toLowerCase();
+            TextureRegion region = atlas.findRegion(key + "_item");
+            return region != null ? region : atlas.findRegion(key);
+        }
+
         public static String getTextureNameForBiome(int tileType, BiomeType biomeType) {
             String tileName = TileType.getTileTypeNames().get(tileType);
             // Since tileName already includes biome information, return it directly
@@ -520,7 +503,66 @@
         }
 
         public static TextureRegion getTileTexture(int tileType) {
-            return tileTextures.get(tileType);
+            TextureRegion[] index = tileIndex;
+            if (tileType >= 0 && tileType < index.length) {
+                return index[tileType];
+            }
+            return index.length == 0 ? tileTextures.get(tileType) : null;
+        }
+
+        /**
+         * A weather or other world-pass effect region, from the shared overworld pages when it
+         * was packed there.
+         */
+        public static TextureRegion getOverworldEffect(String name) {
+            TextureRegion region = overworldEffects.get(name);
+            return region != null || effects == null ? region : effects.findRegion(name);
+        }
+
+        /**
+         * Packs tile, object and weather regions onto shared pages and builds the array indexes
+         * the render loop resolves them through.
+         */
+        private static void buildOverworldIndex() {
+            if (tiles == null) {
+                return;
+            }
+            Map<String, TextureRegion> regions = new LinkedHashMap<>();
+            int maxTileId = -1;
+            for (Map.Entry<Integer, TextureRegion> entry : tileTextures.entrySet()) {
+                if (entry.getKey() >= 0) {
+                    regions.put("tile:" + entry.getKey(), entry.getValue());
+                    maxTileId = Math.max(maxTileId, entry.getKey());
+                }
+            }
+            for (WorldObject.ObjectType type : OBJECT_TYPES) {
+                regions.put("object:" + type.name(), findObjectRegion(type));
+            }
+            if (effects != null) {
+                for (String name : OVERWORLD_EFFECTS) {
+                    regions.put("effect:" + name, effects.findRegion(name));
+                }
+            }
+
+            Map<String, TextureRegion> packed = overworldAtlas.pack(regions);
+            TextureRegion[] index = new TextureRegion[maxTileId + 1];
+            for (int id = 0; id <= maxTileId; id++) {
+                TextureRegion region = packed.get("tile:" + id);
+                if (region != null) {
+                    index[id] = region;
+                    tileTextures.put(id, region);
+                }
+            }
+            tileIndex = index;
+            for (WorldObject.ObjectType type : OBJECT_TYPES) {
+                objectIndex[type.ordinal()] = packed.get("object:" + type.name());
+            }
+            for (String name : OVERWORLD_EFFECTS) {
+                TextureRegion region = packed.get("effect:" + name);
+                if (region != null) {
+                    overworldEffects.put(name, region);
+                }
+            }
         }
 
         private static void debugAtlas(String name, TextureAtlas atlas) {
@@ -80,9 +80,27 @@ public class TileType {
     public static final int MOUNTAIN_EDGE_TOP = 49;       // Top edge
     public static final int MOUNTAIN_EDGE_BOTTOM = 50;    // Bottom edge
 
+    // Lookup table for isPassableTile, indexed by tile type
+    private static final boolean[] PASSABLE = new boolean[MOUNTAIN_EDGE_BOTTOM + 1];
+
     private static final Map<Integer, String> tileTypeNames = new HashMap<>();
     private static final Map<Integer, String> mountainTileNames = new HashMap<>();
 
+    static {
+        // Basic terrain types that are passable
+        int[] passable = {
+            GRASS, SAND, SNOW_TALL_GRASS, SNOW, GRASS_3, FOREST_TALL_GRASS, HAUNTED_SHROOM, HAUNTED_SHROOMS,
+            MOUNTAIN_STAIRS, HAUNTED_GRASS, HAUNTED_TALL_GRASS, FOREST_GRASS, RAIN_FOREST_TALL_GRASS,
+            RAIN_FOREST_GRASS, DESERT_SAND, DESERT_GRASS, FLOWER_2, GRASS_2, TALL_GRASS, TALL_GRASS_2,
+            TALL_GRASS_3, FLOWER_1, FLOWER,
+            // Mountain types that are passable (stairs and paths)
+            MOUNTAIN_STAIRS_LEFT, MOUNTAIN_STAIRS_RIGHT, MOUNTAIN_PATH, MOUNTAIN_STAIRS_CENTER
+        };
+        for (int tileType : passable) {
+            PASSABLE[tileType] = true;
+        }
+    }
+
     static {
         // Initialize base terrain names
         tileTypeNames.put(WATER, "water");
@@ -159,19 +177,7 @@ public class TileType {
     }
 
     public static boolean isPassableTile(int tileType) {
-        // Basic terrain types that are passable
-        if (tileType == GRASS || tileType == SAND  ||tileType==SNOW_TALL_GRASS||tileType == SNOW ||tileType==GRASS_3||tileType==FOREST_TALL_GRASS|| tileType == HAUNTED_SHROOM || tileType == HAUNTED_SHROOMS || tileType == MOUNTAIN_STAIRS ||
-            tileType == HAUNTED_GRASS || tileType == HAUNTED_TALL_GRASS || tileType == FOREST_GRASS || tileType == RAIN_FOREST_TALL_GRASS ||
-            tileType == RAIN_FOREST_GRASS || tileType == DESERT_SAND || tileType == DESERT_GRASS || tileType == FLOWER_2 || tileType == GRASS_2 || tileType == TALL_GRASS || tileType == TALL_GRASS_2 || tileType == TALL_GRASS_3 || tileType == FLOWER_1 || tileType == FLOWER) {
-            return true;
-        }
-        // Mountain types that are passable (stairs and paths)
-        if (tileType == MOUNTAIN_STAIRS_LEFT || tileType == MOUNTAIN_STAIRS_RIGHT || tileType == MOUNTAIN_PATH ||
-            tileType == MOUNTAIN_STAIRS_CENTER) {
-            return true;
-        }
-
-        return false;
+        return tileType >= 0 && tileType < PASSABLE.length && PASSABLE[tileType];
     }
 
     public static boolean isMountainCorner(int tileType) {